@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.amqp.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import javax.jms.ConnectionFactory;
 import javax.jms.ExceptionListener;
@@ -32,6 +33,7 @@ import org.apache.camel.component.jms.QueueBrowseStrategy;
 import org.apache.camel.component.jms.ReplyToType;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.jms.support.converter.MessageConverter;
@@ -48,7 +50,9 @@ import org.springframework.util.ErrorHandler;
 @ConfigurationProperties(prefix = "camel.component.amqp")
 public class AMQPComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the amqp component. This is
@@ -1620,4 +1624,308 @@ public class AMQPComponentConfiguration
     public void setTransactionTimeout(Integer transactionTimeout) {
         this.transactionTimeout = transactionTimeout;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (clientId != null) {
+            target.accept("clientId", clientId);
+        }
+        if (connectionFactory != null) {
+            target.accept("connectionFactory", connectionFactory);
+        }
+        if (disableReplyTo != null) {
+            target.accept("disableReplyTo", disableReplyTo);
+        }
+        if (durableSubscriptionName != null) {
+            target.accept("durableSubscriptionName", durableSubscriptionName);
+        }
+        if (includeAmqpAnnotations != null) {
+            target.accept("includeAmqpAnnotations", includeAmqpAnnotations);
+        }
+        if (jmsMessageType != null) {
+            target.accept("jmsMessageType", jmsMessageType);
+        }
+        if (replyTo != null) {
+            target.accept("replyTo", replyTo);
+        }
+        if (testConnectionOnStartup != null) {
+            target.accept("testConnectionOnStartup", testConnectionOnStartup);
+        }
+        if (acknowledgementModeName != null) {
+            target.accept("acknowledgementModeName", acknowledgementModeName);
+        }
+        if (artemisConsumerPriority != null) {
+            target.accept("artemisConsumerPriority", artemisConsumerPriority);
+        }
+        if (asyncConsumer != null) {
+            target.accept("asyncConsumer", asyncConsumer);
+        }
+        if (autoStartup != null) {
+            target.accept("autoStartup", autoStartup);
+        }
+        if (cacheLevel != null) {
+            target.accept("cacheLevel", cacheLevel);
+        }
+        if (cacheLevelName != null) {
+            target.accept("cacheLevelName", cacheLevelName);
+        }
+        if (concurrentConsumers != null) {
+            target.accept("concurrentConsumers", concurrentConsumers);
+        }
+        if (maxConcurrentConsumers != null) {
+            target.accept("maxConcurrentConsumers", maxConcurrentConsumers);
+        }
+        if (replyToDeliveryPersistent != null) {
+            target.accept("replyToDeliveryPersistent", replyToDeliveryPersistent);
+        }
+        if (selector != null) {
+            target.accept("selector", selector);
+        }
+        if (subscriptionDurable != null) {
+            target.accept("subscriptionDurable", subscriptionDurable);
+        }
+        if (subscriptionName != null) {
+            target.accept("subscriptionName", subscriptionName);
+        }
+        if (subscriptionShared != null) {
+            target.accept("subscriptionShared", subscriptionShared);
+        }
+        if (acceptMessagesWhileStopping != null) {
+            target.accept("acceptMessagesWhileStopping", acceptMessagesWhileStopping);
+        }
+        if (allowReplyManagerQuickStop != null) {
+            target.accept("allowReplyManagerQuickStop", allowReplyManagerQuickStop);
+        }
+        if (consumerType != null) {
+            target.accept("consumerType", consumerType);
+        }
+        if (defaultTaskExecutorType != null) {
+            target.accept("defaultTaskExecutorType", defaultTaskExecutorType);
+        }
+        if (eagerLoadingOfProperties != null) {
+            target.accept("eagerLoadingOfProperties", eagerLoadingOfProperties);
+        }
+        if (eagerPoisonBody != null) {
+            target.accept("eagerPoisonBody", eagerPoisonBody);
+        }
+        if (exposeListenerSession != null) {
+            target.accept("exposeListenerSession", exposeListenerSession);
+        }
+        if (replyToConsumerType != null) {
+            target.accept("replyToConsumerType", replyToConsumerType);
+        }
+        if (replyToSameDestinationAllowed != null) {
+            target.accept("replyToSameDestinationAllowed", replyToSameDestinationAllowed);
+        }
+        if (taskExecutor != null) {
+            target.accept("taskExecutor", taskExecutor);
+        }
+        if (deliveryDelay != null) {
+            target.accept("deliveryDelay", deliveryDelay);
+        }
+        if (deliveryMode != null) {
+            target.accept("deliveryMode", deliveryMode);
+        }
+        if (deliveryPersistent != null) {
+            target.accept("deliveryPersistent", deliveryPersistent);
+        }
+        if (explicitQosEnabled != null) {
+            target.accept("explicitQosEnabled", explicitQosEnabled);
+        }
+        if (formatDateHeadersToIso8601 != null) {
+            target.accept("formatDateHeadersToIso8601", formatDateHeadersToIso8601);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (preserveMessageQos != null) {
+            target.accept("preserveMessageQos", preserveMessageQos);
+        }
+        if (priority != null) {
+            target.accept("priority", priority);
+        }
+        if (replyToConcurrentConsumers != null) {
+            target.accept("replyToConcurrentConsumers", replyToConcurrentConsumers);
+        }
+        if (replyToMaxConcurrentConsumers != null) {
+            target.accept("replyToMaxConcurrentConsumers", replyToMaxConcurrentConsumers);
+        }
+        if (replyToOnTimeoutMaxConcurrentConsumers != null) {
+            target.accept("replyToOnTimeoutMaxConcurrentConsumers", replyToOnTimeoutMaxConcurrentConsumers);
+        }
+        if (replyToOverride != null) {
+            target.accept("replyToOverride", replyToOverride);
+        }
+        if (replyToType != null) {
+            target.accept("replyToType", replyToType);
+        }
+        if (requestTimeout != null) {
+            target.accept("requestTimeout", requestTimeout);
+        }
+        if (timeToLive != null) {
+            target.accept("timeToLive", timeToLive);
+        }
+        if (allowAdditionalHeaders != null) {
+            target.accept("allowAdditionalHeaders", allowAdditionalHeaders);
+        }
+        if (allowNullBody != null) {
+            target.accept("allowNullBody", allowNullBody);
+        }
+        if (alwaysCopyMessage != null) {
+            target.accept("alwaysCopyMessage", alwaysCopyMessage);
+        }
+        if (correlationProperty != null) {
+            target.accept("correlationProperty", correlationProperty);
+        }
+        if (disableTimeToLive != null) {
+            target.accept("disableTimeToLive", disableTimeToLive);
+        }
+        if (forceSendOriginalMessage != null) {
+            target.accept("forceSendOriginalMessage", forceSendOriginalMessage);
+        }
+        if (includeSentJmsMessageId != null) {
+            target.accept("includeSentJmsMessageId", includeSentJmsMessageId);
+        }
+        if (replyToCacheLevelName != null) {
+            target.accept("replyToCacheLevelName", replyToCacheLevelName);
+        }
+        if (replyToDestinationSelectorName != null) {
+            target.accept("replyToDestinationSelectorName", replyToDestinationSelectorName);
+        }
+        if (streamMessageTypeEnabled != null) {
+            target.accept("streamMessageTypeEnabled", streamMessageTypeEnabled);
+        }
+        if (allowAutoWiredConnectionFactory != null) {
+            target.accept("allowAutoWiredConnectionFactory", allowAutoWiredConnectionFactory);
+        }
+        if (allowAutoWiredDestinationResolver != null) {
+            target.accept("allowAutoWiredDestinationResolver", allowAutoWiredDestinationResolver);
+        }
+        if (allowSerializedHeaders != null) {
+            target.accept("allowSerializedHeaders", allowSerializedHeaders);
+        }
+        if (artemisStreamingEnabled != null) {
+            target.accept("artemisStreamingEnabled", artemisStreamingEnabled);
+        }
+        if (asyncStartListener != null) {
+            target.accept("asyncStartListener", asyncStartListener);
+        }
+        if (asyncStopListener != null) {
+            target.accept("asyncStopListener", asyncStopListener);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (destinationResolver != null) {
+            target.accept("destinationResolver", destinationResolver);
+        }
+        if (errorHandler != null) {
+            target.accept("errorHandler", errorHandler);
+        }
+        if (exceptionListener != null) {
+            target.accept("exceptionListener", exceptionListener);
+        }
+        if (idleConsumerLimit != null) {
+            target.accept("idleConsumerLimit", idleConsumerLimit);
+        }
+        if (idleTaskExecutionLimit != null) {
+            target.accept("idleTaskExecutionLimit", idleTaskExecutionLimit);
+        }
+        if (includeAllJmsxProperties != null) {
+            target.accept("includeAllJmsxProperties", includeAllJmsxProperties);
+        }
+        if (jmsKeyFormatStrategy != null) {
+            target.accept("jmsKeyFormatStrategy", jmsKeyFormatStrategy);
+        }
+        if (mapJmsMessage != null) {
+            target.accept("mapJmsMessage", mapJmsMessage);
+        }
+        if (maxMessagesPerTask != null) {
+            target.accept("maxMessagesPerTask", maxMessagesPerTask);
+        }
+        if (messageConverter != null) {
+            target.accept("messageConverter", messageConverter);
+        }
+        if (messageCreatedStrategy != null) {
+            target.accept("messageCreatedStrategy", messageCreatedStrategy);
+        }
+        if (messageIdEnabled != null) {
+            target.accept("messageIdEnabled", messageIdEnabled);
+        }
+        if (messageListenerContainerFactory != null) {
+            target.accept("messageListenerContainerFactory", messageListenerContainerFactory);
+        }
+        if (messageTimestampEnabled != null) {
+            target.accept("messageTimestampEnabled", messageTimestampEnabled);
+        }
+        if (pubSubNoLocal != null) {
+            target.accept("pubSubNoLocal", pubSubNoLocal);
+        }
+        if (queueBrowseStrategy != null) {
+            target.accept("queueBrowseStrategy", queueBrowseStrategy);
+        }
+        if (receiveTimeout != null) {
+            target.accept("receiveTimeout", receiveTimeout);
+        }
+        if (recoveryInterval != null) {
+            target.accept("recoveryInterval", recoveryInterval);
+        }
+        if (requestTimeoutCheckerInterval != null) {
+            target.accept("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
+        }
+        if (synchronous != null) {
+            target.accept("synchronous", synchronous);
+        }
+        if (transferException != null) {
+            target.accept("transferException", transferException);
+        }
+        if (transferExchange != null) {
+            target.accept("transferExchange", transferExchange);
+        }
+        if (useMessageIdAsCorrelationId != null) {
+            target.accept("useMessageIdAsCorrelationId", useMessageIdAsCorrelationId);
+        }
+        if (waitForProvisionCorrelationToBeUpdatedCounter != null) {
+            target.accept("waitForProvisionCorrelationToBeUpdatedCounter", waitForProvisionCorrelationToBeUpdatedCounter);
+        }
+        if (waitForProvisionCorrelationToBeUpdatedThreadSleepingTime != null) {
+            target.accept("waitForProvisionCorrelationToBeUpdatedThreadSleepingTime", waitForProvisionCorrelationToBeUpdatedThreadSleepingTime);
+        }
+        if (headerFilterStrategy != null) {
+            target.accept("headerFilterStrategy", headerFilterStrategy);
+        }
+        if (errorHandlerLoggingLevel != null) {
+            target.accept("errorHandlerLoggingLevel", errorHandlerLoggingLevel);
+        }
+        if (errorHandlerLogStackTrace != null) {
+            target.accept("errorHandlerLogStackTrace", errorHandlerLogStackTrace);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+        if (username != null) {
+            target.accept("username", username);
+        }
+        if (transacted != null) {
+            target.accept("transacted", transacted);
+        }
+        if (transactedInOut != null) {
+            target.accept("transactedInOut", transactedInOut);
+        }
+        if (lazyCreateTransactionManager != null) {
+            target.accept("lazyCreateTransactionManager", lazyCreateTransactionManager);
+        }
+        if (transactionManager != null) {
+            target.accept("transactionManager", transactionManager);
+        }
+        if (transactionName != null) {
+            target.accept("transactionName", transactionName);
+        }
+        if (transactionTimeout != null) {
+            target.accept("transactionTimeout", transactionTimeout);
+        }
+    }
 }
\ No newline at end of file
@@ -17,11 +17,13 @@
 package org.apache.camel.dataformat.any23.springboot;
 
 import java.util.List;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.dataformat.any23.Any23DataFormat;
 import org.apache.camel.dataformat.any23.Any23OutputFormat;
 import org.apache.camel.model.PropertyDefinition;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -33,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.any23")
 public class Any23DataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the any23 data format. This is
@@ -94,4 +98,20 @@ public class Any23DataFormatConfiguration
     public void setExtractors(List<String> extractors) {
         this.extractors = extractors;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (outputFormat != null) {
+            target.accept("outputFormat", outputFormat);
+        }
+        if (baseUri != null) {
+            target.accept("baseUri", baseUri);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (extractors != null) {
+            target.accept("extractors", extractors);
+        }
+    }
 }
\ No newline at end of file
@@ -16,10 +16,12 @@
  */
 package org.apache.camel.component.arangodb.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.arangodb.ArangoDbConfiguration;
 import org.apache.camel.component.arangodb.ArangoDbOperation;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.arangodb")
 public class ArangoDbComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the arangodb component. This is
@@ -210,4 +214,44 @@ public class ArangoDbComponentConfiguration
     public void setUser(String user) {
         this.user = user;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (documentCollection != null) {
+            target.accept("documentCollection", documentCollection);
+        }
+        if (edgeCollection != null) {
+            target.accept("edgeCollection", edgeCollection);
+        }
+        if (graph != null) {
+            target.accept("graph", graph);
+        }
+        if (host != null) {
+            target.accept("host", host);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (operation != null) {
+            target.accept("operation", operation);
+        }
+        if (port != null) {
+            target.accept("port", port);
+        }
+        if (vertexCollection != null) {
+            target.accept("vertexCollection", vertexCollection);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+        if (user != null) {
+            target.accept("user", user);
+        }
+    }
 }
\ No newline at end of file
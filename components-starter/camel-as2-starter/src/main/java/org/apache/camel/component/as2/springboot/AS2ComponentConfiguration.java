@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.as2.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.as2.AS2Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.as2")
 public class AS2ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the as2 component. This is
@@ -103,4 +107,20 @@ public class AS2ComponentConfiguration
     public void setConfiguration(AS2Configuration configuration) {
         this.configuration = configuration;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+    }
 }
\ No newline at end of file
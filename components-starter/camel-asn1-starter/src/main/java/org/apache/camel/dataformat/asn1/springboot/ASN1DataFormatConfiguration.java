@@ -16,8 +16,10 @@
  */
 package org.apache.camel.dataformat.asn1.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.asn1")
 public class ASN1DataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the asn1 data format. This is
@@ -62,4 +66,14 @@ public class ASN1DataFormatConfiguration
     public void setUsingIterator(Boolean usingIterator) {
         this.usingIterator = usingIterator;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (unmarshalType != null) {
+            target.accept("unmarshalType", unmarshalType);
+        }
+        if (usingIterator != null) {
+            target.accept("usingIterator", usingIterator);
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.component.asterisk.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.asterisk")
 public class AsteriskComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the asterisk component. This is
@@ -89,4 +93,17 @@ public class AsteriskComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+    }
 }
\ No newline at end of file
@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.atlasmap.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import io.atlasmap.api.AtlasContextFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.atlasmap")
 public class AtlasMapComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the atlasmap component. This is
@@ -99,4 +103,20 @@ public class AtlasMapComponentConfiguration
     public void setPropertiesFile(String propertiesFile) {
         this.propertiesFile = propertiesFile;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (atlasContextFactory != null) {
+            target.accept("atlasContextFactory", atlasContextFactory);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (propertiesFile != null) {
+            target.accept("propertiesFile", propertiesFile);
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.component.atmos.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.atmos")
 public class AtmosComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the atmos component. This is
@@ -137,4 +141,29 @@ public class AtmosComponentConfiguration
     public void setSslValidation(Boolean sslValidation) {
         this.sslValidation = sslValidation;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (uri != null) {
+            target.accept("uri", uri);
+        }
+        if (fullTokenId != null) {
+            target.accept("fullTokenId", fullTokenId);
+        }
+        if (secretKey != null) {
+            target.accept("secretKey", secretKey);
+        }
+        if (sslValidation != null) {
+            target.accept("sslValidation", sslValidation);
+        }
+    }
 }
\ No newline at end of file
@@ -16,12 +16,14 @@
  */
 package org.apache.camel.component.atmosphere.websocket.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.http.common.HttpBinding;
 import org.apache.camel.http.common.HttpConfiguration;
 import org.apache.camel.http.common.HttpRegistry;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -33,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.atmosphere-websocket")
 public class WebsocketComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the atmosphere-websocket
@@ -219,4 +223,44 @@ public class WebsocketComponentConfiguration
             HeaderFilterStrategy headerFilterStrategy) {
         this.headerFilterStrategy = headerFilterStrategy;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (muteException != null) {
+            target.accept("muteException", muteException);
+        }
+        if (servletName != null) {
+            target.accept("servletName", servletName);
+        }
+        if (attachmentMultipartBinding != null) {
+            target.accept("attachmentMultipartBinding", attachmentMultipartBinding);
+        }
+        if (fileNameExtWhitelist != null) {
+            target.accept("fileNameExtWhitelist", fileNameExtWhitelist);
+        }
+        if (httpRegistry != null) {
+            target.accept("httpRegistry", httpRegistry);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (allowJavaSerializedObject != null) {
+            target.accept("allowJavaSerializedObject", allowJavaSerializedObject);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (httpBinding != null) {
+            target.accept("httpBinding", httpBinding);
+        }
+        if (httpConfiguration != null) {
+            target.accept("httpConfiguration", httpConfiguration);
+        }
+        if (headerFilterStrategy != null) {
+            target.accept("headerFilterStrategy", headerFilterStrategy);
+        }
+    }
 }
\ No newline at end of file
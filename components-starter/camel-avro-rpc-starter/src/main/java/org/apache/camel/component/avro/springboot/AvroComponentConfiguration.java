@@ -16,10 +16,12 @@
  */
 package org.apache.camel.component.avro.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.avro.Protocol;
 import org.apache.camel.component.avro.AvroConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.avro")
 public class AvroComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the avro component. This is
@@ -179,4 +183,38 @@ public class AvroComponentConfiguration
     public void setConfiguration(AvroConfiguration configuration) {
         this.configuration = configuration;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (protocol != null) {
+            target.accept("protocol", protocol);
+        }
+        if (protocolClassName != null) {
+            target.accept("protocolClassName", protocolClassName);
+        }
+        if (protocolLocation != null) {
+            target.accept("protocolLocation", protocolLocation);
+        }
+        if (reflectionProtocol != null) {
+            target.accept("reflectionProtocol", reflectionProtocol);
+        }
+        if (singleParameter != null) {
+            target.accept("singleParameter", singleParameter);
+        }
+        if (uriAuthority != null) {
+            target.accept("uriAuthority", uriAuthority);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+    }
 }
\ No newline at end of file
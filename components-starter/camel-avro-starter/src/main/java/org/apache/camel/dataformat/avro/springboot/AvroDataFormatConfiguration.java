@@ -16,8 +16,10 @@
  */
 package org.apache.camel.dataformat.avro.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.avro")
 public class AvroDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the avro data format. This is
@@ -48,4 +52,11 @@ public class AvroDataFormatConfiguration
     public void setInstanceClassName(String instanceClassName) {
         this.instanceClassName = instanceClassName;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (instanceClassName != null) {
+            target.accept("instanceClassName", instanceClassName);
+        }
+    }
 }
\ No newline at end of file
@@ -16,10 +16,12 @@
  */
 package org.apache.camel.component.aws.cloudtrail.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws.cloudtrail.CloudtrailComponent;
 import org.apache.camel.component.aws.cloudtrail.CloudtrailConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.cloudtrail.CloudTrailClient;
@@ -33,7 +35,9 @@ import software.amazon.awssdk.services.cloudtrail.CloudTrailClient;
 @ConfigurationProperties(prefix = "camel.component.aws-cloudtrail")
 public class CloudtrailComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the aws-cloudtrail component.
@@ -252,4 +256,56 @@ public class CloudtrailComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (cloudTrailClient != null) {
+            target.accept("cloudTrailClient", cloudTrailClient);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (eventSource != null) {
+            target.accept("eventSource", eventSource);
+        }
+        if (maxResults != null) {
+            target.accept("maxResults", maxResults);
+        }
+        if (overrideEndpoint != null) {
+            target.accept("overrideEndpoint", overrideEndpoint);
+        }
+        if (proxyHost != null) {
+            target.accept("proxyHost", proxyHost);
+        }
+        if (proxyPort != null) {
+            target.accept("proxyPort", proxyPort);
+        }
+        if (proxyProtocol != null) {
+            target.accept("proxyProtocol", proxyProtocol);
+        }
+        if (region != null) {
+            target.accept("region", region);
+        }
+        if (trustAllCertificates != null) {
+            target.accept("trustAllCertificates", trustAllCertificates);
+        }
+        if (uriEndpointOverride != null) {
+            target.accept("uriEndpointOverride", uriEndpointOverride);
+        }
+        if (useDefaultCredentialsProvider != null) {
+            target.accept("useDefaultCredentialsProvider", useDefaultCredentialsProvider);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (accessKey != null) {
+            target.accept("accessKey", accessKey);
+        }
+        if (secretKey != null) {
+            target.accept("secretKey", secretKey);
+        }
+    }
 }
\ No newline at end of file
@@ -16,11 +16,13 @@
  */
 package org.apache.camel.component.aws.secretsmanager.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws.secretsmanager.SecretsManagerComponent;
 import org.apache.camel.component.aws.secretsmanager.SecretsManagerConfiguration;
 import org.apache.camel.component.aws.secretsmanager.SecretsManagerOperations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
@@ -34,7 +36,9 @@ import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
 @ConfigurationProperties(prefix = "camel.component.aws-secrets-manager")
 public class SecretsManagerComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the aws-secrets-manager
@@ -269,4 +273,59 @@ public class SecretsManagerComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (binaryPayload != null) {
+            target.accept("binaryPayload", binaryPayload);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (operation != null) {
+            target.accept("operation", operation);
+        }
+        if (overrideEndpoint != null) {
+            target.accept("overrideEndpoint", overrideEndpoint);
+        }
+        if (pojoRequest != null) {
+            target.accept("pojoRequest", pojoRequest);
+        }
+        if (proxyHost != null) {
+            target.accept("proxyHost", proxyHost);
+        }
+        if (proxyPort != null) {
+            target.accept("proxyPort", proxyPort);
+        }
+        if (proxyProtocol != null) {
+            target.accept("proxyProtocol", proxyProtocol);
+        }
+        if (region != null) {
+            target.accept("region", region);
+        }
+        if (secretsManagerClient != null) {
+            target.accept("secretsManagerClient", secretsManagerClient);
+        }
+        if (trustAllCertificates != null) {
+            target.accept("trustAllCertificates", trustAllCertificates);
+        }
+        if (uriEndpointOverride != null) {
+            target.accept("uriEndpointOverride", uriEndpointOverride);
+        }
+        if (useDefaultCredentialsProvider != null) {
+            target.accept("useDefaultCredentialsProvider", useDefaultCredentialsProvider);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (accessKey != null) {
+            target.accept("accessKey", accessKey);
+        }
+        if (secretKey != null) {
+            target.accept("secretKey", secretKey);
+        }
+    }
 }
\ No newline at end of file
@@ -16,12 +16,14 @@
  */
 package org.apache.camel.component.aws2.athena.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws2.athena.Athena2Component;
 import org.apache.camel.component.aws2.athena.Athena2Configuration;
 import org.apache.camel.component.aws2.athena.Athena2Operations;
 import org.apache.camel.component.aws2.athena.Athena2OutputType;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.athena.AthenaClient;
@@ -36,7 +38,9 @@ import software.amazon.awssdk.services.athena.model.EncryptionOption;
 @ConfigurationProperties(prefix = "camel.component.aws2-athena")
 public class Athena2ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the aws2-athena component. This
@@ -455,4 +459,98 @@ public class Athena2ComponentConfiguration
     public void setClientRequestToken(String clientRequestToken) {
         this.clientRequestToken = clientRequestToken;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (accessKey != null) {
+            target.accept("accessKey", accessKey);
+        }
+        if (amazonAthenaClient != null) {
+            target.accept("amazonAthenaClient", amazonAthenaClient);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (database != null) {
+            target.accept("database", database);
+        }
+        if (delay != null) {
+            target.accept("delay", delay);
+        }
+        if (encryptionOption != null) {
+            target.accept("encryptionOption", encryptionOption);
+        }
+        if (includeTrace != null) {
+            target.accept("includeTrace", includeTrace);
+        }
+        if (initialDelay != null) {
+            target.accept("initialDelay", initialDelay);
+        }
+        if (kmsKey != null) {
+            target.accept("kmsKey", kmsKey);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (maxAttempts != null) {
+            target.accept("maxAttempts", maxAttempts);
+        }
+        if (maxResults != null) {
+            target.accept("maxResults", maxResults);
+        }
+        if (nextToken != null) {
+            target.accept("nextToken", nextToken);
+        }
+        if (operation != null) {
+            target.accept("operation", operation);
+        }
+        if (outputLocation != null) {
+            target.accept("outputLocation", outputLocation);
+        }
+        if (outputType != null) {
+            target.accept("outputType", outputType);
+        }
+        if (proxyHost != null) {
+            target.accept("proxyHost", proxyHost);
+        }
+        if (proxyPort != null) {
+            target.accept("proxyPort", proxyPort);
+        }
+        if (proxyProtocol != null) {
+            target.accept("proxyProtocol", proxyProtocol);
+        }
+        if (queryExecutionId != null) {
+            target.accept("queryExecutionId", queryExecutionId);
+        }
+        if (queryString != null) {
+            target.accept("queryString", queryString);
+        }
+        if (region != null) {
+            target.accept("region", region);
+        }
+        if (resetWaitTimeoutOnRetry != null) {
+            target.accept("resetWaitTimeoutOnRetry", resetWaitTimeoutOnRetry);
+        }
+        if (retry != null) {
+            target.accept("retry", retry);
+        }
+        if (secretKey != null) {
+            target.accept("secretKey", secretKey);
+        }
+        if (useDefaultCredentialsProvider != null) {
+            target.accept("useDefaultCredentialsProvider", useDefaultCredentialsProvider);
+        }
+        if (waitTimeout != null) {
+            target.accept("waitTimeout", waitTimeout);
+        }
+        if (workGroup != null) {
+            target.accept("workGroup", workGroup);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (clientRequestToken != null) {
+            target.accept("clientRequestToken", clientRequestToken);
+        }
+    }
 }
\ No newline at end of file
@@ -17,10 +17,12 @@
 package org.apache.camel.component.aws2.cw.springboot;
 
 import java.time.Instant;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws2.cw.Cw2Component;
 import org.apache.camel.component.aws2.cw.Cw2Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.cloudwatch.CloudWatchClient;
@@ -34,7 +36,9 @@ import software.amazon.awssdk.services.cloudwatch.CloudWatchClient;
 @ConfigurationProperties(prefix = "camel.component.aws2-cw")
 public class Cw2ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the aws2-cw component. This is
@@ -278,4 +282,62 @@ public class Cw2ComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (amazonCwClient != null) {
+            target.accept("amazonCwClient", amazonCwClient);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (name != null) {
+            target.accept("name", name);
+        }
+        if (overrideEndpoint != null) {
+            target.accept("overrideEndpoint", overrideEndpoint);
+        }
+        if (proxyHost != null) {
+            target.accept("proxyHost", proxyHost);
+        }
+        if (proxyPort != null) {
+            target.accept("proxyPort", proxyPort);
+        }
+        if (proxyProtocol != null) {
+            target.accept("proxyProtocol", proxyProtocol);
+        }
+        if (region != null) {
+            target.accept("region", region);
+        }
+        if (timestamp != null) {
+            target.accept("timestamp", timestamp);
+        }
+        if (trustAllCertificates != null) {
+            target.accept("trustAllCertificates", trustAllCertificates);
+        }
+        if (unit != null) {
+            target.accept("unit", unit);
+        }
+        if (uriEndpointOverride != null) {
+            target.accept("uriEndpointOverride", uriEndpointOverride);
+        }
+        if (useDefaultCredentialsProvider != null) {
+            target.accept("useDefaultCredentialsProvider", useDefaultCredentialsProvider);
+        }
+        if (value != null) {
+            target.accept("value", value);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (accessKey != null) {
+            target.accept("accessKey", accessKey);
+        }
+        if (secretKey != null) {
+            target.accept("secretKey", secretKey);
+        }
+    }
 }
\ No newline at end of file
@@ -16,11 +16,13 @@
  */
 package org.apache.camel.component.aws2.ddb.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws2.ddb.Ddb2Component;
 import org.apache.camel.component.aws2.ddb.Ddb2Configuration;
 import org.apache.camel.component.aws2.ddb.Ddb2Operations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
@@ -34,7 +36,9 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 @ConfigurationProperties(prefix = "camel.component.aws2-ddb")
 public class Ddb2ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the aws2-ddb component. This is
@@ -331,4 +335,74 @@ public class Ddb2ComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (amazonDDBClient != null) {
+            target.accept("amazonDDBClient", amazonDDBClient);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (consistentRead != null) {
+            target.accept("consistentRead", consistentRead);
+        }
+        if (enabledInitialDescribeTable != null) {
+            target.accept("enabledInitialDescribeTable", enabledInitialDescribeTable);
+        }
+        if (keyAttributeName != null) {
+            target.accept("keyAttributeName", keyAttributeName);
+        }
+        if (keyAttributeType != null) {
+            target.accept("keyAttributeType", keyAttributeType);
+        }
+        if (keyScalarType != null) {
+            target.accept("keyScalarType", keyScalarType);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (operation != null) {
+            target.accept("operation", operation);
+        }
+        if (overrideEndpoint != null) {
+            target.accept("overrideEndpoint", overrideEndpoint);
+        }
+        if (proxyHost != null) {
+            target.accept("proxyHost", proxyHost);
+        }
+        if (proxyPort != null) {
+            target.accept("proxyPort", proxyPort);
+        }
+        if (proxyProtocol != null) {
+            target.accept("proxyProtocol", proxyProtocol);
+        }
+        if (readCapacity != null) {
+            target.accept("readCapacity", readCapacity);
+        }
+        if (region != null) {
+            target.accept("region", region);
+        }
+        if (trustAllCertificates != null) {
+            target.accept("trustAllCertificates", trustAllCertificates);
+        }
+        if (uriEndpointOverride != null) {
+            target.accept("uriEndpointOverride", uriEndpointOverride);
+        }
+        if (useDefaultCredentialsProvider != null) {
+            target.accept("useDefaultCredentialsProvider", useDefaultCredentialsProvider);
+        }
+        if (writeCapacity != null) {
+            target.accept("writeCapacity", writeCapacity);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (accessKey != null) {
+            target.accept("accessKey", accessKey);
+        }
+        if (secretKey != null) {
+            target.accept("secretKey", secretKey);
+        }
+    }
 }
\ No newline at end of file
@@ -16,11 +16,13 @@
  */
 package org.apache.camel.component.aws2.ddbstream.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws2.ddbstream.Ddb2StreamComponent;
 import org.apache.camel.component.aws2.ddbstream.Ddb2StreamConfiguration;
 import org.apache.camel.component.aws2.ddbstream.Ddb2StreamConfiguration.StreamIteratorType;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
@@ -34,7 +36,9 @@ import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
 @ConfigurationProperties(prefix = "camel.component.aws2-ddbstream")
 public class Ddb2StreamComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the aws2-ddbstream component.
@@ -255,4 +259,56 @@ public class Ddb2StreamComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (amazonDynamoDbStreamsClient != null) {
+            target.accept("amazonDynamoDbStreamsClient", amazonDynamoDbStreamsClient);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (maxResultsPerRequest != null) {
+            target.accept("maxResultsPerRequest", maxResultsPerRequest);
+        }
+        if (overrideEndpoint != null) {
+            target.accept("overrideEndpoint", overrideEndpoint);
+        }
+        if (proxyHost != null) {
+            target.accept("proxyHost", proxyHost);
+        }
+        if (proxyPort != null) {
+            target.accept("proxyPort", proxyPort);
+        }
+        if (proxyProtocol != null) {
+            target.accept("proxyProtocol", proxyProtocol);
+        }
+        if (region != null) {
+            target.accept("region", region);
+        }
+        if (streamIteratorType != null) {
+            target.accept("streamIteratorType", streamIteratorType);
+        }
+        if (trustAllCertificates != null) {
+            target.accept("trustAllCertificates", trustAllCertificates);
+        }
+        if (uriEndpointOverride != null) {
+            target.accept("uriEndpointOverride", uriEndpointOverride);
+        }
+        if (useDefaultCredentialsProvider != null) {
+            target.accept("useDefaultCredentialsProvider", useDefaultCredentialsProvider);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (accessKey != null) {
+            target.accept("accessKey", accessKey);
+        }
+        if (secretKey != null) {
+            target.accept("secretKey", secretKey);
+        }
+    }
 }
\ No newline at end of file
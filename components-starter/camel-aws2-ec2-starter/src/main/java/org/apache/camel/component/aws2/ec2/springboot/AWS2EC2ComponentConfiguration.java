@@ -16,11 +16,13 @@
  */
 package org.apache.camel.component.aws2.ec2.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws2.ec2.AWS2EC2Component;
 import org.apache.camel.component.aws2.ec2.AWS2EC2Configuration;
 import org.apache.camel.component.aws2.ec2.AWS2EC2Operations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.ec2.Ec2Client;
@@ -34,7 +36,9 @@ import software.amazon.awssdk.services.ec2.Ec2Client;
 @ConfigurationProperties(prefix = "camel.component.aws2-ec2")
 public class AWS2EC2ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the aws2-ec2 component. This is
@@ -257,4 +261,56 @@ public class AWS2EC2ComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (accessKey != null) {
+            target.accept("accessKey", accessKey);
+        }
+        if (amazonEc2Client != null) {
+            target.accept("amazonEc2Client", amazonEc2Client);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (operation != null) {
+            target.accept("operation", operation);
+        }
+        if (overrideEndpoint != null) {
+            target.accept("overrideEndpoint", overrideEndpoint);
+        }
+        if (pojoRequest != null) {
+            target.accept("pojoRequest", pojoRequest);
+        }
+        if (proxyHost != null) {
+            target.accept("proxyHost", proxyHost);
+        }
+        if (proxyPort != null) {
+            target.accept("proxyPort", proxyPort);
+        }
+        if (proxyProtocol != null) {
+            target.accept("proxyProtocol", proxyProtocol);
+        }
+        if (region != null) {
+            target.accept("region", region);
+        }
+        if (secretKey != null) {
+            target.accept("secretKey", secretKey);
+        }
+        if (trustAllCertificates != null) {
+            target.accept("trustAllCertificates", trustAllCertificates);
+        }
+        if (uriEndpointOverride != null) {
+            target.accept("uriEndpointOverride", uriEndpointOverride);
+        }
+        if (useDefaultCredentialsProvider != null) {
+            target.accept("useDefaultCredentialsProvider", useDefaultCredentialsProvider);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+    }
 }
\ No newline at end of file
@@ -16,11 +16,13 @@
  */
 package org.apache.camel.component.aws2.kinesis.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws2.kinesis.Kinesis2Component;
 import org.apache.camel.component.aws2.kinesis.Kinesis2Configuration;
 import org.apache.camel.component.aws2.kinesis.Kinesis2ShardClosedStrategyEnum;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.kinesis.KinesisClient;
@@ -36,7 +38,9 @@ import software.amazon.awssdk.services.kinesis.model.ShardIteratorType;
 @ConfigurationProperties(prefix = "camel.component.aws2-kinesis")
 public class Kinesis2ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the aws2-kinesis component. This
@@ -327,4 +331,71 @@ public class Kinesis2ComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (amazonKinesisClient != null) {
+            target.accept("amazonKinesisClient", amazonKinesisClient);
+        }
+        if (cborEnabled != null) {
+            target.accept("cborEnabled", cborEnabled);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (overrideEndpoint != null) {
+            target.accept("overrideEndpoint", overrideEndpoint);
+        }
+        if (proxyHost != null) {
+            target.accept("proxyHost", proxyHost);
+        }
+        if (proxyPort != null) {
+            target.accept("proxyPort", proxyPort);
+        }
+        if (proxyProtocol != null) {
+            target.accept("proxyProtocol", proxyProtocol);
+        }
+        if (region != null) {
+            target.accept("region", region);
+        }
+        if (trustAllCertificates != null) {
+            target.accept("trustAllCertificates", trustAllCertificates);
+        }
+        if (uriEndpointOverride != null) {
+            target.accept("uriEndpointOverride", uriEndpointOverride);
+        }
+        if (useDefaultCredentialsProvider != null) {
+            target.accept("useDefaultCredentialsProvider", useDefaultCredentialsProvider);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (iteratorType != null) {
+            target.accept("iteratorType", iteratorType);
+        }
+        if (maxResultsPerRequest != null) {
+            target.accept("maxResultsPerRequest", maxResultsPerRequest);
+        }
+        if (sequenceNumber != null) {
+            target.accept("sequenceNumber", sequenceNumber);
+        }
+        if (shardClosed != null) {
+            target.accept("shardClosed", shardClosed);
+        }
+        if (shardId != null) {
+            target.accept("shardId", shardId);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (accessKey != null) {
+            target.accept("accessKey", accessKey);
+        }
+        if (secretKey != null) {
+            target.accept("secretKey", secretKey);
+        }
+    }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.aws2.s3.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws2.s3.AWS2S3Component;
 import org.apache.camel.component.aws2.s3.AWS2S3Configuration;
@@ -23,6 +24,7 @@ import org.apache.camel.component.aws2.s3.AWS2S3Operations;
 import org.apache.camel.component.aws2.s3.stream.AWSS3NamingStrategyEnum;
 import org.apache.camel.component.aws2.s3.stream.AWSS3RestartingPolicyEnum;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -38,7 +40,9 @@ import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 @ConfigurationProperties(prefix = "camel.component.aws2-s3")
 public class AWS2S3ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the aws2-s3 component. This is
@@ -725,4 +729,161 @@ public class AWS2S3ComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (amazonS3Client != null) {
+            target.accept("amazonS3Client", amazonS3Client);
+        }
+        if (amazonS3Presigner != null) {
+            target.accept("amazonS3Presigner", amazonS3Presigner);
+        }
+        if (autoCreateBucket != null) {
+            target.accept("autoCreateBucket", autoCreateBucket);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (overrideEndpoint != null) {
+            target.accept("overrideEndpoint", overrideEndpoint);
+        }
+        if (pojoRequest != null) {
+            target.accept("pojoRequest", pojoRequest);
+        }
+        if (policy != null) {
+            target.accept("policy", policy);
+        }
+        if (proxyHost != null) {
+            target.accept("proxyHost", proxyHost);
+        }
+        if (proxyPort != null) {
+            target.accept("proxyPort", proxyPort);
+        }
+        if (proxyProtocol != null) {
+            target.accept("proxyProtocol", proxyProtocol);
+        }
+        if (region != null) {
+            target.accept("region", region);
+        }
+        if (trustAllCertificates != null) {
+            target.accept("trustAllCertificates", trustAllCertificates);
+        }
+        if (uriEndpointOverride != null) {
+            target.accept("uriEndpointOverride", uriEndpointOverride);
+        }
+        if (useDefaultCredentialsProvider != null) {
+            target.accept("useDefaultCredentialsProvider", useDefaultCredentialsProvider);
+        }
+        if (customerAlgorithm != null) {
+            target.accept("customerAlgorithm", customerAlgorithm);
+        }
+        if (customerKeyId != null) {
+            target.accept("customerKeyId", customerKeyId);
+        }
+        if (customerKeyMD5 != null) {
+            target.accept("customerKeyMD5", customerKeyMD5);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (deleteAfterRead != null) {
+            target.accept("deleteAfterRead", deleteAfterRead);
+        }
+        if (delimiter != null) {
+            target.accept("delimiter", delimiter);
+        }
+        if (destinationBucket != null) {
+            target.accept("destinationBucket", destinationBucket);
+        }
+        if (destinationBucketPrefix != null) {
+            target.accept("destinationBucketPrefix", destinationBucketPrefix);
+        }
+        if (destinationBucketSuffix != null) {
+            target.accept("destinationBucketSuffix", destinationBucketSuffix);
+        }
+        if (doneFileName != null) {
+            target.accept("doneFileName", doneFileName);
+        }
+        if (fileName != null) {
+            target.accept("fileName", fileName);
+        }
+        if (ignoreBody != null) {
+            target.accept("ignoreBody", ignoreBody);
+        }
+        if (includeBody != null) {
+            target.accept("includeBody", includeBody);
+        }
+        if (includeFolders != null) {
+            target.accept("includeFolders", includeFolders);
+        }
+        if (moveAfterRead != null) {
+            target.accept("moveAfterRead", moveAfterRead);
+        }
+        if (prefix != null) {
+            target.accept("prefix", prefix);
+        }
+        if (autocloseBody != null) {
+            target.accept("autocloseBody", autocloseBody);
+        }
+        if (batchMessageNumber != null) {
+            target.accept("batchMessageNumber", batchMessageNumber);
+        }
+        if (batchSize != null) {
+            target.accept("batchSize", batchSize);
+        }
+        if (deleteAfterWrite != null) {
+            target.accept("deleteAfterWrite", deleteAfterWrite);
+        }
+        if (keyName != null) {
+            target.accept("keyName", keyName);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (multiPartUpload != null) {
+            target.accept("multiPartUpload", multiPartUpload);
+        }
+        if (namingStrategy != null) {
+            target.accept("namingStrategy", namingStrategy);
+        }
+        if (operation != null) {
+            target.accept("operation", operation);
+        }
+        if (partSize != null) {
+            target.accept("partSize", partSize);
+        }
+        if (restartingPolicy != null) {
+            target.accept("restartingPolicy", restartingPolicy);
+        }
+        if (storageClass != null) {
+            target.accept("storageClass", storageClass);
+        }
+        if (streamingUploadMode != null) {
+            target.accept("streamingUploadMode", streamingUploadMode);
+        }
+        if (streamingUploadTimeout != null) {
+            target.accept("streamingUploadTimeout", streamingUploadTimeout);
+        }
+        if (awsKMSKeyId != null) {
+            target.accept("awsKMSKeyId", awsKMSKeyId);
+        }
+        if (useAwsKMS != null) {
+            target.accept("useAwsKMS", useAwsKMS);
+        }
+        if (useCustomerKey != null) {
+            target.accept("useCustomerKey", useCustomerKey);
+        }
+        if (useSSES3 != null) {
+            target.accept("useSSES3", useSSES3);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (accessKey != null) {
+            target.accept("accessKey", accessKey);
+        }
+        if (secretKey != null) {
+            target.accept("secretKey", secretKey);
+        }
+    }
 }
\ No newline at end of file
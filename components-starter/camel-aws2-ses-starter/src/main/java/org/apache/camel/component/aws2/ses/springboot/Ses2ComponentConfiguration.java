@@ -16,10 +16,12 @@
  */
 package org.apache.camel.component.aws2.ses.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws2.ses.Ses2Component;
 import org.apache.camel.component.aws2.ses.Ses2Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.ses.SesClient;
@@ -33,7 +35,9 @@ import software.amazon.awssdk.services.ses.SesClient;
 @ConfigurationProperties(prefix = "camel.component.aws2-ses")
 public class Ses2ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the aws2-ses component. This is
@@ -320,4 +324,71 @@ public class Ses2ComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (amazonSESClient != null) {
+            target.accept("amazonSESClient", amazonSESClient);
+        }
+        if (bcc != null) {
+            target.accept("bcc", bcc);
+        }
+        if (cc != null) {
+            target.accept("cc", cc);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (configurationSet != null) {
+            target.accept("configurationSet", configurationSet);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (overrideEndpoint != null) {
+            target.accept("overrideEndpoint", overrideEndpoint);
+        }
+        if (proxyHost != null) {
+            target.accept("proxyHost", proxyHost);
+        }
+        if (proxyPort != null) {
+            target.accept("proxyPort", proxyPort);
+        }
+        if (proxyProtocol != null) {
+            target.accept("proxyProtocol", proxyProtocol);
+        }
+        if (region != null) {
+            target.accept("region", region);
+        }
+        if (replyToAddresses != null) {
+            target.accept("replyToAddresses", replyToAddresses);
+        }
+        if (returnPath != null) {
+            target.accept("returnPath", returnPath);
+        }
+        if (subject != null) {
+            target.accept("subject", subject);
+        }
+        if (to != null) {
+            target.accept("to", to);
+        }
+        if (trustAllCertificates != null) {
+            target.accept("trustAllCertificates", trustAllCertificates);
+        }
+        if (uriEndpointOverride != null) {
+            target.accept("uriEndpointOverride", uriEndpointOverride);
+        }
+        if (useDefaultCredentialsProvider != null) {
+            target.accept("useDefaultCredentialsProvider", useDefaultCredentialsProvider);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (accessKey != null) {
+            target.accept("accessKey", accessKey);
+        }
+        if (secretKey != null) {
+            target.accept("secretKey", secretKey);
+        }
+    }
 }
\ No newline at end of file
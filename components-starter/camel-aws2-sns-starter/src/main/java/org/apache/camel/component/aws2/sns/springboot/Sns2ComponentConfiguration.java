@@ -16,10 +16,12 @@
  */
 package org.apache.camel.component.aws2.sns.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws2.sns.Sns2Component;
 import org.apache.camel.component.aws2.sns.Sns2Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.sns.SnsClient;
@@ -33,7 +35,9 @@ import software.amazon.awssdk.services.sns.SnsClient;
 @ConfigurationProperties(prefix = "camel.component.aws2-sns")
 public class Sns2ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the aws2-sns component. This is
@@ -360,4 +364,80 @@ public class Sns2ComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (amazonSNSClient != null) {
+            target.accept("amazonSNSClient", amazonSNSClient);
+        }
+        if (autoCreateTopic != null) {
+            target.accept("autoCreateTopic", autoCreateTopic);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (kmsMasterKeyId != null) {
+            target.accept("kmsMasterKeyId", kmsMasterKeyId);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (messageDeduplicationIdStrategy != null) {
+            target.accept("messageDeduplicationIdStrategy", messageDeduplicationIdStrategy);
+        }
+        if (messageGroupIdStrategy != null) {
+            target.accept("messageGroupIdStrategy", messageGroupIdStrategy);
+        }
+        if (messageStructure != null) {
+            target.accept("messageStructure", messageStructure);
+        }
+        if (overrideEndpoint != null) {
+            target.accept("overrideEndpoint", overrideEndpoint);
+        }
+        if (policy != null) {
+            target.accept("policy", policy);
+        }
+        if (proxyHost != null) {
+            target.accept("proxyHost", proxyHost);
+        }
+        if (proxyPort != null) {
+            target.accept("proxyPort", proxyPort);
+        }
+        if (proxyProtocol != null) {
+            target.accept("proxyProtocol", proxyProtocol);
+        }
+        if (queueUrl != null) {
+            target.accept("queueUrl", queueUrl);
+        }
+        if (region != null) {
+            target.accept("region", region);
+        }
+        if (serverSideEncryptionEnabled != null) {
+            target.accept("serverSideEncryptionEnabled", serverSideEncryptionEnabled);
+        }
+        if (subject != null) {
+            target.accept("subject", subject);
+        }
+        if (subscribeSNStoSQS != null) {
+            target.accept("subscribeSNStoSQS", subscribeSNStoSQS);
+        }
+        if (trustAllCertificates != null) {
+            target.accept("trustAllCertificates", trustAllCertificates);
+        }
+        if (uriEndpointOverride != null) {
+            target.accept("uriEndpointOverride", uriEndpointOverride);
+        }
+        if (useDefaultCredentialsProvider != null) {
+            target.accept("useDefaultCredentialsProvider", useDefaultCredentialsProvider);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (accessKey != null) {
+            target.accept("accessKey", accessKey);
+        }
+        if (secretKey != null) {
+            target.accept("secretKey", secretKey);
+        }
+    }
 }
\ No newline at end of file
@@ -16,11 +16,13 @@
  */
 package org.apache.camel.component.aws2.sqs.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.aws2.sqs.Sqs2Component;
 import org.apache.camel.component.aws2.sqs.Sqs2Configuration;
 import org.apache.camel.component.aws2.sqs.Sqs2Operations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import software.amazon.awssdk.core.Protocol;
 import software.amazon.awssdk.services.sqs.SqsClient;
@@ -34,7 +36,9 @@ import software.amazon.awssdk.services.sqs.SqsClient;
 @ConfigurationProperties(prefix = "camel.component.aws2-sqs")
 public class Sqs2ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the aws2-sqs component. This is
@@ -639,4 +643,140 @@ public class Sqs2ComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (amazonAWSHost != null) {
+            target.accept("amazonAWSHost", amazonAWSHost);
+        }
+        if (amazonSQSClient != null) {
+            target.accept("amazonSQSClient", amazonSQSClient);
+        }
+        if (autoCreateQueue != null) {
+            target.accept("autoCreateQueue", autoCreateQueue);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (overrideEndpoint != null) {
+            target.accept("overrideEndpoint", overrideEndpoint);
+        }
+        if (protocol != null) {
+            target.accept("protocol", protocol);
+        }
+        if (proxyProtocol != null) {
+            target.accept("proxyProtocol", proxyProtocol);
+        }
+        if (queueOwnerAWSAccountId != null) {
+            target.accept("queueOwnerAWSAccountId", queueOwnerAWSAccountId);
+        }
+        if (region != null) {
+            target.accept("region", region);
+        }
+        if (trustAllCertificates != null) {
+            target.accept("trustAllCertificates", trustAllCertificates);
+        }
+        if (uriEndpointOverride != null) {
+            target.accept("uriEndpointOverride", uriEndpointOverride);
+        }
+        if (useDefaultCredentialsProvider != null) {
+            target.accept("useDefaultCredentialsProvider", useDefaultCredentialsProvider);
+        }
+        if (attributeNames != null) {
+            target.accept("attributeNames", attributeNames);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (concurrentConsumers != null) {
+            target.accept("concurrentConsumers", concurrentConsumers);
+        }
+        if (defaultVisibilityTimeout != null) {
+            target.accept("defaultVisibilityTimeout", defaultVisibilityTimeout);
+        }
+        if (deleteAfterRead != null) {
+            target.accept("deleteAfterRead", deleteAfterRead);
+        }
+        if (deleteIfFiltered != null) {
+            target.accept("deleteIfFiltered", deleteIfFiltered);
+        }
+        if (extendMessageVisibility != null) {
+            target.accept("extendMessageVisibility", extendMessageVisibility);
+        }
+        if (kmsDataKeyReusePeriodSeconds != null) {
+            target.accept("kmsDataKeyReusePeriodSeconds", kmsDataKeyReusePeriodSeconds);
+        }
+        if (kmsMasterKeyId != null) {
+            target.accept("kmsMasterKeyId", kmsMasterKeyId);
+        }
+        if (messageAttributeNames != null) {
+            target.accept("messageAttributeNames", messageAttributeNames);
+        }
+        if (serverSideEncryptionEnabled != null) {
+            target.accept("serverSideEncryptionEnabled", serverSideEncryptionEnabled);
+        }
+        if (visibilityTimeout != null) {
+            target.accept("visibilityTimeout", visibilityTimeout);
+        }
+        if (waitTimeSeconds != null) {
+            target.accept("waitTimeSeconds", waitTimeSeconds);
+        }
+        if (batchSeparator != null) {
+            target.accept("batchSeparator", batchSeparator);
+        }
+        if (delaySeconds != null) {
+            target.accept("delaySeconds", delaySeconds);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (messageDeduplicationIdStrategy != null) {
+            target.accept("messageDeduplicationIdStrategy", messageDeduplicationIdStrategy);
+        }
+        if (messageGroupIdStrategy != null) {
+            target.accept("messageGroupIdStrategy", messageGroupIdStrategy);
+        }
+        if (messageHeaderExceededLimit != null) {
+            target.accept("messageHeaderExceededLimit", messageHeaderExceededLimit);
+        }
+        if (operation != null) {
+            target.accept("operation", operation);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (delayQueue != null) {
+            target.accept("delayQueue", delayQueue);
+        }
+        if (proxyHost != null) {
+            target.accept("proxyHost", proxyHost);
+        }
+        if (proxyPort != null) {
+            target.accept("proxyPort", proxyPort);
+        }
+        if (maximumMessageSize != null) {
+            target.accept("maximumMessageSize", maximumMessageSize);
+        }
+        if (messageRetentionPeriod != null) {
+            target.accept("messageRetentionPeriod", messageRetentionPeriod);
+        }
+        if (policy != null) {
+            target.accept("policy", policy);
+        }
+        if (queueUrl != null) {
+            target.accept("queueUrl", queueUrl);
+        }
+        if (receiveMessageWaitTimeSeconds != null) {
+            target.accept("receiveMessageWaitTimeSeconds", receiveMessageWaitTimeSeconds);
+        }
+        if (redrivePolicy != null) {
+            target.accept("redrivePolicy", redrivePolicy);
+        }
+        if (accessKey != null) {
+            target.accept("accessKey", accessKey);
+        }
+        if (secretKey != null) {
+            target.accept("secretKey", secretKey);
+        }
+    }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.azure.cosmosdb.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import com.azure.cosmos.ConsistencyLevel;
 import com.azure.cosmos.CosmosAsyncClient;
@@ -27,6 +28,7 @@ import org.apache.camel.component.azure.cosmosdb.CosmosDbComponent;
 import org.apache.camel.component.azure.cosmosdb.CosmosDbConfiguration;
 import org.apache.camel.component.azure.cosmosdb.CosmosDbOperationsDefinition;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -38,7 +40,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.azure-cosmosdb")
 public class CosmosDbComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the azure-cosmosdb component.
@@ -491,4 +495,95 @@ public class CosmosDbComponentConfiguration
     public void setAccountKey(String accountKey) {
         this.accountKey = accountKey;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (clientTelemetryEnabled != null) {
+            target.accept("clientTelemetryEnabled", clientTelemetryEnabled);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (connectionSharingAcrossClientsEnabled != null) {
+            target.accept("connectionSharingAcrossClientsEnabled", connectionSharingAcrossClientsEnabled);
+        }
+        if (consistencyLevel != null) {
+            target.accept("consistencyLevel", consistencyLevel);
+        }
+        if (containerPartitionKeyPath != null) {
+            target.accept("containerPartitionKeyPath", containerPartitionKeyPath);
+        }
+        if (contentResponseOnWriteEnabled != null) {
+            target.accept("contentResponseOnWriteEnabled", contentResponseOnWriteEnabled);
+        }
+        if (cosmosAsyncClient != null) {
+            target.accept("cosmosAsyncClient", cosmosAsyncClient);
+        }
+        if (createContainerIfNotExists != null) {
+            target.accept("createContainerIfNotExists", createContainerIfNotExists);
+        }
+        if (createDatabaseIfNotExists != null) {
+            target.accept("createDatabaseIfNotExists", createDatabaseIfNotExists);
+        }
+        if (databaseEndpoint != null) {
+            target.accept("databaseEndpoint", databaseEndpoint);
+        }
+        if (multipleWriteRegionsEnabled != null) {
+            target.accept("multipleWriteRegionsEnabled", multipleWriteRegionsEnabled);
+        }
+        if (preferredRegions != null) {
+            target.accept("preferredRegions", preferredRegions);
+        }
+        if (readRequestsFallbackEnabled != null) {
+            target.accept("readRequestsFallbackEnabled", readRequestsFallbackEnabled);
+        }
+        if (throughputProperties != null) {
+            target.accept("throughputProperties", throughputProperties);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (changeFeedProcessorOptions != null) {
+            target.accept("changeFeedProcessorOptions", changeFeedProcessorOptions);
+        }
+        if (createLeaseContainerIfNotExists != null) {
+            target.accept("createLeaseContainerIfNotExists", createLeaseContainerIfNotExists);
+        }
+        if (createLeaseDatabaseIfNotExists != null) {
+            target.accept("createLeaseDatabaseIfNotExists", createLeaseDatabaseIfNotExists);
+        }
+        if (hostName != null) {
+            target.accept("hostName", hostName);
+        }
+        if (leaseContainerName != null) {
+            target.accept("leaseContainerName", leaseContainerName);
+        }
+        if (leaseDatabaseName != null) {
+            target.accept("leaseDatabaseName", leaseDatabaseName);
+        }
+        if (itemId != null) {
+            target.accept("itemId", itemId);
+        }
+        if (itemPartitionKey != null) {
+            target.accept("itemPartitionKey", itemPartitionKey);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (operation != null) {
+            target.accept("operation", operation);
+        }
+        if (query != null) {
+            target.accept("query", query);
+        }
+        if (queryRequestOptions != null) {
+            target.accept("queryRequestOptions", queryRequestOptions);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (accountKey != null) {
+            target.accept("accountKey", accountKey);
+        }
+    }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@
 package org.apache.camel.component.azure.eventhubs.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import com.azure.core.amqp.AmqpRetryOptions;
 import com.azure.core.amqp.AmqpTransportType;
@@ -28,6 +29,7 @@ import com.azure.storage.common.StorageSharedKeyCredential;
 import org.apache.camel.component.azure.eventhubs.EventHubsComponent;
 import org.apache.camel.component.azure.eventhubs.EventHubsConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -39,7 +41,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.azure-eventhubs")
 public class EventHubsComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the azure-eventhubs component.
@@ -396,4 +400,77 @@ public class EventHubsComponentConfiguration
     public void setTokenCredential(TokenCredential tokenCredential) {
         this.tokenCredential = tokenCredential;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (amqpRetryOptions != null) {
+            target.accept("amqpRetryOptions", amqpRetryOptions);
+        }
+        if (amqpTransportType != null) {
+            target.accept("amqpTransportType", amqpTransportType);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (blobAccessKey != null) {
+            target.accept("blobAccessKey", blobAccessKey);
+        }
+        if (blobAccountName != null) {
+            target.accept("blobAccountName", blobAccountName);
+        }
+        if (blobContainerName != null) {
+            target.accept("blobContainerName", blobContainerName);
+        }
+        if (blobStorageSharedKeyCredential != null) {
+            target.accept("blobStorageSharedKeyCredential", blobStorageSharedKeyCredential);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (checkpointBatchSize != null) {
+            target.accept("checkpointBatchSize", checkpointBatchSize);
+        }
+        if (checkpointBatchTimeout != null) {
+            target.accept("checkpointBatchTimeout", checkpointBatchTimeout);
+        }
+        if (checkpointStore != null) {
+            target.accept("checkpointStore", checkpointStore);
+        }
+        if (consumerGroupName != null) {
+            target.accept("consumerGroupName", consumerGroupName);
+        }
+        if (eventPosition != null) {
+            target.accept("eventPosition", eventPosition);
+        }
+        if (prefetchCount != null) {
+            target.accept("prefetchCount", prefetchCount);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (partitionId != null) {
+            target.accept("partitionId", partitionId);
+        }
+        if (partitionKey != null) {
+            target.accept("partitionKey", partitionKey);
+        }
+        if (producerAsyncClient != null) {
+            target.accept("producerAsyncClient", producerAsyncClient);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (connectionString != null) {
+            target.accept("connectionString", connectionString);
+        }
+        if (sharedAccessKey != null) {
+            target.accept("sharedAccessKey", sharedAccessKey);
+        }
+        if (sharedAccessName != null) {
+            target.accept("sharedAccessName", sharedAccessName);
+        }
+        if (tokenCredential != null) {
+            target.accept("tokenCredential", tokenCredential);
+        }
+    }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ package org.apache.camel.component.azure.servicebus.springboot;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import com.azure.core.amqp.AmqpRetryOptions;
 import com.azure.core.amqp.AmqpTransportType;
@@ -35,6 +36,7 @@ import org.apache.camel.component.azure.servicebus.ServiceBusConsumerOperationDe
 import org.apache.camel.component.azure.servicebus.ServiceBusProducerOperationDefinition;
 import org.apache.camel.component.azure.servicebus.ServiceBusType;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -46,7 +48,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.azure-servicebus")
 public class ServiceBusComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the azure-servicebus component.
@@ -415,4 +419,83 @@ public class ServiceBusComponentConfiguration
     public void setTokenCredential(TokenCredential tokenCredential) {
         this.tokenCredential = tokenCredential;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (amqpRetryOptions != null) {
+            target.accept("amqpRetryOptions", amqpRetryOptions);
+        }
+        if (amqpTransportType != null) {
+            target.accept("amqpTransportType", amqpTransportType);
+        }
+        if (clientOptions != null) {
+            target.accept("clientOptions", clientOptions);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (proxyOptions != null) {
+            target.accept("proxyOptions", proxyOptions);
+        }
+        if (serviceBusType != null) {
+            target.accept("serviceBusType", serviceBusType);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (consumerOperation != null) {
+            target.accept("consumerOperation", consumerOperation);
+        }
+        if (disableAutoComplete != null) {
+            target.accept("disableAutoComplete", disableAutoComplete);
+        }
+        if (maxAutoLockRenewDuration != null) {
+            target.accept("maxAutoLockRenewDuration", maxAutoLockRenewDuration);
+        }
+        if (peekNumMaxMessages != null) {
+            target.accept("peekNumMaxMessages", peekNumMaxMessages);
+        }
+        if (prefetchCount != null) {
+            target.accept("prefetchCount", prefetchCount);
+        }
+        if (receiverAsyncClient != null) {
+            target.accept("receiverAsyncClient", receiverAsyncClient);
+        }
+        if (serviceBusReceiveMode != null) {
+            target.accept("serviceBusReceiveMode", serviceBusReceiveMode);
+        }
+        if (subQueue != null) {
+            target.accept("subQueue", subQueue);
+        }
+        if (subscriptionName != null) {
+            target.accept("subscriptionName", subscriptionName);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (producerOperation != null) {
+            target.accept("producerOperation", producerOperation);
+        }
+        if (scheduledEnqueueTime != null) {
+            target.accept("scheduledEnqueueTime", scheduledEnqueueTime);
+        }
+        if (senderAsyncClient != null) {
+            target.accept("senderAsyncClient", senderAsyncClient);
+        }
+        if (serviceBusTransactionContext != null) {
+            target.accept("serviceBusTransactionContext", serviceBusTransactionContext);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (connectionString != null) {
+            target.accept("connectionString", connectionString);
+        }
+        if (fullyQualifiedNamespace != null) {
+            target.accept("fullyQualifiedNamespace", fullyQualifiedNamespace);
+        }
+        if (tokenCredential != null) {
+            target.accept("tokenCredential", tokenCredential);
+        }
+    }
 }
\ No newline at end of file
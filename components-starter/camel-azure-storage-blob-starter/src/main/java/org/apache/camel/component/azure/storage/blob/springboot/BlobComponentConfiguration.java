@@ -18,6 +18,7 @@ package org.apache.camel.component.azure.storage.blob.springboot;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import com.azure.core.util.Context;
 import com.azure.storage.blob.BlobServiceClient;
@@ -29,6 +30,7 @@ import org.apache.camel.component.azure.storage.blob.BlobOperationsDefinition;
 import org.apache.camel.component.azure.storage.blob.BlobType;
 import org.apache.camel.component.azure.storage.blob.CredentialType;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -40,7 +42,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.azure-storage-blob")
 public class BlobComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the azure-storage-blob component.
@@ -490,4 +494,104 @@ public class BlobComponentConfiguration
     public void setSourceBlobAccessKey(String sourceBlobAccessKey) {
         this.sourceBlobAccessKey = sourceBlobAccessKey;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (blobName != null) {
+            target.accept("blobName", blobName);
+        }
+        if (blobOffset != null) {
+            target.accept("blobOffset", blobOffset);
+        }
+        if (blobType != null) {
+            target.accept("blobType", blobType);
+        }
+        if (closeStreamAfterRead != null) {
+            target.accept("closeStreamAfterRead", closeStreamAfterRead);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (credentials != null) {
+            target.accept("credentials", credentials);
+        }
+        if (credentialType != null) {
+            target.accept("credentialType", credentialType);
+        }
+        if (dataCount != null) {
+            target.accept("dataCount", dataCount);
+        }
+        if (fileDir != null) {
+            target.accept("fileDir", fileDir);
+        }
+        if (maxResultsPerPage != null) {
+            target.accept("maxResultsPerPage", maxResultsPerPage);
+        }
+        if (maxRetryRequests != null) {
+            target.accept("maxRetryRequests", maxRetryRequests);
+        }
+        if (prefix != null) {
+            target.accept("prefix", prefix);
+        }
+        if (regex != null) {
+            target.accept("regex", regex);
+        }
+        if (serviceClient != null) {
+            target.accept("serviceClient", serviceClient);
+        }
+        if (timeout != null) {
+            target.accept("timeout", timeout);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (blobSequenceNumber != null) {
+            target.accept("blobSequenceNumber", blobSequenceNumber);
+        }
+        if (blockListType != null) {
+            target.accept("blockListType", blockListType);
+        }
+        if (changeFeedContext != null) {
+            target.accept("changeFeedContext", changeFeedContext);
+        }
+        if (changeFeedEndTime != null) {
+            target.accept("changeFeedEndTime", changeFeedEndTime);
+        }
+        if (changeFeedStartTime != null) {
+            target.accept("changeFeedStartTime", changeFeedStartTime);
+        }
+        if (closeStreamAfterWrite != null) {
+            target.accept("closeStreamAfterWrite", closeStreamAfterWrite);
+        }
+        if (commitBlockListLater != null) {
+            target.accept("commitBlockListLater", commitBlockListLater);
+        }
+        if (createAppendBlob != null) {
+            target.accept("createAppendBlob", createAppendBlob);
+        }
+        if (createPageBlob != null) {
+            target.accept("createPageBlob", createPageBlob);
+        }
+        if (downloadLinkExpiration != null) {
+            target.accept("downloadLinkExpiration", downloadLinkExpiration);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (operation != null) {
+            target.accept("operation", operation);
+        }
+        if (pageBlobSize != null) {
+            target.accept("pageBlobSize", pageBlobSize);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (accessKey != null) {
+            target.accept("accessKey", accessKey);
+        }
+        if (sourceBlobAccessKey != null) {
+            target.accept("sourceBlobAccessKey", sourceBlobAccessKey);
+        }
+    }
 }
\ No newline at end of file
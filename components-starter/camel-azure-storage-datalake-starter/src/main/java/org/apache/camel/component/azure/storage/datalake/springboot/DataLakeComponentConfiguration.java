@@ -19,6 +19,7 @@ package org.apache.camel.component.azure.storage.datalake.springboot;
 import java.nio.file.OpenOption;
 import java.time.Duration;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import com.azure.identity.ClientSecretCredential;
 import com.azure.storage.common.StorageSharedKeyCredential;
@@ -27,6 +28,7 @@ import org.apache.camel.component.azure.storage.datalake.DataLakeComponent;
 import org.apache.camel.component.azure.storage.datalake.DataLakeConfiguration;
 import org.apache.camel.component.azure.storage.datalake.DataLakeOperationsDefinition;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -38,7 +40,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.azure-storage-datalake")
 public class DataLakeComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the azure-storage-datalake
@@ -467,4 +471,107 @@ public class DataLakeComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (accountKey != null) {
+            target.accept("accountKey", accountKey);
+        }
+        if (clientId != null) {
+            target.accept("clientId", clientId);
+        }
+        if (clientSecret != null) {
+            target.accept("clientSecret", clientSecret);
+        }
+        if (clientSecretCredential != null) {
+            target.accept("clientSecretCredential", clientSecretCredential);
+        }
+        if (close != null) {
+            target.accept("close", close);
+        }
+        if (closeStreamAfterRead != null) {
+            target.accept("closeStreamAfterRead", closeStreamAfterRead);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (dataCount != null) {
+            target.accept("dataCount", dataCount);
+        }
+        if (directoryName != null) {
+            target.accept("directoryName", directoryName);
+        }
+        if (downloadLinkExpiration != null) {
+            target.accept("downloadLinkExpiration", downloadLinkExpiration);
+        }
+        if (expression != null) {
+            target.accept("expression", expression);
+        }
+        if (fileDir != null) {
+            target.accept("fileDir", fileDir);
+        }
+        if (fileName != null) {
+            target.accept("fileName", fileName);
+        }
+        if (fileOffset != null) {
+            target.accept("fileOffset", fileOffset);
+        }
+        if (maxResults != null) {
+            target.accept("maxResults", maxResults);
+        }
+        if (maxRetryRequests != null) {
+            target.accept("maxRetryRequests", maxRetryRequests);
+        }
+        if (openOptions != null) {
+            target.accept("openOptions", openOptions);
+        }
+        if (path != null) {
+            target.accept("path", path);
+        }
+        if (permission != null) {
+            target.accept("permission", permission);
+        }
+        if (position != null) {
+            target.accept("position", position);
+        }
+        if (recursive != null) {
+            target.accept("recursive", recursive);
+        }
+        if (regex != null) {
+            target.accept("regex", regex);
+        }
+        if (retainUncommitedData != null) {
+            target.accept("retainUncommitedData", retainUncommitedData);
+        }
+        if (serviceClient != null) {
+            target.accept("serviceClient", serviceClient);
+        }
+        if (sharedKeyCredential != null) {
+            target.accept("sharedKeyCredential", sharedKeyCredential);
+        }
+        if (tenantId != null) {
+            target.accept("tenantId", tenantId);
+        }
+        if (timeout != null) {
+            target.accept("timeout", timeout);
+        }
+        if (umask != null) {
+            target.accept("umask", umask);
+        }
+        if (userPrincipalNameReturned != null) {
+            target.accept("userPrincipalNameReturned", userPrincipalNameReturned);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (operation != null) {
+            target.accept("operation", operation);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+    }
 }
\ No newline at end of file
@@ -17,12 +17,14 @@
 package org.apache.camel.component.azure.storage.queue.springboot;
 
 import java.time.Duration;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import com.azure.storage.common.StorageSharedKeyCredential;
 import com.azure.storage.queue.QueueServiceClient;
 import org.apache.camel.component.azure.storage.queue.QueueConfiguration;
 import org.apache.camel.component.azure.storage.queue.QueueOperationDefinition;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -34,7 +36,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.azure-storage-queue")
 public class QueueComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the azure-storage-queue
@@ -268,4 +272,53 @@ public class QueueComponentConfiguration
     public void setCredentials(StorageSharedKeyCredential credentials) {
         this.credentials = credentials;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (serviceClient != null) {
+            target.accept("serviceClient", serviceClient);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (createQueue != null) {
+            target.accept("createQueue", createQueue);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (operation != null) {
+            target.accept("operation", operation);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (maxMessages != null) {
+            target.accept("maxMessages", maxMessages);
+        }
+        if (messageId != null) {
+            target.accept("messageId", messageId);
+        }
+        if (popReceipt != null) {
+            target.accept("popReceipt", popReceipt);
+        }
+        if (timeout != null) {
+            target.accept("timeout", timeout);
+        }
+        if (timeToLive != null) {
+            target.accept("timeToLive", timeToLive);
+        }
+        if (visibilityTimeout != null) {
+            target.accept("visibilityTimeout", visibilityTimeout);
+        }
+        if (accessKey != null) {
+            target.accept("accessKey", accessKey);
+        }
+        if (credentials != null) {
+            target.accept("credentials", credentials);
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.dataformat.barcode.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.barcode")
 public class BarcodeDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the barcode data format. This is
@@ -84,4 +88,20 @@ public class BarcodeDataFormatConfiguration
     public void setHeight(Integer height) {
         this.height = height;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (barcodeFormat != null) {
+            target.accept("barcodeFormat", barcodeFormat);
+        }
+        if (imageType != null) {
+            target.accept("imageType", imageType);
+        }
+        if (width != null) {
+            target.accept("width", width);
+        }
+        if (height != null) {
+            target.accept("height", height);
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.dataformat.base64.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.base64")
 public class Base64DataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the base64 data format. This is
@@ -75,4 +79,17 @@ public class Base64DataFormatConfiguration
     public void setUrlSafe(Boolean urlSafe) {
         this.urlSafe = urlSafe;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (lineLength != null) {
+            target.accept("lineLength", lineLength);
+        }
+        if (lineSeparator != null) {
+            target.accept("lineSeparator", lineSeparator);
+        }
+        if (urlSafe != null) {
+            target.accept("urlSafe", urlSafe);
+        }
+    }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.bean.validator.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import javax.validation.ConstraintValidatorFactory;
 import javax.validation.MessageInterpolator;
@@ -23,6 +24,7 @@ import javax.validation.TraversableResolver;
 import javax.validation.ValidationProviderResolver;
 import javax.validation.ValidatorFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -34,7 +36,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.bean-validator")
 public class BeanValidatorComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the bean-validator component.
@@ -156,4 +160,32 @@ public class BeanValidatorComponentConfiguration
     public void setValidatorFactory(ValidatorFactory validatorFactory) {
         this.validatorFactory = validatorFactory;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (ignoreXmlConfiguration != null) {
+            target.accept("ignoreXmlConfiguration", ignoreXmlConfiguration);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (constraintValidatorFactory != null) {
+            target.accept("constraintValidatorFactory", constraintValidatorFactory);
+        }
+        if (messageInterpolator != null) {
+            target.accept("messageInterpolator", messageInterpolator);
+        }
+        if (traversableResolver != null) {
+            target.accept("traversableResolver", traversableResolver);
+        }
+        if (validationProviderResolver != null) {
+            target.accept("validationProviderResolver", validationProviderResolver);
+        }
+        if (validatorFactory != null) {
+            target.accept("validatorFactory", validatorFactory);
+        }
+    }
 }
\ No newline at end of file
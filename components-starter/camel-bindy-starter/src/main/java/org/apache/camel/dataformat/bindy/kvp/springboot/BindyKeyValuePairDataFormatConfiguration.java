@@ -16,8 +16,10 @@
  */
 package org.apache.camel.dataformat.bindy.kvp.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.bindy-kvp")
 public class BindyKeyValuePairDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the bindyKvp data format. This is
@@ -100,4 +104,23 @@ public class BindyKeyValuePairDataFormatConfiguration
     public void setLocale(String locale) {
         this.locale = locale;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (type != null) {
+            target.accept("type", type);
+        }
+        if (classType != null) {
+            target.accept("classType", classType);
+        }
+        if (allowEmptyStream != null) {
+            target.accept("allowEmptyStream", allowEmptyStream);
+        }
+        if (unwrapSingleInstance != null) {
+            target.accept("unwrapSingleInstance", unwrapSingleInstance);
+        }
+        if (locale != null) {
+            target.accept("locale", locale);
+        }
+    }
 }
\ No newline at end of file
@@ -17,12 +17,14 @@
 package org.apache.camel.component.box.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import com.box.sdk.EncryptionAlgorithm;
 import com.box.sdk.IAccessTokenCache;
 import org.apache.camel.component.box.BoxComponent;
 import org.apache.camel.component.box.BoxConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -36,7 +38,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.box")
 public class BoxComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the box component. This is
@@ -296,4 +300,65 @@ public class BoxComponentConfiguration
     public void setUserPassword(String userPassword) {
         this.userPassword = userPassword;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (clientId != null) {
+            target.accept("clientId", clientId);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (enterpriseId != null) {
+            target.accept("enterpriseId", enterpriseId);
+        }
+        if (userId != null) {
+            target.accept("userId", userId);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (httpParams != null) {
+            target.accept("httpParams", httpParams);
+        }
+        if (authenticationType != null) {
+            target.accept("authenticationType", authenticationType);
+        }
+        if (accessTokenCache != null) {
+            target.accept("accessTokenCache", accessTokenCache);
+        }
+        if (clientSecret != null) {
+            target.accept("clientSecret", clientSecret);
+        }
+        if (encryptionAlgorithm != null) {
+            target.accept("encryptionAlgorithm", encryptionAlgorithm);
+        }
+        if (maxCacheEntries != null) {
+            target.accept("maxCacheEntries", maxCacheEntries);
+        }
+        if (privateKeyFile != null) {
+            target.accept("privateKeyFile", privateKeyFile);
+        }
+        if (privateKeyPassword != null) {
+            target.accept("privateKeyPassword", privateKeyPassword);
+        }
+        if (publicKeyId != null) {
+            target.accept("publicKeyId", publicKeyId);
+        }
+        if (sslContextParameters != null) {
+            target.accept("sslContextParameters", sslContextParameters);
+        }
+        if (userName != null) {
+            target.accept("userName", userName);
+        }
+        if (userPassword != null) {
+            target.accept("userPassword", userPassword);
+        }
+    }
 }
\ No newline at end of file
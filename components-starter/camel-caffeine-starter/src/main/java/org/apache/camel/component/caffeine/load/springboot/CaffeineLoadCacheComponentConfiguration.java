@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.caffeine.load.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.RemovalListener;
@@ -24,6 +25,7 @@ import org.apache.camel.component.caffeine.CaffeineConfiguration;
 import org.apache.camel.component.caffeine.EvictionType;
 import org.apache.camel.component.caffeine.load.CaffeineLoadCacheComponent;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -35,7 +37,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.caffeine-loadcache")
 public class CaffeineLoadCacheComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the caffeine-loadcache component.
@@ -284,4 +288,59 @@ public class CaffeineLoadCacheComponentConfiguration
     public void setValueType(String valueType) {
         this.valueType = valueType;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (action != null) {
+            target.accept("action", action);
+        }
+        if (createCacheIfNotExist != null) {
+            target.accept("createCacheIfNotExist", createCacheIfNotExist);
+        }
+        if (evictionType != null) {
+            target.accept("evictionType", evictionType);
+        }
+        if (expireAfterAccessTime != null) {
+            target.accept("expireAfterAccessTime", expireAfterAccessTime);
+        }
+        if (expireAfterWriteTime != null) {
+            target.accept("expireAfterWriteTime", expireAfterWriteTime);
+        }
+        if (initialCapacity != null) {
+            target.accept("initialCapacity", initialCapacity);
+        }
+        if (key != null) {
+            target.accept("key", key);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (maximumSize != null) {
+            target.accept("maximumSize", maximumSize);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (cacheLoader != null) {
+            target.accept("cacheLoader", cacheLoader);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (keyType != null) {
+            target.accept("keyType", keyType);
+        }
+        if (removalListener != null) {
+            target.accept("removalListener", removalListener);
+        }
+        if (statsCounter != null) {
+            target.accept("statsCounter", statsCounter);
+        }
+        if (statsEnabled != null) {
+            target.accept("statsEnabled", statsEnabled);
+        }
+        if (valueType != null) {
+            target.accept("valueType", valueType);
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.component.cbor.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.cbor")
 public class CBORDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the cbor data format. This is
@@ -175,4 +179,38 @@ public class CBORDataFormatConfiguration
     public void setDisableFeatures(String disableFeatures) {
         this.disableFeatures = disableFeatures;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (objectMapper != null) {
+            target.accept("objectMapper", objectMapper);
+        }
+        if (useDefaultObjectMapper != null) {
+            target.accept("useDefaultObjectMapper", useDefaultObjectMapper);
+        }
+        if (unmarshalType != null) {
+            target.accept("unmarshalType", unmarshalType);
+        }
+        if (collectionType != null) {
+            target.accept("collectionType", collectionType);
+        }
+        if (useList != null) {
+            target.accept("useList", useList);
+        }
+        if (allowUnmarshallType != null) {
+            target.accept("allowUnmarshallType", allowUnmarshallType);
+        }
+        if (prettyPrint != null) {
+            target.accept("prettyPrint", prettyPrint);
+        }
+        if (allowJmsType != null) {
+            target.accept("allowJmsType", allowJmsType);
+        }
+        if (enableFeatures != null) {
+            target.accept("enableFeatures", enableFeatures);
+        }
+        if (disableFeatures != null) {
+            target.accept("disableFeatures", disableFeatures);
+        }
+    }
 }
\ No newline at end of file
@@ -17,8 +17,10 @@
 package org.apache.camel.component.cometd.springboot;
 
 import java.util.List;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.cometd.bayeux.server.BayeuxServer.Extension;
 import org.cometd.bayeux.server.SecurityPolicy;
@@ -34,7 +36,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.cometd")
 public class CometdComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the cometd component. This is
@@ -183,4 +187,38 @@ public class CometdComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (extensions != null) {
+            target.accept("extensions", extensions);
+        }
+        if (securityPolicy != null) {
+            target.accept("securityPolicy", securityPolicy);
+        }
+        if (sslContextParameters != null) {
+            target.accept("sslContextParameters", sslContextParameters);
+        }
+        if (sslKeyPassword != null) {
+            target.accept("sslKeyPassword", sslKeyPassword);
+        }
+        if (sslKeystore != null) {
+            target.accept("sslKeystore", sslKeystore);
+        }
+        if (sslPassword != null) {
+            target.accept("sslPassword", sslPassword);
+        }
+        if (useGlobalSslContextParameters != null) {
+            target.accept("useGlobalSslContextParameters", useGlobalSslContextParameters);
+        }
+    }
 }
\ No newline at end of file
@@ -19,12 +19,14 @@ package org.apache.camel.component.consul.springboot;
 import java.math.BigInteger;
 import java.time.Duration;
 import java.util.List;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import com.orbitz.consul.Consul;
 import com.orbitz.consul.option.ConsistencyMode;
 import org.apache.camel.component.consul.ConsulComponent;
 import org.apache.camel.component.consul.ConsulConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -37,7 +39,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.consul")
 public class ConsulComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the consul component. This is
@@ -383,4 +387,86 @@ public class ConsulComponentConfiguration
     public void setRecursive(Boolean recursive) {
         this.recursive = recursive;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (connectTimeout != null) {
+            target.accept("connectTimeout", connectTimeout);
+        }
+        if (consulClient != null) {
+            target.accept("consulClient", consulClient);
+        }
+        if (key != null) {
+            target.accept("key", key);
+        }
+        if (pingInstance != null) {
+            target.accept("pingInstance", pingInstance);
+        }
+        if (readTimeout != null) {
+            target.accept("readTimeout", readTimeout);
+        }
+        if (tags != null) {
+            target.accept("tags", tags);
+        }
+        if (url != null) {
+            target.accept("url", url);
+        }
+        if (writeTimeout != null) {
+            target.accept("writeTimeout", writeTimeout);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (action != null) {
+            target.accept("action", action);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (valueAsString != null) {
+            target.accept("valueAsString", valueAsString);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (consistencyMode != null) {
+            target.accept("consistencyMode", consistencyMode);
+        }
+        if (datacenter != null) {
+            target.accept("datacenter", datacenter);
+        }
+        if (nearNode != null) {
+            target.accept("nearNode", nearNode);
+        }
+        if (nodeMeta != null) {
+            target.accept("nodeMeta", nodeMeta);
+        }
+        if (aclToken != null) {
+            target.accept("aclToken", aclToken);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+        if (sslContextParameters != null) {
+            target.accept("sslContextParameters", sslContextParameters);
+        }
+        if (useGlobalSslContextParameters != null) {
+            target.accept("useGlobalSslContextParameters", useGlobalSslContextParameters);
+        }
+        if (userName != null) {
+            target.accept("userName", userName);
+        }
+        if (blockSeconds != null) {
+            target.accept("blockSeconds", blockSeconds);
+        }
+        if (firstIndex != null) {
+            target.accept("firstIndex", firstIndex);
+        }
+        if (recursive != null) {
+            target.accept("recursive", recursive);
+        }
+    }
 }
\ No newline at end of file
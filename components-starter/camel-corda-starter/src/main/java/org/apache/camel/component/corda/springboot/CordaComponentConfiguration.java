@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.corda.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import net.corda.core.contracts.ContractState;
 import net.corda.core.flows.FlowLogic;
@@ -24,6 +25,7 @@ import net.corda.core.node.services.vault.QueryCriteria;
 import net.corda.core.node.services.vault.Sort;
 import org.apache.camel.component.corda.CordaConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -35,7 +37,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.corda")
 public class CordaComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the corda component. This is
@@ -251,4 +255,50 @@ public class CordaComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (pageSpecification != null) {
+            target.accept("pageSpecification", pageSpecification);
+        }
+        if (processSnapshot != null) {
+            target.accept("processSnapshot", processSnapshot);
+        }
+        if (sort != null) {
+            target.accept("sort", sort);
+        }
+        if (contractStateClass != null) {
+            target.accept("contractStateClass", contractStateClass);
+        }
+        if (flowLogicArguments != null) {
+            target.accept("flowLogicArguments", flowLogicArguments);
+        }
+        if (flowLogicClass != null) {
+            target.accept("flowLogicClass", flowLogicClass);
+        }
+        if (queryCriteria != null) {
+            target.accept("queryCriteria", queryCriteria);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (operation != null) {
+            target.accept("operation", operation);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+        if (username != null) {
+            target.accept("username", username);
+        }
+    }
 }
\ No newline at end of file
@@ -21,9 +21,11 @@ import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.SecureRandom;
 import java.security.cert.Certificate;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.crypto.DigitalSignatureConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.camel.support.jsse.KeyStoreParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -37,7 +39,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.crypto")
 public class DigitalSignatureComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the crypto component. This is
@@ -338,4 +342,71 @@ public class DigitalSignatureComponentConfiguration
     public void setPassword(String password) {
         this.password = password;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (algorithm != null) {
+            target.accept("algorithm", algorithm);
+        }
+        if (alias != null) {
+            target.accept("alias", alias);
+        }
+        if (certificateName != null) {
+            target.accept("certificateName", certificateName);
+        }
+        if (keystore != null) {
+            target.accept("keystore", keystore);
+        }
+        if (keystoreName != null) {
+            target.accept("keystoreName", keystoreName);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (privateKey != null) {
+            target.accept("privateKey", privateKey);
+        }
+        if (privateKeyName != null) {
+            target.accept("privateKeyName", privateKeyName);
+        }
+        if (provider != null) {
+            target.accept("provider", provider);
+        }
+        if (publicKeyName != null) {
+            target.accept("publicKeyName", publicKeyName);
+        }
+        if (secureRandomName != null) {
+            target.accept("secureRandomName", secureRandomName);
+        }
+        if (signatureHeaderName != null) {
+            target.accept("signatureHeaderName", signatureHeaderName);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (bufferSize != null) {
+            target.accept("bufferSize", bufferSize);
+        }
+        if (certificate != null) {
+            target.accept("certificate", certificate);
+        }
+        if (clearHeaders != null) {
+            target.accept("clearHeaders", clearHeaders);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (keyStoreParameters != null) {
+            target.accept("keyStoreParameters", keyStoreParameters);
+        }
+        if (publicKey != null) {
+            target.accept("publicKey", publicKey);
+        }
+        if (secureRandom != null) {
+            target.accept("secureRandom", secureRandom);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.converter.crypto.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.crypto")
 public class CryptoDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the crypto data format. This is
@@ -150,4 +154,35 @@ public class CryptoDataFormatConfiguration
     public void setInline(Boolean inline) {
         this.inline = inline;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (algorithm != null) {
+            target.accept("algorithm", algorithm);
+        }
+        if (keyRef != null) {
+            target.accept("keyRef", keyRef);
+        }
+        if (cryptoProvider != null) {
+            target.accept("cryptoProvider", cryptoProvider);
+        }
+        if (initVectorRef != null) {
+            target.accept("initVectorRef", initVectorRef);
+        }
+        if (algorithmParameterRef != null) {
+            target.accept("algorithmParameterRef", algorithmParameterRef);
+        }
+        if (bufferSize != null) {
+            target.accept("bufferSize", bufferSize);
+        }
+        if (macAlgorithm != null) {
+            target.accept("macAlgorithm", macAlgorithm);
+        }
+        if (shouldAppendHMAC != null) {
+            target.accept("shouldAppendHMAC", shouldAppendHMAC);
+        }
+        if (inline != null) {
+            target.accept("inline", inline);
+        }
+    }
 }
\ No newline at end of file
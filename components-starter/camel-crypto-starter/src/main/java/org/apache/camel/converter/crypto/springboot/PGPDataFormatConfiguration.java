@@ -16,8 +16,10 @@
  */
 package org.apache.camel.converter.crypto.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.pgp")
 public class PGPDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the pgp data format. This is
@@ -244,4 +248,50 @@ public class PGPDataFormatConfiguration
             String signatureVerificationOption) {
         this.signatureVerificationOption = signatureVerificationOption;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (keyUserid != null) {
+            target.accept("keyUserid", keyUserid);
+        }
+        if (signatureKeyUserid != null) {
+            target.accept("signatureKeyUserid", signatureKeyUserid);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+        if (signaturePassword != null) {
+            target.accept("signaturePassword", signaturePassword);
+        }
+        if (keyFileName != null) {
+            target.accept("keyFileName", keyFileName);
+        }
+        if (signatureKeyFileName != null) {
+            target.accept("signatureKeyFileName", signatureKeyFileName);
+        }
+        if (signatureKeyRing != null) {
+            target.accept("signatureKeyRing", signatureKeyRing);
+        }
+        if (armored != null) {
+            target.accept("armored", armored);
+        }
+        if (integrity != null) {
+            target.accept("integrity", integrity);
+        }
+        if (provider != null) {
+            target.accept("provider", provider);
+        }
+        if (algorithm != null) {
+            target.accept("algorithm", algorithm);
+        }
+        if (compressionAlgorithm != null) {
+            target.accept("compressionAlgorithm", compressionAlgorithm);
+        }
+        if (hashAlgorithm != null) {
+            target.accept("hashAlgorithm", hashAlgorithm);
+        }
+        if (signatureVerificationOption != null) {
+            target.accept("signatureVerificationOption", signatureVerificationOption);
+        }
+    }
 }
\ No newline at end of file
@@ -17,8 +17,10 @@
 package org.apache.camel.dataformat.csv.springboot;
 
 import java.util.List;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.csv")
 public class CsvDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the csv data format. This is
@@ -395,4 +399,95 @@ public class CsvDataFormatConfiguration
     public void setCaptureHeaderRecord(Boolean captureHeaderRecord) {
         this.captureHeaderRecord = captureHeaderRecord;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (formatRef != null) {
+            target.accept("formatRef", formatRef);
+        }
+        if (formatName != null) {
+            target.accept("formatName", formatName);
+        }
+        if (commentMarkerDisabled != null) {
+            target.accept("commentMarkerDisabled", commentMarkerDisabled);
+        }
+        if (commentMarker != null) {
+            target.accept("commentMarker", commentMarker);
+        }
+        if (delimiter != null) {
+            target.accept("delimiter", delimiter);
+        }
+        if (escapeDisabled != null) {
+            target.accept("escapeDisabled", escapeDisabled);
+        }
+        if (escape != null) {
+            target.accept("escape", escape);
+        }
+        if (headerDisabled != null) {
+            target.accept("headerDisabled", headerDisabled);
+        }
+        if (header != null) {
+            target.accept("header", header);
+        }
+        if (allowMissingColumnNames != null) {
+            target.accept("allowMissingColumnNames", allowMissingColumnNames);
+        }
+        if (ignoreEmptyLines != null) {
+            target.accept("ignoreEmptyLines", ignoreEmptyLines);
+        }
+        if (ignoreSurroundingSpaces != null) {
+            target.accept("ignoreSurroundingSpaces", ignoreSurroundingSpaces);
+        }
+        if (nullStringDisabled != null) {
+            target.accept("nullStringDisabled", nullStringDisabled);
+        }
+        if (nullString != null) {
+            target.accept("nullString", nullString);
+        }
+        if (quoteDisabled != null) {
+            target.accept("quoteDisabled", quoteDisabled);
+        }
+        if (quote != null) {
+            target.accept("quote", quote);
+        }
+        if (recordSeparatorDisabled != null) {
+            target.accept("recordSeparatorDisabled", recordSeparatorDisabled);
+        }
+        if (recordSeparator != null) {
+            target.accept("recordSeparator", recordSeparator);
+        }
+        if (skipHeaderRecord != null) {
+            target.accept("skipHeaderRecord", skipHeaderRecord);
+        }
+        if (quoteMode != null) {
+            target.accept("quoteMode", quoteMode);
+        }
+        if (ignoreHeaderCase != null) {
+            target.accept("ignoreHeaderCase", ignoreHeaderCase);
+        }
+        if (trim != null) {
+            target.accept("trim", trim);
+        }
+        if (trailingDelimiter != null) {
+            target.accept("trailingDelimiter", trailingDelimiter);
+        }
+        if (marshallerFactoryRef != null) {
+            target.accept("marshallerFactoryRef", marshallerFactoryRef);
+        }
+        if (lazyLoad != null) {
+            target.accept("lazyLoad", lazyLoad);
+        }
+        if (useMaps != null) {
+            target.accept("useMaps", useMaps);
+        }
+        if (useOrderedMaps != null) {
+            target.accept("useOrderedMaps", useOrderedMaps);
+        }
+        if (recordConverterRef != null) {
+            target.accept("recordConverterRef", recordConverterRef);
+        }
+        if (captureHeaderRecord != null) {
+            target.accept("captureHeaderRecord", captureHeaderRecord);
+        }
+    }
 }
\ No newline at end of file
@@ -17,9 +17,11 @@
 package org.apache.camel.component.debezium.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.debezium.configuration.Db2ConnectorEmbeddedDebeziumConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.debezium-db2")
 public class DebeziumDb2ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the debezium-db2 component. This
@@ -1035,4 +1039,218 @@ public class DebeziumDb2ComponentConfiguration
     public void setTransactionTopic(String transactionTopic) {
         this.transactionTopic = transactionTopic;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (additionalProperties != null) {
+            target.accept("additionalProperties", additionalProperties);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (internalKeyConverter != null) {
+            target.accept("internalKeyConverter", internalKeyConverter);
+        }
+        if (internalValueConverter != null) {
+            target.accept("internalValueConverter", internalValueConverter);
+        }
+        if (offsetCommitPolicy != null) {
+            target.accept("offsetCommitPolicy", offsetCommitPolicy);
+        }
+        if (offsetCommitTimeoutMs != null) {
+            target.accept("offsetCommitTimeoutMs", offsetCommitTimeoutMs);
+        }
+        if (offsetFlushIntervalMs != null) {
+            target.accept("offsetFlushIntervalMs", offsetFlushIntervalMs);
+        }
+        if (offsetStorage != null) {
+            target.accept("offsetStorage", offsetStorage);
+        }
+        if (offsetStorageFileName != null) {
+            target.accept("offsetStorageFileName", offsetStorageFileName);
+        }
+        if (offsetStoragePartitions != null) {
+            target.accept("offsetStoragePartitions", offsetStoragePartitions);
+        }
+        if (offsetStorageReplicationFactor != null) {
+            target.accept("offsetStorageReplicationFactor", offsetStorageReplicationFactor);
+        }
+        if (offsetStorageTopic != null) {
+            target.accept("offsetStorageTopic", offsetStorageTopic);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (columnBlacklist != null) {
+            target.accept("columnBlacklist", columnBlacklist);
+        }
+        if (columnExcludeList != null) {
+            target.accept("columnExcludeList", columnExcludeList);
+        }
+        if (columnIncludeList != null) {
+            target.accept("columnIncludeList", columnIncludeList);
+        }
+        if (columnPropagateSourceType != null) {
+            target.accept("columnPropagateSourceType", columnPropagateSourceType);
+        }
+        if (columnWhitelist != null) {
+            target.accept("columnWhitelist", columnWhitelist);
+        }
+        if (converters != null) {
+            target.accept("converters", converters);
+        }
+        if (databaseDbname != null) {
+            target.accept("databaseDbname", databaseDbname);
+        }
+        if (databaseHistory != null) {
+            target.accept("databaseHistory", databaseHistory);
+        }
+        if (databaseHistoryFileFilename != null) {
+            target.accept("databaseHistoryFileFilename", databaseHistoryFileFilename);
+        }
+        if (databaseHistoryKafkaBootstrapServers != null) {
+            target.accept("databaseHistoryKafkaBootstrapServers", databaseHistoryKafkaBootstrapServers);
+        }
+        if (databaseHistoryKafkaQueryTimeoutMs != null) {
+            target.accept("databaseHistoryKafkaQueryTimeoutMs", databaseHistoryKafkaQueryTimeoutMs);
+        }
+        if (databaseHistoryKafkaRecoveryAttempts != null) {
+            target.accept("databaseHistoryKafkaRecoveryAttempts", databaseHistoryKafkaRecoveryAttempts);
+        }
+        if (databaseHistoryKafkaRecoveryPollIntervalMs != null) {
+            target.accept("databaseHistoryKafkaRecoveryPollIntervalMs", databaseHistoryKafkaRecoveryPollIntervalMs);
+        }
+        if (databaseHistoryKafkaTopic != null) {
+            target.accept("databaseHistoryKafkaTopic", databaseHistoryKafkaTopic);
+        }
+        if (databaseHistorySkipUnparseableDdl != null) {
+            target.accept("databaseHistorySkipUnparseableDdl", databaseHistorySkipUnparseableDdl);
+        }
+        if (databaseHistoryStoreOnlyCapturedTablesDdl != null) {
+            target.accept("databaseHistoryStoreOnlyCapturedTablesDdl", databaseHistoryStoreOnlyCapturedTablesDdl);
+        }
+        if (databaseHistoryStoreOnlyMonitoredTablesDdl != null) {
+            target.accept("databaseHistoryStoreOnlyMonitoredTablesDdl", databaseHistoryStoreOnlyMonitoredTablesDdl);
+        }
+        if (databaseHostname != null) {
+            target.accept("databaseHostname", databaseHostname);
+        }
+        if (databasePassword != null) {
+            target.accept("databasePassword", databasePassword);
+        }
+        if (databasePort != null) {
+            target.accept("databasePort", databasePort);
+        }
+        if (databaseServerName != null) {
+            target.accept("databaseServerName", databaseServerName);
+        }
+        if (databaseUser != null) {
+            target.accept("databaseUser", databaseUser);
+        }
+        if (datatypePropagateSourceType != null) {
+            target.accept("datatypePropagateSourceType", datatypePropagateSourceType);
+        }
+        if (decimalHandlingMode != null) {
+            target.accept("decimalHandlingMode", decimalHandlingMode);
+        }
+        if (eventProcessingFailureHandlingMode != null) {
+            target.accept("eventProcessingFailureHandlingMode", eventProcessingFailureHandlingMode);
+        }
+        if (heartbeatIntervalMs != null) {
+            target.accept("heartbeatIntervalMs", heartbeatIntervalMs);
+        }
+        if (heartbeatTopicsPrefix != null) {
+            target.accept("heartbeatTopicsPrefix", heartbeatTopicsPrefix);
+        }
+        if (includeSchemaChanges != null) {
+            target.accept("includeSchemaChanges", includeSchemaChanges);
+        }
+        if (incrementalSnapshotChunkSize != null) {
+            target.accept("incrementalSnapshotChunkSize", incrementalSnapshotChunkSize);
+        }
+        if (maxBatchSize != null) {
+            target.accept("maxBatchSize", maxBatchSize);
+        }
+        if (maxQueueSize != null) {
+            target.accept("maxQueueSize", maxQueueSize);
+        }
+        if (maxQueueSizeInBytes != null) {
+            target.accept("maxQueueSizeInBytes", maxQueueSizeInBytes);
+        }
+        if (messageKeyColumns != null) {
+            target.accept("messageKeyColumns", messageKeyColumns);
+        }
+        if (pollIntervalMs != null) {
+            target.accept("pollIntervalMs", pollIntervalMs);
+        }
+        if (provideTransactionMetadata != null) {
+            target.accept("provideTransactionMetadata", provideTransactionMetadata);
+        }
+        if (queryFetchSize != null) {
+            target.accept("queryFetchSize", queryFetchSize);
+        }
+        if (retriableRestartConnectorWaitMs != null) {
+            target.accept("retriableRestartConnectorWaitMs", retriableRestartConnectorWaitMs);
+        }
+        if (sanitizeFieldNames != null) {
+            target.accept("sanitizeFieldNames", sanitizeFieldNames);
+        }
+        if (schemaNameAdjustmentMode != null) {
+            target.accept("schemaNameAdjustmentMode", schemaNameAdjustmentMode);
+        }
+        if (signalDataCollection != null) {
+            target.accept("signalDataCollection", signalDataCollection);
+        }
+        if (skippedOperations != null) {
+            target.accept("skippedOperations", skippedOperations);
+        }
+        if (snapshotDelayMs != null) {
+            target.accept("snapshotDelayMs", snapshotDelayMs);
+        }
+        if (snapshotFetchSize != null) {
+            target.accept("snapshotFetchSize", snapshotFetchSize);
+        }
+        if (snapshotIncludeCollectionList != null) {
+            target.accept("snapshotIncludeCollectionList", snapshotIncludeCollectionList);
+        }
+        if (snapshotLockTimeoutMs != null) {
+            target.accept("snapshotLockTimeoutMs", snapshotLockTimeoutMs);
+        }
+        if (snapshotMode != null) {
+            target.accept("snapshotMode", snapshotMode);
+        }
+        if (snapshotSelectStatementOverrides != null) {
+            target.accept("snapshotSelectStatementOverrides", snapshotSelectStatementOverrides);
+        }
+        if (sourceStructVersion != null) {
+            target.accept("sourceStructVersion", sourceStructVersion);
+        }
+        if (tableBlacklist != null) {
+            target.accept("tableBlacklist", tableBlacklist);
+        }
+        if (tableExcludeList != null) {
+            target.accept("tableExcludeList", tableExcludeList);
+        }
+        if (tableIgnoreBuiltin != null) {
+            target.accept("tableIgnoreBuiltin", tableIgnoreBuiltin);
+        }
+        if (tableIncludeList != null) {
+            target.accept("tableIncludeList", tableIncludeList);
+        }
+        if (tableWhitelist != null) {
+            target.accept("tableWhitelist", tableWhitelist);
+        }
+        if (timePrecisionMode != null) {
+            target.accept("timePrecisionMode", timePrecisionMode);
+        }
+        if (tombstonesOnDelete != null) {
+            target.accept("tombstonesOnDelete", tombstonesOnDelete);
+        }
+        if (transactionTopic != null) {
+            target.accept("transactionTopic", transactionTopic);
+        }
+    }
 }
\ No newline at end of file
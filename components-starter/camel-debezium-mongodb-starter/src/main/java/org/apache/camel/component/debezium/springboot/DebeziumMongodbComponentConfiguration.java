@@ -17,9 +17,11 @@
 package org.apache.camel.component.debezium.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.debezium.configuration.MongoDbConnectorEmbeddedDebeziumConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.debezium-mongodb")
 public class DebeziumMongodbComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the debezium-mongodb component.
@@ -903,4 +907,194 @@ public class DebeziumMongodbComponentConfiguration
     public void setTransactionTopic(String transactionTopic) {
         this.transactionTopic = transactionTopic;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (additionalProperties != null) {
+            target.accept("additionalProperties", additionalProperties);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (internalKeyConverter != null) {
+            target.accept("internalKeyConverter", internalKeyConverter);
+        }
+        if (internalValueConverter != null) {
+            target.accept("internalValueConverter", internalValueConverter);
+        }
+        if (offsetCommitPolicy != null) {
+            target.accept("offsetCommitPolicy", offsetCommitPolicy);
+        }
+        if (offsetCommitTimeoutMs != null) {
+            target.accept("offsetCommitTimeoutMs", offsetCommitTimeoutMs);
+        }
+        if (offsetFlushIntervalMs != null) {
+            target.accept("offsetFlushIntervalMs", offsetFlushIntervalMs);
+        }
+        if (offsetStorage != null) {
+            target.accept("offsetStorage", offsetStorage);
+        }
+        if (offsetStorageFileName != null) {
+            target.accept("offsetStorageFileName", offsetStorageFileName);
+        }
+        if (offsetStoragePartitions != null) {
+            target.accept("offsetStoragePartitions", offsetStoragePartitions);
+        }
+        if (offsetStorageReplicationFactor != null) {
+            target.accept("offsetStorageReplicationFactor", offsetStorageReplicationFactor);
+        }
+        if (offsetStorageTopic != null) {
+            target.accept("offsetStorageTopic", offsetStorageTopic);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (captureMode != null) {
+            target.accept("captureMode", captureMode);
+        }
+        if (collectionExcludeList != null) {
+            target.accept("collectionExcludeList", collectionExcludeList);
+        }
+        if (collectionIncludeList != null) {
+            target.accept("collectionIncludeList", collectionIncludeList);
+        }
+        if (connectBackoffInitialDelayMs != null) {
+            target.accept("connectBackoffInitialDelayMs", connectBackoffInitialDelayMs);
+        }
+        if (connectBackoffMaxDelayMs != null) {
+            target.accept("connectBackoffMaxDelayMs", connectBackoffMaxDelayMs);
+        }
+        if (connectMaxAttempts != null) {
+            target.accept("connectMaxAttempts", connectMaxAttempts);
+        }
+        if (converters != null) {
+            target.accept("converters", converters);
+        }
+        if (cursorMaxAwaitTimeMs != null) {
+            target.accept("cursorMaxAwaitTimeMs", cursorMaxAwaitTimeMs);
+        }
+        if (databaseExcludeList != null) {
+            target.accept("databaseExcludeList", databaseExcludeList);
+        }
+        if (databaseHistoryFileFilename != null) {
+            target.accept("databaseHistoryFileFilename", databaseHistoryFileFilename);
+        }
+        if (databaseIncludeList != null) {
+            target.accept("databaseIncludeList", databaseIncludeList);
+        }
+        if (eventProcessingFailureHandlingMode != null) {
+            target.accept("eventProcessingFailureHandlingMode", eventProcessingFailureHandlingMode);
+        }
+        if (fieldExcludeList != null) {
+            target.accept("fieldExcludeList", fieldExcludeList);
+        }
+        if (fieldRenames != null) {
+            target.accept("fieldRenames", fieldRenames);
+        }
+        if (heartbeatIntervalMs != null) {
+            target.accept("heartbeatIntervalMs", heartbeatIntervalMs);
+        }
+        if (heartbeatTopicsPrefix != null) {
+            target.accept("heartbeatTopicsPrefix", heartbeatTopicsPrefix);
+        }
+        if (maxBatchSize != null) {
+            target.accept("maxBatchSize", maxBatchSize);
+        }
+        if (maxQueueSize != null) {
+            target.accept("maxQueueSize", maxQueueSize);
+        }
+        if (maxQueueSizeInBytes != null) {
+            target.accept("maxQueueSizeInBytes", maxQueueSizeInBytes);
+        }
+        if (mongodbAuthsource != null) {
+            target.accept("mongodbAuthsource", mongodbAuthsource);
+        }
+        if (mongodbConnectTimeoutMs != null) {
+            target.accept("mongodbConnectTimeoutMs", mongodbConnectTimeoutMs);
+        }
+        if (mongodbHosts != null) {
+            target.accept("mongodbHosts", mongodbHosts);
+        }
+        if (mongodbMembersAutoDiscover != null) {
+            target.accept("mongodbMembersAutoDiscover", mongodbMembersAutoDiscover);
+        }
+        if (mongodbName != null) {
+            target.accept("mongodbName", mongodbName);
+        }
+        if (mongodbPassword != null) {
+            target.accept("mongodbPassword", mongodbPassword);
+        }
+        if (mongodbPollIntervalMs != null) {
+            target.accept("mongodbPollIntervalMs", mongodbPollIntervalMs);
+        }
+        if (mongodbServerSelectionTimeoutMs != null) {
+            target.accept("mongodbServerSelectionTimeoutMs", mongodbServerSelectionTimeoutMs);
+        }
+        if (mongodbSocketTimeoutMs != null) {
+            target.accept("mongodbSocketTimeoutMs", mongodbSocketTimeoutMs);
+        }
+        if (mongodbSslEnabled != null) {
+            target.accept("mongodbSslEnabled", mongodbSslEnabled);
+        }
+        if (mongodbSslInvalidHostnameAllowed != null) {
+            target.accept("mongodbSslInvalidHostnameAllowed", mongodbSslInvalidHostnameAllowed);
+        }
+        if (mongodbUser != null) {
+            target.accept("mongodbUser", mongodbUser);
+        }
+        if (pollIntervalMs != null) {
+            target.accept("pollIntervalMs", pollIntervalMs);
+        }
+        if (provideTransactionMetadata != null) {
+            target.accept("provideTransactionMetadata", provideTransactionMetadata);
+        }
+        if (queryFetchSize != null) {
+            target.accept("queryFetchSize", queryFetchSize);
+        }
+        if (retriableRestartConnectorWaitMs != null) {
+            target.accept("retriableRestartConnectorWaitMs", retriableRestartConnectorWaitMs);
+        }
+        if (sanitizeFieldNames != null) {
+            target.accept("sanitizeFieldNames", sanitizeFieldNames);
+        }
+        if (schemaNameAdjustmentMode != null) {
+            target.accept("schemaNameAdjustmentMode", schemaNameAdjustmentMode);
+        }
+        if (signalDataCollection != null) {
+            target.accept("signalDataCollection", signalDataCollection);
+        }
+        if (skippedOperations != null) {
+            target.accept("skippedOperations", skippedOperations);
+        }
+        if (snapshotCollectionFilterOverrides != null) {
+            target.accept("snapshotCollectionFilterOverrides", snapshotCollectionFilterOverrides);
+        }
+        if (snapshotDelayMs != null) {
+            target.accept("snapshotDelayMs", snapshotDelayMs);
+        }
+        if (snapshotFetchSize != null) {
+            target.accept("snapshotFetchSize", snapshotFetchSize);
+        }
+        if (snapshotIncludeCollectionList != null) {
+            target.accept("snapshotIncludeCollectionList", snapshotIncludeCollectionList);
+        }
+        if (snapshotMaxThreads != null) {
+            target.accept("snapshotMaxThreads", snapshotMaxThreads);
+        }
+        if (snapshotMode != null) {
+            target.accept("snapshotMode", snapshotMode);
+        }
+        if (sourceStructVersion != null) {
+            target.accept("sourceStructVersion", sourceStructVersion);
+        }
+        if (tombstonesOnDelete != null) {
+            target.accept("tombstonesOnDelete", tombstonesOnDelete);
+        }
+        if (transactionTopic != null) {
+            target.accept("transactionTopic", transactionTopic);
+        }
+    }
 }
\ No newline at end of file
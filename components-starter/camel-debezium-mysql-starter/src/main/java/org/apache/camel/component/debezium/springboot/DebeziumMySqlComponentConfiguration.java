@@ -17,9 +17,11 @@
 package org.apache.camel.component.debezium.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.debezium.configuration.MySqlConnectorEmbeddedDebeziumConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.debezium-mysql")
 public class DebeziumMySqlComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the debezium-mysql component.
@@ -1514,4 +1518,308 @@ public class DebeziumMySqlComponentConfiguration
     public void setTransactionTopic(String transactionTopic) {
         this.transactionTopic = transactionTopic;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (additionalProperties != null) {
+            target.accept("additionalProperties", additionalProperties);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (internalKeyConverter != null) {
+            target.accept("internalKeyConverter", internalKeyConverter);
+        }
+        if (internalValueConverter != null) {
+            target.accept("internalValueConverter", internalValueConverter);
+        }
+        if (offsetCommitPolicy != null) {
+            target.accept("offsetCommitPolicy", offsetCommitPolicy);
+        }
+        if (offsetCommitTimeoutMs != null) {
+            target.accept("offsetCommitTimeoutMs", offsetCommitTimeoutMs);
+        }
+        if (offsetFlushIntervalMs != null) {
+            target.accept("offsetFlushIntervalMs", offsetFlushIntervalMs);
+        }
+        if (offsetStorage != null) {
+            target.accept("offsetStorage", offsetStorage);
+        }
+        if (offsetStorageFileName != null) {
+            target.accept("offsetStorageFileName", offsetStorageFileName);
+        }
+        if (offsetStoragePartitions != null) {
+            target.accept("offsetStoragePartitions", offsetStoragePartitions);
+        }
+        if (offsetStorageReplicationFactor != null) {
+            target.accept("offsetStorageReplicationFactor", offsetStorageReplicationFactor);
+        }
+        if (offsetStorageTopic != null) {
+            target.accept("offsetStorageTopic", offsetStorageTopic);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (bigintUnsignedHandlingMode != null) {
+            target.accept("bigintUnsignedHandlingMode", bigintUnsignedHandlingMode);
+        }
+        if (binaryHandlingMode != null) {
+            target.accept("binaryHandlingMode", binaryHandlingMode);
+        }
+        if (binlogBufferSize != null) {
+            target.accept("binlogBufferSize", binlogBufferSize);
+        }
+        if (columnBlacklist != null) {
+            target.accept("columnBlacklist", columnBlacklist);
+        }
+        if (columnExcludeList != null) {
+            target.accept("columnExcludeList", columnExcludeList);
+        }
+        if (columnIncludeList != null) {
+            target.accept("columnIncludeList", columnIncludeList);
+        }
+        if (columnPropagateSourceType != null) {
+            target.accept("columnPropagateSourceType", columnPropagateSourceType);
+        }
+        if (columnWhitelist != null) {
+            target.accept("columnWhitelist", columnWhitelist);
+        }
+        if (connectKeepAlive != null) {
+            target.accept("connectKeepAlive", connectKeepAlive);
+        }
+        if (connectKeepAliveIntervalMs != null) {
+            target.accept("connectKeepAliveIntervalMs", connectKeepAliveIntervalMs);
+        }
+        if (connectTimeoutMs != null) {
+            target.accept("connectTimeoutMs", connectTimeoutMs);
+        }
+        if (converters != null) {
+            target.accept("converters", converters);
+        }
+        if (databaseExcludeList != null) {
+            target.accept("databaseExcludeList", databaseExcludeList);
+        }
+        if (databaseHistory != null) {
+            target.accept("databaseHistory", databaseHistory);
+        }
+        if (databaseHistoryFileFilename != null) {
+            target.accept("databaseHistoryFileFilename", databaseHistoryFileFilename);
+        }
+        if (databaseHistoryKafkaBootstrapServers != null) {
+            target.accept("databaseHistoryKafkaBootstrapServers", databaseHistoryKafkaBootstrapServers);
+        }
+        if (databaseHistoryKafkaQueryTimeoutMs != null) {
+            target.accept("databaseHistoryKafkaQueryTimeoutMs", databaseHistoryKafkaQueryTimeoutMs);
+        }
+        if (databaseHistoryKafkaRecoveryAttempts != null) {
+            target.accept("databaseHistoryKafkaRecoveryAttempts", databaseHistoryKafkaRecoveryAttempts);
+        }
+        if (databaseHistoryKafkaRecoveryPollIntervalMs != null) {
+            target.accept("databaseHistoryKafkaRecoveryPollIntervalMs", databaseHistoryKafkaRecoveryPollIntervalMs);
+        }
+        if (databaseHistoryKafkaTopic != null) {
+            target.accept("databaseHistoryKafkaTopic", databaseHistoryKafkaTopic);
+        }
+        if (databaseHistorySkipUnparseableDdl != null) {
+            target.accept("databaseHistorySkipUnparseableDdl", databaseHistorySkipUnparseableDdl);
+        }
+        if (databaseHistoryStoreOnlyCapturedTablesDdl != null) {
+            target.accept("databaseHistoryStoreOnlyCapturedTablesDdl", databaseHistoryStoreOnlyCapturedTablesDdl);
+        }
+        if (databaseHistoryStoreOnlyMonitoredTablesDdl != null) {
+            target.accept("databaseHistoryStoreOnlyMonitoredTablesDdl", databaseHistoryStoreOnlyMonitoredTablesDdl);
+        }
+        if (databaseHostname != null) {
+            target.accept("databaseHostname", databaseHostname);
+        }
+        if (databaseIncludeList != null) {
+            target.accept("databaseIncludeList", databaseIncludeList);
+        }
+        if (databaseInitialStatements != null) {
+            target.accept("databaseInitialStatements", databaseInitialStatements);
+        }
+        if (databaseJdbcDriver != null) {
+            target.accept("databaseJdbcDriver", databaseJdbcDriver);
+        }
+        if (databasePassword != null) {
+            target.accept("databasePassword", databasePassword);
+        }
+        if (databasePort != null) {
+            target.accept("databasePort", databasePort);
+        }
+        if (databaseServerId != null) {
+            target.accept("databaseServerId", databaseServerId);
+        }
+        if (databaseServerIdOffset != null) {
+            target.accept("databaseServerIdOffset", databaseServerIdOffset);
+        }
+        if (databaseServerName != null) {
+            target.accept("databaseServerName", databaseServerName);
+        }
+        if (databaseSslKeystore != null) {
+            target.accept("databaseSslKeystore", databaseSslKeystore);
+        }
+        if (databaseSslKeystorePassword != null) {
+            target.accept("databaseSslKeystorePassword", databaseSslKeystorePassword);
+        }
+        if (databaseSslMode != null) {
+            target.accept("databaseSslMode", databaseSslMode);
+        }
+        if (databaseSslTruststore != null) {
+            target.accept("databaseSslTruststore", databaseSslTruststore);
+        }
+        if (databaseSslTruststorePassword != null) {
+            target.accept("databaseSslTruststorePassword", databaseSslTruststorePassword);
+        }
+        if (databaseUser != null) {
+            target.accept("databaseUser", databaseUser);
+        }
+        if (datatypePropagateSourceType != null) {
+            target.accept("datatypePropagateSourceType", datatypePropagateSourceType);
+        }
+        if (decimalHandlingMode != null) {
+            target.accept("decimalHandlingMode", decimalHandlingMode);
+        }
+        if (enableTimeAdjuster != null) {
+            target.accept("enableTimeAdjuster", enableTimeAdjuster);
+        }
+        if (eventDeserializationFailureHandlingMode != null) {
+            target.accept("eventDeserializationFailureHandlingMode", eventDeserializationFailureHandlingMode);
+        }
+        if (eventProcessingFailureHandlingMode != null) {
+            target.accept("eventProcessingFailureHandlingMode", eventProcessingFailureHandlingMode);
+        }
+        if (gtidSourceExcludes != null) {
+            target.accept("gtidSourceExcludes", gtidSourceExcludes);
+        }
+        if (gtidSourceFilterDmlEvents != null) {
+            target.accept("gtidSourceFilterDmlEvents", gtidSourceFilterDmlEvents);
+        }
+        if (gtidSourceIncludes != null) {
+            target.accept("gtidSourceIncludes", gtidSourceIncludes);
+        }
+        if (heartbeatActionQuery != null) {
+            target.accept("heartbeatActionQuery", heartbeatActionQuery);
+        }
+        if (heartbeatIntervalMs != null) {
+            target.accept("heartbeatIntervalMs", heartbeatIntervalMs);
+        }
+        if (heartbeatTopicsPrefix != null) {
+            target.accept("heartbeatTopicsPrefix", heartbeatTopicsPrefix);
+        }
+        if (includeQuery != null) {
+            target.accept("includeQuery", includeQuery);
+        }
+        if (includeSchemaChanges != null) {
+            target.accept("includeSchemaChanges", includeSchemaChanges);
+        }
+        if (includeSchemaComments != null) {
+            target.accept("includeSchemaComments", includeSchemaComments);
+        }
+        if (inconsistentSchemaHandlingMode != null) {
+            target.accept("inconsistentSchemaHandlingMode", inconsistentSchemaHandlingMode);
+        }
+        if (incrementalSnapshotAllowSchemaChanges != null) {
+            target.accept("incrementalSnapshotAllowSchemaChanges", incrementalSnapshotAllowSchemaChanges);
+        }
+        if (incrementalSnapshotChunkSize != null) {
+            target.accept("incrementalSnapshotChunkSize", incrementalSnapshotChunkSize);
+        }
+        if (maxBatchSize != null) {
+            target.accept("maxBatchSize", maxBatchSize);
+        }
+        if (maxQueueSize != null) {
+            target.accept("maxQueueSize", maxQueueSize);
+        }
+        if (maxQueueSizeInBytes != null) {
+            target.accept("maxQueueSizeInBytes", maxQueueSizeInBytes);
+        }
+        if (messageKeyColumns != null) {
+            target.accept("messageKeyColumns", messageKeyColumns);
+        }
+        if (minRowCountToStreamResults != null) {
+            target.accept("minRowCountToStreamResults", minRowCountToStreamResults);
+        }
+        if (pollIntervalMs != null) {
+            target.accept("pollIntervalMs", pollIntervalMs);
+        }
+        if (provideTransactionMetadata != null) {
+            target.accept("provideTransactionMetadata", provideTransactionMetadata);
+        }
+        if (queryFetchSize != null) {
+            target.accept("queryFetchSize", queryFetchSize);
+        }
+        if (retriableRestartConnectorWaitMs != null) {
+            target.accept("retriableRestartConnectorWaitMs", retriableRestartConnectorWaitMs);
+        }
+        if (sanitizeFieldNames != null) {
+            target.accept("sanitizeFieldNames", sanitizeFieldNames);
+        }
+        if (schemaNameAdjustmentMode != null) {
+            target.accept("schemaNameAdjustmentMode", schemaNameAdjustmentMode);
+        }
+        if (signalDataCollection != null) {
+            target.accept("signalDataCollection", signalDataCollection);
+        }
+        if (skippedOperations != null) {
+            target.accept("skippedOperations", skippedOperations);
+        }
+        if (snapshotDelayMs != null) {
+            target.accept("snapshotDelayMs", snapshotDelayMs);
+        }
+        if (snapshotFetchSize != null) {
+            target.accept("snapshotFetchSize", snapshotFetchSize);
+        }
+        if (snapshotIncludeCollectionList != null) {
+            target.accept("snapshotIncludeCollectionList", snapshotIncludeCollectionList);
+        }
+        if (snapshotLockingMode != null) {
+            target.accept("snapshotLockingMode", snapshotLockingMode);
+        }
+        if (snapshotLockTimeoutMs != null) {
+            target.accept("snapshotLockTimeoutMs", snapshotLockTimeoutMs);
+        }
+        if (snapshotMaxThreads != null) {
+            target.accept("snapshotMaxThreads", snapshotMaxThreads);
+        }
+        if (snapshotMode != null) {
+            target.accept("snapshotMode", snapshotMode);
+        }
+        if (snapshotNewTables != null) {
+            target.accept("snapshotNewTables", snapshotNewTables);
+        }
+        if (snapshotSelectStatementOverrides != null) {
+            target.accept("snapshotSelectStatementOverrides", snapshotSelectStatementOverrides);
+        }
+        if (sourceStructVersion != null) {
+            target.accept("sourceStructVersion", sourceStructVersion);
+        }
+        if (tableBlacklist != null) {
+            target.accept("tableBlacklist", tableBlacklist);
+        }
+        if (tableExcludeList != null) {
+            target.accept("tableExcludeList", tableExcludeList);
+        }
+        if (tableIgnoreBuiltin != null) {
+            target.accept("tableIgnoreBuiltin", tableIgnoreBuiltin);
+        }
+        if (tableIncludeList != null) {
+            target.accept("tableIncludeList", tableIncludeList);
+        }
+        if (tableWhitelist != null) {
+            target.accept("tableWhitelist", tableWhitelist);
+        }
+        if (timePrecisionMode != null) {
+            target.accept("timePrecisionMode", timePrecisionMode);
+        }
+        if (tombstonesOnDelete != null) {
+            target.accept("tombstonesOnDelete", tombstonesOnDelete);
+        }
+        if (transactionTopic != null) {
+            target.accept("transactionTopic", transactionTopic);
+        }
+    }
 }
\ No newline at end of file
@@ -17,9 +17,11 @@
 package org.apache.camel.component.debezium.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.debezium.configuration.OracleConnectorEmbeddedDebeziumConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.debezium-oracle")
 public class DebeziumOracleComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the debezium-oracle component.
@@ -1535,4 +1539,323 @@ public class DebeziumOracleComponentConfiguration
             String unavailableValuePlaceholder) {
         this.unavailableValuePlaceholder = unavailableValuePlaceholder;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (additionalProperties != null) {
+            target.accept("additionalProperties", additionalProperties);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (internalKeyConverter != null) {
+            target.accept("internalKeyConverter", internalKeyConverter);
+        }
+        if (internalValueConverter != null) {
+            target.accept("internalValueConverter", internalValueConverter);
+        }
+        if (offsetCommitPolicy != null) {
+            target.accept("offsetCommitPolicy", offsetCommitPolicy);
+        }
+        if (offsetCommitTimeoutMs != null) {
+            target.accept("offsetCommitTimeoutMs", offsetCommitTimeoutMs);
+        }
+        if (offsetFlushIntervalMs != null) {
+            target.accept("offsetFlushIntervalMs", offsetFlushIntervalMs);
+        }
+        if (offsetStorage != null) {
+            target.accept("offsetStorage", offsetStorage);
+        }
+        if (offsetStorageFileName != null) {
+            target.accept("offsetStorageFileName", offsetStorageFileName);
+        }
+        if (offsetStoragePartitions != null) {
+            target.accept("offsetStoragePartitions", offsetStoragePartitions);
+        }
+        if (offsetStorageReplicationFactor != null) {
+            target.accept("offsetStorageReplicationFactor", offsetStorageReplicationFactor);
+        }
+        if (offsetStorageTopic != null) {
+            target.accept("offsetStorageTopic", offsetStorageTopic);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (binaryHandlingMode != null) {
+            target.accept("binaryHandlingMode", binaryHandlingMode);
+        }
+        if (columnBlacklist != null) {
+            target.accept("columnBlacklist", columnBlacklist);
+        }
+        if (columnExcludeList != null) {
+            target.accept("columnExcludeList", columnExcludeList);
+        }
+        if (columnIncludeList != null) {
+            target.accept("columnIncludeList", columnIncludeList);
+        }
+        if (columnPropagateSourceType != null) {
+            target.accept("columnPropagateSourceType", columnPropagateSourceType);
+        }
+        if (columnWhitelist != null) {
+            target.accept("columnWhitelist", columnWhitelist);
+        }
+        if (converters != null) {
+            target.accept("converters", converters);
+        }
+        if (databaseConnectionAdapter != null) {
+            target.accept("databaseConnectionAdapter", databaseConnectionAdapter);
+        }
+        if (databaseDbname != null) {
+            target.accept("databaseDbname", databaseDbname);
+        }
+        if (databaseHistory != null) {
+            target.accept("databaseHistory", databaseHistory);
+        }
+        if (databaseHistoryFileFilename != null) {
+            target.accept("databaseHistoryFileFilename", databaseHistoryFileFilename);
+        }
+        if (databaseHistoryKafkaBootstrapServers != null) {
+            target.accept("databaseHistoryKafkaBootstrapServers", databaseHistoryKafkaBootstrapServers);
+        }
+        if (databaseHistoryKafkaQueryTimeoutMs != null) {
+            target.accept("databaseHistoryKafkaQueryTimeoutMs", databaseHistoryKafkaQueryTimeoutMs);
+        }
+        if (databaseHistoryKafkaRecoveryAttempts != null) {
+            target.accept("databaseHistoryKafkaRecoveryAttempts", databaseHistoryKafkaRecoveryAttempts);
+        }
+        if (databaseHistoryKafkaRecoveryPollIntervalMs != null) {
+            target.accept("databaseHistoryKafkaRecoveryPollIntervalMs", databaseHistoryKafkaRecoveryPollIntervalMs);
+        }
+        if (databaseHistoryKafkaTopic != null) {
+            target.accept("databaseHistoryKafkaTopic", databaseHistoryKafkaTopic);
+        }
+        if (databaseHistorySkipUnparseableDdl != null) {
+            target.accept("databaseHistorySkipUnparseableDdl", databaseHistorySkipUnparseableDdl);
+        }
+        if (databaseHistoryStoreOnlyCapturedTablesDdl != null) {
+            target.accept("databaseHistoryStoreOnlyCapturedTablesDdl", databaseHistoryStoreOnlyCapturedTablesDdl);
+        }
+        if (databaseHistoryStoreOnlyMonitoredTablesDdl != null) {
+            target.accept("databaseHistoryStoreOnlyMonitoredTablesDdl", databaseHistoryStoreOnlyMonitoredTablesDdl);
+        }
+        if (databaseHostname != null) {
+            target.accept("databaseHostname", databaseHostname);
+        }
+        if (databaseOutServerName != null) {
+            target.accept("databaseOutServerName", databaseOutServerName);
+        }
+        if (databasePassword != null) {
+            target.accept("databasePassword", databasePassword);
+        }
+        if (databasePdbName != null) {
+            target.accept("databasePdbName", databasePdbName);
+        }
+        if (databasePort != null) {
+            target.accept("databasePort", databasePort);
+        }
+        if (databaseServerName != null) {
+            target.accept("databaseServerName", databaseServerName);
+        }
+        if (databaseUrl != null) {
+            target.accept("databaseUrl", databaseUrl);
+        }
+        if (databaseUser != null) {
+            target.accept("databaseUser", databaseUser);
+        }
+        if (datatypePropagateSourceType != null) {
+            target.accept("datatypePropagateSourceType", datatypePropagateSourceType);
+        }
+        if (decimalHandlingMode != null) {
+            target.accept("decimalHandlingMode", decimalHandlingMode);
+        }
+        if (eventProcessingFailureHandlingMode != null) {
+            target.accept("eventProcessingFailureHandlingMode", eventProcessingFailureHandlingMode);
+        }
+        if (heartbeatActionQuery != null) {
+            target.accept("heartbeatActionQuery", heartbeatActionQuery);
+        }
+        if (heartbeatIntervalMs != null) {
+            target.accept("heartbeatIntervalMs", heartbeatIntervalMs);
+        }
+        if (heartbeatTopicsPrefix != null) {
+            target.accept("heartbeatTopicsPrefix", heartbeatTopicsPrefix);
+        }
+        if (includeSchemaChanges != null) {
+            target.accept("includeSchemaChanges", includeSchemaChanges);
+        }
+        if (includeSchemaComments != null) {
+            target.accept("includeSchemaComments", includeSchemaComments);
+        }
+        if (intervalHandlingMode != null) {
+            target.accept("intervalHandlingMode", intervalHandlingMode);
+        }
+        if (lobEnabled != null) {
+            target.accept("lobEnabled", lobEnabled);
+        }
+        if (logMiningArchiveDestinationName != null) {
+            target.accept("logMiningArchiveDestinationName", logMiningArchiveDestinationName);
+        }
+        if (logMiningArchiveLogHours != null) {
+            target.accept("logMiningArchiveLogHours", logMiningArchiveLogHours);
+        }
+        if (logMiningArchiveLogOnlyMode != null) {
+            target.accept("logMiningArchiveLogOnlyMode", logMiningArchiveLogOnlyMode);
+        }
+        if (logMiningArchiveLogOnlyScnPollIntervalMs != null) {
+            target.accept("logMiningArchiveLogOnlyScnPollIntervalMs", logMiningArchiveLogOnlyScnPollIntervalMs);
+        }
+        if (logMiningBatchSizeDefault != null) {
+            target.accept("logMiningBatchSizeDefault", logMiningBatchSizeDefault);
+        }
+        if (logMiningBatchSizeMax != null) {
+            target.accept("logMiningBatchSizeMax", logMiningBatchSizeMax);
+        }
+        if (logMiningBatchSizeMin != null) {
+            target.accept("logMiningBatchSizeMin", logMiningBatchSizeMin);
+        }
+        if (logMiningBufferDropOnStop != null) {
+            target.accept("logMiningBufferDropOnStop", logMiningBufferDropOnStop);
+        }
+        if (logMiningBufferInfinispanCacheEvents != null) {
+            target.accept("logMiningBufferInfinispanCacheEvents", logMiningBufferInfinispanCacheEvents);
+        }
+        if (logMiningBufferInfinispanCacheProcessedTransactions != null) {
+            target.accept("logMiningBufferInfinispanCacheProcessedTransactions", logMiningBufferInfinispanCacheProcessedTransactions);
+        }
+        if (logMiningBufferInfinispanCacheSchemaChanges != null) {
+            target.accept("logMiningBufferInfinispanCacheSchemaChanges", logMiningBufferInfinispanCacheSchemaChanges);
+        }
+        if (logMiningBufferInfinispanCacheTransactions != null) {
+            target.accept("logMiningBufferInfinispanCacheTransactions", logMiningBufferInfinispanCacheTransactions);
+        }
+        if (logMiningBufferType != null) {
+            target.accept("logMiningBufferType", logMiningBufferType);
+        }
+        if (logMiningScnGapDetectionGapSizeMin != null) {
+            target.accept("logMiningScnGapDetectionGapSizeMin", logMiningScnGapDetectionGapSizeMin);
+        }
+        if (logMiningScnGapDetectionTimeIntervalMaxMs != null) {
+            target.accept("logMiningScnGapDetectionTimeIntervalMaxMs", logMiningScnGapDetectionTimeIntervalMaxMs);
+        }
+        if (logMiningSessionMaxMs != null) {
+            target.accept("logMiningSessionMaxMs", logMiningSessionMaxMs);
+        }
+        if (logMiningSleepTimeDefaultMs != null) {
+            target.accept("logMiningSleepTimeDefaultMs", logMiningSleepTimeDefaultMs);
+        }
+        if (logMiningSleepTimeIncrementMs != null) {
+            target.accept("logMiningSleepTimeIncrementMs", logMiningSleepTimeIncrementMs);
+        }
+        if (logMiningSleepTimeMaxMs != null) {
+            target.accept("logMiningSleepTimeMaxMs", logMiningSleepTimeMaxMs);
+        }
+        if (logMiningSleepTimeMinMs != null) {
+            target.accept("logMiningSleepTimeMinMs", logMiningSleepTimeMinMs);
+        }
+        if (logMiningStrategy != null) {
+            target.accept("logMiningStrategy", logMiningStrategy);
+        }
+        if (logMiningTransactionRetentionHours != null) {
+            target.accept("logMiningTransactionRetentionHours", logMiningTransactionRetentionHours);
+        }
+        if (logMiningUsernameExcludeList != null) {
+            target.accept("logMiningUsernameExcludeList", logMiningUsernameExcludeList);
+        }
+        if (maxBatchSize != null) {
+            target.accept("maxBatchSize", maxBatchSize);
+        }
+        if (maxQueueSize != null) {
+            target.accept("maxQueueSize", maxQueueSize);
+        }
+        if (maxQueueSizeInBytes != null) {
+            target.accept("maxQueueSizeInBytes", maxQueueSizeInBytes);
+        }
+        if (messageKeyColumns != null) {
+            target.accept("messageKeyColumns", messageKeyColumns);
+        }
+        if (pollIntervalMs != null) {
+            target.accept("pollIntervalMs", pollIntervalMs);
+        }
+        if (provideTransactionMetadata != null) {
+            target.accept("provideTransactionMetadata", provideTransactionMetadata);
+        }
+        if (queryFetchSize != null) {
+            target.accept("queryFetchSize", queryFetchSize);
+        }
+        if (racNodes != null) {
+            target.accept("racNodes", racNodes);
+        }
+        if (retriableRestartConnectorWaitMs != null) {
+            target.accept("retriableRestartConnectorWaitMs", retriableRestartConnectorWaitMs);
+        }
+        if (sanitizeFieldNames != null) {
+            target.accept("sanitizeFieldNames", sanitizeFieldNames);
+        }
+        if (schemaNameAdjustmentMode != null) {
+            target.accept("schemaNameAdjustmentMode", schemaNameAdjustmentMode);
+        }
+        if (signalDataCollection != null) {
+            target.accept("signalDataCollection", signalDataCollection);
+        }
+        if (skippedOperations != null) {
+            target.accept("skippedOperations", skippedOperations);
+        }
+        if (snapshotDelayMs != null) {
+            target.accept("snapshotDelayMs", snapshotDelayMs);
+        }
+        if (snapshotEnhancePredicateScn != null) {
+            target.accept("snapshotEnhancePredicateScn", snapshotEnhancePredicateScn);
+        }
+        if (snapshotFetchSize != null) {
+            target.accept("snapshotFetchSize", snapshotFetchSize);
+        }
+        if (snapshotIncludeCollectionList != null) {
+            target.accept("snapshotIncludeCollectionList", snapshotIncludeCollectionList);
+        }
+        if (snapshotLockingMode != null) {
+            target.accept("snapshotLockingMode", snapshotLockingMode);
+        }
+        if (snapshotLockTimeoutMs != null) {
+            target.accept("snapshotLockTimeoutMs", snapshotLockTimeoutMs);
+        }
+        if (snapshotMaxThreads != null) {
+            target.accept("snapshotMaxThreads", snapshotMaxThreads);
+        }
+        if (snapshotMode != null) {
+            target.accept("snapshotMode", snapshotMode);
+        }
+        if (snapshotSelectStatementOverrides != null) {
+            target.accept("snapshotSelectStatementOverrides", snapshotSelectStatementOverrides);
+        }
+        if (sourceStructVersion != null) {
+            target.accept("sourceStructVersion", sourceStructVersion);
+        }
+        if (tableBlacklist != null) {
+            target.accept("tableBlacklist", tableBlacklist);
+        }
+        if (tableExcludeList != null) {
+            target.accept("tableExcludeList", tableExcludeList);
+        }
+        if (tableIncludeList != null) {
+            target.accept("tableIncludeList", tableIncludeList);
+        }
+        if (tableWhitelist != null) {
+            target.accept("tableWhitelist", tableWhitelist);
+        }
+        if (timePrecisionMode != null) {
+            target.accept("timePrecisionMode", timePrecisionMode);
+        }
+        if (tombstonesOnDelete != null) {
+            target.accept("tombstonesOnDelete", tombstonesOnDelete);
+        }
+        if (transactionTopic != null) {
+            target.accept("transactionTopic", transactionTopic);
+        }
+        if (unavailableValuePlaceholder != null) {
+            target.accept("unavailableValuePlaceholder", unavailableValuePlaceholder);
+        }
+    }
 }
\ No newline at end of file
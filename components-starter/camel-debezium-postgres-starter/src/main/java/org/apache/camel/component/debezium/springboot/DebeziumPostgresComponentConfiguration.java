@@ -17,9 +17,11 @@
 package org.apache.camel.component.debezium.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.debezium.configuration.PostgresConnectorEmbeddedDebeziumConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.debezium-postgres")
 public class DebeziumPostgresComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the debezium-postgres component.
@@ -1389,4 +1393,290 @@ public class DebeziumPostgresComponentConfiguration
     public void setXminFetchIntervalMs(Long xminFetchIntervalMs) {
         this.xminFetchIntervalMs = xminFetchIntervalMs;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (additionalProperties != null) {
+            target.accept("additionalProperties", additionalProperties);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (internalKeyConverter != null) {
+            target.accept("internalKeyConverter", internalKeyConverter);
+        }
+        if (internalValueConverter != null) {
+            target.accept("internalValueConverter", internalValueConverter);
+        }
+        if (offsetCommitPolicy != null) {
+            target.accept("offsetCommitPolicy", offsetCommitPolicy);
+        }
+        if (offsetCommitTimeoutMs != null) {
+            target.accept("offsetCommitTimeoutMs", offsetCommitTimeoutMs);
+        }
+        if (offsetFlushIntervalMs != null) {
+            target.accept("offsetFlushIntervalMs", offsetFlushIntervalMs);
+        }
+        if (offsetStorage != null) {
+            target.accept("offsetStorage", offsetStorage);
+        }
+        if (offsetStorageFileName != null) {
+            target.accept("offsetStorageFileName", offsetStorageFileName);
+        }
+        if (offsetStoragePartitions != null) {
+            target.accept("offsetStoragePartitions", offsetStoragePartitions);
+        }
+        if (offsetStorageReplicationFactor != null) {
+            target.accept("offsetStorageReplicationFactor", offsetStorageReplicationFactor);
+        }
+        if (offsetStorageTopic != null) {
+            target.accept("offsetStorageTopic", offsetStorageTopic);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (binaryHandlingMode != null) {
+            target.accept("binaryHandlingMode", binaryHandlingMode);
+        }
+        if (columnBlacklist != null) {
+            target.accept("columnBlacklist", columnBlacklist);
+        }
+        if (columnExcludeList != null) {
+            target.accept("columnExcludeList", columnExcludeList);
+        }
+        if (columnIncludeList != null) {
+            target.accept("columnIncludeList", columnIncludeList);
+        }
+        if (columnPropagateSourceType != null) {
+            target.accept("columnPropagateSourceType", columnPropagateSourceType);
+        }
+        if (columnWhitelist != null) {
+            target.accept("columnWhitelist", columnWhitelist);
+        }
+        if (converters != null) {
+            target.accept("converters", converters);
+        }
+        if (databaseDbname != null) {
+            target.accept("databaseDbname", databaseDbname);
+        }
+        if (databaseHistoryFileFilename != null) {
+            target.accept("databaseHistoryFileFilename", databaseHistoryFileFilename);
+        }
+        if (databaseHostname != null) {
+            target.accept("databaseHostname", databaseHostname);
+        }
+        if (databaseInitialStatements != null) {
+            target.accept("databaseInitialStatements", databaseInitialStatements);
+        }
+        if (databasePassword != null) {
+            target.accept("databasePassword", databasePassword);
+        }
+        if (databasePort != null) {
+            target.accept("databasePort", databasePort);
+        }
+        if (databaseServerName != null) {
+            target.accept("databaseServerName", databaseServerName);
+        }
+        if (databaseSslcert != null) {
+            target.accept("databaseSslcert", databaseSslcert);
+        }
+        if (databaseSslfactory != null) {
+            target.accept("databaseSslfactory", databaseSslfactory);
+        }
+        if (databaseSslkey != null) {
+            target.accept("databaseSslkey", databaseSslkey);
+        }
+        if (databaseSslmode != null) {
+            target.accept("databaseSslmode", databaseSslmode);
+        }
+        if (databaseSslpassword != null) {
+            target.accept("databaseSslpassword", databaseSslpassword);
+        }
+        if (databaseSslrootcert != null) {
+            target.accept("databaseSslrootcert", databaseSslrootcert);
+        }
+        if (databaseTcpkeepalive != null) {
+            target.accept("databaseTcpkeepalive", databaseTcpkeepalive);
+        }
+        if (databaseUser != null) {
+            target.accept("databaseUser", databaseUser);
+        }
+        if (datatypePropagateSourceType != null) {
+            target.accept("datatypePropagateSourceType", datatypePropagateSourceType);
+        }
+        if (decimalHandlingMode != null) {
+            target.accept("decimalHandlingMode", decimalHandlingMode);
+        }
+        if (eventProcessingFailureHandlingMode != null) {
+            target.accept("eventProcessingFailureHandlingMode", eventProcessingFailureHandlingMode);
+        }
+        if (heartbeatActionQuery != null) {
+            target.accept("heartbeatActionQuery", heartbeatActionQuery);
+        }
+        if (heartbeatIntervalMs != null) {
+            target.accept("heartbeatIntervalMs", heartbeatIntervalMs);
+        }
+        if (heartbeatTopicsPrefix != null) {
+            target.accept("heartbeatTopicsPrefix", heartbeatTopicsPrefix);
+        }
+        if (hstoreHandlingMode != null) {
+            target.accept("hstoreHandlingMode", hstoreHandlingMode);
+        }
+        if (includeSchemaComments != null) {
+            target.accept("includeSchemaComments", includeSchemaComments);
+        }
+        if (includeUnknownDatatypes != null) {
+            target.accept("includeUnknownDatatypes", includeUnknownDatatypes);
+        }
+        if (incrementalSnapshotChunkSize != null) {
+            target.accept("incrementalSnapshotChunkSize", incrementalSnapshotChunkSize);
+        }
+        if (intervalHandlingMode != null) {
+            target.accept("intervalHandlingMode", intervalHandlingMode);
+        }
+        if (maxBatchSize != null) {
+            target.accept("maxBatchSize", maxBatchSize);
+        }
+        if (maxQueueSize != null) {
+            target.accept("maxQueueSize", maxQueueSize);
+        }
+        if (maxQueueSizeInBytes != null) {
+            target.accept("maxQueueSizeInBytes", maxQueueSizeInBytes);
+        }
+        if (messageKeyColumns != null) {
+            target.accept("messageKeyColumns", messageKeyColumns);
+        }
+        if (messagePrefixExcludeList != null) {
+            target.accept("messagePrefixExcludeList", messagePrefixExcludeList);
+        }
+        if (messagePrefixIncludeList != null) {
+            target.accept("messagePrefixIncludeList", messagePrefixIncludeList);
+        }
+        if (pluginName != null) {
+            target.accept("pluginName", pluginName);
+        }
+        if (pollIntervalMs != null) {
+            target.accept("pollIntervalMs", pollIntervalMs);
+        }
+        if (provideTransactionMetadata != null) {
+            target.accept("provideTransactionMetadata", provideTransactionMetadata);
+        }
+        if (publicationAutocreateMode != null) {
+            target.accept("publicationAutocreateMode", publicationAutocreateMode);
+        }
+        if (publicationName != null) {
+            target.accept("publicationName", publicationName);
+        }
+        if (queryFetchSize != null) {
+            target.accept("queryFetchSize", queryFetchSize);
+        }
+        if (retriableRestartConnectorWaitMs != null) {
+            target.accept("retriableRestartConnectorWaitMs", retriableRestartConnectorWaitMs);
+        }
+        if (sanitizeFieldNames != null) {
+            target.accept("sanitizeFieldNames", sanitizeFieldNames);
+        }
+        if (schemaBlacklist != null) {
+            target.accept("schemaBlacklist", schemaBlacklist);
+        }
+        if (schemaExcludeList != null) {
+            target.accept("schemaExcludeList", schemaExcludeList);
+        }
+        if (schemaIncludeList != null) {
+            target.accept("schemaIncludeList", schemaIncludeList);
+        }
+        if (schemaNameAdjustmentMode != null) {
+            target.accept("schemaNameAdjustmentMode", schemaNameAdjustmentMode);
+        }
+        if (schemaRefreshMode != null) {
+            target.accept("schemaRefreshMode", schemaRefreshMode);
+        }
+        if (schemaWhitelist != null) {
+            target.accept("schemaWhitelist", schemaWhitelist);
+        }
+        if (signalDataCollection != null) {
+            target.accept("signalDataCollection", signalDataCollection);
+        }
+        if (skippedOperations != null) {
+            target.accept("skippedOperations", skippedOperations);
+        }
+        if (slotDropOnStop != null) {
+            target.accept("slotDropOnStop", slotDropOnStop);
+        }
+        if (slotMaxRetries != null) {
+            target.accept("slotMaxRetries", slotMaxRetries);
+        }
+        if (slotName != null) {
+            target.accept("slotName", slotName);
+        }
+        if (slotRetryDelayMs != null) {
+            target.accept("slotRetryDelayMs", slotRetryDelayMs);
+        }
+        if (slotStreamParams != null) {
+            target.accept("slotStreamParams", slotStreamParams);
+        }
+        if (snapshotCustomClass != null) {
+            target.accept("snapshotCustomClass", snapshotCustomClass);
+        }
+        if (snapshotDelayMs != null) {
+            target.accept("snapshotDelayMs", snapshotDelayMs);
+        }
+        if (snapshotFetchSize != null) {
+            target.accept("snapshotFetchSize", snapshotFetchSize);
+        }
+        if (snapshotIncludeCollectionList != null) {
+            target.accept("snapshotIncludeCollectionList", snapshotIncludeCollectionList);
+        }
+        if (snapshotLockTimeoutMs != null) {
+            target.accept("snapshotLockTimeoutMs", snapshotLockTimeoutMs);
+        }
+        if (snapshotMaxThreads != null) {
+            target.accept("snapshotMaxThreads", snapshotMaxThreads);
+        }
+        if (snapshotMode != null) {
+            target.accept("snapshotMode", snapshotMode);
+        }
+        if (snapshotSelectStatementOverrides != null) {
+            target.accept("snapshotSelectStatementOverrides", snapshotSelectStatementOverrides);
+        }
+        if (sourceStructVersion != null) {
+            target.accept("sourceStructVersion", sourceStructVersion);
+        }
+        if (statusUpdateIntervalMs != null) {
+            target.accept("statusUpdateIntervalMs", statusUpdateIntervalMs);
+        }
+        if (tableBlacklist != null) {
+            target.accept("tableBlacklist", tableBlacklist);
+        }
+        if (tableExcludeList != null) {
+            target.accept("tableExcludeList", tableExcludeList);
+        }
+        if (tableIgnoreBuiltin != null) {
+            target.accept("tableIgnoreBuiltin", tableIgnoreBuiltin);
+        }
+        if (tableIncludeList != null) {
+            target.accept("tableIncludeList", tableIncludeList);
+        }
+        if (tableWhitelist != null) {
+            target.accept("tableWhitelist", tableWhitelist);
+        }
+        if (timePrecisionMode != null) {
+            target.accept("timePrecisionMode", timePrecisionMode);
+        }
+        if (tombstonesOnDelete != null) {
+            target.accept("tombstonesOnDelete", tombstonesOnDelete);
+        }
+        if (transactionTopic != null) {
+            target.accept("transactionTopic", transactionTopic);
+        }
+        if (unavailableValuePlaceholder != null) {
+            target.accept("unavailableValuePlaceholder", unavailableValuePlaceholder);
+        }
+        if (xminFetchIntervalMs != null) {
+            target.accept("xminFetchIntervalMs", xminFetchIntervalMs);
+        }
+    }
 }
\ No newline at end of file
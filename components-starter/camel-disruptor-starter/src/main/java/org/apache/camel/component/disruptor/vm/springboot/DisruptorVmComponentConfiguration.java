@@ -16,11 +16,13 @@
  */
 package org.apache.camel.component.disruptor.vm.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.disruptor.DisruptorProducerType;
 import org.apache.camel.component.disruptor.DisruptorWaitStrategy;
 import org.apache.camel.component.disruptor.vm.DisruptorVmComponent;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.disruptor-vm")
 public class DisruptorVmComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the disruptor-vm component. This
@@ -167,4 +171,35 @@ public class DisruptorVmComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (bufferSize != null) {
+            target.accept("bufferSize", bufferSize);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (defaultConcurrentConsumers != null) {
+            target.accept("defaultConcurrentConsumers", defaultConcurrentConsumers);
+        }
+        if (defaultMultipleConsumers != null) {
+            target.accept("defaultMultipleConsumers", defaultMultipleConsumers);
+        }
+        if (defaultWaitStrategy != null) {
+            target.accept("defaultWaitStrategy", defaultWaitStrategy);
+        }
+        if (defaultBlockWhenFull != null) {
+            target.accept("defaultBlockWhenFull", defaultBlockWhenFull);
+        }
+        if (defaultProducerType != null) {
+            target.accept("defaultProducerType", defaultProducerType);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+    }
 }
\ No newline at end of file
@@ -17,9 +17,11 @@
 package org.apache.camel.component.docker.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.docker.DockerConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.docker")
 public class DockerComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the docker component. This is
@@ -309,4 +313,71 @@ public class DockerComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (email != null) {
+            target.accept("email", email);
+        }
+        if (host != null) {
+            target.accept("host", host);
+        }
+        if (port != null) {
+            target.accept("port", port);
+        }
+        if (requestTimeout != null) {
+            target.accept("requestTimeout", requestTimeout);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (cmdExecFactory != null) {
+            target.accept("cmdExecFactory", cmdExecFactory);
+        }
+        if (followRedirectFilter != null) {
+            target.accept("followRedirectFilter", followRedirectFilter);
+        }
+        if (loggingFilter != null) {
+            target.accept("loggingFilter", loggingFilter);
+        }
+        if (maxPerRouteConnections != null) {
+            target.accept("maxPerRouteConnections", maxPerRouteConnections);
+        }
+        if (maxTotalConnections != null) {
+            target.accept("maxTotalConnections", maxTotalConnections);
+        }
+        if (parameters != null) {
+            target.accept("parameters", parameters);
+        }
+        if (serverAddress != null) {
+            target.accept("serverAddress", serverAddress);
+        }
+        if (socket != null) {
+            target.accept("socket", socket);
+        }
+        if (certPath != null) {
+            target.accept("certPath", certPath);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+        if (secure != null) {
+            target.accept("secure", secure);
+        }
+        if (tlsVerify != null) {
+            target.accept("tlsVerify", tlsVerify);
+        }
+        if (username != null) {
+            target.accept("username", username);
+        }
+    }
 }
\ No newline at end of file
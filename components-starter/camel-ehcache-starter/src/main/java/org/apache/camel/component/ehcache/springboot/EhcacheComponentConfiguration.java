@@ -17,9 +17,11 @@
 package org.apache.camel.component.ehcache.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.ehcache.EhcacheComponent;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.ehcache.CacheManager;
 import org.ehcache.config.CacheConfiguration;
 import org.ehcache.config.Configuration;
@@ -36,7 +38,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.ehcache")
 public class EhcacheComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the ehcache component. This is
@@ -261,4 +265,56 @@ public class EhcacheComponentConfiguration
     public void setValueType(String valueType) {
         this.valueType = valueType;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (cacheManager != null) {
+            target.accept("cacheManager", cacheManager);
+        }
+        if (cacheManagerConfiguration != null) {
+            target.accept("cacheManagerConfiguration", cacheManagerConfiguration);
+        }
+        if (configurationUri != null) {
+            target.accept("configurationUri", configurationUri);
+        }
+        if (createCacheIfNotExist != null) {
+            target.accept("createCacheIfNotExist", createCacheIfNotExist);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (eventFiring != null) {
+            target.accept("eventFiring", eventFiring);
+        }
+        if (eventOrdering != null) {
+            target.accept("eventOrdering", eventOrdering);
+        }
+        if (eventTypes != null) {
+            target.accept("eventTypes", eventTypes);
+        }
+        if (action != null) {
+            target.accept("action", action);
+        }
+        if (key != null) {
+            target.accept("key", key);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (configurations != null) {
+            target.accept("configurations", configurations);
+        }
+        if (keyType != null) {
+            target.accept("keyType", keyType);
+        }
+        if (valueType != null) {
+            target.accept("valueType", valueType);
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.component.es.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.elasticsearch.client.RestClient;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.elasticsearch")
 public class ElasticsearchComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the elasticsearch component. This
@@ -227,4 +231,50 @@ public class ElasticsearchComponentConfiguration
     public void setUser(String user) {
         this.user = user;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (connectionTimeout != null) {
+            target.accept("connectionTimeout", connectionTimeout);
+        }
+        if (hostAddresses != null) {
+            target.accept("hostAddresses", hostAddresses);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (maxRetryTimeout != null) {
+            target.accept("maxRetryTimeout", maxRetryTimeout);
+        }
+        if (socketTimeout != null) {
+            target.accept("socketTimeout", socketTimeout);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (client != null) {
+            target.accept("client", client);
+        }
+        if (enableSniffer != null) {
+            target.accept("enableSniffer", enableSniffer);
+        }
+        if (sniffAfterFailureDelay != null) {
+            target.accept("sniffAfterFailureDelay", sniffAfterFailureDelay);
+        }
+        if (snifferInterval != null) {
+            target.accept("snifferInterval", snifferInterval);
+        }
+        if (certificatePath != null) {
+            target.accept("certificatePath", certificatePath);
+        }
+        if (enableSSL != null) {
+            target.accept("enableSSL", enableSSL);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+        if (user != null) {
+            target.accept("user", user);
+        }
+    }
 }
\ No newline at end of file
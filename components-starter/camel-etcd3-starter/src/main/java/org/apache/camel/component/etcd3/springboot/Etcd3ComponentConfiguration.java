@@ -18,10 +18,12 @@ package org.apache.camel.component.etcd3.springboot;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import io.netty.handler.ssl.SslContext;
 import org.apache.camel.component.etcd3.Etcd3Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -33,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.etcd3")
 public class Etcd3ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the etcd3 component. This is
@@ -364,4 +368,83 @@ public class Etcd3ComponentConfiguration
     public void setUserName(String userName) {
         this.userName = userName;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (endpoints != null) {
+            target.accept("endpoints", endpoints);
+        }
+        if (keyCharset != null) {
+            target.accept("keyCharset", keyCharset);
+        }
+        if (namespace != null) {
+            target.accept("namespace", namespace);
+        }
+        if (prefix != null) {
+            target.accept("prefix", prefix);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (fromIndex != null) {
+            target.accept("fromIndex", fromIndex);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (valueCharset != null) {
+            target.accept("valueCharset", valueCharset);
+        }
+        if (authHeaders != null) {
+            target.accept("authHeaders", authHeaders);
+        }
+        if (authority != null) {
+            target.accept("authority", authority);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (connectionTimeout != null) {
+            target.accept("connectionTimeout", connectionTimeout);
+        }
+        if (headers != null) {
+            target.accept("headers", headers);
+        }
+        if (keepAliveTime != null) {
+            target.accept("keepAliveTime", keepAliveTime);
+        }
+        if (keepAliveTimeout != null) {
+            target.accept("keepAliveTimeout", keepAliveTimeout);
+        }
+        if (loadBalancerPolicy != null) {
+            target.accept("loadBalancerPolicy", loadBalancerPolicy);
+        }
+        if (maxInboundMessageSize != null) {
+            target.accept("maxInboundMessageSize", maxInboundMessageSize);
+        }
+        if (retryDelay != null) {
+            target.accept("retryDelay", retryDelay);
+        }
+        if (retryMaxDelay != null) {
+            target.accept("retryMaxDelay", retryMaxDelay);
+        }
+        if (retryMaxDuration != null) {
+            target.accept("retryMaxDuration", retryMaxDuration);
+        }
+        if (servicePath != null) {
+            target.accept("servicePath", servicePath);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+        if (sslContext != null) {
+            target.accept("sslContext", sslContext);
+        }
+        if (userName != null) {
+            target.accept("userName", userName);
+        }
+    }
 }
\ No newline at end of file
@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.facebook.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.facebook.config.FacebookConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.facebook")
 public class FacebookComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the facebook component. This is
@@ -429,4 +433,101 @@ public class FacebookComponentConfiguration
     public void setOAuthPermissions(String oAuthPermissions) {
         this.oAuthPermissions = oAuthPermissions;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (clientURL != null) {
+            target.accept("clientURL", clientURL);
+        }
+        if (clientVersion != null) {
+            target.accept("clientVersion", clientVersion);
+        }
+        if (debugEnabled != null) {
+            target.accept("debugEnabled", debugEnabled);
+        }
+        if (gzipEnabled != null) {
+            target.accept("gzipEnabled", gzipEnabled);
+        }
+        if (httpConnectionTimeout != null) {
+            target.accept("httpConnectionTimeout", httpConnectionTimeout);
+        }
+        if (httpDefaultMaxPerRoute != null) {
+            target.accept("httpDefaultMaxPerRoute", httpDefaultMaxPerRoute);
+        }
+        if (httpMaxTotalConnections != null) {
+            target.accept("httpMaxTotalConnections", httpMaxTotalConnections);
+        }
+        if (httpReadTimeout != null) {
+            target.accept("httpReadTimeout", httpReadTimeout);
+        }
+        if (httpRetryCount != null) {
+            target.accept("httpRetryCount", httpRetryCount);
+        }
+        if (httpRetryIntervalSeconds != null) {
+            target.accept("httpRetryIntervalSeconds", httpRetryIntervalSeconds);
+        }
+        if (httpStreamingReadTimeout != null) {
+            target.accept("httpStreamingReadTimeout", httpStreamingReadTimeout);
+        }
+        if (jsonStoreEnabled != null) {
+            target.accept("jsonStoreEnabled", jsonStoreEnabled);
+        }
+        if (mbeanEnabled != null) {
+            target.accept("mbeanEnabled", mbeanEnabled);
+        }
+        if (prettyDebugEnabled != null) {
+            target.accept("prettyDebugEnabled", prettyDebugEnabled);
+        }
+        if (restBaseURL != null) {
+            target.accept("restBaseURL", restBaseURL);
+        }
+        if (useSSL != null) {
+            target.accept("useSSL", useSSL);
+        }
+        if (videoBaseURL != null) {
+            target.accept("videoBaseURL", videoBaseURL);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (httpProxyHost != null) {
+            target.accept("httpProxyHost", httpProxyHost);
+        }
+        if (httpProxyPassword != null) {
+            target.accept("httpProxyPassword", httpProxyPassword);
+        }
+        if (httpProxyPort != null) {
+            target.accept("httpProxyPort", httpProxyPort);
+        }
+        if (httpProxyUser != null) {
+            target.accept("httpProxyUser", httpProxyUser);
+        }
+        if (oAuthAccessToken != null) {
+            target.accept("oAuthAccessToken", oAuthAccessToken);
+        }
+        if (oAuthAccessTokenURL != null) {
+            target.accept("oAuthAccessTokenURL", oAuthAccessTokenURL);
+        }
+        if (oAuthAppId != null) {
+            target.accept("oAuthAppId", oAuthAppId);
+        }
+        if (oAuthAppSecret != null) {
+            target.accept("oAuthAppSecret", oAuthAppSecret);
+        }
+        if (oAuthAuthorizationURL != null) {
+            target.accept("oAuthAuthorizationURL", oAuthAuthorizationURL);
+        }
+        if (oAuthPermissions != null) {
+            target.accept("oAuthPermissions", oAuthPermissions);
+        }
+    }
 }
\ No newline at end of file
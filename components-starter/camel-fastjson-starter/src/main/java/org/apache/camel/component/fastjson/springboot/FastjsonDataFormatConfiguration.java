@@ -16,8 +16,10 @@
  */
 package org.apache.camel.component.fastjson.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.fastjson")
 public class FastjsonDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the fastjson data format. This is
@@ -63,4 +67,14 @@ public class FastjsonDataFormatConfiguration
     public void setContentTypeHeader(Boolean contentTypeHeader) {
         this.contentTypeHeader = contentTypeHeader;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (unmarshalType != null) {
+            target.accept("unmarshalType", unmarshalType);
+        }
+        if (contentTypeHeader != null) {
+            target.accept("contentTypeHeader", contentTypeHeader);
+        }
+    }
 }
\ No newline at end of file
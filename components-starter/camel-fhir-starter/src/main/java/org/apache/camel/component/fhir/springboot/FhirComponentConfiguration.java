@@ -16,12 +16,14 @@
  */
 package org.apache.camel.component.fhir.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import ca.uhn.fhir.context.FhirContext;
 import ca.uhn.fhir.rest.client.api.IGenericClient;
 import ca.uhn.fhir.rest.client.api.IRestfulClientFactory;
 import org.apache.camel.component.fhir.FhirConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -34,7 +36,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.fhir")
 public class FhirComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the fhir component. This is
@@ -388,4 +392,89 @@ public class FhirComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (encoding != null) {
+            target.accept("encoding", encoding);
+        }
+        if (fhirVersion != null) {
+            target.accept("fhirVersion", fhirVersion);
+        }
+        if (log != null) {
+            target.accept("log", log);
+        }
+        if (prettyPrint != null) {
+            target.accept("prettyPrint", prettyPrint);
+        }
+        if (serverUrl != null) {
+            target.accept("serverUrl", serverUrl);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (client != null) {
+            target.accept("client", client);
+        }
+        if (clientFactory != null) {
+            target.accept("clientFactory", clientFactory);
+        }
+        if (compress != null) {
+            target.accept("compress", compress);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (connectionTimeout != null) {
+            target.accept("connectionTimeout", connectionTimeout);
+        }
+        if (deferModelScanning != null) {
+            target.accept("deferModelScanning", deferModelScanning);
+        }
+        if (fhirContext != null) {
+            target.accept("fhirContext", fhirContext);
+        }
+        if (forceConformanceCheck != null) {
+            target.accept("forceConformanceCheck", forceConformanceCheck);
+        }
+        if (sessionCookie != null) {
+            target.accept("sessionCookie", sessionCookie);
+        }
+        if (socketTimeout != null) {
+            target.accept("socketTimeout", socketTimeout);
+        }
+        if (summary != null) {
+            target.accept("summary", summary);
+        }
+        if (validationMode != null) {
+            target.accept("validationMode", validationMode);
+        }
+        if (proxyHost != null) {
+            target.accept("proxyHost", proxyHost);
+        }
+        if (proxyPassword != null) {
+            target.accept("proxyPassword", proxyPassword);
+        }
+        if (proxyPort != null) {
+            target.accept("proxyPort", proxyPort);
+        }
+        if (proxyUser != null) {
+            target.accept("proxyUser", proxyUser);
+        }
+        if (accessToken != null) {
+            target.accept("accessToken", accessToken);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+        if (username != null) {
+            target.accept("username", username);
+        }
+    }
 }
\ No newline at end of file
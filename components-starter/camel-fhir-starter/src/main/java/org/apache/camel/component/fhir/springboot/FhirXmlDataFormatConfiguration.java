@@ -18,8 +18,10 @@ package org.apache.camel.component.fhir.springboot;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.fhir-xml")
 public class FhirXmlDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the fhirXml data format. This is
@@ -249,4 +253,47 @@ public class FhirXmlDataFormatConfiguration
     public void setContentTypeHeader(Boolean contentTypeHeader) {
         this.contentTypeHeader = contentTypeHeader;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (fhirVersion != null) {
+            target.accept("fhirVersion", fhirVersion);
+        }
+        if (prettyPrint != null) {
+            target.accept("prettyPrint", prettyPrint);
+        }
+        if (serverBaseUrl != null) {
+            target.accept("serverBaseUrl", serverBaseUrl);
+        }
+        if (omitResourceId != null) {
+            target.accept("omitResourceId", omitResourceId);
+        }
+        if (encodeElementsAppliesToChildResourcesOnly != null) {
+            target.accept("encodeElementsAppliesToChildResourcesOnly", encodeElementsAppliesToChildResourcesOnly);
+        }
+        if (encodeElements != null) {
+            target.accept("encodeElements", encodeElements);
+        }
+        if (dontEncodeElements != null) {
+            target.accept("dontEncodeElements", dontEncodeElements);
+        }
+        if (stripVersionsFromReferences != null) {
+            target.accept("stripVersionsFromReferences", stripVersionsFromReferences);
+        }
+        if (overrideResourceIdWithBundleEntryFullUrl != null) {
+            target.accept("overrideResourceIdWithBundleEntryFullUrl", overrideResourceIdWithBundleEntryFullUrl);
+        }
+        if (summaryMode != null) {
+            target.accept("summaryMode", summaryMode);
+        }
+        if (suppressNarratives != null) {
+            target.accept("suppressNarratives", suppressNarratives);
+        }
+        if (dontStripVersionsFromReferencesAtPaths != null) {
+            target.accept("dontStripVersionsFromReferencesAtPaths", dontStripVersionsFromReferencesAtPaths);
+        }
+        if (contentTypeHeader != null) {
+            target.accept("contentTypeHeader", contentTypeHeader);
+        }
+    }
 }
\ No newline at end of file
@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.file.watch.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import io.methvin.watcher.hashing.FileHasher;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.file-watch")
 public class FileWatchComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the file-watch component. This is
@@ -143,4 +147,29 @@ public class FileWatchComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (concurrentConsumers != null) {
+            target.accept("concurrentConsumers", concurrentConsumers);
+        }
+        if (fileHasher != null) {
+            target.accept("fileHasher", fileHasher);
+        }
+        if (pollThreads != null) {
+            target.accept("pollThreads", pollThreads);
+        }
+        if (queueSize != null) {
+            target.accept("queueSize", queueSize);
+        }
+        if (useFileHashing != null) {
+            target.accept("useFileHashing", useFileHashing);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+    }
 }
\ No newline at end of file
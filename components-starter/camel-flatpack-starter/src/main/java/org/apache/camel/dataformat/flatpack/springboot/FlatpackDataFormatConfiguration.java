@@ -16,8 +16,10 @@
  */
 package org.apache.camel.dataformat.flatpack.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.flatpack")
 public class FlatpackDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the flatpack data format. This is
@@ -138,4 +142,32 @@ public class FlatpackDataFormatConfiguration
     public void setParserFactoryRef(String parserFactoryRef) {
         this.parserFactoryRef = parserFactoryRef;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (definition != null) {
+            target.accept("definition", definition);
+        }
+        if (fixed != null) {
+            target.accept("fixed", fixed);
+        }
+        if (delimiter != null) {
+            target.accept("delimiter", delimiter);
+        }
+        if (ignoreFirstRecord != null) {
+            target.accept("ignoreFirstRecord", ignoreFirstRecord);
+        }
+        if (allowShortLines != null) {
+            target.accept("allowShortLines", allowShortLines);
+        }
+        if (ignoreExtraColumns != null) {
+            target.accept("ignoreExtraColumns", ignoreExtraColumns);
+        }
+        if (textQualifier != null) {
+            target.accept("textQualifier", textQualifier);
+        }
+        if (parserFactoryRef != null) {
+            target.accept("parserFactoryRef", parserFactoryRef);
+        }
+    }
 }
\ No newline at end of file
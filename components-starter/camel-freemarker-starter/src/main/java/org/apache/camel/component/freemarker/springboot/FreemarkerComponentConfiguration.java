@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.freemarker.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import freemarker.template.Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.freemarker")
 public class FreemarkerComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the freemarker component. This is
@@ -129,4 +133,26 @@ public class FreemarkerComponentConfiguration
     public void setConfiguration(Configuration configuration) {
         this.configuration = configuration;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (allowContextMapAll != null) {
+            target.accept("allowContextMapAll", allowContextMapAll);
+        }
+        if (allowTemplateFromHeader != null) {
+            target.accept("allowTemplateFromHeader", allowTemplateFromHeader);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (localizedLookup != null) {
+            target.accept("localizedLookup", localizedLookup);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+    }
 }
\ No newline at end of file
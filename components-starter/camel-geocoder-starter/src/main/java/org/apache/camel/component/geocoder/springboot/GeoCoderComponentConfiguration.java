@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.geocoder.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import com.google.maps.GeoApiContext;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.geocoder")
 public class GeoCoderComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the geocoder component. This is
@@ -87,4 +91,17 @@ public class GeoCoderComponentConfiguration
     public void setGeoApiContext(GeoApiContext geoApiContext) {
         this.geoApiContext = geoApiContext;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (geoApiContext != null) {
+            target.accept("geoApiContext", geoApiContext);
+        }
+    }
 }
\ No newline at end of file
@@ -17,10 +17,12 @@
 package org.apache.camel.component.google.calendar.stream.springboot;
 
 import java.util.List;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.google.calendar.GoogleCalendarClientFactory;
 import org.apache.camel.component.google.calendar.stream.GoogleCalendarStreamConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.google-calendar-stream")
 public class GoogleCalendarStreamComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the google-calendar-stream
@@ -315,4 +319,71 @@ public class GoogleCalendarStreamComponentConfiguration
     public void setUser(String user) {
         this.user = user;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (applicationName != null) {
+            target.accept("applicationName", applicationName);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (calendarId != null) {
+            target.accept("calendarId", calendarId);
+        }
+        if (clientId != null) {
+            target.accept("clientId", clientId);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (considerLastUpdate != null) {
+            target.accept("considerLastUpdate", considerLastUpdate);
+        }
+        if (consumeFromNow != null) {
+            target.accept("consumeFromNow", consumeFromNow);
+        }
+        if (delegate != null) {
+            target.accept("delegate", delegate);
+        }
+        if (maxResults != null) {
+            target.accept("maxResults", maxResults);
+        }
+        if (query != null) {
+            target.accept("query", query);
+        }
+        if (scopes != null) {
+            target.accept("scopes", scopes);
+        }
+        if (syncFlow != null) {
+            target.accept("syncFlow", syncFlow);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (clientFactory != null) {
+            target.accept("clientFactory", clientFactory);
+        }
+        if (accessToken != null) {
+            target.accept("accessToken", accessToken);
+        }
+        if (clientSecret != null) {
+            target.accept("clientSecret", clientSecret);
+        }
+        if (emailAddress != null) {
+            target.accept("emailAddress", emailAddress);
+        }
+        if (p12FileName != null) {
+            target.accept("p12FileName", p12FileName);
+        }
+        if (refreshToken != null) {
+            target.accept("refreshToken", refreshToken);
+        }
+        if (serviceAccountKey != null) {
+            target.accept("serviceAccountKey", serviceAccountKey);
+        }
+        if (user != null) {
+            target.accept("user", user);
+        }
+    }
 }
\ No newline at end of file
@@ -17,10 +17,12 @@
 package org.apache.camel.component.google.drive.springboot;
 
 import java.util.List;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.google.drive.GoogleDriveClientFactory;
 import org.apache.camel.component.google.drive.GoogleDriveConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.google-drive")
 public class GoogleDriveComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the google-drive component. This
@@ -221,4 +225,47 @@ public class GoogleDriveComponentConfiguration
     public void setServiceAccountKey(String serviceAccountKey) {
         this.serviceAccountKey = serviceAccountKey;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (applicationName != null) {
+            target.accept("applicationName", applicationName);
+        }
+        if (clientId != null) {
+            target.accept("clientId", clientId);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (delegate != null) {
+            target.accept("delegate", delegate);
+        }
+        if (scopes != null) {
+            target.accept("scopes", scopes);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (clientFactory != null) {
+            target.accept("clientFactory", clientFactory);
+        }
+        if (accessToken != null) {
+            target.accept("accessToken", accessToken);
+        }
+        if (clientSecret != null) {
+            target.accept("clientSecret", clientSecret);
+        }
+        if (refreshToken != null) {
+            target.accept("refreshToken", refreshToken);
+        }
+        if (serviceAccountKey != null) {
+            target.accept("serviceAccountKey", serviceAccountKey);
+        }
+    }
 }
\ No newline at end of file
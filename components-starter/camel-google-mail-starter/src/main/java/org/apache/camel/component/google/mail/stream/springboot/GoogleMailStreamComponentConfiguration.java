@@ -17,10 +17,12 @@
 package org.apache.camel.component.google.mail.stream.springboot;
 
 import java.util.List;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.google.mail.GoogleMailClientFactory;
 import org.apache.camel.component.google.mail.stream.GoogleMailStreamConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.google-mail-stream")
 public class GoogleMailStreamComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the google-mail-stream component.
@@ -246,4 +250,56 @@ public class GoogleMailStreamComponentConfiguration
     public void setServiceAccountKey(String serviceAccountKey) {
         this.serviceAccountKey = serviceAccountKey;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (applicationName != null) {
+            target.accept("applicationName", applicationName);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (clientId != null) {
+            target.accept("clientId", clientId);
+        }
+        if (delegate != null) {
+            target.accept("delegate", delegate);
+        }
+        if (labels != null) {
+            target.accept("labels", labels);
+        }
+        if (markAsRead != null) {
+            target.accept("markAsRead", markAsRead);
+        }
+        if (maxResults != null) {
+            target.accept("maxResults", maxResults);
+        }
+        if (query != null) {
+            target.accept("query", query);
+        }
+        if (scopes != null) {
+            target.accept("scopes", scopes);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (clientFactory != null) {
+            target.accept("clientFactory", clientFactory);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (accessToken != null) {
+            target.accept("accessToken", accessToken);
+        }
+        if (clientSecret != null) {
+            target.accept("clientSecret", clientSecret);
+        }
+        if (refreshToken != null) {
+            target.accept("refreshToken", refreshToken);
+        }
+        if (serviceAccountKey != null) {
+            target.accept("serviceAccountKey", serviceAccountKey);
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.component.google.pubsub.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.google-pubsub")
 public class GooglePubsubComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the google-pubsub component. This
@@ -182,4 +186,38 @@ public class GooglePubsubComponentConfiguration
             Integer publisherTerminationTimeout) {
         this.publisherTerminationTimeout = publisherTerminationTimeout;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (authenticate != null) {
+            target.accept("authenticate", authenticate);
+        }
+        if (endpoint != null) {
+            target.accept("endpoint", endpoint);
+        }
+        if (serviceAccountKey != null) {
+            target.accept("serviceAccountKey", serviceAccountKey);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (synchronousPullRetryableCodes != null) {
+            target.accept("synchronousPullRetryableCodes", synchronousPullRetryableCodes);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (publisherCacheSize != null) {
+            target.accept("publisherCacheSize", publisherCacheSize);
+        }
+        if (publisherCacheTimeout != null) {
+            target.accept("publisherCacheTimeout", publisherCacheTimeout);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (publisherTerminationTimeout != null) {
+            target.accept("publisherTerminationTimeout", publisherTerminationTimeout);
+        }
+    }
 }
\ No newline at end of file
@@ -16,12 +16,14 @@
  */
 package org.apache.camel.component.google.storage.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageClass;
 import org.apache.camel.component.google.storage.GoogleCloudStorageConfiguration;
 import org.apache.camel.component.google.storage.GoogleCloudStorageOperations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -34,7 +36,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.google-storage")
 public class GoogleCloudStorageComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the google-storage component.
@@ -297,4 +301,62 @@ public class GoogleCloudStorageComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (autoCreateBucket != null) {
+            target.accept("autoCreateBucket", autoCreateBucket);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (serviceAccountKey != null) {
+            target.accept("serviceAccountKey", serviceAccountKey);
+        }
+        if (storageClass != null) {
+            target.accept("storageClass", storageClass);
+        }
+        if (storageClient != null) {
+            target.accept("storageClient", storageClient);
+        }
+        if (storageLocation != null) {
+            target.accept("storageLocation", storageLocation);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (deleteAfterRead != null) {
+            target.accept("deleteAfterRead", deleteAfterRead);
+        }
+        if (destinationBucket != null) {
+            target.accept("destinationBucket", destinationBucket);
+        }
+        if (downloadFileName != null) {
+            target.accept("downloadFileName", downloadFileName);
+        }
+        if (filter != null) {
+            target.accept("filter", filter);
+        }
+        if (includeBody != null) {
+            target.accept("includeBody", includeBody);
+        }
+        if (includeFolders != null) {
+            target.accept("includeFolders", includeFolders);
+        }
+        if (moveAfterRead != null) {
+            target.accept("moveAfterRead", moveAfterRead);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (objectName != null) {
+            target.accept("objectName", objectName);
+        }
+        if (operation != null) {
+            target.accept("operation", operation);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.component.grok.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.grok")
 public class GrokDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the grok data format. This is
@@ -88,4 +92,20 @@ public class GrokDataFormatConfiguration
     public void setNamedOnly(Boolean namedOnly) {
         this.namedOnly = namedOnly;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (pattern != null) {
+            target.accept("pattern", pattern);
+        }
+        if (flattened != null) {
+            target.accept("flattened", flattened);
+        }
+        if (allowMultipleMatchesPerLine != null) {
+            target.accept("allowMultipleMatchesPerLine", allowMultipleMatchesPerLine);
+        }
+        if (namedOnly != null) {
+            target.accept("namedOnly", namedOnly);
+        }
+    }
 }
\ No newline at end of file
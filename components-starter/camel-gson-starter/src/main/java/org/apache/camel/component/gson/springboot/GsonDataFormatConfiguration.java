@@ -16,8 +16,10 @@
  */
 package org.apache.camel.component.gson.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.gson")
 public class GsonDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the gson data format. This is
@@ -75,4 +79,17 @@ public class GsonDataFormatConfiguration
     public void setContentTypeHeader(Boolean contentTypeHeader) {
         this.contentTypeHeader = contentTypeHeader;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (prettyPrint != null) {
+            target.accept("prettyPrint", prettyPrint);
+        }
+        if (unmarshalType != null) {
+            target.accept("unmarshalType", unmarshalType);
+        }
+        if (contentTypeHeader != null) {
+            target.accept("contentTypeHeader", contentTypeHeader);
+        }
+    }
 }
\ No newline at end of file
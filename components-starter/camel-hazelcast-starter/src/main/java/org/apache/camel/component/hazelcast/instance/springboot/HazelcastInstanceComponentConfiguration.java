@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.hazelcast.instance.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import com.hazelcast.core.HazelcastInstance;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.hazelcast-instance")
 public class HazelcastInstanceComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the hazelcast-instance component.
@@ -99,4 +103,20 @@ public class HazelcastInstanceComponentConfiguration
     public void setHazelcastMode(String hazelcastMode) {
         this.hazelcastMode = hazelcastMode;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (hazelcastInstance != null) {
+            target.accept("hazelcastInstance", hazelcastInstance);
+        }
+        if (hazelcastMode != null) {
+            target.accept("hazelcastMode", hazelcastMode);
+        }
+    }
 }
\ No newline at end of file
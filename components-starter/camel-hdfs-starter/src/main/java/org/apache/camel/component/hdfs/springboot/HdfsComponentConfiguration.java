@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.hdfs.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import javax.security.auth.login.Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.hdfs")
 public class HdfsComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the hdfs component. This is
@@ -118,4 +122,23 @@ public class HdfsComponentConfiguration
     public void setKerberosConfigFile(String kerberosConfigFile) {
         this.kerberosConfigFile = kerberosConfigFile;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (jAASConfiguration != null) {
+            target.accept("jAASConfiguration", jAASConfiguration);
+        }
+        if (kerberosConfigFile != null) {
+            target.accept("kerberosConfigFile", kerberosConfigFile);
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.component.hl7.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.hl7")
 public class HL7DataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the hl7 data format. This is
@@ -49,4 +53,11 @@ public class HL7DataFormatConfiguration
     public void setValidate(Boolean validate) {
         this.validate = validate;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (validate != null) {
+            target.accept("validate", validate);
+        }
+    }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.http.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import javax.net.ssl.HostnameVerifier;
 import org.apache.camel.component.http.HttpClientConfigurer;
@@ -23,6 +24,7 @@ import org.apache.camel.http.common.HttpBinding;
 import org.apache.camel.http.common.HttpConfiguration;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.apache.http.client.CookieStore;
 import org.apache.http.conn.HttpClientConnectionManager;
@@ -38,7 +40,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.http")
 public class HttpComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the http component. This is
@@ -580,4 +584,125 @@ public class HttpComponentConfiguration
     public void setSocketTimeout(Integer socketTimeout) {
         this.socketTimeout = socketTimeout;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (cookieStore != null) {
+            target.accept("cookieStore", cookieStore);
+        }
+        if (copyHeaders != null) {
+            target.accept("copyHeaders", copyHeaders);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (responsePayloadStreamingThreshold != null) {
+            target.accept("responsePayloadStreamingThreshold", responsePayloadStreamingThreshold);
+        }
+        if (followRedirects != null) {
+            target.accept("followRedirects", followRedirects);
+        }
+        if (skipRequestHeaders != null) {
+            target.accept("skipRequestHeaders", skipRequestHeaders);
+        }
+        if (skipResponseHeaders != null) {
+            target.accept("skipResponseHeaders", skipResponseHeaders);
+        }
+        if (allowJavaSerializedObject != null) {
+            target.accept("allowJavaSerializedObject", allowJavaSerializedObject);
+        }
+        if (authCachingDisabled != null) {
+            target.accept("authCachingDisabled", authCachingDisabled);
+        }
+        if (automaticRetriesDisabled != null) {
+            target.accept("automaticRetriesDisabled", automaticRetriesDisabled);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (clientConnectionManager != null) {
+            target.accept("clientConnectionManager", clientConnectionManager);
+        }
+        if (connectionsPerRoute != null) {
+            target.accept("connectionsPerRoute", connectionsPerRoute);
+        }
+        if (connectionStateDisabled != null) {
+            target.accept("connectionStateDisabled", connectionStateDisabled);
+        }
+        if (connectionTimeToLive != null) {
+            target.accept("connectionTimeToLive", connectionTimeToLive);
+        }
+        if (contentCompressionDisabled != null) {
+            target.accept("contentCompressionDisabled", contentCompressionDisabled);
+        }
+        if (cookieManagementDisabled != null) {
+            target.accept("cookieManagementDisabled", cookieManagementDisabled);
+        }
+        if (defaultUserAgentDisabled != null) {
+            target.accept("defaultUserAgentDisabled", defaultUserAgentDisabled);
+        }
+        if (httpBinding != null) {
+            target.accept("httpBinding", httpBinding);
+        }
+        if (httpClientConfigurer != null) {
+            target.accept("httpClientConfigurer", httpClientConfigurer);
+        }
+        if (httpConfiguration != null) {
+            target.accept("httpConfiguration", httpConfiguration);
+        }
+        if (httpContext != null) {
+            target.accept("httpContext", httpContext);
+        }
+        if (maxTotalConnections != null) {
+            target.accept("maxTotalConnections", maxTotalConnections);
+        }
+        if (redirectHandlingDisabled != null) {
+            target.accept("redirectHandlingDisabled", redirectHandlingDisabled);
+        }
+        if (headerFilterStrategy != null) {
+            target.accept("headerFilterStrategy", headerFilterStrategy);
+        }
+        if (proxyAuthDomain != null) {
+            target.accept("proxyAuthDomain", proxyAuthDomain);
+        }
+        if (proxyAuthHost != null) {
+            target.accept("proxyAuthHost", proxyAuthHost);
+        }
+        if (proxyAuthMethod != null) {
+            target.accept("proxyAuthMethod", proxyAuthMethod);
+        }
+        if (proxyAuthNtHost != null) {
+            target.accept("proxyAuthNtHost", proxyAuthNtHost);
+        }
+        if (proxyAuthPassword != null) {
+            target.accept("proxyAuthPassword", proxyAuthPassword);
+        }
+        if (proxyAuthPort != null) {
+            target.accept("proxyAuthPort", proxyAuthPort);
+        }
+        if (proxyAuthScheme != null) {
+            target.accept("proxyAuthScheme", proxyAuthScheme);
+        }
+        if (proxyAuthUsername != null) {
+            target.accept("proxyAuthUsername", proxyAuthUsername);
+        }
+        if (sslContextParameters != null) {
+            target.accept("sslContextParameters", sslContextParameters);
+        }
+        if (useGlobalSslContextParameters != null) {
+            target.accept("useGlobalSslContextParameters", useGlobalSslContextParameters);
+        }
+        if (x509HostnameVerifier != null) {
+            target.accept("x509HostnameVerifier", x509HostnameVerifier);
+        }
+        if (connectionRequestTimeout != null) {
+            target.accept("connectionRequestTimeout", connectionRequestTimeout);
+        }
+        if (connectTimeout != null) {
+            target.accept("connectTimeout", connectTimeout);
+        }
+        if (socketTimeout != null) {
+            target.accept("socketTimeout", socketTimeout);
+        }
+    }
 }
\ No newline at end of file
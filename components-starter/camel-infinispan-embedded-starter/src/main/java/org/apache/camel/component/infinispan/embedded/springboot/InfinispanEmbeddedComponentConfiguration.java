@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.infinispan.embedded.springboot;
 
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import javax.annotation.Generated;
 import org.apache.camel.component.infinispan.InfinispanOperation;
@@ -24,6 +25,7 @@ import org.apache.camel.component.infinispan.embedded.InfinispanEmbeddedComponen
 import org.apache.camel.component.infinispan.embedded.InfinispanEmbeddedConfiguration;
 import org.apache.camel.component.infinispan.embedded.InfinispanEmbeddedCustomListener;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.infinispan.configuration.cache.Configuration;
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -37,7 +39,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.infinispan-embedded")
 public class InfinispanEmbeddedComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the infinispan-embedded
@@ -328,4 +332,68 @@ public class InfinispanEmbeddedComponentConfiguration
     public void setResultHeader(String resultHeader) {
         this.resultHeader = resultHeader;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (queryBuilder != null) {
+            target.accept("queryBuilder", queryBuilder);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (clusteredListener != null) {
+            target.accept("clusteredListener", clusteredListener);
+        }
+        if (customListener != null) {
+            target.accept("customListener", customListener);
+        }
+        if (eventTypes != null) {
+            target.accept("eventTypes", eventTypes);
+        }
+        if (sync != null) {
+            target.accept("sync", sync);
+        }
+        if (defaultValue != null) {
+            target.accept("defaultValue", defaultValue);
+        }
+        if (key != null) {
+            target.accept("key", key);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (oldValue != null) {
+            target.accept("oldValue", oldValue);
+        }
+        if (operation != null) {
+            target.accept("operation", operation);
+        }
+        if (value != null) {
+            target.accept("value", value);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (cacheContainer != null) {
+            target.accept("cacheContainer", cacheContainer);
+        }
+        if (cacheContainerConfiguration != null) {
+            target.accept("cacheContainerConfiguration", cacheContainerConfiguration);
+        }
+        if (configurationUri != null) {
+            target.accept("configurationUri", configurationUri);
+        }
+        if (flags != null) {
+            target.accept("flags", flags);
+        }
+        if (remappingFunction != null) {
+            target.accept("remappingFunction", remappingFunction);
+        }
+        if (resultHeader != null) {
+            target.accept("resultHeader", resultHeader);
+        }
+    }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@
 package org.apache.camel.component.infinispan.remote.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import javax.annotation.Generated;
 import org.apache.camel.component.infinispan.InfinispanOperation;
@@ -25,6 +26,7 @@ import org.apache.camel.component.infinispan.remote.InfinispanRemoteComponent;
 import org.apache.camel.component.infinispan.remote.InfinispanRemoteConfiguration;
 import org.apache.camel.component.infinispan.remote.InfinispanRemoteCustomListener;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.infinispan.client.hotrod.RemoteCacheManager;
 import org.infinispan.client.hotrod.configuration.Configuration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -38,7 +40,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.infinispan")
 public class InfinispanRemoteComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the infinispan component. This is
@@ -398,4 +402,86 @@ public class InfinispanRemoteComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (hosts != null) {
+            target.accept("hosts", hosts);
+        }
+        if (queryBuilder != null) {
+            target.accept("queryBuilder", queryBuilder);
+        }
+        if (secure != null) {
+            target.accept("secure", secure);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (customListener != null) {
+            target.accept("customListener", customListener);
+        }
+        if (eventTypes != null) {
+            target.accept("eventTypes", eventTypes);
+        }
+        if (defaultValue != null) {
+            target.accept("defaultValue", defaultValue);
+        }
+        if (key != null) {
+            target.accept("key", key);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (oldValue != null) {
+            target.accept("oldValue", oldValue);
+        }
+        if (operation != null) {
+            target.accept("operation", operation);
+        }
+        if (value != null) {
+            target.accept("value", value);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (cacheContainer != null) {
+            target.accept("cacheContainer", cacheContainer);
+        }
+        if (cacheContainerConfiguration != null) {
+            target.accept("cacheContainerConfiguration", cacheContainerConfiguration);
+        }
+        if (configurationProperties != null) {
+            target.accept("configurationProperties", configurationProperties);
+        }
+        if (configurationUri != null) {
+            target.accept("configurationUri", configurationUri);
+        }
+        if (flags != null) {
+            target.accept("flags", flags);
+        }
+        if (remappingFunction != null) {
+            target.accept("remappingFunction", remappingFunction);
+        }
+        if (resultHeader != null) {
+            target.accept("resultHeader", resultHeader);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+        if (saslMechanism != null) {
+            target.accept("saslMechanism", saslMechanism);
+        }
+        if (securityRealm != null) {
+            target.accept("securityRealm", securityRealm);
+        }
+        if (securityServerName != null) {
+            target.accept("securityServerName", securityServerName);
+        }
+        if (username != null) {
+            target.accept("username", username);
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.component.jackson.avro.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.avro-jackson")
 public class JacksonAvroDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the avroJackson data format. This
@@ -281,4 +285,62 @@ public class JacksonAvroDataFormatConfiguration
     public void setAutoDiscoverSchemaResolver(Boolean autoDiscoverSchemaResolver) {
         this.autoDiscoverSchemaResolver = autoDiscoverSchemaResolver;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (objectMapper != null) {
+            target.accept("objectMapper", objectMapper);
+        }
+        if (useDefaultObjectMapper != null) {
+            target.accept("useDefaultObjectMapper", useDefaultObjectMapper);
+        }
+        if (unmarshalType != null) {
+            target.accept("unmarshalType", unmarshalType);
+        }
+        if (jsonView != null) {
+            target.accept("jsonView", jsonView);
+        }
+        if (include != null) {
+            target.accept("include", include);
+        }
+        if (allowJmsType != null) {
+            target.accept("allowJmsType", allowJmsType);
+        }
+        if (collectionType != null) {
+            target.accept("collectionType", collectionType);
+        }
+        if (useList != null) {
+            target.accept("useList", useList);
+        }
+        if (moduleClassNames != null) {
+            target.accept("moduleClassNames", moduleClassNames);
+        }
+        if (moduleRefs != null) {
+            target.accept("moduleRefs", moduleRefs);
+        }
+        if (enableFeatures != null) {
+            target.accept("enableFeatures", enableFeatures);
+        }
+        if (disableFeatures != null) {
+            target.accept("disableFeatures", disableFeatures);
+        }
+        if (allowUnmarshallType != null) {
+            target.accept("allowUnmarshallType", allowUnmarshallType);
+        }
+        if (timezone != null) {
+            target.accept("timezone", timezone);
+        }
+        if (autoDiscoverObjectMapper != null) {
+            target.accept("autoDiscoverObjectMapper", autoDiscoverObjectMapper);
+        }
+        if (contentTypeHeader != null) {
+            target.accept("contentTypeHeader", contentTypeHeader);
+        }
+        if (schemaResolver != null) {
+            target.accept("schemaResolver", schemaResolver);
+        }
+        if (autoDiscoverSchemaResolver != null) {
+            target.accept("autoDiscoverSchemaResolver", autoDiscoverSchemaResolver);
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.component.jackson.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.jackson")
 public class JacksonDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the jackson data format. This is
@@ -309,4 +313,68 @@ public class JacksonDataFormatConfiguration
     public void setContentTypeHeader(Boolean contentTypeHeader) {
         this.contentTypeHeader = contentTypeHeader;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (objectMapper != null) {
+            target.accept("objectMapper", objectMapper);
+        }
+        if (useDefaultObjectMapper != null) {
+            target.accept("useDefaultObjectMapper", useDefaultObjectMapper);
+        }
+        if (autoDiscoverObjectMapper != null) {
+            target.accept("autoDiscoverObjectMapper", autoDiscoverObjectMapper);
+        }
+        if (prettyPrint != null) {
+            target.accept("prettyPrint", prettyPrint);
+        }
+        if (unmarshalType != null) {
+            target.accept("unmarshalType", unmarshalType);
+        }
+        if (jsonView != null) {
+            target.accept("jsonView", jsonView);
+        }
+        if (include != null) {
+            target.accept("include", include);
+        }
+        if (allowJmsType != null) {
+            target.accept("allowJmsType", allowJmsType);
+        }
+        if (collectionType != null) {
+            target.accept("collectionType", collectionType);
+        }
+        if (useList != null) {
+            target.accept("useList", useList);
+        }
+        if (moduleClassNames != null) {
+            target.accept("moduleClassNames", moduleClassNames);
+        }
+        if (moduleRefs != null) {
+            target.accept("moduleRefs", moduleRefs);
+        }
+        if (enableFeatures != null) {
+            target.accept("enableFeatures", enableFeatures);
+        }
+        if (disableFeatures != null) {
+            target.accept("disableFeatures", disableFeatures);
+        }
+        if (allowUnmarshallType != null) {
+            target.accept("allowUnmarshallType", allowUnmarshallType);
+        }
+        if (timezone != null) {
+            target.accept("timezone", timezone);
+        }
+        if (schemaResolver != null) {
+            target.accept("schemaResolver", schemaResolver);
+        }
+        if (autoDiscoverSchemaResolver != null) {
+            target.accept("autoDiscoverSchemaResolver", autoDiscoverSchemaResolver);
+        }
+        if (namingStrategy != null) {
+            target.accept("namingStrategy", namingStrategy);
+        }
+        if (contentTypeHeader != null) {
+            target.accept("contentTypeHeader", contentTypeHeader);
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.component.jacksonxml.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.jackson-xml")
 public class JacksonXMLDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the jacksonXml data format. This
@@ -257,4 +261,56 @@ public class JacksonXMLDataFormatConfiguration
     public void setContentTypeHeader(Boolean contentTypeHeader) {
         this.contentTypeHeader = contentTypeHeader;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (xmlMapper != null) {
+            target.accept("xmlMapper", xmlMapper);
+        }
+        if (prettyPrint != null) {
+            target.accept("prettyPrint", prettyPrint);
+        }
+        if (unmarshalType != null) {
+            target.accept("unmarshalType", unmarshalType);
+        }
+        if (allowUnmarshallType != null) {
+            target.accept("allowUnmarshallType", allowUnmarshallType);
+        }
+        if (jsonView != null) {
+            target.accept("jsonView", jsonView);
+        }
+        if (include != null) {
+            target.accept("include", include);
+        }
+        if (allowJmsType != null) {
+            target.accept("allowJmsType", allowJmsType);
+        }
+        if (collectionType != null) {
+            target.accept("collectionType", collectionType);
+        }
+        if (useList != null) {
+            target.accept("useList", useList);
+        }
+        if (timezone != null) {
+            target.accept("timezone", timezone);
+        }
+        if (enableJaxbAnnotationModule != null) {
+            target.accept("enableJaxbAnnotationModule", enableJaxbAnnotationModule);
+        }
+        if (moduleClassNames != null) {
+            target.accept("moduleClassNames", moduleClassNames);
+        }
+        if (moduleRefs != null) {
+            target.accept("moduleRefs", moduleRefs);
+        }
+        if (enableFeatures != null) {
+            target.accept("enableFeatures", enableFeatures);
+        }
+        if (disableFeatures != null) {
+            target.accept("disableFeatures", disableFeatures);
+        }
+        if (contentTypeHeader != null) {
+            target.accept("contentTypeHeader", contentTypeHeader);
+        }
+    }
 }
\ No newline at end of file
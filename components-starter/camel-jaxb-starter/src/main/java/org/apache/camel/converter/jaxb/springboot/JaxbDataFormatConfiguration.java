@@ -16,8 +16,10 @@
  */
 package org.apache.camel.converter.jaxb.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.jaxb")
 public class JaxbDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the jaxb data format. This is
@@ -293,4 +297,65 @@ public class JaxbDataFormatConfiguration
     public void setContentTypeHeader(Boolean contentTypeHeader) {
         this.contentTypeHeader = contentTypeHeader;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (contextPath != null) {
+            target.accept("contextPath", contextPath);
+        }
+        if (contextPathIsClassName != null) {
+            target.accept("contextPathIsClassName", contextPathIsClassName);
+        }
+        if (schema != null) {
+            target.accept("schema", schema);
+        }
+        if (schemaSeverityLevel != null) {
+            target.accept("schemaSeverityLevel", schemaSeverityLevel);
+        }
+        if (prettyPrint != null) {
+            target.accept("prettyPrint", prettyPrint);
+        }
+        if (objectFactory != null) {
+            target.accept("objectFactory", objectFactory);
+        }
+        if (ignoreJAXBElement != null) {
+            target.accept("ignoreJAXBElement", ignoreJAXBElement);
+        }
+        if (mustBeJAXBElement != null) {
+            target.accept("mustBeJAXBElement", mustBeJAXBElement);
+        }
+        if (filterNonXmlChars != null) {
+            target.accept("filterNonXmlChars", filterNonXmlChars);
+        }
+        if (encoding != null) {
+            target.accept("encoding", encoding);
+        }
+        if (fragment != null) {
+            target.accept("fragment", fragment);
+        }
+        if (partClass != null) {
+            target.accept("partClass", partClass);
+        }
+        if (partNamespace != null) {
+            target.accept("partNamespace", partNamespace);
+        }
+        if (namespacePrefixRef != null) {
+            target.accept("namespacePrefixRef", namespacePrefixRef);
+        }
+        if (xmlStreamWriterWrapper != null) {
+            target.accept("xmlStreamWriterWrapper", xmlStreamWriterWrapper);
+        }
+        if (schemaLocation != null) {
+            target.accept("schemaLocation", schemaLocation);
+        }
+        if (noNamespaceSchemaLocation != null) {
+            target.accept("noNamespaceSchemaLocation", noNamespaceSchemaLocation);
+        }
+        if (jaxbProviderProperties != null) {
+            target.accept("jaxbProviderProperties", jaxbProviderProperties);
+        }
+        if (contentTypeHeader != null) {
+            target.accept("contentTypeHeader", contentTypeHeader);
+        }
+    }
 }
\ No newline at end of file
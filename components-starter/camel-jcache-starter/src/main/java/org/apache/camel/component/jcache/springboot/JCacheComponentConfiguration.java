@@ -17,9 +17,11 @@
 package org.apache.camel.component.jcache.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import javax.cache.configuration.Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.jcache")
 public class JCacheComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the jcache component. This is
@@ -154,4 +158,32 @@ public class JCacheComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (cacheConfiguration != null) {
+            target.accept("cacheConfiguration", cacheConfiguration);
+        }
+        if (cacheConfigurationProperties != null) {
+            target.accept("cacheConfigurationProperties", cacheConfigurationProperties);
+        }
+        if (cacheConfigurationPropertiesRef != null) {
+            target.accept("cacheConfigurationPropertiesRef", cacheConfigurationPropertiesRef);
+        }
+        if (cachingProvider != null) {
+            target.accept("cachingProvider", cachingProvider);
+        }
+        if (configurationUri != null) {
+            target.accept("configurationUri", configurationUri);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+    }
 }
\ No newline at end of file
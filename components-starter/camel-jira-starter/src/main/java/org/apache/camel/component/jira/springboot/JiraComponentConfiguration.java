@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.jira.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.jira.JiraConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.jira")
 public class JiraComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the jira component. This is
@@ -206,4 +210,44 @@ public class JiraComponentConfiguration
     public void setVerificationCode(String verificationCode) {
         this.verificationCode = verificationCode;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (delay != null) {
+            target.accept("delay", delay);
+        }
+        if (jiraUrl != null) {
+            target.accept("jiraUrl", jiraUrl);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (accessToken != null) {
+            target.accept("accessToken", accessToken);
+        }
+        if (consumerKey != null) {
+            target.accept("consumerKey", consumerKey);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+        if (privateKey != null) {
+            target.accept("privateKey", privateKey);
+        }
+        if (username != null) {
+            target.accept("username", username);
+        }
+        if (verificationCode != null) {
+            target.accept("verificationCode", verificationCode);
+        }
+    }
 }
\ No newline at end of file
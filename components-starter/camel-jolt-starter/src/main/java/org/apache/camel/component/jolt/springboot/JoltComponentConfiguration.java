@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.jolt.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import com.bazaarvoice.jolt.Transform;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.jolt")
 public class JoltComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the jolt component. This is
@@ -102,4 +106,20 @@ public class JoltComponentConfiguration
     public void setTransform(Transform transform) {
         this.transform = transform;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (allowTemplateFromHeader != null) {
+            target.accept("allowTemplateFromHeader", allowTemplateFromHeader);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (transform != null) {
+            target.accept("transform", transform);
+        }
+    }
 }
\ No newline at end of file
@@ -17,10 +17,12 @@
 package org.apache.camel.component.jpa.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import javax.persistence.EntityManagerFactory;
 import org.apache.camel.component.jpa.TransactionStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.transaction.PlatformTransactionManager;
 
@@ -34,7 +36,9 @@ import org.springframework.transaction.PlatformTransactionManager;
 @ConfigurationProperties(prefix = "camel.component.jpa")
 public class JpaComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the jpa component. This is
@@ -180,4 +184,35 @@ public class JpaComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (aliases != null) {
+            target.accept("aliases", aliases);
+        }
+        if (entityManagerFactory != null) {
+            target.accept("entityManagerFactory", entityManagerFactory);
+        }
+        if (joinTransaction != null) {
+            target.accept("joinTransaction", joinTransaction);
+        }
+        if (sharedEntityManager != null) {
+            target.accept("sharedEntityManager", sharedEntityManager);
+        }
+        if (transactionManager != null) {
+            target.accept("transactionManager", transactionManager);
+        }
+        if (transactionStrategy != null) {
+            target.accept("transactionStrategy", transactionStrategy);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+    }
 }
\ No newline at end of file
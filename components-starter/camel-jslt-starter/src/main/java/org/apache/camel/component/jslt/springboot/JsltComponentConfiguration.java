@@ -17,10 +17,12 @@
 package org.apache.camel.component.jslt.springboot;
 
 import java.util.Collection;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import com.schibsted.spt.data.jslt.Function;
 import com.schibsted.spt.data.jslt.filters.JsonFilter;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.jslt")
 public class JsltComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the jslt component. This is
@@ -115,4 +119,23 @@ public class JsltComponentConfiguration
     public void setObjectFilter(JsonFilter objectFilter) {
         this.objectFilter = objectFilter;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (allowTemplateFromHeader != null) {
+            target.accept("allowTemplateFromHeader", allowTemplateFromHeader);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (functions != null) {
+            target.accept("functions", functions);
+        }
+        if (objectFilter != null) {
+            target.accept("objectFilter", objectFilter);
+        }
+    }
 }
\ No newline at end of file
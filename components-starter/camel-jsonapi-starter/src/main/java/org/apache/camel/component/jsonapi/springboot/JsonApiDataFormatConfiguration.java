@@ -16,8 +16,10 @@
  */
 package org.apache.camel.component.jsonapi.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.json-api")
 public class JsonApiDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the jsonApi data format. This is
@@ -60,4 +64,14 @@ public class JsonApiDataFormatConfiguration
     public void setMainFormatType(Class<Object> mainFormatType) {
         this.mainFormatType = mainFormatType;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (dataFormatTypes != null) {
+            target.accept("dataFormatTypes", dataFormatTypes);
+        }
+        if (mainFormatType != null) {
+            target.accept("mainFormatType", mainFormatType);
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.jsonpath.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.LanguageConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.language.jsonpath")
 public class JsonPathLanguageConfiguration
         extends
-            LanguageConfigurationPropertiesCommon {
+            LanguageConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the jsonpath language. This is
@@ -149,4 +153,35 @@ public class JsonPathLanguageConfiguration
     public void setTrim(Boolean trim) {
         this.trim = trim;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (suppressExceptions != null) {
+            target.accept("suppressExceptions", suppressExceptions);
+        }
+        if (allowSimple != null) {
+            target.accept("allowSimple", allowSimple);
+        }
+        if (allowEasyPredicate != null) {
+            target.accept("allowEasyPredicate", allowEasyPredicate);
+        }
+        if (writeAsString != null) {
+            target.accept("writeAsString", writeAsString);
+        }
+        if (unpackArray != null) {
+            target.accept("unpackArray", unpackArray);
+        }
+        if (option != null) {
+            target.accept("option", option);
+        }
+        if (headerName != null) {
+            target.accept("headerName", headerName);
+        }
+        if (propertyName != null) {
+            target.accept("propertyName", propertyName);
+        }
+        if (trim != null) {
+            target.accept("trim", trim);
+        }
+    }
 }
\ No newline at end of file
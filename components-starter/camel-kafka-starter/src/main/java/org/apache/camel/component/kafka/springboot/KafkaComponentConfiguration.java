@@ -18,6 +18,7 @@ package org.apache.camel.component.kafka.springboot;
 
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.kafka.KafkaClientFactory;
 import org.apache.camel.component.kafka.KafkaComponent;
@@ -31,6 +32,7 @@ import org.apache.camel.component.kafka.serde.KafkaHeaderSerializer;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spi.StateRepository;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -43,7 +45,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.kafka")
 public class KafkaComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the kafka component. This is
@@ -1696,4 +1700,332 @@ public class KafkaComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (additionalProperties != null) {
+            target.accept("additionalProperties", additionalProperties);
+        }
+        if (brokers != null) {
+            target.accept("brokers", brokers);
+        }
+        if (clientId != null) {
+            target.accept("clientId", clientId);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (headerFilterStrategy != null) {
+            target.accept("headerFilterStrategy", headerFilterStrategy);
+        }
+        if (reconnectBackoffMaxMs != null) {
+            target.accept("reconnectBackoffMaxMs", reconnectBackoffMaxMs);
+        }
+        if (shutdownTimeout != null) {
+            target.accept("shutdownTimeout", shutdownTimeout);
+        }
+        if (allowManualCommit != null) {
+            target.accept("allowManualCommit", allowManualCommit);
+        }
+        if (autoCommitEnable != null) {
+            target.accept("autoCommitEnable", autoCommitEnable);
+        }
+        if (autoCommitIntervalMs != null) {
+            target.accept("autoCommitIntervalMs", autoCommitIntervalMs);
+        }
+        if (autoOffsetReset != null) {
+            target.accept("autoOffsetReset", autoOffsetReset);
+        }
+        if (breakOnFirstError != null) {
+            target.accept("breakOnFirstError", breakOnFirstError);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (checkCrcs != null) {
+            target.accept("checkCrcs", checkCrcs);
+        }
+        if (commitTimeoutMs != null) {
+            target.accept("commitTimeoutMs", commitTimeoutMs);
+        }
+        if (consumerRequestTimeoutMs != null) {
+            target.accept("consumerRequestTimeoutMs", consumerRequestTimeoutMs);
+        }
+        if (consumersCount != null) {
+            target.accept("consumersCount", consumersCount);
+        }
+        if (fetchMaxBytes != null) {
+            target.accept("fetchMaxBytes", fetchMaxBytes);
+        }
+        if (fetchMinBytes != null) {
+            target.accept("fetchMinBytes", fetchMinBytes);
+        }
+        if (fetchWaitMaxMs != null) {
+            target.accept("fetchWaitMaxMs", fetchWaitMaxMs);
+        }
+        if (groupId != null) {
+            target.accept("groupId", groupId);
+        }
+        if (groupInstanceId != null) {
+            target.accept("groupInstanceId", groupInstanceId);
+        }
+        if (headerDeserializer != null) {
+            target.accept("headerDeserializer", headerDeserializer);
+        }
+        if (heartbeatIntervalMs != null) {
+            target.accept("heartbeatIntervalMs", heartbeatIntervalMs);
+        }
+        if (keyDeserializer != null) {
+            target.accept("keyDeserializer", keyDeserializer);
+        }
+        if (maxPartitionFetchBytes != null) {
+            target.accept("maxPartitionFetchBytes", maxPartitionFetchBytes);
+        }
+        if (maxPollIntervalMs != null) {
+            target.accept("maxPollIntervalMs", maxPollIntervalMs);
+        }
+        if (maxPollRecords != null) {
+            target.accept("maxPollRecords", maxPollRecords);
+        }
+        if (offsetRepository != null) {
+            target.accept("offsetRepository", offsetRepository);
+        }
+        if (partitionAssignor != null) {
+            target.accept("partitionAssignor", partitionAssignor);
+        }
+        if (pollOnError != null) {
+            target.accept("pollOnError", pollOnError);
+        }
+        if (pollTimeoutMs != null) {
+            target.accept("pollTimeoutMs", pollTimeoutMs);
+        }
+        if (seekTo != null) {
+            target.accept("seekTo", seekTo);
+        }
+        if (sessionTimeoutMs != null) {
+            target.accept("sessionTimeoutMs", sessionTimeoutMs);
+        }
+        if (specificAvroReader != null) {
+            target.accept("specificAvroReader", specificAvroReader);
+        }
+        if (topicIsPattern != null) {
+            target.accept("topicIsPattern", topicIsPattern);
+        }
+        if (valueDeserializer != null) {
+            target.accept("valueDeserializer", valueDeserializer);
+        }
+        if (createConsumerBackoffInterval != null) {
+            target.accept("createConsumerBackoffInterval", createConsumerBackoffInterval);
+        }
+        if (createConsumerBackoffMaxAttempts != null) {
+            target.accept("createConsumerBackoffMaxAttempts", createConsumerBackoffMaxAttempts);
+        }
+        if (isolationLevel != null) {
+            target.accept("isolationLevel", isolationLevel);
+        }
+        if (kafkaManualCommitFactory != null) {
+            target.accept("kafkaManualCommitFactory", kafkaManualCommitFactory);
+        }
+        if (pollExceptionStrategy != null) {
+            target.accept("pollExceptionStrategy", pollExceptionStrategy);
+        }
+        if (subscribeConsumerBackoffInterval != null) {
+            target.accept("subscribeConsumerBackoffInterval", subscribeConsumerBackoffInterval);
+        }
+        if (subscribeConsumerBackoffMaxAttempts != null) {
+            target.accept("subscribeConsumerBackoffMaxAttempts", subscribeConsumerBackoffMaxAttempts);
+        }
+        if (batchWithIndividualHeaders != null) {
+            target.accept("batchWithIndividualHeaders", batchWithIndividualHeaders);
+        }
+        if (bufferMemorySize != null) {
+            target.accept("bufferMemorySize", bufferMemorySize);
+        }
+        if (compressionCodec != null) {
+            target.accept("compressionCodec", compressionCodec);
+        }
+        if (connectionMaxIdleMs != null) {
+            target.accept("connectionMaxIdleMs", connectionMaxIdleMs);
+        }
+        if (deliveryTimeoutMs != null) {
+            target.accept("deliveryTimeoutMs", deliveryTimeoutMs);
+        }
+        if (enableIdempotence != null) {
+            target.accept("enableIdempotence", enableIdempotence);
+        }
+        if (headerSerializer != null) {
+            target.accept("headerSerializer", headerSerializer);
+        }
+        if (key != null) {
+            target.accept("key", key);
+        }
+        if (keySerializer != null) {
+            target.accept("keySerializer", keySerializer);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (lingerMs != null) {
+            target.accept("lingerMs", lingerMs);
+        }
+        if (maxBlockMs != null) {
+            target.accept("maxBlockMs", maxBlockMs);
+        }
+        if (maxInFlightRequest != null) {
+            target.accept("maxInFlightRequest", maxInFlightRequest);
+        }
+        if (maxRequestSize != null) {
+            target.accept("maxRequestSize", maxRequestSize);
+        }
+        if (metadataMaxAgeMs != null) {
+            target.accept("metadataMaxAgeMs", metadataMaxAgeMs);
+        }
+        if (metricReporters != null) {
+            target.accept("metricReporters", metricReporters);
+        }
+        if (metricsSampleWindowMs != null) {
+            target.accept("metricsSampleWindowMs", metricsSampleWindowMs);
+        }
+        if (noOfMetricsSample != null) {
+            target.accept("noOfMetricsSample", noOfMetricsSample);
+        }
+        if (partitioner != null) {
+            target.accept("partitioner", partitioner);
+        }
+        if (partitionKey != null) {
+            target.accept("partitionKey", partitionKey);
+        }
+        if (producerBatchSize != null) {
+            target.accept("producerBatchSize", producerBatchSize);
+        }
+        if (queueBufferingMaxMessages != null) {
+            target.accept("queueBufferingMaxMessages", queueBufferingMaxMessages);
+        }
+        if (receiveBufferBytes != null) {
+            target.accept("receiveBufferBytes", receiveBufferBytes);
+        }
+        if (reconnectBackoffMs != null) {
+            target.accept("reconnectBackoffMs", reconnectBackoffMs);
+        }
+        if (recordMetadata != null) {
+            target.accept("recordMetadata", recordMetadata);
+        }
+        if (requestRequiredAcks != null) {
+            target.accept("requestRequiredAcks", requestRequiredAcks);
+        }
+        if (requestTimeoutMs != null) {
+            target.accept("requestTimeoutMs", requestTimeoutMs);
+        }
+        if (retries != null) {
+            target.accept("retries", retries);
+        }
+        if (retryBackoffMs != null) {
+            target.accept("retryBackoffMs", retryBackoffMs);
+        }
+        if (sendBufferBytes != null) {
+            target.accept("sendBufferBytes", sendBufferBytes);
+        }
+        if (valueSerializer != null) {
+            target.accept("valueSerializer", valueSerializer);
+        }
+        if (workerPool != null) {
+            target.accept("workerPool", workerPool);
+        }
+        if (workerPoolCoreSize != null) {
+            target.accept("workerPoolCoreSize", workerPoolCoreSize);
+        }
+        if (workerPoolMaxSize != null) {
+            target.accept("workerPoolMaxSize", workerPoolMaxSize);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (kafkaClientFactory != null) {
+            target.accept("kafkaClientFactory", kafkaClientFactory);
+        }
+        if (synchronous != null) {
+            target.accept("synchronous", synchronous);
+        }
+        if (schemaRegistryURL != null) {
+            target.accept("schemaRegistryURL", schemaRegistryURL);
+        }
+        if (interceptorClasses != null) {
+            target.accept("interceptorClasses", interceptorClasses);
+        }
+        if (kerberosBeforeReloginMinTime != null) {
+            target.accept("kerberosBeforeReloginMinTime", kerberosBeforeReloginMinTime);
+        }
+        if (kerberosInitCmd != null) {
+            target.accept("kerberosInitCmd", kerberosInitCmd);
+        }
+        if (kerberosPrincipalToLocalRules != null) {
+            target.accept("kerberosPrincipalToLocalRules", kerberosPrincipalToLocalRules);
+        }
+        if (kerberosRenewJitter != null) {
+            target.accept("kerberosRenewJitter", kerberosRenewJitter);
+        }
+        if (kerberosRenewWindowFactor != null) {
+            target.accept("kerberosRenewWindowFactor", kerberosRenewWindowFactor);
+        }
+        if (saslJaasConfig != null) {
+            target.accept("saslJaasConfig", saslJaasConfig);
+        }
+        if (saslKerberosServiceName != null) {
+            target.accept("saslKerberosServiceName", saslKerberosServiceName);
+        }
+        if (saslMechanism != null) {
+            target.accept("saslMechanism", saslMechanism);
+        }
+        if (securityProtocol != null) {
+            target.accept("securityProtocol", securityProtocol);
+        }
+        if (sslCipherSuites != null) {
+            target.accept("sslCipherSuites", sslCipherSuites);
+        }
+        if (sslContextParameters != null) {
+            target.accept("sslContextParameters", sslContextParameters);
+        }
+        if (sslEnabledProtocols != null) {
+            target.accept("sslEnabledProtocols", sslEnabledProtocols);
+        }
+        if (sslEndpointAlgorithm != null) {
+            target.accept("sslEndpointAlgorithm", sslEndpointAlgorithm);
+        }
+        if (sslKeymanagerAlgorithm != null) {
+            target.accept("sslKeymanagerAlgorithm", sslKeymanagerAlgorithm);
+        }
+        if (sslKeyPassword != null) {
+            target.accept("sslKeyPassword", sslKeyPassword);
+        }
+        if (sslKeystoreLocation != null) {
+            target.accept("sslKeystoreLocation", sslKeystoreLocation);
+        }
+        if (sslKeystorePassword != null) {
+            target.accept("sslKeystorePassword", sslKeystorePassword);
+        }
+        if (sslKeystoreType != null) {
+            target.accept("sslKeystoreType", sslKeystoreType);
+        }
+        if (sslProtocol != null) {
+            target.accept("sslProtocol", sslProtocol);
+        }
+        if (sslProvider != null) {
+            target.accept("sslProvider", sslProvider);
+        }
+        if (sslTrustmanagerAlgorithm != null) {
+            target.accept("sslTrustmanagerAlgorithm", sslTrustmanagerAlgorithm);
+        }
+        if (sslTruststoreLocation != null) {
+            target.accept("sslTruststoreLocation", sslTruststoreLocation);
+        }
+        if (sslTruststorePassword != null) {
+            target.accept("sslTruststorePassword", sslTruststorePassword);
+        }
+        if (sslTruststoreType != null) {
+            target.accept("sslTruststoreType", sslTruststoreType);
+        }
+        if (useGlobalSslContextParameters != null) {
+            target.accept("useGlobalSslContextParameters", useGlobalSslContextParameters);
+        }
+    }
 }
\ No newline at end of file
@@ -18,9 +18,11 @@ package org.apache.camel.component.kamelet.springboot;
 
 import java.util.Map;
 import java.util.Properties;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spi.RouteTemplateLoaderListener;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.kamelet")
 public class KameletComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the kamelet component. This is
@@ -170,4 +174,35 @@ public class KameletComponentConfiguration
             RouteTemplateLoaderListener routeTemplateLoaderListener) {
         this.routeTemplateLoaderListener = routeTemplateLoaderListener;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (location != null) {
+            target.accept("location", location);
+        }
+        if (routeProperties != null) {
+            target.accept("routeProperties", routeProperties);
+        }
+        if (templateProperties != null) {
+            target.accept("templateProperties", templateProperties);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (block != null) {
+            target.accept("block", block);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (timeout != null) {
+            target.accept("timeout", timeout);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (routeTemplateLoaderListener != null) {
+            target.accept("routeTemplateLoaderListener", routeTemplateLoaderListener);
+        }
+    }
 }
\ No newline at end of file
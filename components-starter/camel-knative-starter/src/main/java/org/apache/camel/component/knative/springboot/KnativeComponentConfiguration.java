@@ -17,12 +17,14 @@
 package org.apache.camel.component.knative.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.knative.KnativeConfiguration;
 import org.apache.camel.component.knative.spi.KnativeConsumerFactory;
 import org.apache.camel.component.knative.spi.KnativeEnvironment;
 import org.apache.camel.component.knative.spi.KnativeProducerFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -34,7 +36,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.knative")
 public class KnativeComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the knative component. This is
@@ -295,4 +299,65 @@ public class KnativeComponentConfiguration
     public void setName(String name) {
         this.name = name;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (ceOverride != null) {
+            target.accept("ceOverride", ceOverride);
+        }
+        if (cloudEventsSpecVersion != null) {
+            target.accept("cloudEventsSpecVersion", cloudEventsSpecVersion);
+        }
+        if (cloudEventsType != null) {
+            target.accept("cloudEventsType", cloudEventsType);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (consumerFactory != null) {
+            target.accept("consumerFactory", consumerFactory);
+        }
+        if (environment != null) {
+            target.accept("environment", environment);
+        }
+        if (environmentPath != null) {
+            target.accept("environmentPath", environmentPath);
+        }
+        if (filters != null) {
+            target.accept("filters", filters);
+        }
+        if (producerFactory != null) {
+            target.accept("producerFactory", producerFactory);
+        }
+        if (transportOptions != null) {
+            target.accept("transportOptions", transportOptions);
+        }
+        if (typeId != null) {
+            target.accept("typeId", typeId);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (replyWithCloudEvent != null) {
+            target.accept("replyWithCloudEvent", replyWithCloudEvent);
+        }
+        if (reply != null) {
+            target.accept("reply", reply);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (apiVersion != null) {
+            target.accept("apiVersion", apiVersion);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (kind != null) {
+            target.accept("kind", kind);
+        }
+        if (name != null) {
+            target.accept("name", name);
+        }
+    }
 }
\ No newline at end of file
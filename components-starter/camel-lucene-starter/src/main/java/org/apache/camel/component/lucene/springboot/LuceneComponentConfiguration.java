@@ -17,9 +17,11 @@
 package org.apache.camel.component.lucene.springboot;
 
 import java.io.File;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.lucene.LuceneConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.lucene.analysis.Analyzer;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -32,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.lucene")
 public class LuceneComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the lucene component. This is
@@ -143,4 +147,29 @@ public class LuceneComponentConfiguration
     public void setConfig(LuceneConfiguration config) {
         this.config = config;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (analyzer != null) {
+            target.accept("analyzer", analyzer);
+        }
+        if (indexDir != null) {
+            target.accept("indexDir", indexDir);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (maxHits != null) {
+            target.accept("maxHits", maxHits);
+        }
+        if (srcDir != null) {
+            target.accept("srcDir", srcDir);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (config != null) {
+            target.accept("config", config);
+        }
+    }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@
 package org.apache.camel.component.mail.springboot;
 
 import java.util.Properties;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import javax.mail.Session;
 import org.apache.camel.component.mail.AttachmentsContentTransferEncodingResolver;
@@ -26,6 +27,7 @@ import org.apache.camel.component.mail.MailAuthenticator;
 import org.apache.camel.component.mail.MailConfiguration;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -38,7 +40,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.mail")
 public class MailComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the mail component. This is
@@ -704,4 +708,146 @@ public class MailComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (closeFolder != null) {
+            target.accept("closeFolder", closeFolder);
+        }
+        if (copyTo != null) {
+            target.accept("copyTo", copyTo);
+        }
+        if (decodeFilename != null) {
+            target.accept("decodeFilename", decodeFilename);
+        }
+        if (delete != null) {
+            target.accept("delete", delete);
+        }
+        if (disconnect != null) {
+            target.accept("disconnect", disconnect);
+        }
+        if (handleFailedMessage != null) {
+            target.accept("handleFailedMessage", handleFailedMessage);
+        }
+        if (mimeDecodeHeaders != null) {
+            target.accept("mimeDecodeHeaders", mimeDecodeHeaders);
+        }
+        if (moveTo != null) {
+            target.accept("moveTo", moveTo);
+        }
+        if (peek != null) {
+            target.accept("peek", peek);
+        }
+        if (skipFailedMessage != null) {
+            target.accept("skipFailedMessage", skipFailedMessage);
+        }
+        if (unseen != null) {
+            target.accept("unseen", unseen);
+        }
+        if (failOnDuplicateFileAttachment != null) {
+            target.accept("failOnDuplicateFileAttachment", failOnDuplicateFileAttachment);
+        }
+        if (fetchSize != null) {
+            target.accept("fetchSize", fetchSize);
+        }
+        if (folderName != null) {
+            target.accept("folderName", folderName);
+        }
+        if (generateMissingAttachmentNames != null) {
+            target.accept("generateMissingAttachmentNames", generateMissingAttachmentNames);
+        }
+        if (handleDuplicateAttachmentNames != null) {
+            target.accept("handleDuplicateAttachmentNames", handleDuplicateAttachmentNames);
+        }
+        if (mapMailMessage != null) {
+            target.accept("mapMailMessage", mapMailMessage);
+        }
+        if (bcc != null) {
+            target.accept("bcc", bcc);
+        }
+        if (cc != null) {
+            target.accept("cc", cc);
+        }
+        if (from != null) {
+            target.accept("from", from);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (replyTo != null) {
+            target.accept("replyTo", replyTo);
+        }
+        if (subject != null) {
+            target.accept("subject", subject);
+        }
+        if (to != null) {
+            target.accept("to", to);
+        }
+        if (javaMailSender != null) {
+            target.accept("javaMailSender", javaMailSender);
+        }
+        if (additionalJavaMailProperties != null) {
+            target.accept("additionalJavaMailProperties", additionalJavaMailProperties);
+        }
+        if (alternativeBodyHeader != null) {
+            target.accept("alternativeBodyHeader", alternativeBodyHeader);
+        }
+        if (attachmentsContentTransferEncodingResolver != null) {
+            target.accept("attachmentsContentTransferEncodingResolver", attachmentsContentTransferEncodingResolver);
+        }
+        if (authenticator != null) {
+            target.accept("authenticator", authenticator);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (connectionTimeout != null) {
+            target.accept("connectionTimeout", connectionTimeout);
+        }
+        if (contentType != null) {
+            target.accept("contentType", contentType);
+        }
+        if (contentTypeResolver != null) {
+            target.accept("contentTypeResolver", contentTypeResolver);
+        }
+        if (debugMode != null) {
+            target.accept("debugMode", debugMode);
+        }
+        if (ignoreUnsupportedCharset != null) {
+            target.accept("ignoreUnsupportedCharset", ignoreUnsupportedCharset);
+        }
+        if (ignoreUriScheme != null) {
+            target.accept("ignoreUriScheme", ignoreUriScheme);
+        }
+        if (javaMailProperties != null) {
+            target.accept("javaMailProperties", javaMailProperties);
+        }
+        if (session != null) {
+            target.accept("session", session);
+        }
+        if (useInlineAttachments != null) {
+            target.accept("useInlineAttachments", useInlineAttachments);
+        }
+        if (headerFilterStrategy != null) {
+            target.accept("headerFilterStrategy", headerFilterStrategy);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+        if (sslContextParameters != null) {
+            target.accept("sslContextParameters", sslContextParameters);
+        }
+        if (useGlobalSslContextParameters != null) {
+            target.accept("useGlobalSslContextParameters", useGlobalSslContextParameters);
+        }
+        if (username != null) {
+            target.accept("username", username);
+        }
+    }
 }
\ No newline at end of file
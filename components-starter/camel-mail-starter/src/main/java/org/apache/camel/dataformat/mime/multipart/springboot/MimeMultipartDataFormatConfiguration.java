@@ -16,8 +16,10 @@
  */
 package org.apache.camel.dataformat.mime.multipart.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.mime-multipart")
 public class MimeMultipartDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the mimeMultipart data format.
@@ -102,4 +106,23 @@ public class MimeMultipartDataFormatConfiguration
     public void setBinaryContent(Boolean binaryContent) {
         this.binaryContent = binaryContent;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (multipartSubType != null) {
+            target.accept("multipartSubType", multipartSubType);
+        }
+        if (multipartWithoutAttachment != null) {
+            target.accept("multipartWithoutAttachment", multipartWithoutAttachment);
+        }
+        if (headersInline != null) {
+            target.accept("headersInline", headersInline);
+        }
+        if (includeHeaders != null) {
+            target.accept("includeHeaders", includeHeaders);
+        }
+        if (binaryContent != null) {
+            target.accept("binaryContent", binaryContent);
+        }
+    }
 }
\ No newline at end of file
@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.mapstruct.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.mapstruct.MapStructMapperFinder;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.mapstruct")
 public class MapstructComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the mapstruct component. This is
@@ -100,4 +104,20 @@ public class MapstructComponentConfiguration
     public void setMapStructConverter(MapStructMapperFinder mapStructConverter) {
         this.mapStructConverter = mapStructConverter;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (mapperPackageName != null) {
+            target.accept("mapperPackageName", mapperPackageName);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (mapStructConverter != null) {
+            target.accept("mapStructConverter", mapStructConverter);
+        }
+    }
 }
\ No newline at end of file
@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.micrometer.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.micrometer")
 public class MicrometerComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the micrometer component. This is
@@ -87,4 +91,17 @@ public class MicrometerComponentConfiguration
     public void setMetricsRegistry(MeterRegistry metricsRegistry) {
         this.metricsRegistry = metricsRegistry;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (metricsRegistry != null) {
+            target.accept("metricsRegistry", metricsRegistry);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.micrometer.springboot.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.camel.spring.boot.CachingBeanRepository;
+
+/**
+ * Captures metrics on the cache of the beans Camel looks up from the Spring application context: the number of
+ * lookups served from the cache, the number of lookups which had to look up the beans, and the size of the cache.
+ */
+public class CamelBeanRepositoryCacheMetrics implements MeterBinder {
+
+    private final CachingBeanRepository cache;
+
+    public CamelBeanRepositoryCacheMetrics(CachingBeanRepository cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("camel.bean.repository.cache.hits", cache, CachingBeanRepository::getHits)
+                .description("The number of bean lookups served from the cache")
+                .register(registry);
+        FunctionCounter.builder("camel.bean.repository.cache.misses", cache, CachingBeanRepository::getMisses)
+                .description("The number of bean lookups which had to look up the beans from the application context")
+                .register(registry);
+        Gauge.builder("camel.bean.repository.cache.size", cache, CachingBeanRepository::getSize)
+                .description("The number of cached bean lookups")
+                .register(registry);
+    }
+
+}
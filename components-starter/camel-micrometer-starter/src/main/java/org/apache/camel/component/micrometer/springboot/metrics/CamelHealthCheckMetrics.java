@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.micrometer.springboot.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.camel.spring.boot.actuate.health.CamelHealthCheckEvaluator;
+import org.apache.camel.spring.boot.actuate.health.CamelHealthCheckIndicator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+/**
+ * Captures metrics on the evaluation of the Camel health checks: the duration of each health check, and the duration
+ * and age of the last evaluation of the health indicators, which shows how stale the reported health is.
+ * <p/>
+ * The metrics are bound when all singletons are instantiated, as the health indicators depend on the Camel context,
+ * which is configured with the meter registry.
+ */
+public class CamelHealthCheckMetrics implements SmartInitializingSingleton {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<CamelHealthCheckIndicator> indicators;
+
+    public CamelHealthCheckMetrics(ObjectProvider<MeterRegistry> meterRegistry,
+                                   ObjectProvider<CamelHealthCheckIndicator> indicators) {
+        this.meterRegistry = meterRegistry;
+        this.indicators = indicators;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            indicators.orderedStream().forEach(indicator -> bindTo(registry, indicator.getEvaluator()));
+        }
+    }
+
+    private static void bindTo(MeterRegistry registry, CamelHealthCheckEvaluator evaluator) {
+        Gauge.builder("camel.health.evaluation.age", evaluator, CamelHealthCheckEvaluator::getAge)
+                .tag("group", evaluator.getName())
+                .baseUnit("milliseconds")
+                .description("The time since the health checks were evaluated")
+                .register(registry);
+        Gauge.builder("camel.health.evaluation.duration", evaluator, CamelHealthCheckEvaluator::getDuration)
+                .tag("group", evaluator.getName())
+                .baseUnit("milliseconds")
+                .description("The time the last evaluation of the health checks took")
+                .register(registry);
+        evaluator.addListener((check, duration) -> Timer.builder("camel.health.check.duration")
+                .tag("group", evaluator.getName())
+                .tag("check", check.getId())
+                .description("The time to invoke the health check")
+                .register(registry)
+                .record(duration, TimeUnit.NANOSECONDS));
+    }
+
+}
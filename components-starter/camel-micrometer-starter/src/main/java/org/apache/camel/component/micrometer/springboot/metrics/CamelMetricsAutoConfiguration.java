@@ -23,10 +23,18 @@ import org.apache.camel.component.micrometer.eventnotifier.MicrometerRouteEventN
 import org.apache.camel.component.micrometer.messagehistory.MicrometerMessageHistoryFactory;
 import org.apache.camel.component.micrometer.routepolicy.MicrometerRoutePolicyFactory;
 import org.apache.camel.spi.ManagementStrategy;
+import org.apache.camel.spring.boot.CachingBeanRepository;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.actuate.health.CamelHealthCheckIndicator;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 
 @Conditional(ConditionalOnCamelContextAndAutoConfigurationBeans.class)
@@ -34,6 +42,21 @@ import org.springframework.context.annotation.Conditional;
 @AutoConfigureAfter({CamelAutoConfiguration.class})
 public class CamelMetricsAutoConfiguration {
 
+    @Bean
+    @ConditionalOnClass(HealthIndicator.class)
+    @ConditionalOnProperty(prefix = "camel.metrics", name = "enable-health-check-metrics", matchIfMissing = true)
+    public static CamelHealthCheckMetrics camelHealthCheckMetrics(
+            ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<CamelHealthCheckIndicator> indicators) {
+        return new CamelHealthCheckMetrics(meterRegistry, indicators);
+    }
+
+    @Bean
+    @ConditionalOnBean(CachingBeanRepository.class)
+    @ConditionalOnProperty(prefix = "camel.metrics", name = "enable-bean-repository-cache-metrics", matchIfMissing = true)
+    public CamelBeanRepositoryCacheMetrics camelBeanRepositoryCacheMetrics(CachingBeanRepository cache) {
+        return new CamelBeanRepositoryCacheMetrics(cache);
+    }
+
     public CamelMetricsAutoConfiguration(
             CamelContext camelContext, CamelMetricsConfiguration configuration, MeterRegistry meterRegistry) {
         if (meterRegistry != null) {
@@ -69,5 +92,16 @@ public class CamelMetricsAutoConfiguration {
             factory.setMeterRegistry(meterRegistry);
             camelContext.setMessageHistoryFactory(factory);
         }
+
+        if (configuration.isEnableThreadPoolMetrics()) {
+            CamelThreadPoolMetrics metrics = new CamelThreadPoolMetrics(meterRegistry);
+            if (configuration.getThreadPoolIncludePattern() != null) {
+                metrics.setIncludePatterns(configuration.getThreadPoolIncludePattern().split(","));
+            }
+            if (configuration.getThreadPoolExcludePattern() != null) {
+                metrics.setExcludePatterns(configuration.getThreadPoolExcludePattern().split(","));
+            }
+            camelContext.addLifecycleStrategy(metrics);
+        }
     }
 }
\ No newline at end of file
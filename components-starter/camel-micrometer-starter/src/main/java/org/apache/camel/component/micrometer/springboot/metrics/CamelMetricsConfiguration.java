@@ -48,6 +48,44 @@ public class CamelMetricsConfiguration {
      */
     private boolean enableRouteEventNotifier = true;
 
+    /**
+     * Set whether to enable capturing metrics on the evaluation of the Camel health checks, such as the duration
+     * of each health check and the age of the last evaluation.
+     */
+    private boolean enableHealthCheckMetrics = true;
+
+    /**
+     * Set whether to enable capturing metrics on the thread pools created by Camel, such as the size of the pool,
+     * the number of active threads, the size of the queue and the number of completed tasks.
+     */
+    private boolean enableThreadPoolMetrics = true;
+
+    /**
+     * Comma separated patterns of the thread pools to capture metrics on, which are matched against the name, the
+     * thread name and the thread pool profile of the thread pools. The name is the id of the thread pool without the
+     * identity hash code of its source, and the thread name is the uri of the endpoint for the thread pools of the
+     * consumers, such as seda. All thread pools are included by default.
+     *
+     * The pattern is matched using org.apache.camel.support.PatternHelper#matchPattern.
+     */
+    private String threadPoolIncludePattern;
+
+    /**
+     * Comma separated patterns of the thread pools to not capture metrics on, which are matched against the name, the
+     * thread name and the thread pool profile of the thread pools. The name is the id of the thread pool without the
+     * identity hash code of its source, and the thread name is the uri of the endpoint for the thread pools of the
+     * consumers, such as seda.
+     *
+     * The pattern is matched using org.apache.camel.support.PatternHelper#matchPattern.
+     */
+    private String threadPoolExcludePattern;
+
+    /**
+     * Set whether to enable capturing metrics on the cache of the beans looked up from the Spring application context,
+     * when the cache is enabled with camel.springboot.bean-repository-cache-enabled.
+     */
+    private boolean enableBeanRepositoryCacheMetrics = true;
+
     public boolean isEnableRoutePolicy() {
         return enableRoutePolicy;
     }
@@ -79,4 +117,44 @@ public class CamelMetricsConfiguration {
     public void setEnableRouteEventNotifier(boolean enableRouteEventNotifier) {
         this.enableRouteEventNotifier = enableRouteEventNotifier;
     }
+
+    public boolean isEnableThreadPoolMetrics() {
+        return enableThreadPoolMetrics;
+    }
+
+    public void setEnableThreadPoolMetrics(boolean enableThreadPoolMetrics) {
+        this.enableThreadPoolMetrics = enableThreadPoolMetrics;
+    }
+
+    public String getThreadPoolIncludePattern() {
+        return threadPoolIncludePattern;
+    }
+
+    public void setThreadPoolIncludePattern(String threadPoolIncludePattern) {
+        this.threadPoolIncludePattern = threadPoolIncludePattern;
+    }
+
+    public String getThreadPoolExcludePattern() {
+        return threadPoolExcludePattern;
+    }
+
+    public void setThreadPoolExcludePattern(String threadPoolExcludePattern) {
+        this.threadPoolExcludePattern = threadPoolExcludePattern;
+    }
+
+    public boolean isEnableHealthCheckMetrics() {
+        return enableHealthCheckMetrics;
+    }
+
+    public void setEnableHealthCheckMetrics(boolean enableHealthCheckMetrics) {
+        this.enableHealthCheckMetrics = enableHealthCheckMetrics;
+    }
+
+    public boolean isEnableBeanRepositoryCacheMetrics() {
+        return enableBeanRepositoryCacheMetrics;
+    }
+
+    public void setEnableBeanRepositoryCacheMetrics(boolean enableBeanRepositoryCacheMetrics) {
+        this.enableBeanRepositoryCacheMetrics = enableBeanRepositoryCacheMetrics;
+    }
 }
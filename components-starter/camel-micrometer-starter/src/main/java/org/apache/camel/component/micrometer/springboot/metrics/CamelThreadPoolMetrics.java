@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.micrometer.springboot.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.apache.camel.CamelContext;
+import org.apache.camel.spring.boot.threadpool.AdaptiveThreadPoolExecutor;
+import org.apache.camel.support.LifecycleStrategySupport;
+import org.apache.camel.support.PatternHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.URISupport;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Binds the Micrometer {@link ExecutorServiceMetrics} to the thread pools created by the Camel
+ * {@link org.apache.camel.spi.ExecutorServiceManager}, tagged with the name of the thread pool, the name of its
+ * threads, its source, route and thread pool profile. The meters are removed again when the thread pool is shutdown.
+ * <p/>
+ * The name of a thread pool is its id, without the identity hash code which Camel appends to the id of the thread
+ * pools created for other sources than EIPs and static services, so the name is the same when the thread pool is
+ * created again. The thread pools of such sources, for example all the seda consumers, have the same name, and are told
+ * apart by the name of their threads, which is the uri of the endpoint for the consumers. When a thread pool with the
+ * same name, thread name and profile is already bound, such as for a second consumer of the same endpoint, the
+ * identity hash code is kept in the name.
+ * <p/>
+ * The thread pools can be filtered by include and exclude patterns, which are matched against the name, the thread
+ * name and the thread pool profile of the thread pools, to keep the number of meters bounded.
+ */
+public class CamelThreadPoolMetrics extends LifecycleStrategySupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CamelThreadPoolMetrics.class);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<ThreadPoolExecutor, BoundMeters> meters = new ConcurrentHashMap<>();
+    // the camel context, name, thread name and profile of the bound thread pools
+    private final Set<List<String>> bound = ConcurrentHashMap.newKeySet();
+    private String[] includePatterns;
+    private String[] excludePatterns;
+
+    public CamelThreadPoolMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public String[] getIncludePatterns() {
+        return includePatterns;
+    }
+
+    /**
+     * Patterns of the thread pools to bind metrics to, where all thread pools are included by default.
+     */
+    public void setIncludePatterns(String[] includePatterns) {
+        this.includePatterns = includePatterns;
+    }
+
+    public String[] getExcludePatterns() {
+        return excludePatterns;
+    }
+
+    /**
+     * Patterns of the thread pools to not bind metrics to.
+     */
+    public void setExcludePatterns(String[] excludePatterns) {
+        this.excludePatterns = excludePatterns;
+    }
+
+    @Override
+    public void onThreadPoolAdd(CamelContext camelContext, ThreadPoolExecutor threadPool, String id,
+                                String sourceId, String routeId, String threadPoolProfileId) {
+        String name = getName(id);
+        String threadName = getThreadName(threadPool);
+        if (!isIncluded(name, threadName, threadPoolProfileId)) {
+            return;
+        }
+        List<String> key = Arrays.asList(camelContext.getName(), name, threadName, threadPoolProfileId);
+        if (!bound.add(key)) {
+            // keep the identity hash code, or add one if the id has none, to not clash with the bound thread pool
+            name = !id.equals(name) ? id : id + "(" + ObjectHelper.getIdentityHashCode(threadPool) + ")";
+            LOG.debug("Binding metrics to thread pool {} as {} as another thread pool with the same name is bound",
+                    id, name);
+            key = Arrays.asList(camelContext.getName(), name, threadName, threadPoolProfileId);
+            bound.add(key);
+        }
+
+        Tags tags = Tags.of(
+                Tag.of("camelContext", camelContext.getName()),
+                Tag.of("threadName", threadName),
+                Tag.of("source", sourceId != null ? sourceId : ""),
+                Tag.of("routeId", routeId != null ? routeId : ""),
+                Tag.of("threadPoolProfile", threadPoolProfileId != null ? threadPoolProfileId : ""));
+
+        // the meters are found by their tags so they can be removed when the thread pool is removed
+        new ExecutorServiceMetrics(threadPool, name, tags).bindTo(meterRegistry);
+        Tags all = tags.and("name", name);
+        if (threadPool instanceof AdaptiveThreadPoolExecutor) {
+            bindAdaptiveMetrics((AdaptiveThreadPoolExecutor) threadPool, all);
+        }
+
+        List<Meter> found = new ArrayList<>();
+        for (Meter meter : meterRegistry.getMeters()) {
+            if (all.stream().allMatch(tag -> tag.getValue().equals(meter.getId().getTag(tag.getKey())))) {
+                found.add(meter);
+            }
+        }
+        meters.put(threadPool, new BoundMeters(key, found));
+    }
+
+    @Override
+    public void onThreadPoolRemove(CamelContext camelContext, ThreadPoolExecutor threadPool) {
+        BoundMeters removed = meters.remove(threadPool);
+        if (removed != null) {
+            removed.meters.forEach(meterRegistry::remove);
+            bound.remove(removed.key);
+        }
+    }
+
+    /**
+     * The ids of the thread pools of other sources than EIPs and static services end with the identity hash code of
+     * the source, such as <tt>SedaConsumer(1234567)</tt>, which is removed.
+     */
+    static String getName(String id) {
+        if (id.endsWith(")")) {
+            int pos = id.lastIndexOf('(');
+            if (pos > 0 && pos < id.length() - 2
+                    && id.substring(pos + 1, id.length() - 1).chars().allMatch(Character::isDigit)) {
+                return id.substring(0, pos);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * The name of the threads of the thread pool, such as the uri of the endpoint for the thread pools of the consumers,
+     * where any sensitive options of the uri are masked.
+     */
+    static String getThreadName(ThreadPoolExecutor threadPool) {
+        if (threadPool.getThreadFactory() instanceof CamelThreadFactory) {
+            String name = ((CamelThreadFactory) threadPool.getThreadFactory()).getName();
+            if (name != null) {
+                return URISupport.sanitizeUri(name);
+            }
+        }
+        return "";
+    }
+
+    private void bindAdaptiveMetrics(AdaptiveThreadPoolExecutor executor, Tags tags) {
+        gauge("arrival.rate", executor, AdaptiveThreadPoolExecutor::getArrivalRate, null,
+                "The number of tasks submitted per second", tags);
+        gauge("throughput", executor, AdaptiveThreadPoolExecutor::getThroughput, null,
+                "The number of tasks completed per second", tags);
+        gauge("queue.wait", executor, AdaptiveThreadPoolExecutor::getAverageQueueWait, "milliseconds",
+                "The average time the tasks waited in the queue", tags);
+        gauge("service.time", executor, AdaptiveThreadPoolExecutor::getAverageServiceTime, "milliseconds",
+                "The average time to run the tasks", tags);
+        counter("increases", executor, AdaptiveThreadPoolExecutor::getIncreaseCount,
+                "The number of times the pool was resized to more threads", tags);
+        counter("decreases", executor, AdaptiveThreadPoolExecutor::getDecreaseCount,
+                "The number of times the pool was resized to fewer threads", tags);
+    }
+
+    private void counter(String name, AdaptiveThreadPoolExecutor executor, ToDoubleFunction<AdaptiveThreadPoolExecutor> f,
+                         String description, Tags tags) {
+        FunctionCounter.builder("camel.threadpool.adaptive." + name, executor, f)
+                .tags(tags)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    private void gauge(String name, AdaptiveThreadPoolExecutor executor, ToDoubleFunction<AdaptiveThreadPoolExecutor> f,
+                       String baseUnit, String description, Tags tags) {
+        Gauge.builder("camel.threadpool.adaptive." + name, executor, f)
+                .tags(tags)
+                .baseUnit(baseUnit)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    private boolean isIncluded(String name, String threadName, String threadPoolProfileId) {
+        if (includePatterns != null && includePatterns.length > 0
+                && !matches(includePatterns, name, threadName, threadPoolProfileId)) {
+            return false;
+        }
+        return excludePatterns == null || !matches(excludePatterns, name, threadName, threadPoolProfileId);
+    }
+
+    private static boolean matches(String[] patterns, String name, String threadName, String threadPoolProfileId) {
+        for (String pattern : patterns) {
+            if (PatternHelper.matchPattern(name, pattern)
+                    || !threadName.isEmpty() && PatternHelper.matchPattern(threadName, pattern)
+                    || threadPoolProfileId != null && PatternHelper.matchPattern(threadPoolProfileId, pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class BoundMeters {
+        private final List<String> key;
+        private final List<Meter> meters;
+
+        private BoundMeters(List<String> key, List<Meter> meters) {
+            this.key = key;
+            this.meters = meters;
+        }
+    }
+
+}
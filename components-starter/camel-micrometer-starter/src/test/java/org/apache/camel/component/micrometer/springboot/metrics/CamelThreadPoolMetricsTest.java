@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.micrometer.springboot.metrics;
+
+import java.util.concurrent.ExecutorService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CamelThreadPoolMetricsTest {
+
+    @Test
+    public void testThreadPoolMetrics() throws Exception {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CamelThreadPoolMetrics metrics = new CamelThreadPoolMetrics(registry);
+
+        try (DefaultCamelContext context = new DefaultCamelContext()) {
+            context.addLifecycleStrategy(metrics);
+            context.start();
+            ExecutorServiceManager manager = context.getExecutorServiceManager();
+
+            // the identity hash code of the source is not part of the name
+            ExecutorService pool = manager.newFixedThreadPool(new MySource(), "seda://foo", 2);
+            Assertions.assertNotNull(registry.find("executor.pool.size").tags("name", "MySource", "threadName", "seda://foo")
+                    .gauge());
+            Assertions.assertEquals(1, registry.find("executor.pool.size").gauges().size());
+
+            // the thread pools of the same source type are told apart by their thread name
+            ExecutorService other = manager.newFixedThreadPool(new MySource(), "seda://bar?password=secret", 2);
+            Assertions.assertNotNull(registry.find("executor.pool.size")
+                    .tags("name", "MySource", "threadName", "seda://bar?password=xxxxxx").gauge());
+            Assertions.assertEquals(2, registry.find("executor.pool.size").gauges().size());
+
+            // and keep the identity hash code when the thread name is the same
+            ExecutorService same = manager.newFixedThreadPool(new MySource(), "seda://foo", 2);
+            Assertions.assertEquals(3, registry.find("executor.pool.size").gauges().size());
+            Assertions.assertEquals(2, registry.find("executor.pool.size").tag("threadName", "seda://foo").gauges().size());
+            Assertions.assertEquals(1, registry.find("executor.pool.size").tag("name", "MySource")
+                    .tag("threadName", "seda://foo").gauges().size());
+
+            // the meters are removed when the thread pool is shutdown
+            manager.shutdown(pool);
+            Assertions.assertNull(registry.find("executor.pool.size").tags("name", "MySource", "threadName", "seda://foo")
+                    .gauge());
+            Assertions.assertEquals(2, registry.find("executor.pool.size").gauges().size());
+            manager.shutdown(other);
+            manager.shutdown(same);
+            Assertions.assertTrue(registry.getMeters().isEmpty());
+
+            ExecutorService again = manager.newFixedThreadPool(new MySource(), "seda://foo", 2);
+            Assertions.assertNotNull(registry.find("executor.pool.size").tags("name", "MySource", "threadName", "seda://foo")
+                    .gauge());
+            manager.shutdown(again);
+            Assertions.assertTrue(registry.getMeters().isEmpty());
+        }
+    }
+
+    @Test
+    public void testThreadPoolMetricsPatterns() throws Exception {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CamelThreadPoolMetrics metrics = new CamelThreadPoolMetrics(registry);
+        metrics.setIncludePatterns(new String[] { "my*" });
+        metrics.setExcludePatterns(new String[] { "myExcluded*" });
+
+        try (DefaultCamelContext context = new DefaultCamelContext()) {
+            context.addLifecycleStrategy(metrics);
+            context.start();
+            ExecutorServiceManager manager = context.getExecutorServiceManager();
+
+            ExecutorService included = manager.newFixedThreadPool("myIncluded", "myIncluded", 2);
+            ExecutorService excluded = manager.newFixedThreadPool("myExcluded", "myExcluded", 2);
+            ExecutorService other = manager.newFixedThreadPool("other", "other", 2);
+
+            Assertions.assertNotNull(registry.find("executor.pool.size").tag("name", "myIncluded").gauge());
+            Assertions.assertNull(registry.find("executor.pool.size").tag("name", "myExcluded").gauge());
+            Assertions.assertNull(registry.find("executor.pool.size").tag("name", "other").gauge());
+
+            // the thread name is matched as well
+            ExecutorService consumer = manager.newFixedThreadPool(new Object(), "myConsumer", 2);
+            Assertions.assertNotNull(registry.find("executor.pool.size").tag("threadName", "myConsumer").gauge());
+            manager.shutdown(consumer);
+
+            manager.shutdown(included);
+            manager.shutdown(excluded);
+            manager.shutdown(other);
+            Assertions.assertTrue(registry.getMeters().isEmpty());
+        }
+    }
+
+    @Test
+    public void testName() {
+        Assertions.assertEquals("SedaConsumer", CamelThreadPoolMetrics.getName("SedaConsumer(1234567)"));
+        Assertions.assertEquals("split1", CamelThreadPoolMetrics.getName("split1"));
+        Assertions.assertEquals("myPool()", CamelThreadPoolMetrics.getName("myPool()"));
+        Assertions.assertEquals("myPool(a1)", CamelThreadPoolMetrics.getName("myPool(a1)"));
+    }
+
+    private static final class MySource {
+    }
+
+}
@@ -16,10 +16,12 @@
  */
 package org.apache.camel.component.milo.client.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.milo.client.MiloClientConfiguration;
 import org.apache.camel.component.milo.client.MiloClientConnectionManager;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.milo-client")
 public class MiloClientComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the milo-client component. This
@@ -362,4 +366,83 @@ public class MiloClientComponentConfiguration
     public void setSessionTimeout(Long sessionTimeout) {
         this.sessionTimeout = sessionTimeout;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (clientId != null) {
+            target.accept("clientId", clientId);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (discoveryEndpointSuffix != null) {
+            target.accept("discoveryEndpointSuffix", discoveryEndpointSuffix);
+        }
+        if (discoveryEndpointUri != null) {
+            target.accept("discoveryEndpointUri", discoveryEndpointUri);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (allowedSecurityPolicies != null) {
+            target.accept("allowedSecurityPolicies", allowedSecurityPolicies);
+        }
+        if (applicationName != null) {
+            target.accept("applicationName", applicationName);
+        }
+        if (applicationUri != null) {
+            target.accept("applicationUri", applicationUri);
+        }
+        if (channelLifetime != null) {
+            target.accept("channelLifetime", channelLifetime);
+        }
+        if (keyAlias != null) {
+            target.accept("keyAlias", keyAlias);
+        }
+        if (keyPassword != null) {
+            target.accept("keyPassword", keyPassword);
+        }
+        if (keyStorePassword != null) {
+            target.accept("keyStorePassword", keyStorePassword);
+        }
+        if (keyStoreType != null) {
+            target.accept("keyStoreType", keyStoreType);
+        }
+        if (keyStoreUrl != null) {
+            target.accept("keyStoreUrl", keyStoreUrl);
+        }
+        if (maxPendingPublishRequests != null) {
+            target.accept("maxPendingPublishRequests", maxPendingPublishRequests);
+        }
+        if (maxResponseMessageSize != null) {
+            target.accept("maxResponseMessageSize", maxResponseMessageSize);
+        }
+        if (miloClientConnectionManager != null) {
+            target.accept("miloClientConnectionManager", miloClientConnectionManager);
+        }
+        if (overrideHost != null) {
+            target.accept("overrideHost", overrideHost);
+        }
+        if (productUri != null) {
+            target.accept("productUri", productUri);
+        }
+        if (requestedPublishingInterval != null) {
+            target.accept("requestedPublishingInterval", requestedPublishingInterval);
+        }
+        if (requestTimeout != null) {
+            target.accept("requestTimeout", requestTimeout);
+        }
+        if (sessionName != null) {
+            target.accept("sessionName", sessionName);
+        }
+        if (sessionTimeout != null) {
+            target.accept("sessionTimeout", sessionTimeout);
+        }
+    }
 }
\ No newline at end of file
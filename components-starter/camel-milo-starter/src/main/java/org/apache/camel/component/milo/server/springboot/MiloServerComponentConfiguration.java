@@ -18,8 +18,10 @@ package org.apache.camel.component.milo.server.springboot;
 
 import java.security.cert.X509Certificate;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.eclipse.milo.opcua.stack.core.security.CertificateManager;
 import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
 import org.eclipse.milo.opcua.stack.core.types.structured.BuildInfo;
@@ -35,7 +37,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.milo-server")
 public class MiloServerComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the milo-server component. This
@@ -312,4 +316,68 @@ public class MiloServerComponentConfiguration
             SecurityPolicy usernameSecurityPolicyUri) {
         this.usernameSecurityPolicyUri = usernameSecurityPolicyUri;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (applicationName != null) {
+            target.accept("applicationName", applicationName);
+        }
+        if (applicationUri != null) {
+            target.accept("applicationUri", applicationUri);
+        }
+        if (bindAddresses != null) {
+            target.accept("bindAddresses", bindAddresses);
+        }
+        if (buildInfo != null) {
+            target.accept("buildInfo", buildInfo);
+        }
+        if (namespaceUri != null) {
+            target.accept("namespaceUri", namespaceUri);
+        }
+        if (path != null) {
+            target.accept("path", path);
+        }
+        if (port != null) {
+            target.accept("port", port);
+        }
+        if (productUri != null) {
+            target.accept("productUri", productUri);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (certificate != null) {
+            target.accept("certificate", certificate);
+        }
+        if (certificateManager != null) {
+            target.accept("certificateManager", certificateManager);
+        }
+        if (certificateValidator != null) {
+            target.accept("certificateValidator", certificateValidator);
+        }
+        if (defaultCertificateValidator != null) {
+            target.accept("defaultCertificateValidator", defaultCertificateValidator);
+        }
+        if (enableAnonymousAuthentication != null) {
+            target.accept("enableAnonymousAuthentication", enableAnonymousAuthentication);
+        }
+        if (securityPolicies != null) {
+            target.accept("securityPolicies", securityPolicies);
+        }
+        if (securityPoliciesById != null) {
+            target.accept("securityPoliciesById", securityPoliciesById);
+        }
+        if (userAuthenticationCredentials != null) {
+            target.accept("userAuthenticationCredentials", userAuthenticationCredentials);
+        }
+        if (usernameSecurityPolicyUri != null) {
+            target.accept("usernameSecurityPolicyUri", usernameSecurityPolicyUri);
+        }
+    }
 }
\ No newline at end of file
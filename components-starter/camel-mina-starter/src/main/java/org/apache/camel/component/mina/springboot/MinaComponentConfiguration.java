@@ -17,12 +17,14 @@
 package org.apache.camel.component.mina.springboot;
 
 import java.util.List;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.component.mina.MinaComponent;
 import org.apache.camel.component.mina.MinaConfiguration;
 import org.apache.camel.component.mina.MinaTextLineDelimiter;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.apache.mina.core.filterchain.IoFilter;
 import org.apache.mina.filter.codec.ProtocolCodecFactory;
@@ -37,7 +39,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.mina")
 public class MinaComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the mina component. This is
@@ -429,4 +433,92 @@ public class MinaComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (disconnect != null) {
+            target.accept("disconnect", disconnect);
+        }
+        if (minaLogger != null) {
+            target.accept("minaLogger", minaLogger);
+        }
+        if (sync != null) {
+            target.accept("sync", sync);
+        }
+        if (timeout != null) {
+            target.accept("timeout", timeout);
+        }
+        if (writeTimeout != null) {
+            target.accept("writeTimeout", writeTimeout);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (clientMode != null) {
+            target.accept("clientMode", clientMode);
+        }
+        if (noReplyLogLevel != null) {
+            target.accept("noReplyLogLevel", noReplyLogLevel);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (cachedAddress != null) {
+            target.accept("cachedAddress", cachedAddress);
+        }
+        if (lazySessionCreation != null) {
+            target.accept("lazySessionCreation", lazySessionCreation);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (disconnectOnNoReply != null) {
+            target.accept("disconnectOnNoReply", disconnectOnNoReply);
+        }
+        if (maximumPoolSize != null) {
+            target.accept("maximumPoolSize", maximumPoolSize);
+        }
+        if (orderedThreadPoolExecutor != null) {
+            target.accept("orderedThreadPoolExecutor", orderedThreadPoolExecutor);
+        }
+        if (transferExchange != null) {
+            target.accept("transferExchange", transferExchange);
+        }
+        if (allowDefaultCodec != null) {
+            target.accept("allowDefaultCodec", allowDefaultCodec);
+        }
+        if (codec != null) {
+            target.accept("codec", codec);
+        }
+        if (decoderMaxLineLength != null) {
+            target.accept("decoderMaxLineLength", decoderMaxLineLength);
+        }
+        if (encoderMaxLineLength != null) {
+            target.accept("encoderMaxLineLength", encoderMaxLineLength);
+        }
+        if (encoding != null) {
+            target.accept("encoding", encoding);
+        }
+        if (filters != null) {
+            target.accept("filters", filters);
+        }
+        if (textline != null) {
+            target.accept("textline", textline);
+        }
+        if (textlineDelimiter != null) {
+            target.accept("textlineDelimiter", textlineDelimiter);
+        }
+        if (autoStartTls != null) {
+            target.accept("autoStartTls", autoStartTls);
+        }
+        if (sslContextParameters != null) {
+            target.accept("sslContextParameters", sslContextParameters);
+        }
+        if (useGlobalSslContextParameters != null) {
+            target.accept("useGlobalSslContextParameters", useGlobalSslContextParameters);
+        }
+    }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@
 package org.apache.camel.component.minio.springboot;
 
 import java.time.ZonedDateTime;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import io.minio.MinioClient;
 import io.minio.ServerSideEncryption;
@@ -25,6 +26,7 @@ import okhttp3.OkHttpClient;
 import org.apache.camel.component.minio.MinioConfiguration;
 import org.apache.camel.component.minio.MinioOperations;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -36,7 +38,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.minio")
 public class MinioComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the minio component. This is
@@ -667,4 +671,149 @@ public class MinioComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (autoCreateBucket != null) {
+            target.accept("autoCreateBucket", autoCreateBucket);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (customHttpClient != null) {
+            target.accept("customHttpClient", customHttpClient);
+        }
+        if (endpoint != null) {
+            target.accept("endpoint", endpoint);
+        }
+        if (minioClient != null) {
+            target.accept("minioClient", minioClient);
+        }
+        if (objectLock != null) {
+            target.accept("objectLock", objectLock);
+        }
+        if (policy != null) {
+            target.accept("policy", policy);
+        }
+        if (proxyPort != null) {
+            target.accept("proxyPort", proxyPort);
+        }
+        if (region != null) {
+            target.accept("region", region);
+        }
+        if (secure != null) {
+            target.accept("secure", secure);
+        }
+        if (serverSideEncryption != null) {
+            target.accept("serverSideEncryption", serverSideEncryption);
+        }
+        if (serverSideEncryptionCustomerKey != null) {
+            target.accept("serverSideEncryptionCustomerKey", serverSideEncryptionCustomerKey);
+        }
+        if (autoCloseBody != null) {
+            target.accept("autoCloseBody", autoCloseBody);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (bypassGovernanceMode != null) {
+            target.accept("bypassGovernanceMode", bypassGovernanceMode);
+        }
+        if (deleteAfterRead != null) {
+            target.accept("deleteAfterRead", deleteAfterRead);
+        }
+        if (delimiter != null) {
+            target.accept("delimiter", delimiter);
+        }
+        if (destinationBucketName != null) {
+            target.accept("destinationBucketName", destinationBucketName);
+        }
+        if (destinationObjectName != null) {
+            target.accept("destinationObjectName", destinationObjectName);
+        }
+        if (includeBody != null) {
+            target.accept("includeBody", includeBody);
+        }
+        if (includeFolders != null) {
+            target.accept("includeFolders", includeFolders);
+        }
+        if (includeUserMetadata != null) {
+            target.accept("includeUserMetadata", includeUserMetadata);
+        }
+        if (includeVersions != null) {
+            target.accept("includeVersions", includeVersions);
+        }
+        if (length != null) {
+            target.accept("length", length);
+        }
+        if (matchETag != null) {
+            target.accept("matchETag", matchETag);
+        }
+        if (maxConnections != null) {
+            target.accept("maxConnections", maxConnections);
+        }
+        if (maxMessagesPerPoll != null) {
+            target.accept("maxMessagesPerPoll", maxMessagesPerPoll);
+        }
+        if (modifiedSince != null) {
+            target.accept("modifiedSince", modifiedSince);
+        }
+        if (moveAfterRead != null) {
+            target.accept("moveAfterRead", moveAfterRead);
+        }
+        if (notMatchETag != null) {
+            target.accept("notMatchETag", notMatchETag);
+        }
+        if (objectName != null) {
+            target.accept("objectName", objectName);
+        }
+        if (offset != null) {
+            target.accept("offset", offset);
+        }
+        if (prefix != null) {
+            target.accept("prefix", prefix);
+        }
+        if (recursive != null) {
+            target.accept("recursive", recursive);
+        }
+        if (startAfter != null) {
+            target.accept("startAfter", startAfter);
+        }
+        if (unModifiedSince != null) {
+            target.accept("unModifiedSince", unModifiedSince);
+        }
+        if (useVersion1 != null) {
+            target.accept("useVersion1", useVersion1);
+        }
+        if (versionId != null) {
+            target.accept("versionId", versionId);
+        }
+        if (deleteAfterWrite != null) {
+            target.accept("deleteAfterWrite", deleteAfterWrite);
+        }
+        if (keyName != null) {
+            target.accept("keyName", keyName);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (operation != null) {
+            target.accept("operation", operation);
+        }
+        if (pojoRequest != null) {
+            target.accept("pojoRequest", pojoRequest);
+        }
+        if (storageClass != null) {
+            target.accept("storageClass", storageClass);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (accessKey != null) {
+            target.accept("accessKey", accessKey);
+        }
+        if (secretKey != null) {
+            target.accept("secretKey", secretKey);
+        }
+    }
 }
\ No newline at end of file
@@ -16,12 +16,14 @@
  */
 package org.apache.camel.component.mllp.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.ExchangePattern;
 import org.apache.camel.component.mllp.MllpComponent;
 import org.apache.camel.component.mllp.MllpConfiguration;
 import org.apache.camel.component.mllp.MllpIdleTimeoutStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -33,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.mllp")
 public class MllpComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the mllp component. This is
@@ -476,4 +480,104 @@ public class MllpComponentConfiguration
     public void setIdleTimeout(Integer idleTimeout) {
         this.idleTimeout = idleTimeout;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (autoAck != null) {
+            target.accept("autoAck", autoAck);
+        }
+        if (charsetName != null) {
+            target.accept("charsetName", charsetName);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (hl7Headers != null) {
+            target.accept("hl7Headers", hl7Headers);
+        }
+        if (requireEndOfData != null) {
+            target.accept("requireEndOfData", requireEndOfData);
+        }
+        if (stringPayload != null) {
+            target.accept("stringPayload", stringPayload);
+        }
+        if (validatePayload != null) {
+            target.accept("validatePayload", validatePayload);
+        }
+        if (acceptTimeout != null) {
+            target.accept("acceptTimeout", acceptTimeout);
+        }
+        if (backlog != null) {
+            target.accept("backlog", backlog);
+        }
+        if (bindRetryInterval != null) {
+            target.accept("bindRetryInterval", bindRetryInterval);
+        }
+        if (bindTimeout != null) {
+            target.accept("bindTimeout", bindTimeout);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lenientBind != null) {
+            target.accept("lenientBind", lenientBind);
+        }
+        if (maxConcurrentConsumers != null) {
+            target.accept("maxConcurrentConsumers", maxConcurrentConsumers);
+        }
+        if (reuseAddress != null) {
+            target.accept("reuseAddress", reuseAddress);
+        }
+        if (exchangePattern != null) {
+            target.accept("exchangePattern", exchangePattern);
+        }
+        if (connectTimeout != null) {
+            target.accept("connectTimeout", connectTimeout);
+        }
+        if (idleTimeoutStrategy != null) {
+            target.accept("idleTimeoutStrategy", idleTimeoutStrategy);
+        }
+        if (keepAlive != null) {
+            target.accept("keepAlive", keepAlive);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (tcpNoDelay != null) {
+            target.accept("tcpNoDelay", tcpNoDelay);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (defaultCharset != null) {
+            target.accept("defaultCharset", defaultCharset);
+        }
+        if (logPhi != null) {
+            target.accept("logPhi", logPhi);
+        }
+        if (logPhiMaxBytes != null) {
+            target.accept("logPhiMaxBytes", logPhiMaxBytes);
+        }
+        if (maxBufferSize != null) {
+            target.accept("maxBufferSize", maxBufferSize);
+        }
+        if (minBufferSize != null) {
+            target.accept("minBufferSize", minBufferSize);
+        }
+        if (readTimeout != null) {
+            target.accept("readTimeout", readTimeout);
+        }
+        if (receiveBufferSize != null) {
+            target.accept("receiveBufferSize", receiveBufferSize);
+        }
+        if (receiveTimeout != null) {
+            target.accept("receiveTimeout", receiveTimeout);
+        }
+        if (sendBufferSize != null) {
+            target.accept("sendBufferSize", sendBufferSize);
+        }
+        if (idleTimeout != null) {
+            target.accept("idleTimeout", idleTimeout);
+        }
+    }
 }
\ No newline at end of file
@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.mustache.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import com.github.mustachejava.MustacheFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.mustache")
 public class MustacheComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the mustache component. This is
@@ -117,4 +121,23 @@ public class MustacheComponentConfiguration
     public void setMustacheFactory(MustacheFactory mustacheFactory) {
         this.mustacheFactory = mustacheFactory;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (allowContextMapAll != null) {
+            target.accept("allowContextMapAll", allowContextMapAll);
+        }
+        if (allowTemplateFromHeader != null) {
+            target.accept("allowTemplateFromHeader", allowTemplateFromHeader);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (mustacheFactory != null) {
+            target.accept("mustacheFactory", mustacheFactory);
+        }
+    }
 }
\ No newline at end of file
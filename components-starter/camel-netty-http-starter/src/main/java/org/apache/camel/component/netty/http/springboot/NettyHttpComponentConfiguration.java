@@ -18,6 +18,7 @@ package org.apache.camel.component.netty.http.springboot;
 
 import java.io.File;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
@@ -34,6 +35,7 @@ import org.apache.camel.component.netty.http.NettyHttpComponent;
 import org.apache.camel.component.netty.http.NettyHttpSecurityConfiguration;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -46,7 +48,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.netty-http")
 public class NettyHttpComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the netty-http component. This is
@@ -952,4 +956,197 @@ public class NettyHttpComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (disconnect != null) {
+            target.accept("disconnect", disconnect);
+        }
+        if (keepAlive != null) {
+            target.accept("keepAlive", keepAlive);
+        }
+        if (reuseAddress != null) {
+            target.accept("reuseAddress", reuseAddress);
+        }
+        if (reuseChannel != null) {
+            target.accept("reuseChannel", reuseChannel);
+        }
+        if (sync != null) {
+            target.accept("sync", sync);
+        }
+        if (tcpNoDelay != null) {
+            target.accept("tcpNoDelay", tcpNoDelay);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (muteException != null) {
+            target.accept("muteException", muteException);
+        }
+        if (backlog != null) {
+            target.accept("backlog", backlog);
+        }
+        if (bossCount != null) {
+            target.accept("bossCount", bossCount);
+        }
+        if (bossGroup != null) {
+            target.accept("bossGroup", bossGroup);
+        }
+        if (disconnectOnNoReply != null) {
+            target.accept("disconnectOnNoReply", disconnectOnNoReply);
+        }
+        if (executorService != null) {
+            target.accept("executorService", executorService);
+        }
+        if (maximumPoolSize != null) {
+            target.accept("maximumPoolSize", maximumPoolSize);
+        }
+        if (nettyServerBootstrapFactory != null) {
+            target.accept("nettyServerBootstrapFactory", nettyServerBootstrapFactory);
+        }
+        if (noReplyLogLevel != null) {
+            target.accept("noReplyLogLevel", noReplyLogLevel);
+        }
+        if (serverClosedChannelExceptionCaughtLogLevel != null) {
+            target.accept("serverClosedChannelExceptionCaughtLogLevel", serverClosedChannelExceptionCaughtLogLevel);
+        }
+        if (serverExceptionCaughtLogLevel != null) {
+            target.accept("serverExceptionCaughtLogLevel", serverExceptionCaughtLogLevel);
+        }
+        if (serverInitializerFactory != null) {
+            target.accept("serverInitializerFactory", serverInitializerFactory);
+        }
+        if (usingExecutorService != null) {
+            target.accept("usingExecutorService", usingExecutorService);
+        }
+        if (connectTimeout != null) {
+            target.accept("connectTimeout", connectTimeout);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (requestTimeout != null) {
+            target.accept("requestTimeout", requestTimeout);
+        }
+        if (clientInitializerFactory != null) {
+            target.accept("clientInitializerFactory", clientInitializerFactory);
+        }
+        if (correlationManager != null) {
+            target.accept("correlationManager", correlationManager);
+        }
+        if (lazyChannelCreation != null) {
+            target.accept("lazyChannelCreation", lazyChannelCreation);
+        }
+        if (producerPoolEnabled != null) {
+            target.accept("producerPoolEnabled", producerPoolEnabled);
+        }
+        if (producerPoolMaxIdle != null) {
+            target.accept("producerPoolMaxIdle", producerPoolMaxIdle);
+        }
+        if (producerPoolMaxTotal != null) {
+            target.accept("producerPoolMaxTotal", producerPoolMaxTotal);
+        }
+        if (producerPoolMinEvictableIdle != null) {
+            target.accept("producerPoolMinEvictableIdle", producerPoolMinEvictableIdle);
+        }
+        if (producerPoolMinIdle != null) {
+            target.accept("producerPoolMinIdle", producerPoolMinIdle);
+        }
+        if (hostnameVerification != null) {
+            target.accept("hostnameVerification", hostnameVerification);
+        }
+        if (allowSerializedHeaders != null) {
+            target.accept("allowSerializedHeaders", allowSerializedHeaders);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (channelGroup != null) {
+            target.accept("channelGroup", channelGroup);
+        }
+        if (headerFilterStrategy != null) {
+            target.accept("headerFilterStrategy", headerFilterStrategy);
+        }
+        if (nativeTransport != null) {
+            target.accept("nativeTransport", nativeTransport);
+        }
+        if (nettyHttpBinding != null) {
+            target.accept("nettyHttpBinding", nettyHttpBinding);
+        }
+        if (options != null) {
+            target.accept("options", options);
+        }
+        if (receiveBufferSize != null) {
+            target.accept("receiveBufferSize", receiveBufferSize);
+        }
+        if (receiveBufferSizePredictor != null) {
+            target.accept("receiveBufferSizePredictor", receiveBufferSizePredictor);
+        }
+        if (sendBufferSize != null) {
+            target.accept("sendBufferSize", sendBufferSize);
+        }
+        if (transferExchange != null) {
+            target.accept("transferExchange", transferExchange);
+        }
+        if (workerCount != null) {
+            target.accept("workerCount", workerCount);
+        }
+        if (workerGroup != null) {
+            target.accept("workerGroup", workerGroup);
+        }
+        if (decoders != null) {
+            target.accept("decoders", decoders);
+        }
+        if (encoders != null) {
+            target.accept("encoders", encoders);
+        }
+        if (enabledProtocols != null) {
+            target.accept("enabledProtocols", enabledProtocols);
+        }
+        if (keyStoreFile != null) {
+            target.accept("keyStoreFile", keyStoreFile);
+        }
+        if (keyStoreFormat != null) {
+            target.accept("keyStoreFormat", keyStoreFormat);
+        }
+        if (keyStoreResource != null) {
+            target.accept("keyStoreResource", keyStoreResource);
+        }
+        if (needClientAuth != null) {
+            target.accept("needClientAuth", needClientAuth);
+        }
+        if (passphrase != null) {
+            target.accept("passphrase", passphrase);
+        }
+        if (securityConfiguration != null) {
+            target.accept("securityConfiguration", securityConfiguration);
+        }
+        if (securityProvider != null) {
+            target.accept("securityProvider", securityProvider);
+        }
+        if (ssl != null) {
+            target.accept("ssl", ssl);
+        }
+        if (sslClientCertHeaders != null) {
+            target.accept("sslClientCertHeaders", sslClientCertHeaders);
+        }
+        if (sslContextParameters != null) {
+            target.accept("sslContextParameters", sslContextParameters);
+        }
+        if (sslHandler != null) {
+            target.accept("sslHandler", sslHandler);
+        }
+        if (trustStoreFile != null) {
+            target.accept("trustStoreFile", trustStoreFile);
+        }
+        if (trustStoreResource != null) {
+            target.accept("trustStoreResource", trustStoreResource);
+        }
+        if (useGlobalSslContextParameters != null) {
+            target.accept("useGlobalSslContextParameters", useGlobalSslContextParameters);
+        }
+    }
 }
\ No newline at end of file
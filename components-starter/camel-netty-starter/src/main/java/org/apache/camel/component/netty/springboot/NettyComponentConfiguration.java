@@ -18,6 +18,7 @@ package org.apache.camel.component.netty.springboot;
 
 import java.io.File;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
@@ -32,6 +33,7 @@ import org.apache.camel.component.netty.NettyServerBootstrapFactory;
 import org.apache.camel.component.netty.ServerInitializerFactory;
 import org.apache.camel.component.netty.TextLineDelimiter;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -44,7 +46,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.netty")
 public class NettyComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the netty component. This is
@@ -1077,4 +1081,227 @@ public class NettyComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (disconnect != null) {
+            target.accept("disconnect", disconnect);
+        }
+        if (keepAlive != null) {
+            target.accept("keepAlive", keepAlive);
+        }
+        if (reuseAddress != null) {
+            target.accept("reuseAddress", reuseAddress);
+        }
+        if (reuseChannel != null) {
+            target.accept("reuseChannel", reuseChannel);
+        }
+        if (sync != null) {
+            target.accept("sync", sync);
+        }
+        if (tcpNoDelay != null) {
+            target.accept("tcpNoDelay", tcpNoDelay);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (broadcast != null) {
+            target.accept("broadcast", broadcast);
+        }
+        if (clientMode != null) {
+            target.accept("clientMode", clientMode);
+        }
+        if (reconnect != null) {
+            target.accept("reconnect", reconnect);
+        }
+        if (reconnectInterval != null) {
+            target.accept("reconnectInterval", reconnectInterval);
+        }
+        if (backlog != null) {
+            target.accept("backlog", backlog);
+        }
+        if (bossCount != null) {
+            target.accept("bossCount", bossCount);
+        }
+        if (bossGroup != null) {
+            target.accept("bossGroup", bossGroup);
+        }
+        if (disconnectOnNoReply != null) {
+            target.accept("disconnectOnNoReply", disconnectOnNoReply);
+        }
+        if (executorService != null) {
+            target.accept("executorService", executorService);
+        }
+        if (maximumPoolSize != null) {
+            target.accept("maximumPoolSize", maximumPoolSize);
+        }
+        if (nettyServerBootstrapFactory != null) {
+            target.accept("nettyServerBootstrapFactory", nettyServerBootstrapFactory);
+        }
+        if (networkInterface != null) {
+            target.accept("networkInterface", networkInterface);
+        }
+        if (noReplyLogLevel != null) {
+            target.accept("noReplyLogLevel", noReplyLogLevel);
+        }
+        if (serverClosedChannelExceptionCaughtLogLevel != null) {
+            target.accept("serverClosedChannelExceptionCaughtLogLevel", serverClosedChannelExceptionCaughtLogLevel);
+        }
+        if (serverExceptionCaughtLogLevel != null) {
+            target.accept("serverExceptionCaughtLogLevel", serverExceptionCaughtLogLevel);
+        }
+        if (serverInitializerFactory != null) {
+            target.accept("serverInitializerFactory", serverInitializerFactory);
+        }
+        if (usingExecutorService != null) {
+            target.accept("usingExecutorService", usingExecutorService);
+        }
+        if (connectTimeout != null) {
+            target.accept("connectTimeout", connectTimeout);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (requestTimeout != null) {
+            target.accept("requestTimeout", requestTimeout);
+        }
+        if (clientInitializerFactory != null) {
+            target.accept("clientInitializerFactory", clientInitializerFactory);
+        }
+        if (correlationManager != null) {
+            target.accept("correlationManager", correlationManager);
+        }
+        if (lazyChannelCreation != null) {
+            target.accept("lazyChannelCreation", lazyChannelCreation);
+        }
+        if (producerPoolEnabled != null) {
+            target.accept("producerPoolEnabled", producerPoolEnabled);
+        }
+        if (producerPoolMaxIdle != null) {
+            target.accept("producerPoolMaxIdle", producerPoolMaxIdle);
+        }
+        if (producerPoolMaxTotal != null) {
+            target.accept("producerPoolMaxTotal", producerPoolMaxTotal);
+        }
+        if (producerPoolMinEvictableIdle != null) {
+            target.accept("producerPoolMinEvictableIdle", producerPoolMinEvictableIdle);
+        }
+        if (producerPoolMinIdle != null) {
+            target.accept("producerPoolMinIdle", producerPoolMinIdle);
+        }
+        if (udpConnectionlessSending != null) {
+            target.accept("udpConnectionlessSending", udpConnectionlessSending);
+        }
+        if (useByteBuf != null) {
+            target.accept("useByteBuf", useByteBuf);
+        }
+        if (hostnameVerification != null) {
+            target.accept("hostnameVerification", hostnameVerification);
+        }
+        if (allowSerializedHeaders != null) {
+            target.accept("allowSerializedHeaders", allowSerializedHeaders);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (channelGroup != null) {
+            target.accept("channelGroup", channelGroup);
+        }
+        if (nativeTransport != null) {
+            target.accept("nativeTransport", nativeTransport);
+        }
+        if (options != null) {
+            target.accept("options", options);
+        }
+        if (receiveBufferSize != null) {
+            target.accept("receiveBufferSize", receiveBufferSize);
+        }
+        if (receiveBufferSizePredictor != null) {
+            target.accept("receiveBufferSizePredictor", receiveBufferSizePredictor);
+        }
+        if (sendBufferSize != null) {
+            target.accept("sendBufferSize", sendBufferSize);
+        }
+        if (transferExchange != null) {
+            target.accept("transferExchange", transferExchange);
+        }
+        if (udpByteArrayCodec != null) {
+            target.accept("udpByteArrayCodec", udpByteArrayCodec);
+        }
+        if (workerCount != null) {
+            target.accept("workerCount", workerCount);
+        }
+        if (workerGroup != null) {
+            target.accept("workerGroup", workerGroup);
+        }
+        if (allowDefaultCodec != null) {
+            target.accept("allowDefaultCodec", allowDefaultCodec);
+        }
+        if (autoAppendDelimiter != null) {
+            target.accept("autoAppendDelimiter", autoAppendDelimiter);
+        }
+        if (decoderMaxLineLength != null) {
+            target.accept("decoderMaxLineLength", decoderMaxLineLength);
+        }
+        if (decoders != null) {
+            target.accept("decoders", decoders);
+        }
+        if (delimiter != null) {
+            target.accept("delimiter", delimiter);
+        }
+        if (encoders != null) {
+            target.accept("encoders", encoders);
+        }
+        if (encoding != null) {
+            target.accept("encoding", encoding);
+        }
+        if (textline != null) {
+            target.accept("textline", textline);
+        }
+        if (enabledProtocols != null) {
+            target.accept("enabledProtocols", enabledProtocols);
+        }
+        if (keyStoreFile != null) {
+            target.accept("keyStoreFile", keyStoreFile);
+        }
+        if (keyStoreFormat != null) {
+            target.accept("keyStoreFormat", keyStoreFormat);
+        }
+        if (keyStoreResource != null) {
+            target.accept("keyStoreResource", keyStoreResource);
+        }
+        if (needClientAuth != null) {
+            target.accept("needClientAuth", needClientAuth);
+        }
+        if (passphrase != null) {
+            target.accept("passphrase", passphrase);
+        }
+        if (securityProvider != null) {
+            target.accept("securityProvider", securityProvider);
+        }
+        if (ssl != null) {
+            target.accept("ssl", ssl);
+        }
+        if (sslClientCertHeaders != null) {
+            target.accept("sslClientCertHeaders", sslClientCertHeaders);
+        }
+        if (sslContextParameters != null) {
+            target.accept("sslContextParameters", sslContextParameters);
+        }
+        if (sslHandler != null) {
+            target.accept("sslHandler", sslHandler);
+        }
+        if (trustStoreFile != null) {
+            target.accept("trustStoreFile", trustStoreFile);
+        }
+        if (trustStoreResource != null) {
+            target.accept("trustStoreResource", trustStoreResource);
+        }
+        if (useGlobalSslContextParameters != null) {
+            target.accept("useGlobalSslContextParameters", useGlobalSslContextParameters);
+        }
+    }
 }
\ No newline at end of file
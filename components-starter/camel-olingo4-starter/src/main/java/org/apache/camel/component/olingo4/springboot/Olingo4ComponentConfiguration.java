@@ -17,9 +17,11 @@
 package org.apache.camel.component.olingo4.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.olingo4.Olingo4Configuration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.apache.http.HttpHost;
 import org.apache.http.impl.client.HttpClientBuilder;
@@ -35,7 +37,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.olingo4")
 public class Olingo4ComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the olingo4 component. This is
@@ -272,4 +276,56 @@ public class Olingo4ComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (connectTimeout != null) {
+            target.accept("connectTimeout", connectTimeout);
+        }
+        if (contentType != null) {
+            target.accept("contentType", contentType);
+        }
+        if (filterAlreadySeen != null) {
+            target.accept("filterAlreadySeen", filterAlreadySeen);
+        }
+        if (httpHeaders != null) {
+            target.accept("httpHeaders", httpHeaders);
+        }
+        if (proxy != null) {
+            target.accept("proxy", proxy);
+        }
+        if (serviceUri != null) {
+            target.accept("serviceUri", serviceUri);
+        }
+        if (socketTimeout != null) {
+            target.accept("socketTimeout", socketTimeout);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (splitResult != null) {
+            target.accept("splitResult", splitResult);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (httpAsyncClientBuilder != null) {
+            target.accept("httpAsyncClientBuilder", httpAsyncClientBuilder);
+        }
+        if (httpClientBuilder != null) {
+            target.accept("httpClientBuilder", httpClientBuilder);
+        }
+        if (sslContextParameters != null) {
+            target.accept("sslContextParameters", sslContextParameters);
+        }
+        if (useGlobalSslContextParameters != null) {
+            target.accept("useGlobalSslContextParameters", useGlobalSslContextParameters);
+        }
+    }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@
 package org.apache.camel.component.paho.springboot;
 
 import java.util.Properties;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import javax.net.SocketFactory;
 import javax.net.ssl.HostnameVerifier;
@@ -24,6 +25,7 @@ import org.apache.camel.component.paho.PahoComponent;
 import org.apache.camel.component.paho.PahoConfiguration;
 import org.apache.camel.component.paho.PahoPersistence;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.eclipse.paho.client.mqttv3.MqttClient;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -36,7 +38,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.paho")
 public class PahoComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the paho component. This is
@@ -551,4 +555,101 @@ public class PahoComponentConfiguration
     public void setUserName(String userName) {
         this.userName = userName;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (automaticReconnect != null) {
+            target.accept("automaticReconnect", automaticReconnect);
+        }
+        if (brokerUrl != null) {
+            target.accept("brokerUrl", brokerUrl);
+        }
+        if (cleanSession != null) {
+            target.accept("cleanSession", cleanSession);
+        }
+        if (clientId != null) {
+            target.accept("clientId", clientId);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (connectionTimeout != null) {
+            target.accept("connectionTimeout", connectionTimeout);
+        }
+        if (filePersistenceDirectory != null) {
+            target.accept("filePersistenceDirectory", filePersistenceDirectory);
+        }
+        if (keepAliveInterval != null) {
+            target.accept("keepAliveInterval", keepAliveInterval);
+        }
+        if (maxInflight != null) {
+            target.accept("maxInflight", maxInflight);
+        }
+        if (maxReconnectDelay != null) {
+            target.accept("maxReconnectDelay", maxReconnectDelay);
+        }
+        if (mqttVersion != null) {
+            target.accept("mqttVersion", mqttVersion);
+        }
+        if (persistence != null) {
+            target.accept("persistence", persistence);
+        }
+        if (qos != null) {
+            target.accept("qos", qos);
+        }
+        if (retained != null) {
+            target.accept("retained", retained);
+        }
+        if (serverURIs != null) {
+            target.accept("serverURIs", serverURIs);
+        }
+        if (willPayload != null) {
+            target.accept("willPayload", willPayload);
+        }
+        if (willQos != null) {
+            target.accept("willQos", willQos);
+        }
+        if (willRetained != null) {
+            target.accept("willRetained", willRetained);
+        }
+        if (willTopic != null) {
+            target.accept("willTopic", willTopic);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (client != null) {
+            target.accept("client", client);
+        }
+        if (customWebSocketHeaders != null) {
+            target.accept("customWebSocketHeaders", customWebSocketHeaders);
+        }
+        if (executorServiceTimeout != null) {
+            target.accept("executorServiceTimeout", executorServiceTimeout);
+        }
+        if (httpsHostnameVerificationEnabled != null) {
+            target.accept("httpsHostnameVerificationEnabled", httpsHostnameVerificationEnabled);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+        if (socketFactory != null) {
+            target.accept("socketFactory", socketFactory);
+        }
+        if (sslClientProps != null) {
+            target.accept("sslClientProps", sslClientProps);
+        }
+        if (sslHostnameVerifier != null) {
+            target.accept("sslHostnameVerifier", sslHostnameVerifier);
+        }
+        if (userName != null) {
+            target.accept("userName", userName);
+        }
+    }
 }
\ No newline at end of file
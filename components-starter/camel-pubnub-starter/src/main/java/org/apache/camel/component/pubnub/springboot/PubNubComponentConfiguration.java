@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.pubnub.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.pubnub.PubNubConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.pubnub")
 public class PubNubComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the pubnub component. This is
@@ -226,4 +230,47 @@ public class PubNubComponentConfiguration
     public void setSubscribeKey(String subscribeKey) {
         this.subscribeKey = subscribeKey;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (uuid != null) {
+            target.accept("uuid", uuid);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (withPresence != null) {
+            target.accept("withPresence", withPresence);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (operation != null) {
+            target.accept("operation", operation);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (authKey != null) {
+            target.accept("authKey", authKey);
+        }
+        if (cipherKey != null) {
+            target.accept("cipherKey", cipherKey);
+        }
+        if (publishKey != null) {
+            target.accept("publishKey", publishKey);
+        }
+        if (secretKey != null) {
+            target.accept("secretKey", secretKey);
+        }
+        if (secure != null) {
+            target.accept("secure", secure);
+        }
+        if (subscribeKey != null) {
+            target.accept("subscribeKey", subscribeKey);
+        }
+    }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.pulsar.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.pulsar.PulsarComponent;
 import org.apache.camel.component.pulsar.PulsarConfiguration;
@@ -24,6 +25,7 @@ import org.apache.camel.component.pulsar.utils.AutoConfiguration;
 import org.apache.camel.component.pulsar.utils.consumers.SubscriptionInitialPosition;
 import org.apache.camel.component.pulsar.utils.consumers.SubscriptionType;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.pulsar.client.api.BatcherBuilder;
 import org.apache.pulsar.client.api.CompressionType;
 import org.apache.pulsar.client.api.MessageRouter;
@@ -43,7 +45,9 @@ import org.springframework.boot.context.properties.DeprecatedConfigurationProper
 @ConfigurationProperties(prefix = "camel.component.pulsar")
 public class PulsarComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the pulsar component. This is
@@ -632,4 +636,137 @@ public class PulsarComponentConfiguration
     public void setPulsarClient(PulsarClient pulsarClient) {
         this.pulsarClient = pulsarClient;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (authenticationClass != null) {
+            target.accept("authenticationClass", authenticationClass);
+        }
+        if (authenticationParams != null) {
+            target.accept("authenticationParams", authenticationParams);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (serviceUrl != null) {
+            target.accept("serviceUrl", serviceUrl);
+        }
+        if (ackGroupTimeMillis != null) {
+            target.accept("ackGroupTimeMillis", ackGroupTimeMillis);
+        }
+        if (ackTimeoutMillis != null) {
+            target.accept("ackTimeoutMillis", ackTimeoutMillis);
+        }
+        if (ackTimeoutRedeliveryBackoff != null) {
+            target.accept("ackTimeoutRedeliveryBackoff", ackTimeoutRedeliveryBackoff);
+        }
+        if (allowManualAcknowledgement != null) {
+            target.accept("allowManualAcknowledgement", allowManualAcknowledgement);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (consumerName != null) {
+            target.accept("consumerName", consumerName);
+        }
+        if (consumerNamePrefix != null) {
+            target.accept("consumerNamePrefix", consumerNamePrefix);
+        }
+        if (consumerQueueSize != null) {
+            target.accept("consumerQueueSize", consumerQueueSize);
+        }
+        if (deadLetterTopic != null) {
+            target.accept("deadLetterTopic", deadLetterTopic);
+        }
+        if (maxRedeliverCount != null) {
+            target.accept("maxRedeliverCount", maxRedeliverCount);
+        }
+        if (messageListener != null) {
+            target.accept("messageListener", messageListener);
+        }
+        if (negativeAckRedeliveryBackoff != null) {
+            target.accept("negativeAckRedeliveryBackoff", negativeAckRedeliveryBackoff);
+        }
+        if (negativeAckRedeliveryDelayMicros != null) {
+            target.accept("negativeAckRedeliveryDelayMicros", negativeAckRedeliveryDelayMicros);
+        }
+        if (numberOfConsumers != null) {
+            target.accept("numberOfConsumers", numberOfConsumers);
+        }
+        if (numberOfConsumerThreads != null) {
+            target.accept("numberOfConsumerThreads", numberOfConsumerThreads);
+        }
+        if (readCompacted != null) {
+            target.accept("readCompacted", readCompacted);
+        }
+        if (subscriptionInitialPosition != null) {
+            target.accept("subscriptionInitialPosition", subscriptionInitialPosition);
+        }
+        if (subscriptionName != null) {
+            target.accept("subscriptionName", subscriptionName);
+        }
+        if (subscriptionTopicsMode != null) {
+            target.accept("subscriptionTopicsMode", subscriptionTopicsMode);
+        }
+        if (subscriptionType != null) {
+            target.accept("subscriptionType", subscriptionType);
+        }
+        if (topicsPattern != null) {
+            target.accept("topicsPattern", topicsPattern);
+        }
+        if (pulsarMessageReceiptFactory != null) {
+            target.accept("pulsarMessageReceiptFactory", pulsarMessageReceiptFactory);
+        }
+        if (batcherBuilder != null) {
+            target.accept("batcherBuilder", batcherBuilder);
+        }
+        if (batchingEnabled != null) {
+            target.accept("batchingEnabled", batchingEnabled);
+        }
+        if (batchingMaxMessages != null) {
+            target.accept("batchingMaxMessages", batchingMaxMessages);
+        }
+        if (batchingMaxPublishDelayMicros != null) {
+            target.accept("batchingMaxPublishDelayMicros", batchingMaxPublishDelayMicros);
+        }
+        if (blockIfQueueFull != null) {
+            target.accept("blockIfQueueFull", blockIfQueueFull);
+        }
+        if (compressionType != null) {
+            target.accept("compressionType", compressionType);
+        }
+        if (initialSequenceId != null) {
+            target.accept("initialSequenceId", initialSequenceId);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (maxPendingMessages != null) {
+            target.accept("maxPendingMessages", maxPendingMessages);
+        }
+        if (maxPendingMessagesAcrossPartitions != null) {
+            target.accept("maxPendingMessagesAcrossPartitions", maxPendingMessagesAcrossPartitions);
+        }
+        if (messageRouter != null) {
+            target.accept("messageRouter", messageRouter);
+        }
+        if (messageRoutingMode != null) {
+            target.accept("messageRoutingMode", messageRoutingMode);
+        }
+        if (producerName != null) {
+            target.accept("producerName", producerName);
+        }
+        if (sendTimeoutMs != null) {
+            target.accept("sendTimeoutMs", sendTimeoutMs);
+        }
+        if (autoConfiguration != null) {
+            target.accept("autoConfiguration", autoConfiguration);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (pulsarClient != null) {
+            target.accept("pulsarClient", pulsarClient);
+        }
+    }
 }
\ No newline at end of file
@@ -17,8 +17,10 @@
 package org.apache.camel.component.quartz.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerFactory;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -32,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.quartz")
 public class QuartzComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the quartz component. This is
@@ -210,4 +214,44 @@ public class QuartzComponentConfiguration
     public void setInterruptJobsOnShutdown(Boolean interruptJobsOnShutdown) {
         this.interruptJobsOnShutdown = interruptJobsOnShutdown;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (enableJmx != null) {
+            target.accept("enableJmx", enableJmx);
+        }
+        if (prefixInstanceName != null) {
+            target.accept("prefixInstanceName", prefixInstanceName);
+        }
+        if (prefixJobNameWithEndpointId != null) {
+            target.accept("prefixJobNameWithEndpointId", prefixJobNameWithEndpointId);
+        }
+        if (properties != null) {
+            target.accept("properties", properties);
+        }
+        if (propertiesFile != null) {
+            target.accept("propertiesFile", propertiesFile);
+        }
+        if (propertiesRef != null) {
+            target.accept("propertiesRef", propertiesRef);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (scheduler != null) {
+            target.accept("scheduler", scheduler);
+        }
+        if (schedulerFactory != null) {
+            target.accept("schedulerFactory", schedulerFactory);
+        }
+        if (autoStartScheduler != null) {
+            target.accept("autoStartScheduler", autoStartScheduler);
+        }
+        if (interruptJobsOnShutdown != null) {
+            target.accept("interruptJobsOnShutdown", interruptJobsOnShutdown);
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.component.quickfixj.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import quickfix.LogFactory;
 import quickfix.MessageFactory;
@@ -33,7 +35,9 @@ import quickfix.MessageStoreFactory;
 @ConfigurationProperties(prefix = "camel.component.quickfix")
 public class QuickfixjComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the quickfix component. This is
@@ -160,4 +164,32 @@ public class QuickfixjComponentConfiguration
     public void setMessageStoreFactory(MessageStoreFactory messageStoreFactory) {
         this.messageStoreFactory = messageStoreFactory;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (eagerStopEngines != null) {
+            target.accept("eagerStopEngines", eagerStopEngines);
+        }
+        if (lazyCreateEngines != null) {
+            target.accept("lazyCreateEngines", lazyCreateEngines);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (logFactory != null) {
+            target.accept("logFactory", logFactory);
+        }
+        if (messageFactory != null) {
+            target.accept("messageFactory", messageFactory);
+        }
+        if (messageStoreFactory != null) {
+            target.accept("messageStoreFactory", messageStoreFactory);
+        }
+    }
 }
\ No newline at end of file
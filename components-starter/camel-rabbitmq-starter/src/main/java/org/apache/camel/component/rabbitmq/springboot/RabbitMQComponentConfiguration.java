@@ -17,11 +17,13 @@
 package org.apache.camel.component.rabbitmq.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import javax.net.ssl.TrustManager;
 import com.rabbitmq.client.ConnectionFactory;
 import com.rabbitmq.client.ExceptionHandler;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -33,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.rabbitmq")
 public class RabbitMQComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the rabbitmq component. This is
@@ -796,4 +800,176 @@ public class RabbitMQComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (addresses != null) {
+            target.accept("addresses", addresses);
+        }
+        if (autoDelete != null) {
+            target.accept("autoDelete", autoDelete);
+        }
+        if (connectionFactory != null) {
+            target.accept("connectionFactory", connectionFactory);
+        }
+        if (deadLetterExchange != null) {
+            target.accept("deadLetterExchange", deadLetterExchange);
+        }
+        if (deadLetterExchangeType != null) {
+            target.accept("deadLetterExchangeType", deadLetterExchangeType);
+        }
+        if (deadLetterQueue != null) {
+            target.accept("deadLetterQueue", deadLetterQueue);
+        }
+        if (deadLetterRoutingKey != null) {
+            target.accept("deadLetterRoutingKey", deadLetterRoutingKey);
+        }
+        if (declare != null) {
+            target.accept("declare", declare);
+        }
+        if (durable != null) {
+            target.accept("durable", durable);
+        }
+        if (exclusive != null) {
+            target.accept("exclusive", exclusive);
+        }
+        if (hostname != null) {
+            target.accept("hostname", hostname);
+        }
+        if (passive != null) {
+            target.accept("passive", passive);
+        }
+        if (portNumber != null) {
+            target.accept("portNumber", portNumber);
+        }
+        if (skipExchangeDeclare != null) {
+            target.accept("skipExchangeDeclare", skipExchangeDeclare);
+        }
+        if (skipQueueBind != null) {
+            target.accept("skipQueueBind", skipQueueBind);
+        }
+        if (skipQueueDeclare != null) {
+            target.accept("skipQueueDeclare", skipQueueDeclare);
+        }
+        if (vhost != null) {
+            target.accept("vhost", vhost);
+        }
+        if (autoAck != null) {
+            target.accept("autoAck", autoAck);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (exclusiveConsumer != null) {
+            target.accept("exclusiveConsumer", exclusiveConsumer);
+        }
+        if (prefetchCount != null) {
+            target.accept("prefetchCount", prefetchCount);
+        }
+        if (prefetchEnabled != null) {
+            target.accept("prefetchEnabled", prefetchEnabled);
+        }
+        if (prefetchGlobal != null) {
+            target.accept("prefetchGlobal", prefetchGlobal);
+        }
+        if (prefetchSize != null) {
+            target.accept("prefetchSize", prefetchSize);
+        }
+        if (recoverFromDeclareException != null) {
+            target.accept("recoverFromDeclareException", recoverFromDeclareException);
+        }
+        if (threadPoolSize != null) {
+            target.accept("threadPoolSize", threadPoolSize);
+        }
+        if (additionalHeaders != null) {
+            target.accept("additionalHeaders", additionalHeaders);
+        }
+        if (additionalProperties != null) {
+            target.accept("additionalProperties", additionalProperties);
+        }
+        if (allowNullHeaders != null) {
+            target.accept("allowNullHeaders", allowNullHeaders);
+        }
+        if (channelPoolMaxSize != null) {
+            target.accept("channelPoolMaxSize", channelPoolMaxSize);
+        }
+        if (channelPoolMaxWait != null) {
+            target.accept("channelPoolMaxWait", channelPoolMaxWait);
+        }
+        if (guaranteedDeliveries != null) {
+            target.accept("guaranteedDeliveries", guaranteedDeliveries);
+        }
+        if (immediate != null) {
+            target.accept("immediate", immediate);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (mandatory != null) {
+            target.accept("mandatory", mandatory);
+        }
+        if (publisherAcknowledgements != null) {
+            target.accept("publisherAcknowledgements", publisherAcknowledgements);
+        }
+        if (publisherAcknowledgementsTimeout != null) {
+            target.accept("publisherAcknowledgementsTimeout", publisherAcknowledgementsTimeout);
+        }
+        if (args != null) {
+            target.accept("args", args);
+        }
+        if (autoDetectConnectionFactory != null) {
+            target.accept("autoDetectConnectionFactory", autoDetectConnectionFactory);
+        }
+        if (automaticRecoveryEnabled != null) {
+            target.accept("automaticRecoveryEnabled", automaticRecoveryEnabled);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (clientProperties != null) {
+            target.accept("clientProperties", clientProperties);
+        }
+        if (connectionFactoryExceptionHandler != null) {
+            target.accept("connectionFactoryExceptionHandler", connectionFactoryExceptionHandler);
+        }
+        if (connectionTimeout != null) {
+            target.accept("connectionTimeout", connectionTimeout);
+        }
+        if (networkRecoveryInterval != null) {
+            target.accept("networkRecoveryInterval", networkRecoveryInterval);
+        }
+        if (requestedChannelMax != null) {
+            target.accept("requestedChannelMax", requestedChannelMax);
+        }
+        if (requestedFrameMax != null) {
+            target.accept("requestedFrameMax", requestedFrameMax);
+        }
+        if (requestedHeartbeat != null) {
+            target.accept("requestedHeartbeat", requestedHeartbeat);
+        }
+        if (requestTimeout != null) {
+            target.accept("requestTimeout", requestTimeout);
+        }
+        if (requestTimeoutCheckerInterval != null) {
+            target.accept("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
+        }
+        if (topologyRecoveryEnabled != null) {
+            target.accept("topologyRecoveryEnabled", topologyRecoveryEnabled);
+        }
+        if (transferException != null) {
+            target.accept("transferException", transferException);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+        if (sslProtocol != null) {
+            target.accept("sslProtocol", sslProtocol);
+        }
+        if (trustManager != null) {
+            target.accept("trustManager", trustManager);
+        }
+        if (username != null) {
+            target.accept("username", username);
+        }
+    }
 }
\ No newline at end of file
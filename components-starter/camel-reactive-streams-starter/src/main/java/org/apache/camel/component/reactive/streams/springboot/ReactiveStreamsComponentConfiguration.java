@@ -16,11 +16,13 @@
  */
 package org.apache.camel.component.reactive.streams.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.reactive.streams.ReactiveStreamsBackpressureStrategy;
 import org.apache.camel.component.reactive.streams.ReactiveStreamsComponent;
 import org.apache.camel.component.reactive.streams.engine.ReactiveStreamsEngineConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -33,7 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.reactive-streams")
 public class ReactiveStreamsComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the reactive-streams component.
@@ -174,4 +178,35 @@ public class ReactiveStreamsComponentConfiguration
     public void setServiceType(String serviceType) {
         this.serviceType = serviceType;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (threadPoolMaxSize != null) {
+            target.accept("threadPoolMaxSize", threadPoolMaxSize);
+        }
+        if (threadPoolMinSize != null) {
+            target.accept("threadPoolMinSize", threadPoolMinSize);
+        }
+        if (threadPoolName != null) {
+            target.accept("threadPoolName", threadPoolName);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (backpressureStrategy != null) {
+            target.accept("backpressureStrategy", backpressureStrategy);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (reactiveStreamsEngineConfiguration != null) {
+            target.accept("reactiveStreamsEngineConfiguration", reactiveStreamsEngineConfiguration);
+        }
+        if (serviceType != null) {
+            target.accept("serviceType", serviceType);
+        }
+    }
 }
\ No newline at end of file
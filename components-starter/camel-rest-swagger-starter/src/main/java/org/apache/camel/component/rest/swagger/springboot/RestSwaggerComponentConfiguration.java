@@ -17,8 +17,10 @@
 package org.apache.camel.component.rest.swagger.springboot;
 
 import java.net.URI;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -32,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.rest-swagger")
 public class RestSwaggerComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the rest-swagger component. This
@@ -212,4 +216,41 @@ public class RestSwaggerComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (basePath != null) {
+            target.accept("basePath", basePath);
+        }
+        if (componentName != null) {
+            target.accept("componentName", componentName);
+        }
+        if (consumes != null) {
+            target.accept("consumes", consumes);
+        }
+        if (host != null) {
+            target.accept("host", host);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (produces != null) {
+            target.accept("produces", produces);
+        }
+        if (resolveReferences != null) {
+            target.accept("resolveReferences", resolveReferences);
+        }
+        if (specificationUri != null) {
+            target.accept("specificationUri", specificationUri);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (sslContextParameters != null) {
+            target.accept("sslContextParameters", sslContextParameters);
+        }
+        if (useGlobalSslContextParameters != null) {
+            target.accept("useGlobalSslContextParameters", useGlobalSslContextParameters);
+        }
+    }
 }
\ No newline at end of file
@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.resteasy.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.resteasy")
 public class ResteasyComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the resteasy component. This is
@@ -304,4 +308,65 @@ public class ResteasyComponentConfiguration
             HeaderFilterStrategy headerFilterStrategy) {
         this.headerFilterStrategy = headerFilterStrategy;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (muteException != null) {
+            target.accept("muteException", muteException);
+        }
+        if (proxyConsumersClasses != null) {
+            target.accept("proxyConsumersClasses", proxyConsumersClasses);
+        }
+        if (copyHeaders != null) {
+            target.accept("copyHeaders", copyHeaders);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (responsePayloadStreamingThreshold != null) {
+            target.accept("responsePayloadStreamingThreshold", responsePayloadStreamingThreshold);
+        }
+        if (followRedirects != null) {
+            target.accept("followRedirects", followRedirects);
+        }
+        if (skipRequestHeaders != null) {
+            target.accept("skipRequestHeaders", skipRequestHeaders);
+        }
+        if (skipResponseHeaders != null) {
+            target.accept("skipResponseHeaders", skipResponseHeaders);
+        }
+        if (allowJavaSerializedObject != null) {
+            target.accept("allowJavaSerializedObject", allowJavaSerializedObject);
+        }
+        if (authCachingDisabled != null) {
+            target.accept("authCachingDisabled", authCachingDisabled);
+        }
+        if (automaticRetriesDisabled != null) {
+            target.accept("automaticRetriesDisabled", automaticRetriesDisabled);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (connectionStateDisabled != null) {
+            target.accept("connectionStateDisabled", connectionStateDisabled);
+        }
+        if (contentCompressionDisabled != null) {
+            target.accept("contentCompressionDisabled", contentCompressionDisabled);
+        }
+        if (cookieManagementDisabled != null) {
+            target.accept("cookieManagementDisabled", cookieManagementDisabled);
+        }
+        if (defaultUserAgentDisabled != null) {
+            target.accept("defaultUserAgentDisabled", defaultUserAgentDisabled);
+        }
+        if (redirectHandlingDisabled != null) {
+            target.accept("redirectHandlingDisabled", redirectHandlingDisabled);
+        }
+        if (headerFilterStrategy != null) {
+            target.accept("headerFilterStrategy", headerFilterStrategy);
+        }
+    }
 }
\ No newline at end of file
@@ -17,9 +17,11 @@
 package org.apache.camel.component.robotframework.springboot;
 
 import java.io.File;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.robotframework.RobotFrameworkCamelConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.robotframework")
 public class RobotFrameworkComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the robotframework component.
@@ -695,4 +699,161 @@ public class RobotFrameworkComponentConfiguration
     public void setConfiguration(RobotFrameworkCamelConfiguration configuration) {
         this.configuration = configuration;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (allowContextMapAll != null) {
+            target.accept("allowContextMapAll", allowContextMapAll);
+        }
+        if (allowTemplateFromHeader != null) {
+            target.accept("allowTemplateFromHeader", allowTemplateFromHeader);
+        }
+        if (argumentFile != null) {
+            target.accept("argumentFile", argumentFile);
+        }
+        if (combinedTagStats != null) {
+            target.accept("combinedTagStats", combinedTagStats);
+        }
+        if (criticalTags != null) {
+            target.accept("criticalTags", criticalTags);
+        }
+        if (debugFile != null) {
+            target.accept("debugFile", debugFile);
+        }
+        if (document != null) {
+            target.accept("document", document);
+        }
+        if (dryrun != null) {
+            target.accept("dryrun", dryrun);
+        }
+        if (excludes != null) {
+            target.accept("excludes", excludes);
+        }
+        if (exitOnFailure != null) {
+            target.accept("exitOnFailure", exitOnFailure);
+        }
+        if (includes != null) {
+            target.accept("includes", includes);
+        }
+        if (listener != null) {
+            target.accept("listener", listener);
+        }
+        if (listeners != null) {
+            target.accept("listeners", listeners);
+        }
+        if (log != null) {
+            target.accept("log", log);
+        }
+        if (logLevel != null) {
+            target.accept("logLevel", logLevel);
+        }
+        if (logTitle != null) {
+            target.accept("logTitle", logTitle);
+        }
+        if (metadata != null) {
+            target.accept("metadata", metadata);
+        }
+        if (monitorColors != null) {
+            target.accept("monitorColors", monitorColors);
+        }
+        if (monitorWidth != null) {
+            target.accept("monitorWidth", monitorWidth);
+        }
+        if (name != null) {
+            target.accept("name", name);
+        }
+        if (nonCriticalTags != null) {
+            target.accept("nonCriticalTags", nonCriticalTags);
+        }
+        if (noStatusReturnCode != null) {
+            target.accept("noStatusReturnCode", noStatusReturnCode);
+        }
+        if (output != null) {
+            target.accept("output", output);
+        }
+        if (outputDirectory != null) {
+            target.accept("outputDirectory", outputDirectory);
+        }
+        if (randomize != null) {
+            target.accept("randomize", randomize);
+        }
+        if (report != null) {
+            target.accept("report", report);
+        }
+        if (reportBackground != null) {
+            target.accept("reportBackground", reportBackground);
+        }
+        if (reportTitle != null) {
+            target.accept("reportTitle", reportTitle);
+        }
+        if (runEmptySuite != null) {
+            target.accept("runEmptySuite", runEmptySuite);
+        }
+        if (runFailed != null) {
+            target.accept("runFailed", runFailed);
+        }
+        if (runMode != null) {
+            target.accept("runMode", runMode);
+        }
+        if (skipTeardownOnExit != null) {
+            target.accept("skipTeardownOnExit", skipTeardownOnExit);
+        }
+        if (splitOutputs != null) {
+            target.accept("splitOutputs", splitOutputs);
+        }
+        if (suites != null) {
+            target.accept("suites", suites);
+        }
+        if (suiteStatLevel != null) {
+            target.accept("suiteStatLevel", suiteStatLevel);
+        }
+        if (summaryTitle != null) {
+            target.accept("summaryTitle", summaryTitle);
+        }
+        if (tagDocs != null) {
+            target.accept("tagDocs", tagDocs);
+        }
+        if (tags != null) {
+            target.accept("tags", tags);
+        }
+        if (tagStatExcludes != null) {
+            target.accept("tagStatExcludes", tagStatExcludes);
+        }
+        if (tagStatIncludes != null) {
+            target.accept("tagStatIncludes", tagStatIncludes);
+        }
+        if (tagStatLinks != null) {
+            target.accept("tagStatLinks", tagStatLinks);
+        }
+        if (tests != null) {
+            target.accept("tests", tests);
+        }
+        if (timestampOutputs != null) {
+            target.accept("timestampOutputs", timestampOutputs);
+        }
+        if (variableFiles != null) {
+            target.accept("variableFiles", variableFiles);
+        }
+        if (variables != null) {
+            target.accept("variables", variables);
+        }
+        if (warnOnSkippedFiles != null) {
+            target.accept("warnOnSkippedFiles", warnOnSkippedFiles);
+        }
+        if (xunitFile != null) {
+            target.accept("xunitFile", xunitFile);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+    }
 }
\ No newline at end of file
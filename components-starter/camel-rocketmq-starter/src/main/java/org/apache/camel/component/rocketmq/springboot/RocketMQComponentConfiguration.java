@@ -16,8 +16,10 @@
  */
 package org.apache.camel.component.rocketmq.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.rocketmq")
 public class RocketMQComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the rocketmq component. This is
@@ -235,4 +239,53 @@ public class RocketMQComponentConfiguration
     public void setSecretKey(String secretKey) {
         this.secretKey = secretKey;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (namesrvAddr != null) {
+            target.accept("namesrvAddr", namesrvAddr);
+        }
+        if (sendTag != null) {
+            target.accept("sendTag", sendTag);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (consumerGroup != null) {
+            target.accept("consumerGroup", consumerGroup);
+        }
+        if (subscribeTags != null) {
+            target.accept("subscribeTags", subscribeTags);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (producerGroup != null) {
+            target.accept("producerGroup", producerGroup);
+        }
+        if (replyToConsumerGroup != null) {
+            target.accept("replyToConsumerGroup", replyToConsumerGroup);
+        }
+        if (replyToTopic != null) {
+            target.accept("replyToTopic", replyToTopic);
+        }
+        if (waitForSendResult != null) {
+            target.accept("waitForSendResult", waitForSendResult);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (requestTimeoutCheckerIntervalMillis != null) {
+            target.accept("requestTimeoutCheckerIntervalMillis", requestTimeoutCheckerIntervalMillis);
+        }
+        if (requestTimeoutMillis != null) {
+            target.accept("requestTimeoutMillis", requestTimeoutMillis);
+        }
+        if (accessKey != null) {
+            target.accept("accessKey", accessKey);
+        }
+        if (secretKey != null) {
+            target.accept("secretKey", secretKey);
+        }
+    }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ package org.apache.camel.component.salesforce.springboot;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.camel.component.salesforce.AuthenticationType;
@@ -32,6 +33,7 @@ import org.apache.camel.component.salesforce.internal.PayloadFormat;
 import org.apache.camel.component.salesforce.internal.dto.NotifyForFieldsEnum;
 import org.apache.camel.component.salesforce.internal.dto.NotifyForOperationsEnum;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.camel.support.jsse.KeyStoreParameters;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -45,7 +47,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.salesforce")
 public class SalesforceComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the salesforce component. This is
@@ -1269,4 +1273,284 @@ public class SalesforceComponentConfiguration
     public void setUserName(String userName) {
         this.userName = userName;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (apexMethod != null) {
+            target.accept("apexMethod", apexMethod);
+        }
+        if (apexQueryParams != null) {
+            target.accept("apexQueryParams", apexQueryParams);
+        }
+        if (apiVersion != null) {
+            target.accept("apiVersion", apiVersion);
+        }
+        if (backoffIncrement != null) {
+            target.accept("backoffIncrement", backoffIncrement);
+        }
+        if (batchId != null) {
+            target.accept("batchId", batchId);
+        }
+        if (contentType != null) {
+            target.accept("contentType", contentType);
+        }
+        if (defaultReplayId != null) {
+            target.accept("defaultReplayId", defaultReplayId);
+        }
+        if (fallBackReplayId != null) {
+            target.accept("fallBackReplayId", fallBackReplayId);
+        }
+        if (format != null) {
+            target.accept("format", format);
+        }
+        if (httpClient != null) {
+            target.accept("httpClient", httpClient);
+        }
+        if (httpClientConnectionTimeout != null) {
+            target.accept("httpClientConnectionTimeout", httpClientConnectionTimeout);
+        }
+        if (httpClientIdleTimeout != null) {
+            target.accept("httpClientIdleTimeout", httpClientIdleTimeout);
+        }
+        if (httpMaxContentLength != null) {
+            target.accept("httpMaxContentLength", httpMaxContentLength);
+        }
+        if (httpRequestBufferSize != null) {
+            target.accept("httpRequestBufferSize", httpRequestBufferSize);
+        }
+        if (httpRequestTimeout != null) {
+            target.accept("httpRequestTimeout", httpRequestTimeout);
+        }
+        if (includeDetails != null) {
+            target.accept("includeDetails", includeDetails);
+        }
+        if (initialReplayIdMap != null) {
+            target.accept("initialReplayIdMap", initialReplayIdMap);
+        }
+        if (instanceId != null) {
+            target.accept("instanceId", instanceId);
+        }
+        if (jobId != null) {
+            target.accept("jobId", jobId);
+        }
+        if (limit != null) {
+            target.accept("limit", limit);
+        }
+        if (locator != null) {
+            target.accept("locator", locator);
+        }
+        if (maxBackoff != null) {
+            target.accept("maxBackoff", maxBackoff);
+        }
+        if (maxRecords != null) {
+            target.accept("maxRecords", maxRecords);
+        }
+        if (notFoundBehaviour != null) {
+            target.accept("notFoundBehaviour", notFoundBehaviour);
+        }
+        if (notifyForFields != null) {
+            target.accept("notifyForFields", notifyForFields);
+        }
+        if (notifyForOperationCreate != null) {
+            target.accept("notifyForOperationCreate", notifyForOperationCreate);
+        }
+        if (notifyForOperationDelete != null) {
+            target.accept("notifyForOperationDelete", notifyForOperationDelete);
+        }
+        if (notifyForOperations != null) {
+            target.accept("notifyForOperations", notifyForOperations);
+        }
+        if (notifyForOperationUndelete != null) {
+            target.accept("notifyForOperationUndelete", notifyForOperationUndelete);
+        }
+        if (notifyForOperationUpdate != null) {
+            target.accept("notifyForOperationUpdate", notifyForOperationUpdate);
+        }
+        if (objectMapper != null) {
+            target.accept("objectMapper", objectMapper);
+        }
+        if (packages != null) {
+            target.accept("packages", packages);
+        }
+        if (pkChunking != null) {
+            target.accept("pkChunking", pkChunking);
+        }
+        if (pkChunkingChunkSize != null) {
+            target.accept("pkChunkingChunkSize", pkChunkingChunkSize);
+        }
+        if (pkChunkingParent != null) {
+            target.accept("pkChunkingParent", pkChunkingParent);
+        }
+        if (pkChunkingStartRow != null) {
+            target.accept("pkChunkingStartRow", pkChunkingStartRow);
+        }
+        if (queryLocator != null) {
+            target.accept("queryLocator", queryLocator);
+        }
+        if (rawPayload != null) {
+            target.accept("rawPayload", rawPayload);
+        }
+        if (reportId != null) {
+            target.accept("reportId", reportId);
+        }
+        if (reportMetadata != null) {
+            target.accept("reportMetadata", reportMetadata);
+        }
+        if (resultId != null) {
+            target.accept("resultId", resultId);
+        }
+        if (sObjectBlobFieldName != null) {
+            target.accept("sObjectBlobFieldName", sObjectBlobFieldName);
+        }
+        if (sObjectClass != null) {
+            target.accept("sObjectClass", sObjectClass);
+        }
+        if (sObjectFields != null) {
+            target.accept("sObjectFields", sObjectFields);
+        }
+        if (sObjectId != null) {
+            target.accept("sObjectId", sObjectId);
+        }
+        if (sObjectIdName != null) {
+            target.accept("sObjectIdName", sObjectIdName);
+        }
+        if (sObjectIdValue != null) {
+            target.accept("sObjectIdValue", sObjectIdValue);
+        }
+        if (sObjectName != null) {
+            target.accept("sObjectName", sObjectName);
+        }
+        if (sObjectQuery != null) {
+            target.accept("sObjectQuery", sObjectQuery);
+        }
+        if (sObjectSearch != null) {
+            target.accept("sObjectSearch", sObjectSearch);
+        }
+        if (streamQueryResult != null) {
+            target.accept("streamQueryResult", streamQueryResult);
+        }
+        if (updateTopic != null) {
+            target.accept("updateTopic", updateTopic);
+        }
+        if (config != null) {
+            target.accept("config", config);
+        }
+        if (httpClientProperties != null) {
+            target.accept("httpClientProperties", httpClientProperties);
+        }
+        if (longPollingTransportProperties != null) {
+            target.accept("longPollingTransportProperties", longPollingTransportProperties);
+        }
+        if (workerPoolMaxSize != null) {
+            target.accept("workerPoolMaxSize", workerPoolMaxSize);
+        }
+        if (workerPoolSize != null) {
+            target.accept("workerPoolSize", workerPoolSize);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (allOrNone != null) {
+            target.accept("allOrNone", allOrNone);
+        }
+        if (apexUrl != null) {
+            target.accept("apexUrl", apexUrl);
+        }
+        if (compositeMethod != null) {
+            target.accept("compositeMethod", compositeMethod);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (rawHttpHeaders != null) {
+            target.accept("rawHttpHeaders", rawHttpHeaders);
+        }
+        if (rawMethod != null) {
+            target.accept("rawMethod", rawMethod);
+        }
+        if (rawPath != null) {
+            target.accept("rawPath", rawPath);
+        }
+        if (rawQueryParameters != null) {
+            target.accept("rawQueryParameters", rawQueryParameters);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (httpProxyExcludedAddresses != null) {
+            target.accept("httpProxyExcludedAddresses", httpProxyExcludedAddresses);
+        }
+        if (httpProxyHost != null) {
+            target.accept("httpProxyHost", httpProxyHost);
+        }
+        if (httpProxyIncludedAddresses != null) {
+            target.accept("httpProxyIncludedAddresses", httpProxyIncludedAddresses);
+        }
+        if (httpProxyPort != null) {
+            target.accept("httpProxyPort", httpProxyPort);
+        }
+        if (httpProxySocks4 != null) {
+            target.accept("httpProxySocks4", httpProxySocks4);
+        }
+        if (authenticationType != null) {
+            target.accept("authenticationType", authenticationType);
+        }
+        if (clientId != null) {
+            target.accept("clientId", clientId);
+        }
+        if (clientSecret != null) {
+            target.accept("clientSecret", clientSecret);
+        }
+        if (httpProxyAuthUri != null) {
+            target.accept("httpProxyAuthUri", httpProxyAuthUri);
+        }
+        if (httpProxyPassword != null) {
+            target.accept("httpProxyPassword", httpProxyPassword);
+        }
+        if (httpProxyRealm != null) {
+            target.accept("httpProxyRealm", httpProxyRealm);
+        }
+        if (httpProxySecure != null) {
+            target.accept("httpProxySecure", httpProxySecure);
+        }
+        if (httpProxyUseDigestAuth != null) {
+            target.accept("httpProxyUseDigestAuth", httpProxyUseDigestAuth);
+        }
+        if (httpProxyUsername != null) {
+            target.accept("httpProxyUsername", httpProxyUsername);
+        }
+        if (instanceUrl != null) {
+            target.accept("instanceUrl", instanceUrl);
+        }
+        if (jwtAudience != null) {
+            target.accept("jwtAudience", jwtAudience);
+        }
+        if (keystore != null) {
+            target.accept("keystore", keystore);
+        }
+        if (lazyLogin != null) {
+            target.accept("lazyLogin", lazyLogin);
+        }
+        if (loginConfig != null) {
+            target.accept("loginConfig", loginConfig);
+        }
+        if (loginUrl != null) {
+            target.accept("loginUrl", loginUrl);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+        if (refreshToken != null) {
+            target.accept("refreshToken", refreshToken);
+        }
+        if (sslContextParameters != null) {
+            target.accept("sslContextParameters", sslContextParameters);
+        }
+        if (useGlobalSslContextParameters != null) {
+            target.accept("useGlobalSslContextParameters", useGlobalSslContextParameters);
+        }
+        if (userName != null) {
+            target.accept("userName", userName);
+        }
+    }
 }
\ No newline at end of file
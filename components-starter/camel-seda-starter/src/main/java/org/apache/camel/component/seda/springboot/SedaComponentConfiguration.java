@@ -16,10 +16,12 @@
  */
 package org.apache.camel.component.seda.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.Exchange;
 import org.apache.camel.component.seda.BlockingQueueFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.seda")
 public class SedaComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the seda component. This is
@@ -191,4 +195,38 @@ public class SedaComponentConfiguration
     public void setQueueSize(Integer queueSize) {
         this.queueSize = queueSize;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (concurrentConsumers != null) {
+            target.accept("concurrentConsumers", concurrentConsumers);
+        }
+        if (defaultPollTimeout != null) {
+            target.accept("defaultPollTimeout", defaultPollTimeout);
+        }
+        if (defaultBlockWhenFull != null) {
+            target.accept("defaultBlockWhenFull", defaultBlockWhenFull);
+        }
+        if (defaultDiscardWhenFull != null) {
+            target.accept("defaultDiscardWhenFull", defaultDiscardWhenFull);
+        }
+        if (defaultOfferTimeout != null) {
+            target.accept("defaultOfferTimeout", defaultOfferTimeout);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (defaultQueueFactory != null) {
+            target.accept("defaultQueueFactory", defaultQueueFactory);
+        }
+        if (queueSize != null) {
+            target.accept("queueSize", queueSize);
+        }
+    }
 }
\ No newline at end of file
@@ -17,12 +17,14 @@
 package org.apache.camel.component.servicenow.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.camel.component.servicenow.ServiceNowComponent;
 import org.apache.camel.component.servicenow.ServiceNowConfiguration;
 import org.apache.camel.component.servicenow.ServiceNowRelease;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.apache.cxf.configuration.security.ProxyAuthorizationPolicy;
 import org.apache.cxf.transports.http.configuration.HTTPClientPolicy;
@@ -37,7 +39,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.servicenow")
 public class ServiceNowComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the servicenow component. This is
@@ -666,4 +670,152 @@ public class ServiceNowComponentConfiguration
     public void setUserName(String userName) {
         this.userName = userName;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (display != null) {
+            target.accept("display", display);
+        }
+        if (displayValue != null) {
+            target.accept("displayValue", displayValue);
+        }
+        if (excludeReferenceLink != null) {
+            target.accept("excludeReferenceLink", excludeReferenceLink);
+        }
+        if (favorites != null) {
+            target.accept("favorites", favorites);
+        }
+        if (includeAggregates != null) {
+            target.accept("includeAggregates", includeAggregates);
+        }
+        if (includeAvailableAggregates != null) {
+            target.accept("includeAvailableAggregates", includeAvailableAggregates);
+        }
+        if (includeAvailableBreakdowns != null) {
+            target.accept("includeAvailableBreakdowns", includeAvailableBreakdowns);
+        }
+        if (includeScoreNotes != null) {
+            target.accept("includeScoreNotes", includeScoreNotes);
+        }
+        if (includeScores != null) {
+            target.accept("includeScores", includeScores);
+        }
+        if (inputDisplayValue != null) {
+            target.accept("inputDisplayValue", inputDisplayValue);
+        }
+        if (key != null) {
+            target.accept("key", key);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (models != null) {
+            target.accept("models", models);
+        }
+        if (perPage != null) {
+            target.accept("perPage", perPage);
+        }
+        if (release != null) {
+            target.accept("release", release);
+        }
+        if (requestModels != null) {
+            target.accept("requestModels", requestModels);
+        }
+        if (resource != null) {
+            target.accept("resource", resource);
+        }
+        if (responseModels != null) {
+            target.accept("responseModels", responseModels);
+        }
+        if (sortBy != null) {
+            target.accept("sortBy", sortBy);
+        }
+        if (sortDir != null) {
+            target.accept("sortDir", sortDir);
+        }
+        if (suppressAutoSysField != null) {
+            target.accept("suppressAutoSysField", suppressAutoSysField);
+        }
+        if (suppressPaginationHeader != null) {
+            target.accept("suppressPaginationHeader", suppressPaginationHeader);
+        }
+        if (table != null) {
+            target.accept("table", table);
+        }
+        if (this.target != null) {
+            target.accept("target", this.target);
+        }
+        if (topLevelOnly != null) {
+            target.accept("topLevelOnly", topLevelOnly);
+        }
+        if (apiVersion != null) {
+            target.accept("apiVersion", apiVersion);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (dateFormat != null) {
+            target.accept("dateFormat", dateFormat);
+        }
+        if (dateTimeFormat != null) {
+            target.accept("dateTimeFormat", dateTimeFormat);
+        }
+        if (httpClientPolicy != null) {
+            target.accept("httpClientPolicy", httpClientPolicy);
+        }
+        if (instanceName != null) {
+            target.accept("instanceName", instanceName);
+        }
+        if (mapper != null) {
+            target.accept("mapper", mapper);
+        }
+        if (proxyAuthorizationPolicy != null) {
+            target.accept("proxyAuthorizationPolicy", proxyAuthorizationPolicy);
+        }
+        if (retrieveTargetRecordOnImport != null) {
+            target.accept("retrieveTargetRecordOnImport", retrieveTargetRecordOnImport);
+        }
+        if (timeFormat != null) {
+            target.accept("timeFormat", timeFormat);
+        }
+        if (proxyHost != null) {
+            target.accept("proxyHost", proxyHost);
+        }
+        if (proxyPort != null) {
+            target.accept("proxyPort", proxyPort);
+        }
+        if (apiUrl != null) {
+            target.accept("apiUrl", apiUrl);
+        }
+        if (oauthClientId != null) {
+            target.accept("oauthClientId", oauthClientId);
+        }
+        if (oauthClientSecret != null) {
+            target.accept("oauthClientSecret", oauthClientSecret);
+        }
+        if (oauthTokenUrl != null) {
+            target.accept("oauthTokenUrl", oauthTokenUrl);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+        if (proxyPassword != null) {
+            target.accept("proxyPassword", proxyPassword);
+        }
+        if (proxyUserName != null) {
+            target.accept("proxyUserName", proxyUserName);
+        }
+        if (sslContextParameters != null) {
+            target.accept("sslContextParameters", sslContextParameters);
+        }
+        if (useGlobalSslContextParameters != null) {
+            target.accept("useGlobalSslContextParameters", useGlobalSslContextParameters);
+        }
+        if (userName != null) {
+            target.accept("userName", userName);
+        }
+    }
 }
\ No newline at end of file
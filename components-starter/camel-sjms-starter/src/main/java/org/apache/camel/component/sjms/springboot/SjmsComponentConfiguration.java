@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.sjms.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import javax.jms.ConnectionFactory;
 import javax.jms.ExceptionListener;
@@ -24,6 +25,7 @@ import org.apache.camel.component.sjms.jms.JmsKeyFormatStrategy;
 import org.apache.camel.component.sjms.jms.MessageCreatedStrategy;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -36,7 +38,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.sjms")
 public class SjmsComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the sjms component. This is
@@ -235,4 +239,44 @@ public class SjmsComponentConfiguration
             HeaderFilterStrategy headerFilterStrategy) {
         this.headerFilterStrategy = headerFilterStrategy;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (connectionFactory != null) {
+            target.accept("connectionFactory", connectionFactory);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (destinationCreationStrategy != null) {
+            target.accept("destinationCreationStrategy", destinationCreationStrategy);
+        }
+        if (exceptionListener != null) {
+            target.accept("exceptionListener", exceptionListener);
+        }
+        if (jmsKeyFormatStrategy != null) {
+            target.accept("jmsKeyFormatStrategy", jmsKeyFormatStrategy);
+        }
+        if (messageCreatedStrategy != null) {
+            target.accept("messageCreatedStrategy", messageCreatedStrategy);
+        }
+        if (recoveryInterval != null) {
+            target.accept("recoveryInterval", recoveryInterval);
+        }
+        if (replyToOnTimeoutMaxConcurrentConsumers != null) {
+            target.accept("replyToOnTimeoutMaxConcurrentConsumers", replyToOnTimeoutMaxConcurrentConsumers);
+        }
+        if (requestTimeoutCheckerInterval != null) {
+            target.accept("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
+        }
+        if (headerFilterStrategy != null) {
+            target.accept("headerFilterStrategy", headerFilterStrategy);
+        }
+    }
 }
\ No newline at end of file
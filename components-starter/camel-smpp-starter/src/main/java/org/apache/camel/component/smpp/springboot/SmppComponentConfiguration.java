@@ -17,11 +17,13 @@
 package org.apache.camel.component.smpp.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.smpp.SmppComponent;
 import org.apache.camel.component.smpp.SmppConfiguration;
 import org.apache.camel.component.smpp.SmppSplittingPolicy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.jsmpp.session.SessionStateListener;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -34,7 +36,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.smpp")
 public class SmppComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the smpp component. This is
@@ -629,4 +633,131 @@ public class SmppComponentConfiguration
     public void setUsingSSL(Boolean usingSSL) {
         this.usingSSL = usingSSL;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (initialReconnectDelay != null) {
+            target.accept("initialReconnectDelay", initialReconnectDelay);
+        }
+        if (maxReconnect != null) {
+            target.accept("maxReconnect", maxReconnect);
+        }
+        if (reconnectDelay != null) {
+            target.accept("reconnectDelay", reconnectDelay);
+        }
+        if (splittingPolicy != null) {
+            target.accept("splittingPolicy", splittingPolicy);
+        }
+        if (systemType != null) {
+            target.accept("systemType", systemType);
+        }
+        if (addressRange != null) {
+            target.accept("addressRange", addressRange);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (destAddr != null) {
+            target.accept("destAddr", destAddr);
+        }
+        if (destAddrNpi != null) {
+            target.accept("destAddrNpi", destAddrNpi);
+        }
+        if (destAddrTon != null) {
+            target.accept("destAddrTon", destAddrTon);
+        }
+        if (lazySessionCreation != null) {
+            target.accept("lazySessionCreation", lazySessionCreation);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (numberingPlanIndicator != null) {
+            target.accept("numberingPlanIndicator", numberingPlanIndicator);
+        }
+        if (priorityFlag != null) {
+            target.accept("priorityFlag", priorityFlag);
+        }
+        if (protocolId != null) {
+            target.accept("protocolId", protocolId);
+        }
+        if (registeredDelivery != null) {
+            target.accept("registeredDelivery", registeredDelivery);
+        }
+        if (replaceIfPresentFlag != null) {
+            target.accept("replaceIfPresentFlag", replaceIfPresentFlag);
+        }
+        if (serviceType != null) {
+            target.accept("serviceType", serviceType);
+        }
+        if (sourceAddr != null) {
+            target.accept("sourceAddr", sourceAddr);
+        }
+        if (sourceAddrNpi != null) {
+            target.accept("sourceAddrNpi", sourceAddrNpi);
+        }
+        if (sourceAddrTon != null) {
+            target.accept("sourceAddrTon", sourceAddrTon);
+        }
+        if (typeOfNumber != null) {
+            target.accept("typeOfNumber", typeOfNumber);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (enquireLinkTimer != null) {
+            target.accept("enquireLinkTimer", enquireLinkTimer);
+        }
+        if (pduProcessorDegree != null) {
+            target.accept("pduProcessorDegree", pduProcessorDegree);
+        }
+        if (pduProcessorQueueCapacity != null) {
+            target.accept("pduProcessorQueueCapacity", pduProcessorQueueCapacity);
+        }
+        if (sessionStateListener != null) {
+            target.accept("sessionStateListener", sessionStateListener);
+        }
+        if (singleDLR != null) {
+            target.accept("singleDLR", singleDLR);
+        }
+        if (transactionTimer != null) {
+            target.accept("transactionTimer", transactionTimer);
+        }
+        if (alphabet != null) {
+            target.accept("alphabet", alphabet);
+        }
+        if (dataCoding != null) {
+            target.accept("dataCoding", dataCoding);
+        }
+        if (encoding != null) {
+            target.accept("encoding", encoding);
+        }
+        if (httpProxyHost != null) {
+            target.accept("httpProxyHost", httpProxyHost);
+        }
+        if (httpProxyPassword != null) {
+            target.accept("httpProxyPassword", httpProxyPassword);
+        }
+        if (httpProxyPort != null) {
+            target.accept("httpProxyPort", httpProxyPort);
+        }
+        if (httpProxyUsername != null) {
+            target.accept("httpProxyUsername", httpProxyUsername);
+        }
+        if (proxyHeaders != null) {
+            target.accept("proxyHeaders", proxyHeaders);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+        if (systemId != null) {
+            target.accept("systemId", systemId);
+        }
+        if (usingSSL != null) {
+            target.accept("usingSSL", usingSSL);
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.component.snakeyaml.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.snake-yaml")
 public class SnakeYAMLDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the snakeYaml data format. This
@@ -158,4 +162,38 @@ public class SnakeYAMLDataFormatConfiguration
     public void setAllowRecursiveKeys(Boolean allowRecursiveKeys) {
         this.allowRecursiveKeys = allowRecursiveKeys;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (unmarshalType != null) {
+            target.accept("unmarshalType", unmarshalType);
+        }
+        if (constructor != null) {
+            target.accept("constructor", constructor);
+        }
+        if (representer != null) {
+            target.accept("representer", representer);
+        }
+        if (dumperOptions != null) {
+            target.accept("dumperOptions", dumperOptions);
+        }
+        if (resolver != null) {
+            target.accept("resolver", resolver);
+        }
+        if (useApplicationContextClassLoader != null) {
+            target.accept("useApplicationContextClassLoader", useApplicationContextClassLoader);
+        }
+        if (prettyFlow != null) {
+            target.accept("prettyFlow", prettyFlow);
+        }
+        if (allowAnyType != null) {
+            target.accept("allowAnyType", allowAnyType);
+        }
+        if (maxAliasesForCollections != null) {
+            target.accept("maxAliasesForCollections", maxAliasesForCollections);
+        }
+        if (allowRecursiveKeys != null) {
+            target.accept("allowRecursiveKeys", allowRecursiveKeys);
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.dataformat.soap.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.soap")
 public class SoapDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the soap data format. This is
@@ -130,4 +134,26 @@ public class SoapDataFormatConfiguration
     public void setSchema(String schema) {
         this.schema = schema;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (contextPath != null) {
+            target.accept("contextPath", contextPath);
+        }
+        if (encoding != null) {
+            target.accept("encoding", encoding);
+        }
+        if (elementNameStrategyRef != null) {
+            target.accept("elementNameStrategyRef", elementNameStrategyRef);
+        }
+        if (version != null) {
+            target.accept("version", version);
+        }
+        if (namespacePrefixRef != null) {
+            target.accept("namespacePrefixRef", namespacePrefixRef);
+        }
+        if (schema != null) {
+            target.accept("schema", schema);
+        }
+    }
 }
\ No newline at end of file
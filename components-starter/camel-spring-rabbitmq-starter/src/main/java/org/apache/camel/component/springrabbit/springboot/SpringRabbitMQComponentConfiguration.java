@@ -16,11 +16,13 @@
  */
 package org.apache.camel.component.springrabbit.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.springrabbit.ListenerContainerFactory;
 import org.apache.camel.component.springrabbit.MessagePropertiesConverter;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.amqp.core.AmqpAdmin;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.MessageConverter;
@@ -37,7 +39,9 @@ import org.springframework.util.ErrorHandler;
 @ConfigurationProperties(prefix = "camel.component.spring-rabbitmq")
 public class SpringRabbitMQComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the spring-rabbitmq component.
@@ -452,4 +456,95 @@ public class SpringRabbitMQComponentConfiguration
             HeaderFilterStrategy headerFilterStrategy) {
         this.headerFilterStrategy = headerFilterStrategy;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (amqpAdmin != null) {
+            target.accept("amqpAdmin", amqpAdmin);
+        }
+        if (connectionFactory != null) {
+            target.accept("connectionFactory", connectionFactory);
+        }
+        if (testConnectionOnStartup != null) {
+            target.accept("testConnectionOnStartup", testConnectionOnStartup);
+        }
+        if (autoDeclare != null) {
+            target.accept("autoDeclare", autoDeclare);
+        }
+        if (autoStartup != null) {
+            target.accept("autoStartup", autoStartup);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (deadLetterExchange != null) {
+            target.accept("deadLetterExchange", deadLetterExchange);
+        }
+        if (deadLetterExchangeType != null) {
+            target.accept("deadLetterExchangeType", deadLetterExchangeType);
+        }
+        if (deadLetterQueue != null) {
+            target.accept("deadLetterQueue", deadLetterQueue);
+        }
+        if (deadLetterRoutingKey != null) {
+            target.accept("deadLetterRoutingKey", deadLetterRoutingKey);
+        }
+        if (maximumRetryAttempts != null) {
+            target.accept("maximumRetryAttempts", maximumRetryAttempts);
+        }
+        if (rejectAndDontRequeue != null) {
+            target.accept("rejectAndDontRequeue", rejectAndDontRequeue);
+        }
+        if (retryDelay != null) {
+            target.accept("retryDelay", retryDelay);
+        }
+        if (concurrentConsumers != null) {
+            target.accept("concurrentConsumers", concurrentConsumers);
+        }
+        if (errorHandler != null) {
+            target.accept("errorHandler", errorHandler);
+        }
+        if (listenerContainerFactory != null) {
+            target.accept("listenerContainerFactory", listenerContainerFactory);
+        }
+        if (maxConcurrentConsumers != null) {
+            target.accept("maxConcurrentConsumers", maxConcurrentConsumers);
+        }
+        if (messageListenerContainerType != null) {
+            target.accept("messageListenerContainerType", messageListenerContainerType);
+        }
+        if (prefetchCount != null) {
+            target.accept("prefetchCount", prefetchCount);
+        }
+        if (retry != null) {
+            target.accept("retry", retry);
+        }
+        if (shutdownTimeout != null) {
+            target.accept("shutdownTimeout", shutdownTimeout);
+        }
+        if (allowNullBody != null) {
+            target.accept("allowNullBody", allowNullBody);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (replyTimeout != null) {
+            target.accept("replyTimeout", replyTimeout);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (ignoreDeclarationExceptions != null) {
+            target.accept("ignoreDeclarationExceptions", ignoreDeclarationExceptions);
+        }
+        if (messageConverter != null) {
+            target.accept("messageConverter", messageConverter);
+        }
+        if (messagePropertiesConverter != null) {
+            target.accept("messagePropertiesConverter", messagePropertiesConverter);
+        }
+        if (headerFilterStrategy != null) {
+            target.accept("headerFilterStrategy", headerFilterStrategy);
+        }
+    }
 }
\ No newline at end of file
@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.ssh.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.ssh.SshConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.sshd.common.keyprovider.KeyPairProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.ssh")
 public class SshComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the ssh component. This is
@@ -278,4 +282,59 @@ public class SshComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (failOnUnknownHost != null) {
+            target.accept("failOnUnknownHost", failOnUnknownHost);
+        }
+        if (knownHostsResource != null) {
+            target.accept("knownHostsResource", knownHostsResource);
+        }
+        if (timeout != null) {
+            target.accept("timeout", timeout);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (pollCommand != null) {
+            target.accept("pollCommand", pollCommand);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (channelType != null) {
+            target.accept("channelType", channelType);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (shellPrompt != null) {
+            target.accept("shellPrompt", shellPrompt);
+        }
+        if (sleepForShellPrompt != null) {
+            target.accept("sleepForShellPrompt", sleepForShellPrompt);
+        }
+        if (certResource != null) {
+            target.accept("certResource", certResource);
+        }
+        if (certResourcePassword != null) {
+            target.accept("certResourcePassword", certResourcePassword);
+        }
+        if (keyPairProvider != null) {
+            target.accept("keyPairProvider", keyPairProvider);
+        }
+        if (keyType != null) {
+            target.accept("keyType", keyType);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+        if (username != null) {
+            target.accept("username", username);
+        }
+    }
 }
\ No newline at end of file
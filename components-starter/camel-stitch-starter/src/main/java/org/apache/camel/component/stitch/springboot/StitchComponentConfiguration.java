@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.stitch.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.stitch.StitchComponent;
 import org.apache.camel.component.stitch.StitchConfiguration;
@@ -23,6 +24,7 @@ import org.apache.camel.component.stitch.client.StitchClient;
 import org.apache.camel.component.stitch.client.StitchRegion;
 import org.apache.camel.component.stitch.client.models.StitchSchema;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
@@ -37,7 +39,9 @@ import reactor.netty.resources.ConnectionProvider;
 @ConfigurationProperties(prefix = "camel.component.stitch")
 public class StitchComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the stitch component. This is
@@ -187,4 +191,38 @@ public class StitchComponentConfiguration
     public void setToken(String token) {
         this.token = token;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (keyNames != null) {
+            target.accept("keyNames", keyNames);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (region != null) {
+            target.accept("region", region);
+        }
+        if (stitchSchema != null) {
+            target.accept("stitchSchema", stitchSchema);
+        }
+        if (connectionProvider != null) {
+            target.accept("connectionProvider", connectionProvider);
+        }
+        if (httpClient != null) {
+            target.accept("httpClient", httpClient);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (stitchClient != null) {
+            target.accept("stitchClient", stitchClient);
+        }
+        if (token != null) {
+            target.accept("token", token);
+        }
+    }
 }
\ No newline at end of file
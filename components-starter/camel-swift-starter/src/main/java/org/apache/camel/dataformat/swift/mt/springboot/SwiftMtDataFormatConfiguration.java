@@ -16,8 +16,10 @@
  */
 package org.apache.camel.dataformat.swift.mt.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.swift-mt")
 public class SwiftMtDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the swiftMt data format. This is
@@ -48,4 +52,11 @@ public class SwiftMtDataFormatConfiguration
     public void setWriteInJson(Boolean writeInJson) {
         this.writeInJson = writeInJson;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (writeInJson != null) {
+            target.accept("writeInJson", writeInJson);
+        }
+    }
 }
\ No newline at end of file
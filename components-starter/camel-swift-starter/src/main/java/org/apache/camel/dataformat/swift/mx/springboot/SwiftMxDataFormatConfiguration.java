@@ -16,8 +16,10 @@
  */
 package org.apache.camel.dataformat.swift.mx.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.swift-mx")
 public class SwiftMxDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the swiftMx data format. This is
@@ -87,4 +91,20 @@ public class SwiftMxDataFormatConfiguration
     public void setReadConfigRef(String readConfigRef) {
         this.readConfigRef = readConfigRef;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (writeConfigRef != null) {
+            target.accept("writeConfigRef", writeConfigRef);
+        }
+        if (writeInJson != null) {
+            target.accept("writeInJson", writeInJson);
+        }
+        if (readMessageId != null) {
+            target.accept("readMessageId", readMessageId);
+        }
+        if (readConfigRef != null) {
+            target.accept("readConfigRef", readConfigRef);
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.component.twitter.directmessage.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.twitter-directmessage")
 public class TwitterDirectMessageComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the twitter-directmessage
@@ -185,4 +189,41 @@ public class TwitterDirectMessageComponentConfiguration
     public void setConsumerSecret(String consumerSecret) {
         this.consumerSecret = consumerSecret;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (httpProxyHost != null) {
+            target.accept("httpProxyHost", httpProxyHost);
+        }
+        if (httpProxyPassword != null) {
+            target.accept("httpProxyPassword", httpProxyPassword);
+        }
+        if (httpProxyPort != null) {
+            target.accept("httpProxyPort", httpProxyPort);
+        }
+        if (httpProxyUser != null) {
+            target.accept("httpProxyUser", httpProxyUser);
+        }
+        if (accessToken != null) {
+            target.accept("accessToken", accessToken);
+        }
+        if (accessTokenSecret != null) {
+            target.accept("accessTokenSecret", accessTokenSecret);
+        }
+        if (consumerKey != null) {
+            target.accept("consumerKey", consumerKey);
+        }
+        if (consumerSecret != null) {
+            target.accept("consumerSecret", consumerSecret);
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.dataformat.univocity.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.univocity-tsv")
 public class UniVocityTsvDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the univocityTsv data format.
@@ -216,4 +220,50 @@ public class UniVocityTsvDataFormatConfiguration
     public void setAsMap(Boolean asMap) {
         this.asMap = asMap;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (escapeChar != null) {
+            target.accept("escapeChar", escapeChar);
+        }
+        if (nullValue != null) {
+            target.accept("nullValue", nullValue);
+        }
+        if (skipEmptyLines != null) {
+            target.accept("skipEmptyLines", skipEmptyLines);
+        }
+        if (ignoreTrailingWhitespaces != null) {
+            target.accept("ignoreTrailingWhitespaces", ignoreTrailingWhitespaces);
+        }
+        if (ignoreLeadingWhitespaces != null) {
+            target.accept("ignoreLeadingWhitespaces", ignoreLeadingWhitespaces);
+        }
+        if (headersDisabled != null) {
+            target.accept("headersDisabled", headersDisabled);
+        }
+        if (headerExtractionEnabled != null) {
+            target.accept("headerExtractionEnabled", headerExtractionEnabled);
+        }
+        if (numberOfRecordsToRead != null) {
+            target.accept("numberOfRecordsToRead", numberOfRecordsToRead);
+        }
+        if (emptyValue != null) {
+            target.accept("emptyValue", emptyValue);
+        }
+        if (lineSeparator != null) {
+            target.accept("lineSeparator", lineSeparator);
+        }
+        if (normalizedLineSeparator != null) {
+            target.accept("normalizedLineSeparator", normalizedLineSeparator);
+        }
+        if (comment != null) {
+            target.accept("comment", comment);
+        }
+        if (lazyLoad != null) {
+            target.accept("lazyLoad", lazyLoad);
+        }
+        if (asMap != null) {
+            target.accept("asMap", asMap);
+        }
+    }
 }
\ No newline at end of file
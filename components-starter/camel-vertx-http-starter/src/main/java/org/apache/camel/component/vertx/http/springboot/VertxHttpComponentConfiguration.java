@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.vertx.http.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
@@ -24,6 +25,7 @@ import io.vertx.ext.web.client.WebClientOptions;
 import org.apache.camel.component.vertx.http.VertxHttpBinding;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -36,7 +38,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.vertx-http")
 public class VertxHttpComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the vertx-http component. This is
@@ -298,4 +302,65 @@ public class VertxHttpComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (responsePayloadAsByteArray != null) {
+            target.accept("responsePayloadAsByteArray", responsePayloadAsByteArray);
+        }
+        if (allowJavaSerializedObject != null) {
+            target.accept("allowJavaSerializedObject", allowJavaSerializedObject);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (vertx != null) {
+            target.accept("vertx", vertx);
+        }
+        if (vertxHttpBinding != null) {
+            target.accept("vertxHttpBinding", vertxHttpBinding);
+        }
+        if (vertxOptions != null) {
+            target.accept("vertxOptions", vertxOptions);
+        }
+        if (webClientOptions != null) {
+            target.accept("webClientOptions", webClientOptions);
+        }
+        if (headerFilterStrategy != null) {
+            target.accept("headerFilterStrategy", headerFilterStrategy);
+        }
+        if (proxyHost != null) {
+            target.accept("proxyHost", proxyHost);
+        }
+        if (proxyPassword != null) {
+            target.accept("proxyPassword", proxyPassword);
+        }
+        if (proxyPort != null) {
+            target.accept("proxyPort", proxyPort);
+        }
+        if (proxyType != null) {
+            target.accept("proxyType", proxyType);
+        }
+        if (proxyUsername != null) {
+            target.accept("proxyUsername", proxyUsername);
+        }
+        if (basicAuthPassword != null) {
+            target.accept("basicAuthPassword", basicAuthPassword);
+        }
+        if (basicAuthUsername != null) {
+            target.accept("basicAuthUsername", basicAuthUsername);
+        }
+        if (bearerToken != null) {
+            target.accept("bearerToken", bearerToken);
+        }
+        if (sslContextParameters != null) {
+            target.accept("sslContextParameters", sslContextParameters);
+        }
+        if (useGlobalSslContextParameters != null) {
+            target.accept("useGlobalSslContextParameters", useGlobalSslContextParameters);
+        }
+    }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@
 package org.apache.camel.component.vertx.kafka.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
@@ -25,6 +26,7 @@ import org.apache.camel.component.vertx.kafka.configuration.VertxKafkaConfigurat
 import org.apache.camel.component.vertx.kafka.offset.VertxKafkaManualCommitFactory;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -37,7 +39,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.vertx-kafka")
 public class VertxKafkaComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the vertx-kafka component. This
@@ -1752,4 +1756,326 @@ public class VertxKafkaComponentConfiguration
     public void setSslTruststoreType(String sslTruststoreType) {
         this.sslTruststoreType = sslTruststoreType;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (additionalProperties != null) {
+            target.accept("additionalProperties", additionalProperties);
+        }
+        if (bootstrapServers != null) {
+            target.accept("bootstrapServers", bootstrapServers);
+        }
+        if (clientDnsLookup != null) {
+            target.accept("clientDnsLookup", clientDnsLookup);
+        }
+        if (clientId != null) {
+            target.accept("clientId", clientId);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (connectionsMaxIdleMs != null) {
+            target.accept("connectionsMaxIdleMs", connectionsMaxIdleMs);
+        }
+        if (headerFilterStrategy != null) {
+            target.accept("headerFilterStrategy", headerFilterStrategy);
+        }
+        if (interceptorClasses != null) {
+            target.accept("interceptorClasses", interceptorClasses);
+        }
+        if (metadataMaxAgeMs != null) {
+            target.accept("metadataMaxAgeMs", metadataMaxAgeMs);
+        }
+        if (metricReporters != null) {
+            target.accept("metricReporters", metricReporters);
+        }
+        if (metricsNumSamples != null) {
+            target.accept("metricsNumSamples", metricsNumSamples);
+        }
+        if (metricsRecordingLevel != null) {
+            target.accept("metricsRecordingLevel", metricsRecordingLevel);
+        }
+        if (metricsSampleWindowMs != null) {
+            target.accept("metricsSampleWindowMs", metricsSampleWindowMs);
+        }
+        if (partitionId != null) {
+            target.accept("partitionId", partitionId);
+        }
+        if (receiveBufferBytes != null) {
+            target.accept("receiveBufferBytes", receiveBufferBytes);
+        }
+        if (reconnectBackoffMaxMs != null) {
+            target.accept("reconnectBackoffMaxMs", reconnectBackoffMaxMs);
+        }
+        if (reconnectBackoffMs != null) {
+            target.accept("reconnectBackoffMs", reconnectBackoffMs);
+        }
+        if (requestTimeoutMs != null) {
+            target.accept("requestTimeoutMs", requestTimeoutMs);
+        }
+        if (retryBackoffMs != null) {
+            target.accept("retryBackoffMs", retryBackoffMs);
+        }
+        if (sendBufferBytes != null) {
+            target.accept("sendBufferBytes", sendBufferBytes);
+        }
+        if (socketConnectionSetupTimeoutMaxMs != null) {
+            target.accept("socketConnectionSetupTimeoutMaxMs", socketConnectionSetupTimeoutMaxMs);
+        }
+        if (socketConnectionSetupTimeoutMs != null) {
+            target.accept("socketConnectionSetupTimeoutMs", socketConnectionSetupTimeoutMs);
+        }
+        if (allowAutoCreateTopics != null) {
+            target.accept("allowAutoCreateTopics", allowAutoCreateTopics);
+        }
+        if (allowManualCommit != null) {
+            target.accept("allowManualCommit", allowManualCommit);
+        }
+        if (autoCommitIntervalMs != null) {
+            target.accept("autoCommitIntervalMs", autoCommitIntervalMs);
+        }
+        if (autoOffsetReset != null) {
+            target.accept("autoOffsetReset", autoOffsetReset);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (checkCrcs != null) {
+            target.accept("checkCrcs", checkCrcs);
+        }
+        if (clientRack != null) {
+            target.accept("clientRack", clientRack);
+        }
+        if (defaultApiTimeoutMs != null) {
+            target.accept("defaultApiTimeoutMs", defaultApiTimeoutMs);
+        }
+        if (enableAutoCommit != null) {
+            target.accept("enableAutoCommit", enableAutoCommit);
+        }
+        if (excludeInternalTopics != null) {
+            target.accept("excludeInternalTopics", excludeInternalTopics);
+        }
+        if (fetchMaxBytes != null) {
+            target.accept("fetchMaxBytes", fetchMaxBytes);
+        }
+        if (fetchMaxWaitMs != null) {
+            target.accept("fetchMaxWaitMs", fetchMaxWaitMs);
+        }
+        if (fetchMinBytes != null) {
+            target.accept("fetchMinBytes", fetchMinBytes);
+        }
+        if (groupId != null) {
+            target.accept("groupId", groupId);
+        }
+        if (groupInstanceId != null) {
+            target.accept("groupInstanceId", groupInstanceId);
+        }
+        if (heartbeatIntervalMs != null) {
+            target.accept("heartbeatIntervalMs", heartbeatIntervalMs);
+        }
+        if (isolationLevel != null) {
+            target.accept("isolationLevel", isolationLevel);
+        }
+        if (keyDeserializer != null) {
+            target.accept("keyDeserializer", keyDeserializer);
+        }
+        if (maxPartitionFetchBytes != null) {
+            target.accept("maxPartitionFetchBytes", maxPartitionFetchBytes);
+        }
+        if (maxPollIntervalMs != null) {
+            target.accept("maxPollIntervalMs", maxPollIntervalMs);
+        }
+        if (maxPollRecords != null) {
+            target.accept("maxPollRecords", maxPollRecords);
+        }
+        if (partitionAssignmentStrategy != null) {
+            target.accept("partitionAssignmentStrategy", partitionAssignmentStrategy);
+        }
+        if (seekToOffset != null) {
+            target.accept("seekToOffset", seekToOffset);
+        }
+        if (seekToPosition != null) {
+            target.accept("seekToPosition", seekToPosition);
+        }
+        if (sessionTimeoutMs != null) {
+            target.accept("sessionTimeoutMs", sessionTimeoutMs);
+        }
+        if (valueDeserializer != null) {
+            target.accept("valueDeserializer", valueDeserializer);
+        }
+        if (kafkaManualCommitFactory != null) {
+            target.accept("kafkaManualCommitFactory", kafkaManualCommitFactory);
+        }
+        if (acks != null) {
+            target.accept("acks", acks);
+        }
+        if (batchSize != null) {
+            target.accept("batchSize", batchSize);
+        }
+        if (bufferMemory != null) {
+            target.accept("bufferMemory", bufferMemory);
+        }
+        if (compressionType != null) {
+            target.accept("compressionType", compressionType);
+        }
+        if (deliveryTimeoutMs != null) {
+            target.accept("deliveryTimeoutMs", deliveryTimeoutMs);
+        }
+        if (enableIdempotence != null) {
+            target.accept("enableIdempotence", enableIdempotence);
+        }
+        if (keySerializer != null) {
+            target.accept("keySerializer", keySerializer);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (lingerMs != null) {
+            target.accept("lingerMs", lingerMs);
+        }
+        if (maxBlockMs != null) {
+            target.accept("maxBlockMs", maxBlockMs);
+        }
+        if (maxInFlightRequestsPerConnection != null) {
+            target.accept("maxInFlightRequestsPerConnection", maxInFlightRequestsPerConnection);
+        }
+        if (maxRequestSize != null) {
+            target.accept("maxRequestSize", maxRequestSize);
+        }
+        if (metadataMaxIdleMs != null) {
+            target.accept("metadataMaxIdleMs", metadataMaxIdleMs);
+        }
+        if (partitionerClass != null) {
+            target.accept("partitionerClass", partitionerClass);
+        }
+        if (retries != null) {
+            target.accept("retries", retries);
+        }
+        if (transactionalId != null) {
+            target.accept("transactionalId", transactionalId);
+        }
+        if (transactionTimeoutMs != null) {
+            target.accept("transactionTimeoutMs", transactionTimeoutMs);
+        }
+        if (valueSerializer != null) {
+            target.accept("valueSerializer", valueSerializer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (vertx != null) {
+            target.accept("vertx", vertx);
+        }
+        if (vertxKafkaClientFactory != null) {
+            target.accept("vertxKafkaClientFactory", vertxKafkaClientFactory);
+        }
+        if (vertxOptions != null) {
+            target.accept("vertxOptions", vertxOptions);
+        }
+        if (saslClientCallbackHandlerClass != null) {
+            target.accept("saslClientCallbackHandlerClass", saslClientCallbackHandlerClass);
+        }
+        if (saslJaasConfig != null) {
+            target.accept("saslJaasConfig", saslJaasConfig);
+        }
+        if (saslKerberosKinitCmd != null) {
+            target.accept("saslKerberosKinitCmd", saslKerberosKinitCmd);
+        }
+        if (saslKerberosMinTimeBeforeRelogin != null) {
+            target.accept("saslKerberosMinTimeBeforeRelogin", saslKerberosMinTimeBeforeRelogin);
+        }
+        if (saslKerberosServiceName != null) {
+            target.accept("saslKerberosServiceName", saslKerberosServiceName);
+        }
+        if (saslKerberosTicketRenewJitter != null) {
+            target.accept("saslKerberosTicketRenewJitter", saslKerberosTicketRenewJitter);
+        }
+        if (saslKerberosTicketRenewWindowFactor != null) {
+            target.accept("saslKerberosTicketRenewWindowFactor", saslKerberosTicketRenewWindowFactor);
+        }
+        if (saslLoginCallbackHandlerClass != null) {
+            target.accept("saslLoginCallbackHandlerClass", saslLoginCallbackHandlerClass);
+        }
+        if (saslLoginClass != null) {
+            target.accept("saslLoginClass", saslLoginClass);
+        }
+        if (saslLoginRefreshBufferSeconds != null) {
+            target.accept("saslLoginRefreshBufferSeconds", saslLoginRefreshBufferSeconds);
+        }
+        if (saslLoginRefreshMinPeriodSeconds != null) {
+            target.accept("saslLoginRefreshMinPeriodSeconds", saslLoginRefreshMinPeriodSeconds);
+        }
+        if (saslLoginRefreshWindowFactor != null) {
+            target.accept("saslLoginRefreshWindowFactor", saslLoginRefreshWindowFactor);
+        }
+        if (saslLoginRefreshWindowJitter != null) {
+            target.accept("saslLoginRefreshWindowJitter", saslLoginRefreshWindowJitter);
+        }
+        if (saslMechanism != null) {
+            target.accept("saslMechanism", saslMechanism);
+        }
+        if (securityProtocol != null) {
+            target.accept("securityProtocol", securityProtocol);
+        }
+        if (securityProviders != null) {
+            target.accept("securityProviders", securityProviders);
+        }
+        if (sslCipherSuites != null) {
+            target.accept("sslCipherSuites", sslCipherSuites);
+        }
+        if (sslEnabledProtocols != null) {
+            target.accept("sslEnabledProtocols", sslEnabledProtocols);
+        }
+        if (sslEndpointIdentificationAlgorithm != null) {
+            target.accept("sslEndpointIdentificationAlgorithm", sslEndpointIdentificationAlgorithm);
+        }
+        if (sslEngineFactoryClass != null) {
+            target.accept("sslEngineFactoryClass", sslEngineFactoryClass);
+        }
+        if (sslKeymanagerAlgorithm != null) {
+            target.accept("sslKeymanagerAlgorithm", sslKeymanagerAlgorithm);
+        }
+        if (sslKeyPassword != null) {
+            target.accept("sslKeyPassword", sslKeyPassword);
+        }
+        if (sslKeystoreCertificateChain != null) {
+            target.accept("sslKeystoreCertificateChain", sslKeystoreCertificateChain);
+        }
+        if (sslKeystoreKey != null) {
+            target.accept("sslKeystoreKey", sslKeystoreKey);
+        }
+        if (sslKeystoreLocation != null) {
+            target.accept("sslKeystoreLocation", sslKeystoreLocation);
+        }
+        if (sslKeystorePassword != null) {
+            target.accept("sslKeystorePassword", sslKeystorePassword);
+        }
+        if (sslKeystoreType != null) {
+            target.accept("sslKeystoreType", sslKeystoreType);
+        }
+        if (sslProtocol != null) {
+            target.accept("sslProtocol", sslProtocol);
+        }
+        if (sslProvider != null) {
+            target.accept("sslProvider", sslProvider);
+        }
+        if (sslSecureRandomImplementation != null) {
+            target.accept("sslSecureRandomImplementation", sslSecureRandomImplementation);
+        }
+        if (sslTrustmanagerAlgorithm != null) {
+            target.accept("sslTrustmanagerAlgorithm", sslTrustmanagerAlgorithm);
+        }
+        if (sslTruststoreCertificates != null) {
+            target.accept("sslTruststoreCertificates", sslTruststoreCertificates);
+        }
+        if (sslTruststoreLocation != null) {
+            target.accept("sslTruststoreLocation", sslTruststoreLocation);
+        }
+        if (sslTruststorePassword != null) {
+            target.accept("sslTruststorePassword", sslTruststorePassword);
+        }
+        if (sslTruststoreType != null) {
+            target.accept("sslTruststoreType", sslTruststoreType);
+        }
+    }
 }
\ No newline at end of file
@@ -16,11 +16,13 @@
  */
 package org.apache.camel.component.vertx.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.impl.VertxBuilder;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.vertx")
 public class VertxComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the vertx component. This is
@@ -168,4 +172,35 @@ public class VertxComponentConfiguration
     public void setVertxFactory(VertxBuilder vertxFactory) {
         this.vertxFactory = vertxFactory;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (host != null) {
+            target.accept("host", host);
+        }
+        if (port != null) {
+            target.accept("port", port);
+        }
+        if (timeout != null) {
+            target.accept("timeout", timeout);
+        }
+        if (vertx != null) {
+            target.accept("vertx", vertx);
+        }
+        if (vertxOptions != null) {
+            target.accept("vertxOptions", vertxOptions);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (vertxFactory != null) {
+            target.accept("vertxFactory", vertxFactory);
+        }
+    }
 }
\ No newline at end of file
@@ -18,9 +18,11 @@ package org.apache.camel.component.web3j.springboot;
 
 import java.math.BigInteger;
 import java.util.List;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.web3j.Web3jConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.web3j.protocol.Web3j;
 
@@ -33,7 +35,9 @@ import org.web3j.protocol.Web3j;
 @ConfigurationProperties(prefix = "camel.component.web3j")
 public class Web3jComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the web3j component. This is
@@ -530,4 +534,122 @@ public class Web3jComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (addresses != null) {
+            target.accept("addresses", addresses);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (fromAddress != null) {
+            target.accept("fromAddress", fromAddress);
+        }
+        if (fromBlock != null) {
+            target.accept("fromBlock", fromBlock);
+        }
+        if (fullTransactionObjects != null) {
+            target.accept("fullTransactionObjects", fullTransactionObjects);
+        }
+        if (gasLimit != null) {
+            target.accept("gasLimit", gasLimit);
+        }
+        if (privateFor != null) {
+            target.accept("privateFor", privateFor);
+        }
+        if (quorumAPI != null) {
+            target.accept("quorumAPI", quorumAPI);
+        }
+        if (toAddress != null) {
+            target.accept("toAddress", toAddress);
+        }
+        if (toBlock != null) {
+            target.accept("toBlock", toBlock);
+        }
+        if (topics != null) {
+            target.accept("topics", topics);
+        }
+        if (web3j != null) {
+            target.accept("web3j", web3j);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (address != null) {
+            target.accept("address", address);
+        }
+        if (atBlock != null) {
+            target.accept("atBlock", atBlock);
+        }
+        if (blockHash != null) {
+            target.accept("blockHash", blockHash);
+        }
+        if (clientId != null) {
+            target.accept("clientId", clientId);
+        }
+        if (data != null) {
+            target.accept("data", data);
+        }
+        if (databaseName != null) {
+            target.accept("databaseName", databaseName);
+        }
+        if (filterId != null) {
+            target.accept("filterId", filterId);
+        }
+        if (gasPrice != null) {
+            target.accept("gasPrice", gasPrice);
+        }
+        if (hashrate != null) {
+            target.accept("hashrate", hashrate);
+        }
+        if (headerPowHash != null) {
+            target.accept("headerPowHash", headerPowHash);
+        }
+        if (index != null) {
+            target.accept("index", index);
+        }
+        if (keyName != null) {
+            target.accept("keyName", keyName);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (mixDigest != null) {
+            target.accept("mixDigest", mixDigest);
+        }
+        if (nonce != null) {
+            target.accept("nonce", nonce);
+        }
+        if (operation != null) {
+            target.accept("operation", operation);
+        }
+        if (position != null) {
+            target.accept("position", position);
+        }
+        if (priority != null) {
+            target.accept("priority", priority);
+        }
+        if (sha3HashOfDataToSign != null) {
+            target.accept("sha3HashOfDataToSign", sha3HashOfDataToSign);
+        }
+        if (signedTransactionData != null) {
+            target.accept("signedTransactionData", signedTransactionData);
+        }
+        if (sourceCode != null) {
+            target.accept("sourceCode", sourceCode);
+        }
+        if (transactionHash != null) {
+            target.accept("transactionHash", transactionHash);
+        }
+        if (ttl != null) {
+            target.accept("ttl", ttl);
+        }
+        if (value != null) {
+            target.accept("value", value);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+    }
 }
\ No newline at end of file
@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.webhook.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.webhook.WebhookConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.webhook")
 public class WebhookComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the webhook component. This is
@@ -150,4 +154,32 @@ public class WebhookComponentConfiguration
     public void setConfiguration(WebhookConfiguration configuration) {
         this.configuration = configuration;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (webhookAutoRegister != null) {
+            target.accept("webhookAutoRegister", webhookAutoRegister);
+        }
+        if (webhookBasePath != null) {
+            target.accept("webhookBasePath", webhookBasePath);
+        }
+        if (webhookComponentName != null) {
+            target.accept("webhookComponentName", webhookComponentName);
+        }
+        if (webhookExternalUrl != null) {
+            target.accept("webhookExternalUrl", webhookExternalUrl);
+        }
+        if (webhookPath != null) {
+            target.accept("webhookPath", webhookPath);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.websocket.jsr356.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.camel.websocket.jsr356.ServerEndpointDeploymentStrategy;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.websocket-jsr356")
 public class JSR356WebSocketComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the websocket-jsr356 component.
@@ -106,4 +110,20 @@ public class JSR356WebSocketComponentConfiguration
             ServerEndpointDeploymentStrategy serverEndpointDeploymentStrategy) {
         this.serverEndpointDeploymentStrategy = serverEndpointDeploymentStrategy;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (serverEndpointDeploymentStrategy != null) {
+            target.accept("serverEndpointDeploymentStrategy", serverEndpointDeploymentStrategy);
+        }
+    }
 }
\ No newline at end of file
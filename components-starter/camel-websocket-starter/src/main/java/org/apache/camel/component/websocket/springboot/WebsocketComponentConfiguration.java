@@ -16,8 +16,10 @@
  */
 package org.apache.camel.component.websocket.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.eclipse.jetty.util.thread.ThreadPool;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.websocket")
 public class WebsocketComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the websocket component. This is
@@ -269,4 +273,56 @@ public class WebsocketComponentConfiguration
             Boolean useGlobalSslContextParameters) {
         this.useGlobalSslContextParameters = useGlobalSslContextParameters;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (host != null) {
+            target.accept("host", host);
+        }
+        if (port != null) {
+            target.accept("port", port);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (staticResources != null) {
+            target.accept("staticResources", staticResources);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (enableJmx != null) {
+            target.accept("enableJmx", enableJmx);
+        }
+        if (maxThreads != null) {
+            target.accept("maxThreads", maxThreads);
+        }
+        if (minThreads != null) {
+            target.accept("minThreads", minThreads);
+        }
+        if (subprotocol != null) {
+            target.accept("subprotocol", subprotocol);
+        }
+        if (threadPool != null) {
+            target.accept("threadPool", threadPool);
+        }
+        if (sslContextParameters != null) {
+            target.accept("sslContextParameters", sslContextParameters);
+        }
+        if (sslKeyPassword != null) {
+            target.accept("sslKeyPassword", sslKeyPassword);
+        }
+        if (sslKeystore != null) {
+            target.accept("sslKeystore", sslKeystore);
+        }
+        if (sslPassword != null) {
+            target.accept("sslPassword", sslPassword);
+        }
+        if (useGlobalSslContextParameters != null) {
+            target.accept("useGlobalSslContextParameters", useGlobalSslContextParameters);
+        }
+    }
 }
\ No newline at end of file
@@ -17,10 +17,12 @@
 package org.apache.camel.component.wordpress.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.wordpress.WordpressConfiguration;
 import org.apache.camel.component.wordpress.api.model.SearchCriteria;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.wordpress")
 public class WordpressComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the wordpress component. This is
@@ -203,4 +207,44 @@ public class WordpressComponentConfiguration
     public void setAutowiredEnabled(Boolean autowiredEnabled) {
         this.autowiredEnabled = autowiredEnabled;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (apiVersion != null) {
+            target.accept("apiVersion", apiVersion);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (criteria != null) {
+            target.accept("criteria", criteria);
+        }
+        if (force != null) {
+            target.accept("force", force);
+        }
+        if (id != null) {
+            target.accept("id", id);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+        if (searchCriteria != null) {
+            target.accept("searchCriteria", searchCriteria);
+        }
+        if (url != null) {
+            target.accept("url", url);
+        }
+        if (user != null) {
+            target.accept("user", user);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+    }
 }
\ No newline at end of file
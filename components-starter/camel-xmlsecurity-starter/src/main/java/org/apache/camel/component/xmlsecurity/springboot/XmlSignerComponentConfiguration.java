@@ -18,6 +18,7 @@ package org.apache.camel.component.xmlsecurity.springboot;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import javax.xml.crypto.AlgorithmMethod;
 import javax.xml.crypto.URIDereferencer;
@@ -26,6 +27,7 @@ import org.apache.camel.component.xmlsecurity.api.KeyAccessor;
 import org.apache.camel.component.xmlsecurity.api.XmlSignatureProperties;
 import org.apache.camel.component.xmlsecurity.processor.XmlSignerConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -37,7 +39,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.xmlsecurity-sign")
 public class XmlSignerComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the xmlsecurity-sign component.
@@ -503,4 +507,95 @@ public class XmlSignerComponentConfiguration
     public void setUriDereferencer(URIDereferencer uriDereferencer) {
         this.uriDereferencer = uriDereferencer;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (addKeyInfoReference != null) {
+            target.accept("addKeyInfoReference", addKeyInfoReference);
+        }
+        if (baseUri != null) {
+            target.accept("baseUri", baseUri);
+        }
+        if (canonicalizationMethod != null) {
+            target.accept("canonicalizationMethod", canonicalizationMethod);
+        }
+        if (clearHeaders != null) {
+            target.accept("clearHeaders", clearHeaders);
+        }
+        if (contentObjectId != null) {
+            target.accept("contentObjectId", contentObjectId);
+        }
+        if (contentReferenceType != null) {
+            target.accept("contentReferenceType", contentReferenceType);
+        }
+        if (contentReferenceUri != null) {
+            target.accept("contentReferenceUri", contentReferenceUri);
+        }
+        if (cryptoContextProperties != null) {
+            target.accept("cryptoContextProperties", cryptoContextProperties);
+        }
+        if (digestAlgorithm != null) {
+            target.accept("digestAlgorithm", digestAlgorithm);
+        }
+        if (disallowDoctypeDecl != null) {
+            target.accept("disallowDoctypeDecl", disallowDoctypeDecl);
+        }
+        if (keyAccessor != null) {
+            target.accept("keyAccessor", keyAccessor);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (omitXmlDeclaration != null) {
+            target.accept("omitXmlDeclaration", omitXmlDeclaration);
+        }
+        if (outputXmlEncoding != null) {
+            target.accept("outputXmlEncoding", outputXmlEncoding);
+        }
+        if (parentLocalName != null) {
+            target.accept("parentLocalName", parentLocalName);
+        }
+        if (parentNamespace != null) {
+            target.accept("parentNamespace", parentNamespace);
+        }
+        if (parentXpath != null) {
+            target.accept("parentXpath", parentXpath);
+        }
+        if (plainText != null) {
+            target.accept("plainText", plainText);
+        }
+        if (plainTextEncoding != null) {
+            target.accept("plainTextEncoding", plainTextEncoding);
+        }
+        if (prefixForXmlSignatureNamespace != null) {
+            target.accept("prefixForXmlSignatureNamespace", prefixForXmlSignatureNamespace);
+        }
+        if (properties != null) {
+            target.accept("properties", properties);
+        }
+        if (schemaResourceUri != null) {
+            target.accept("schemaResourceUri", schemaResourceUri);
+        }
+        if (signatureAlgorithm != null) {
+            target.accept("signatureAlgorithm", signatureAlgorithm);
+        }
+        if (signatureId != null) {
+            target.accept("signatureId", signatureId);
+        }
+        if (transformMethods != null) {
+            target.accept("transformMethods", transformMethods);
+        }
+        if (xpathsToIdAttributes != null) {
+            target.accept("xpathsToIdAttributes", xpathsToIdAttributes);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (signerConfiguration != null) {
+            target.accept("signerConfiguration", signerConfiguration);
+        }
+        if (uriDereferencer != null) {
+            target.accept("uriDereferencer", uriDereferencer);
+        }
+    }
 }
\ No newline at end of file
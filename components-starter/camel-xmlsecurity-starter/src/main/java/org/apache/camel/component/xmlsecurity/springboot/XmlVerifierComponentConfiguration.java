@@ -17,6 +17,7 @@
 package org.apache.camel.component.xmlsecurity.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import javax.xml.crypto.KeySelector;
 import javax.xml.crypto.URIDereferencer;
@@ -25,6 +26,7 @@ import org.apache.camel.component.xmlsecurity.api.XmlSignature2Message;
 import org.apache.camel.component.xmlsecurity.api.XmlSignatureChecker;
 import org.apache.camel.component.xmlsecurity.processor.XmlVerifierConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -36,7 +38,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.xmlsecurity-verify")
 public class XmlVerifierComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the xmlsecurity-verify component.
@@ -356,4 +360,65 @@ public class XmlVerifierComponentConfiguration
             XmlVerifierConfiguration verifierConfiguration) {
         this.verifierConfiguration = verifierConfiguration;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (baseUri != null) {
+            target.accept("baseUri", baseUri);
+        }
+        if (clearHeaders != null) {
+            target.accept("clearHeaders", clearHeaders);
+        }
+        if (cryptoContextProperties != null) {
+            target.accept("cryptoContextProperties", cryptoContextProperties);
+        }
+        if (disallowDoctypeDecl != null) {
+            target.accept("disallowDoctypeDecl", disallowDoctypeDecl);
+        }
+        if (keySelector != null) {
+            target.accept("keySelector", keySelector);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (omitXmlDeclaration != null) {
+            target.accept("omitXmlDeclaration", omitXmlDeclaration);
+        }
+        if (outputNodeSearch != null) {
+            target.accept("outputNodeSearch", outputNodeSearch);
+        }
+        if (outputNodeSearchType != null) {
+            target.accept("outputNodeSearchType", outputNodeSearchType);
+        }
+        if (outputXmlEncoding != null) {
+            target.accept("outputXmlEncoding", outputXmlEncoding);
+        }
+        if (removeSignatureElements != null) {
+            target.accept("removeSignatureElements", removeSignatureElements);
+        }
+        if (schemaResourceUri != null) {
+            target.accept("schemaResourceUri", schemaResourceUri);
+        }
+        if (secureValidation != null) {
+            target.accept("secureValidation", secureValidation);
+        }
+        if (validationFailedHandler != null) {
+            target.accept("validationFailedHandler", validationFailedHandler);
+        }
+        if (xmlSignature2Message != null) {
+            target.accept("xmlSignature2Message", xmlSignature2Message);
+        }
+        if (xmlSignatureChecker != null) {
+            target.accept("xmlSignatureChecker", xmlSignatureChecker);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (uriDereferencer != null) {
+            target.accept("uriDereferencer", uriDereferencer);
+        }
+        if (verifierConfiguration != null) {
+            target.accept("verifierConfiguration", verifierConfiguration);
+        }
+    }
 }
\ No newline at end of file
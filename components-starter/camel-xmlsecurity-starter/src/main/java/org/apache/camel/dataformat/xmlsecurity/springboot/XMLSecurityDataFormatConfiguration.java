@@ -16,8 +16,10 @@
  */
 package org.apache.camel.dataformat.xmlsecurity.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.xml-security")
 public class XMLSecurityDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the xmlSecurity data format. This
@@ -210,4 +214,44 @@ public class XMLSecurityDataFormatConfiguration
     public void setAddKeyValueForEncryptedKey(Boolean addKeyValueForEncryptedKey) {
         this.addKeyValueForEncryptedKey = addKeyValueForEncryptedKey;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (xmlCipherAlgorithm != null) {
+            target.accept("xmlCipherAlgorithm", xmlCipherAlgorithm);
+        }
+        if (passPhrase != null) {
+            target.accept("passPhrase", passPhrase);
+        }
+        if (passPhraseByte != null) {
+            target.accept("passPhraseByte", passPhraseByte);
+        }
+        if (secureTag != null) {
+            target.accept("secureTag", secureTag);
+        }
+        if (secureTagContents != null) {
+            target.accept("secureTagContents", secureTagContents);
+        }
+        if (keyCipherAlgorithm != null) {
+            target.accept("keyCipherAlgorithm", keyCipherAlgorithm);
+        }
+        if (recipientKeyAlias != null) {
+            target.accept("recipientKeyAlias", recipientKeyAlias);
+        }
+        if (keyOrTrustStoreParametersRef != null) {
+            target.accept("keyOrTrustStoreParametersRef", keyOrTrustStoreParametersRef);
+        }
+        if (keyPassword != null) {
+            target.accept("keyPassword", keyPassword);
+        }
+        if (digestAlgorithm != null) {
+            target.accept("digestAlgorithm", digestAlgorithm);
+        }
+        if (mgfAlgorithm != null) {
+            target.accept("mgfAlgorithm", mgfAlgorithm);
+        }
+        if (addKeyValueForEncryptedKey != null) {
+            target.accept("addKeyValueForEncryptedKey", addKeyValueForEncryptedKey);
+        }
+    }
 }
\ No newline at end of file
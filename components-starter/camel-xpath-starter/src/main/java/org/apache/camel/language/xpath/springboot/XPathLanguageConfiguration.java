@@ -17,9 +17,11 @@
 package org.apache.camel.language.xpath.springboot;
 
 import java.util.List;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.model.PropertyDefinition;
 import org.apache.camel.spring.boot.LanguageConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.language.xpath")
 public class XPathLanguageConfiguration
         extends
-            LanguageConfigurationPropertiesCommon {
+            LanguageConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the xpath language. This is
@@ -173,4 +177,38 @@ public class XPathLanguageConfiguration
     public void setTrim(Boolean trim) {
         this.trim = trim;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (documentType != null) {
+            target.accept("documentType", documentType);
+        }
+        if (saxon != null) {
+            target.accept("saxon", saxon);
+        }
+        if (factoryRef != null) {
+            target.accept("factoryRef", factoryRef);
+        }
+        if (objectModel != null) {
+            target.accept("objectModel", objectModel);
+        }
+        if (logNamespaces != null) {
+            target.accept("logNamespaces", logNamespaces);
+        }
+        if (threadSafety != null) {
+            target.accept("threadSafety", threadSafety);
+        }
+        if (preCompile != null) {
+            target.accept("preCompile", preCompile);
+        }
+        if (namespace != null) {
+            target.accept("namespace", namespace);
+        }
+        if (propertyName != null) {
+            target.accept("propertyName", propertyName);
+        }
+        if (trim != null) {
+            target.accept("trim", trim);
+        }
+    }
 }
\ No newline at end of file
@@ -17,12 +17,14 @@
 package org.apache.camel.component.xslt.saxon.springboot;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import javax.xml.transform.URIResolver;
 import net.sf.saxon.Configuration;
 import org.apache.camel.component.xslt.TransformerFactoryConfigurationStrategy;
 import org.apache.camel.component.xslt.XsltUriResolverFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -34,7 +36,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.xslt-saxon")
 public class XsltSaxonComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the xslt-saxon component. This is
@@ -205,4 +209,41 @@ public class XsltSaxonComponentConfiguration
     public void setUriResolverFactory(XsltUriResolverFactory uriResolverFactory) {
         this.uriResolverFactory = uriResolverFactory;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (contentCache != null) {
+            target.accept("contentCache", contentCache);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (saxonConfiguration != null) {
+            target.accept("saxonConfiguration", saxonConfiguration);
+        }
+        if (saxonConfigurationProperties != null) {
+            target.accept("saxonConfigurationProperties", saxonConfigurationProperties);
+        }
+        if (saxonExtensionFunctions != null) {
+            target.accept("saxonExtensionFunctions", saxonExtensionFunctions);
+        }
+        if (secureProcessing != null) {
+            target.accept("secureProcessing", secureProcessing);
+        }
+        if (transformerFactoryClass != null) {
+            target.accept("transformerFactoryClass", transformerFactoryClass);
+        }
+        if (transformerFactoryConfigurationStrategy != null) {
+            target.accept("transformerFactoryConfigurationStrategy", transformerFactoryConfigurationStrategy);
+        }
+        if (uriResolver != null) {
+            target.accept("uriResolver", uriResolver);
+        }
+        if (uriResolverFactory != null) {
+            target.accept("uriResolverFactory", uriResolverFactory);
+        }
+    }
 }
\ No newline at end of file
@@ -16,11 +16,13 @@
  */
 package org.apache.camel.component.xslt.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import javax.xml.transform.URIResolver;
 import org.apache.camel.component.xslt.TransformerFactoryConfigurationStrategy;
 import org.apache.camel.component.xslt.XsltUriResolverFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -32,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.xslt")
 public class XsltComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the xslt component. This is
@@ -147,4 +151,29 @@ public class XsltComponentConfiguration
     public void setUriResolverFactory(XsltUriResolverFactory uriResolverFactory) {
         this.uriResolverFactory = uriResolverFactory;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (contentCache != null) {
+            target.accept("contentCache", contentCache);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (transformerFactoryClass != null) {
+            target.accept("transformerFactoryClass", transformerFactoryClass);
+        }
+        if (transformerFactoryConfigurationStrategy != null) {
+            target.accept("transformerFactoryConfigurationStrategy", transformerFactoryConfigurationStrategy);
+        }
+        if (uriResolver != null) {
+            target.accept("uriResolver", uriResolver);
+        }
+        if (uriResolverFactory != null) {
+            target.accept("uriResolverFactory", uriResolverFactory);
+        }
+    }
 }
\ No newline at end of file
@@ -17,9 +17,11 @@
 package org.apache.camel.dataformat.xstream.springboot;
 
 import java.util.List;
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.model.PropertyDefinition;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -31,7 +33,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.xstream")
 public class XStreamDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the xstream data format. This is
@@ -155,4 +159,32 @@ public class XStreamDataFormatConfiguration
             List<PropertyDefinition> implicitCollections) {
         this.implicitCollections = implicitCollections;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (permissions != null) {
+            target.accept("permissions", permissions);
+        }
+        if (encoding != null) {
+            target.accept("encoding", encoding);
+        }
+        if (mode != null) {
+            target.accept("mode", mode);
+        }
+        if (contentTypeHeader != null) {
+            target.accept("contentTypeHeader", contentTypeHeader);
+        }
+        if (converters != null) {
+            target.accept("converters", converters);
+        }
+        if (aliases != null) {
+            target.accept("aliases", aliases);
+        }
+        if (omitFields != null) {
+            target.accept("omitFields", omitFields);
+        }
+        if (implicitCollections != null) {
+            target.accept("implicitCollections", implicitCollections);
+        }
+    }
 }
\ No newline at end of file
@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.zendesk.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.zendesk.ZendeskConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.zendesk.client.v2.Zendesk;
 
@@ -31,7 +33,9 @@ import org.zendesk.client.v2.Zendesk;
 @ConfigurationProperties(prefix = "camel.component.zendesk")
 public class ZendeskComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the zendesk component. This is
@@ -177,4 +181,38 @@ public class ZendeskComponentConfiguration
     public void setUsername(String username) {
         this.username = username;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (serverUrl != null) {
+            target.accept("serverUrl", serverUrl);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+        if (zendesk != null) {
+            target.accept("zendesk", zendesk);
+        }
+        if (oauthToken != null) {
+            target.accept("oauthToken", oauthToken);
+        }
+        if (password != null) {
+            target.accept("password", password);
+        }
+        if (token != null) {
+            target.accept("token", token);
+        }
+        if (username != null) {
+            target.accept("username", username);
+        }
+    }
 }
\ No newline at end of file
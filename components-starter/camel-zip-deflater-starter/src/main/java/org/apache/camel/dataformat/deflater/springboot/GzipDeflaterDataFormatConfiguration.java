@@ -16,8 +16,10 @@
  */
 package org.apache.camel.dataformat.deflater.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,11 +31,17 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.gzip-deflater")
 public class GzipDeflaterDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the gzipDeflater data format.
      * This is enabled by default.
      */
     private Boolean enabled;
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+    }
 }
\ No newline at end of file
@@ -16,8 +16,10 @@
  */
 package org.apache.camel.dataformat.zipfile.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.spring.boot.DataFormatConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -29,7 +31,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.dataformat.zip-file")
 public class ZipFileDataFormatConfiguration
         extends
-            DataFormatConfigurationPropertiesCommon {
+            DataFormatConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the zipFile data format. This is
@@ -91,4 +95,20 @@ public class ZipFileDataFormatConfiguration
     public void setMaxDecompressedSize(Long maxDecompressedSize) {
         this.maxDecompressedSize = maxDecompressedSize;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (usingIterator != null) {
+            target.accept("usingIterator", usingIterator);
+        }
+        if (allowEmptyDirectory != null) {
+            target.accept("allowEmptyDirectory", allowEmptyDirectory);
+        }
+        if (preservePathElements != null) {
+            target.accept("preservePathElements", preservePathElements);
+        }
+        if (maxDecompressedSize != null) {
+            target.accept("maxDecompressedSize", maxDecompressedSize);
+        }
+    }
 }
\ No newline at end of file
@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.zookeepermaster.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.zookeepermaster.ContainerIdFactory;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.apache.curator.framework.CuratorFramework;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -32,7 +34,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.zookeeper-master")
 public class MasterComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the zookeeper-master component.
@@ -150,4 +154,32 @@ public class MasterComponentConfiguration
     public void setZooKeeperPassword(String zooKeeperPassword) {
         this.zooKeeperPassword = zooKeeperPassword;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (maximumConnectionTimeout != null) {
+            target.accept("maximumConnectionTimeout", maximumConnectionTimeout);
+        }
+        if (zkRoot != null) {
+            target.accept("zkRoot", zkRoot);
+        }
+        if (zooKeeperUrl != null) {
+            target.accept("zooKeeperUrl", zooKeeperUrl);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (containerIdFactory != null) {
+            target.accept("containerIdFactory", containerIdFactory);
+        }
+        if (curator != null) {
+            target.accept("curator", curator);
+        }
+        if (zooKeeperPassword != null) {
+            target.accept("zooKeeperPassword", zooKeeperPassword);
+        }
+    }
 }
\ No newline at end of file
@@ -16,9 +16,11 @@
  */
 package org.apache.camel.component.zookeeper.springboot;
 
+import java.util.function.BiConsumer;
 import javax.annotation.Generated;
 import org.apache.camel.component.zookeeper.ZooKeeperConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationPropertiesCommon;
+import org.apache.camel.spring.boot.util.CamelPropertiesCopier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,7 +32,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "camel.component.zookeeper")
 public class ZooKeeperComponentConfiguration
         extends
-            ComponentConfigurationPropertiesCommon {
+            ComponentConfigurationPropertiesCommon
+        implements
+            CamelPropertiesCopier {
 
     /**
      * Whether to enable auto configuration of the zookeeper component. This is
@@ -188,4 +192,41 @@ public class ZooKeeperComponentConfiguration
     public void setConfiguration(ZooKeeperConfiguration configuration) {
         this.configuration = configuration;
     }
+
+    @Override
+    public void copyNonNullProperties(BiConsumer<String, Object> target) {
+        if (listChildren != null) {
+            target.accept("listChildren", listChildren);
+        }
+        if (timeout != null) {
+            target.accept("timeout", timeout);
+        }
+        if (backoff != null) {
+            target.accept("backoff", backoff);
+        }
+        if (bridgeErrorHandler != null) {
+            target.accept("bridgeErrorHandler", bridgeErrorHandler);
+        }
+        if (repeat != null) {
+            target.accept("repeat", repeat);
+        }
+        if (sendEmptyMessageOnDelete != null) {
+            target.accept("sendEmptyMessageOnDelete", sendEmptyMessageOnDelete);
+        }
+        if (create != null) {
+            target.accept("create", create);
+        }
+        if (createMode != null) {
+            target.accept("createMode", createMode);
+        }
+        if (lazyStartProducer != null) {
+            target.accept("lazyStartProducer", lazyStartProducer);
+        }
+        if (autowiredEnabled != null) {
+            target.accept("autowiredEnabled", autowiredEnabled);
+        }
+        if (configuration != null) {
+            target.accept("configuration", configuration);
+        }
+    }
 }
\ No newline at end of file
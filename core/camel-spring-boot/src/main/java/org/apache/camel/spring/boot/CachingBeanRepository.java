@@ -0,0 +1,332 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.apache.camel.spi.BeanRepository;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.DestructionAwareBeanPostProcessor;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.SimpleAliasRegistry;
+
+/**
+ * A {@link BeanRepository} which caches the beans looked up from another repository, such as the
+ * {@link org.apache.camel.spring.spi.ApplicationContextBeanRepository}, by name and type.
+ * <p/>
+ * Only singleton beans are cached, so prototype and scoped beans are still looked up every time. The cache is a
+ * {@link DestructionAwareBeanPostProcessor}, so the beans are evicted when they are destroyed, such as when their bean
+ * definition is overridden. It must be added to the bean factory before the beans are created, which is the case when
+ * it is registered as a bean, as it is by {@link CamelAutoConfiguration}.
+ * <p/>
+ * The singletons registered manually in the bean factory are not destroyed through the post processors, so these are
+ * looked up again when the singleton is no longer the same instance. A bean which was not found is looked up again
+ * once a bean definition or a singleton with its name is registered, and the beans found by type are looked up again
+ * when the names of the beans of the type change. These checks do not lock the bean factory. The whole cache is
+ * cleared when the application context is refreshed or closed.
+ */
+public class CachingBeanRepository
+        implements BeanRepository, DestructionAwareBeanPostProcessor, ApplicationListener<ApplicationEvent> {
+
+    public static final String BEAN_NAME = "camelBeanRepositoryCache";
+
+    private static final String[] NO_NAMES = new String[0];
+
+    private final BeanRepository delegate;
+    private final ConfigurableListableBeanFactory beanFactory;
+    private final Map<Key, Entry> beans = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Entry> beansByType = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CachingBeanRepository(BeanRepository delegate, ConfigurableListableBeanFactory beanFactory) {
+        this.delegate = delegate;
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public Object lookupByName(String name) {
+        return lookup(name, Object.class, () -> delegate.lookupByName(name));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T lookupByNameAndType(String name, Class<T> type) {
+        return (T) lookup(name, type, () -> delegate.lookupByNameAndType(name, type));
+    }
+
+    private Object lookup(String name, Class<?> type, Supplier<Object> lookup) {
+        Key key = new Key(name, type);
+        Entry entry = beans.get(key);
+        if (entry != null && (entry.value != null ? isCurrent(entry) : !isRegistered(entry, name))) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        // read before the lookup, so a bean registered meanwhile is looked up again
+        int definitionCount = beanFactory.getBeanDefinitionCount();
+        Object bean = lookup.get();
+        entry = null;
+        if (bean == null) {
+            // a bean of another type is not cached, as it cannot be detected when it is replaced
+            if (!containsBean(name)) {
+                entry = new Entry(null, NO_NAMES, new Object[0], null, definitionCount);
+            }
+        } else if (isSingleton(name)) {
+            entry = createEntry(bean, new String[] { name }, null);
+        }
+        if (entry != null) {
+            beans.put(key, entry);
+        } else {
+            beans.remove(key);
+        }
+        return bean;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, T> findByTypeWithName(Class<T> type) {
+        Entry entry = beansByType.get(type);
+        if (entry != null && isCurrent(entry) && Arrays.equals(entry.typeNames, getBeanNamesForType(type))) {
+            hits.increment();
+            return (Map<String, T>) entry.value;
+        }
+        misses.increment();
+        String[] typeNames = getBeanNamesForType(type);
+        Map<String, T> found = delegate.findByTypeWithName(type);
+        entry = null;
+        if (typeNames != null && found != null && found.keySet().stream().allMatch(this::isSingleton)) {
+            found = Collections.unmodifiableMap(found);
+            entry = createEntry(found, found.keySet().toArray(NO_NAMES), typeNames);
+        }
+        if (entry != null) {
+            beansByType.put(type, entry);
+        } else {
+            beansByType.remove(type);
+        }
+        return found;
+    }
+
+    @Override
+    public <T> Set<T> findByType(Class<T> type) {
+        Map<String, T> found = findByTypeWithName(type);
+        return found != null ? new LinkedHashSet<>(found.values()) : Collections.emptySet();
+    }
+
+    @Override
+    public Object unwrap(Object value) {
+        return delegate.unwrap(value);
+    }
+
+    @Override
+    public void postProcessBeforeDestruction(Object bean, String beanName) throws BeansException {
+        if (beans.isEmpty() && beansByType.isEmpty()) {
+            return;
+        }
+        String name = canonicalName(beanName);
+        beans.values().removeIf(entry -> entry.contains(name));
+        beansByType.values().removeIf(entry -> entry.contains(name));
+    }
+
+    private boolean isSingleton(String name) {
+        try {
+            return beanFactory.containsBean(name) && beanFactory.isSingleton(name);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean containsBean(String name) {
+        try {
+            return beanFactory.containsBean(name);
+        } catch (Exception e) {
+            return true;
+        }
+    }
+
+    /**
+     * Whether a bean may have been registered with the name since the entry of a bean which was not found was created.
+     */
+    private boolean isRegistered(Entry entry, String name) {
+        return beanFactory.getBeanDefinitionCount() != entry.definitionCount
+                || beanFactory.containsSingleton(name) || beanFactory.isAlias(name);
+    }
+
+    /**
+     * The names of the beans of the type, which the bean factory caches once its configuration is frozen.
+     */
+    private String[] getBeanNamesForType(Class<?> type) {
+        try {
+            return beanFactory.getBeanNamesForType(type, true, true);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates an entry which remembers the singletons of the beans which are registered manually, or <tt>null</tt> if
+     * a bean is not a singleton of the bean factory itself, such as a bean of a parent bean factory.
+     */
+    private Entry createEntry(Object value, String[] names, String[] typeNames) {
+        String[] canonicalNames = new String[names.length];
+        Object[] singletons = new Object[names.length];
+        for (int i = 0; i < names.length; i++) {
+            canonicalNames[i] = canonicalName(names[i]);
+            Object singleton = beanFactory.getSingleton(canonicalNames[i]);
+            if (singleton == null) {
+                return null;
+            }
+            // the beans with a bean definition are evicted when they are destroyed
+            if (!beanFactory.containsBeanDefinition(canonicalNames[i])) {
+                singletons[i] = singleton;
+            }
+        }
+        return new Entry(value, canonicalNames, singletons, typeNames, -1);
+    }
+
+    /**
+     * Whether the singletons of the manually registered beans of the entry are still the same instances.
+     */
+    private boolean isCurrent(Entry entry) {
+        for (int i = 0; i < entry.names.length; i++) {
+            if (entry.singletons[i] != null && beanFactory.getSingleton(entry.names[i]) != entry.singletons[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String canonicalName(String name) {
+        String answer = BeanFactoryUtils.transformedBeanName(name);
+        if (beanFactory instanceof SimpleAliasRegistry) {
+            answer = ((SimpleAliasRegistry) beanFactory).canonicalName(answer);
+        }
+        return answer;
+    }
+
+    /**
+     * Clears the cache so the beans are looked up again.
+     */
+    public void clear() {
+        beans.clear();
+        beansByType.clear();
+    }
+
+    /**
+     * Number of lookups served from the cache.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of lookups which had to look up the beans from the bean factory.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Number of cached lookups.
+     */
+    public int getSize() {
+        return beans.size() + beansByType.size();
+    }
+
+    /**
+     * Resets the hit and miss counters.
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (event instanceof ContextRefreshedEvent || event instanceof ContextClosedEvent) {
+            clear();
+        }
+    }
+
+    private static final class Entry {
+        private final Object value;
+        // the canonical names of the beans, and the singletons of the manually registered beans
+        private final String[] names;
+        private final Object[] singletons;
+        // the names of the beans of the type when found by type
+        private final String[] typeNames;
+        // the number of bean definitions when a bean was not found
+        private final int definitionCount;
+
+        private Entry(Object value, String[] names, Object[] singletons, String[] typeNames, int definitionCount) {
+            this.value = value;
+            this.names = names;
+            this.singletons = singletons;
+            this.typeNames = typeNames;
+            this.definitionCount = definitionCount;
+        }
+
+        private boolean contains(String name) {
+            for (String n : names) {
+                if (n.equals(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Key {
+        private final String name;
+        private final Class<?> type;
+
+        private Key(String name, Class<?> type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(name, key.name) && type == key.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, type);
+        }
+    }
+}
@@ -35,7 +35,10 @@ import org.apache.camel.model.Model;
 import org.apache.camel.spi.BeanRepository;
 import org.apache.camel.spi.CliConnector;
 import org.apache.camel.spi.CliConnectorFactory;
+import org.apache.camel.spi.ContextReloadStrategy;
 import org.apache.camel.spi.StartupStepRecorder;
+import org.apache.camel.spring.boot.latency.RouteLatencyRecorder;
+import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluatorCache;
 import org.apache.camel.spring.spi.ApplicationContextBeanRepository;
 import org.apache.camel.spring.spi.CamelBeanPostProcessor;
 import org.apache.camel.support.DefaultRegistry;
@@ -46,19 +49,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Role;
+import org.springframework.context.event.ContextClosedEvent;
 import org.springframework.core.OrderComparator;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.metrics.ApplicationStartup;
 
 @Configuration(proxyBeanMethods = false)
 @EnableConfigurationProperties(CamelConfigurationProperties.class)
@@ -97,7 +106,7 @@ public class CamelAutoConfiguration {
                                                 CamelConfigurationProperties config) throws Exception {
 
         // setup startup recorder before building context
-        configureStartupRecorder(camelContext, config);
+        configureStartupRecorder(applicationContext, camelContext, config);
 
         camelContext.build();
 
@@ -109,10 +118,12 @@ public class CamelAutoConfiguration {
         }
 
         final Map<String, BeanRepository> repositories = applicationContext.getBeansOfType(BeanRepository.class);
-        if (!repositories.isEmpty()) {
+        // the cache of the default bean repository is registered as a bean
+        repositories.values().removeIf(CachingBeanRepository.class::isInstance);
+        if (!repositories.isEmpty() || config.isBeanRepositoryCacheEnabled()) {
             List<BeanRepository> reps = new ArrayList<>();
             // include default bean repository as well
-            reps.add(new ApplicationContextBeanRepository(applicationContext));
+            reps.add(createApplicationContextBeanRepository(applicationContext, config));
             // and then any custom
             reps.addAll(repositories.values());
             // sort by ordered
@@ -126,7 +137,12 @@ public class CamelAutoConfiguration {
             if (env instanceof ConfigurableEnvironment) {
                 MutablePropertySources sources = ((ConfigurableEnvironment) env).getPropertySources();
                 if (!sources.contains("camel-file-configuration")) {
-                    sources.addFirst(new FilePropertySource("camel-file-configuration", applicationContext, config.getFileConfigurations()));
+                    FilePropertySource source = new FilePropertySource("camel-file-configuration", applicationContext,
+                            config.getFileConfigurations(), config.isFileConfigurationsWatchEnabled());
+                    sources.addFirst(source);
+                    if (source.isWatching()) {
+                        configureFilePropertySourceWatch(applicationContext, camelContext, source);
+                    }
                 }
             }
         }
@@ -134,8 +150,17 @@ public class CamelAutoConfiguration {
         // setup cli connector eager
         configureCliConnector(applicationContext, camelContext);
 
-        camelContext.adapt(ExtendedCamelContext.class).setPackageScanClassResolver(new FatJarPackageScanClassResolver());
-        camelContext.adapt(ExtendedCamelContext.class).setPackageScanResourceResolver(new FatJarPackageScanResourceResolver());
+        FatJarPackageScanClassResolver packageScanClassResolver = new FatJarPackageScanClassResolver();
+        packageScanClassResolver.setScanIndexEnabled(config.isPackageScanIndexEnabled());
+        FatJarPackageScanResourceResolver packageScanResourceResolver = new FatJarPackageScanResourceResolver();
+        if (config.isPackageScanCentralDirectoryEnabled()) {
+            // the fat jar is scanned once and shared by both resolvers
+            FatJarCentralDirectoryScanner scanner = new FatJarCentralDirectoryScanner();
+            packageScanClassResolver.setCentralDirectoryScanner(scanner);
+            packageScanResourceResolver.setCentralDirectoryScanner(scanner);
+        }
+        camelContext.adapt(ExtendedCamelContext.class).setPackageScanClassResolver(packageScanClassResolver);
+        camelContext.adapt(ExtendedCamelContext.class).setPackageScanResourceResolver(packageScanResourceResolver);
 
         if (config.getRouteFilterIncludePattern() != null || config.getRouteFilterExcludePattern() != null) {
             LOG.info("Route filtering pattern: include={}, exclude={}", config.getRouteFilterIncludePattern(), config.getRouteFilterExcludePattern());
@@ -152,6 +177,25 @@ public class CamelAutoConfiguration {
         return camelContext;
     }
 
+    private static BeanRepository createApplicationContextBeanRepository(ApplicationContext applicationContext,
+                                                                         CamelConfigurationProperties config) {
+        BeanRepository repository = new ApplicationContextBeanRepository(applicationContext);
+        if (config.isBeanRepositoryCacheEnabled() && applicationContext instanceof ConfigurableApplicationContext) {
+            ConfigurableApplicationContext cac = (ConfigurableApplicationContext) applicationContext;
+            ConfigurableListableBeanFactory beanFactory = cac.getBeanFactory();
+            if (beanFactory.containsBean(CachingBeanRepository.BEAN_NAME)) {
+                return beanFactory.getBean(CachingBeanRepository.BEAN_NAME, CachingBeanRepository.class);
+            }
+            // the cache is only told about the beans destroyed from now on, when it is not registered as a bean
+            CachingBeanRepository cache = new CachingBeanRepository(repository, beanFactory);
+            cac.addApplicationListener(cache);
+            beanFactory.addBeanPostProcessor(cache);
+            beanFactory.registerSingleton(CachingBeanRepository.BEAN_NAME, cache);
+            repository = cache;
+        }
+        return repository;
+    }
+
     static void configureCliConnector(ApplicationContext applicationContext,
                                       CamelContext camelContext) {
 
@@ -170,11 +214,19 @@ public class CamelAutoConfiguration {
         }
     }
 
-    static void configureStartupRecorder(CamelContext camelContext, CamelConfigurationProperties config) {
+    static void configureStartupRecorder(ApplicationContext applicationContext, CamelContext camelContext,
+                                         CamelConfigurationProperties config) {
         if ("false".equals(config.getStartupRecorder())) {
             camelContext.adapt(ExtendedCamelContext.class).getStartupStepRecorder().setEnabled(false);
         } else if ("logging".equals(config.getStartupRecorder())) {
             camelContext.adapt(ExtendedCamelContext.class).setStartupStepRecorder(new LoggingStartupStepRecorder());
+        } else if ("spring".equals(config.getStartupRecorder())) {
+            ApplicationStartup applicationStartup = applicationContext instanceof ConfigurableApplicationContext
+                    ? ((ConfigurableApplicationContext) applicationContext).getApplicationStartup()
+                    : ApplicationStartup.DEFAULT;
+            SpringStartupStepRecorder recorder = new SpringStartupStepRecorder(applicationStartup);
+            recorder.setMaxDepth(config.getStartupRecorderMaxDepth());
+            camelContext.adapt(ExtendedCamelContext.class).setStartupStepRecorder(recorder);
         } else if ("java-flight-recorder".equals(config.getStartupRecorder())
                 || config.getStartupRecorder() == null) {
             // try to auto discover camel-jfr to use
@@ -275,8 +327,10 @@ public class CamelAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean(PropertiesParser.class)
-    PropertiesParser propertiesParser() {
-        return new SpringPropertiesParser();
+    SpringPropertiesParser propertiesParser(CamelConfigurationProperties config) {
+        SpringPropertiesParser parser = new SpringPropertiesParser();
+        parser.setCacheEnabled(config.isPropertiesParserCacheEnabled());
+        return parser;
     }
 
     // We explicitly declare the destroyMethod to be "" as the Spring @Bean
@@ -291,6 +345,74 @@ public class CamelAutoConfiguration {
         return pc;
     }
 
+    private static void configureFilePropertySourceWatch(ApplicationContext applicationContext, CamelContext camelContext,
+                                                         FilePropertySource source) {
+        if (applicationContext instanceof ConfigurableApplicationContext) {
+            ((ConfigurableApplicationContext) applicationContext).addApplicationListener((ApplicationEvent event) -> {
+                if (event instanceof FilePropertySource.FilePropertySourceChangedEvent && event.getSource() == source) {
+                    // reload camel if context reloading is enabled (camel.main.context-reload-enabled)
+                    ContextReloadStrategy reload = camelContext.hasService(ContextReloadStrategy.class);
+                    if (reload != null) {
+                        reload.onReload(source);
+                    }
+                } else if (event instanceof ContextClosedEvent && event.getSource() == applicationContext) {
+                    source.close();
+                }
+            });
+        }
+    }
+
+    /**
+     * Cache for the hierarchical enabled properties evaluated by the component, data format and language customizers.
+     */
+    @Bean(HierarchicalPropertiesEvaluatorCache.BEAN_NAME)
+    @ConditionalOnProperty(value = "camel.springboot.hierarchical-properties-cache-enabled", matchIfMissing = true)
+    HierarchicalPropertiesEvaluatorCache hierarchicalPropertiesEvaluatorCache() {
+        return new HierarchicalPropertiesEvaluatorCache();
+    }
+
+    /**
+     * Caches the beans Camel looks up from the application context. It is registered as a bean post processor before
+     * the other beans are created, so it is told when they are destroyed.
+     */
+    @Bean(CachingBeanRepository.BEAN_NAME)
+    @ConditionalOnProperty(value = "camel.springboot.bean-repository-cache-enabled")
+    static CachingBeanRepository camelBeanRepositoryCache(ApplicationContext applicationContext,
+                                                          ConfigurableListableBeanFactory beanFactory) {
+        return new CachingBeanRepository(new ApplicationContextBeanRepository(applicationContext), beanFactory);
+    }
+
+    /**
+     * Binds the configurations of the components when the components are created.
+     */
+    @Bean
+    @ConditionalOnProperty(value = "camel.springboot.lazy-component-configuration-enabled", matchIfMissing = true)
+    static LazyComponentConfigurationPostProcessor lazyComponentConfigurationPostProcessor() {
+        return new LazyComponentConfigurationPostProcessor();
+    }
+
+    /**
+     * Training run for class data sharing, which exits the JVM when the application is ready.
+     */
+    @Bean
+    @ConditionalOnProperty(value = "camel.springboot.cds-training")
+    CamelCdsTraining camelCdsTraining(ApplicationContext applicationContext, CamelContext camelContext,
+                                      CamelConfigurationProperties config) {
+        return new CamelCdsTraining(applicationContext, camelContext, config.isCdsTrainingSendExchanges(),
+                config.getCdsTrainingClassListFile());
+    }
+
+    /**
+     * Latency histograms of the routes, which are added to the routes as a route policy factory.
+     */
+    @Bean
+    @ConditionalOnProperty(value = "camel.springboot.route-latency-histograms-enabled")
+    RouteLatencyRecorder routeLatencyRecorder(CamelConfigurationProperties config) {
+        return new RouteLatencyRecorder(config.getRouteLatencyHistogramsHighestTrackableValue(),
+                config.getRouteLatencyHistogramsInterval(), config.getRouteLatencyHistogramsUnit(),
+                config.getRouteLatencyHistogramsSubBucketBits());
+    }
+
     /**
      * Camel post processor - required to support Camel annotations.
      */
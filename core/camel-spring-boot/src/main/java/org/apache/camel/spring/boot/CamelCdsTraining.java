@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.IntConsumer;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.Route;
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.TimeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Training run for class data sharing (AppCDS).
+ * <p/>
+ * When the application is ready, that is when Spring Boot and Camel with all its routes have been started, this
+ * optionally sends an exchange to each route consuming from a direct endpoint, so the classes used when routing are
+ * loaded too. Then the list of loaded classes is written, and the application is stopped and the JVM exits, which
+ * makes the JVM dump the archive when started with <tt>-XX:ArchiveClassesAtExit</tt>.
+ */
+public class CamelCdsTraining implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CamelCdsTraining.class);
+
+    private final ApplicationContext applicationContext;
+    private final CamelContext camelContext;
+    private final boolean sendExchanges;
+    private final String classListFile;
+    private IntConsumer exitHandler = System::exit;
+
+    public CamelCdsTraining(ApplicationContext applicationContext, CamelContext camelContext, boolean sendExchanges,
+                            String classListFile) {
+        this.applicationContext = applicationContext;
+        this.camelContext = camelContext;
+        this.sendExchanges = sendExchanges;
+        this.classListFile = classListFile;
+    }
+
+    void setExitHandler(IntConsumer exitHandler) {
+        this.exitHandler = exitHandler;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (event.getApplicationContext() == applicationContext) {
+            run();
+        }
+    }
+
+    void run() {
+        LOG.info("CamelSpringBoot CDS training run with {} routes", camelContext.getRoutesSize());
+        StopWatch watch = new StopWatch();
+        if (sendExchanges) {
+            sendExchanges();
+        }
+        if (classListFile != null) {
+            writeClassList(Paths.get(classListFile));
+        }
+        LOG.info("CamelSpringBoot CDS training run completed in {}. Triggering shutdown of the JVM.",
+                TimeUtils.printDuration(watch.taken()));
+
+        int code = SpringApplication.exit(applicationContext);
+        exitHandler.accept(code);
+    }
+
+    private void sendExchanges() {
+        ProducerTemplate template = camelContext.createProducerTemplate();
+        try {
+            for (Route route : camelContext.getRoutes()) {
+                Endpoint endpoint = route.getEndpoint();
+                if (!endpoint.getEndpointUri().startsWith("direct:")) {
+                    continue;
+                }
+                LOG.debug("Sending training exchange to route: {}", route.getRouteId());
+                // the routes are not expected to process an empty message successfully
+                Exchange exchange = template.send(endpoint, e -> e.getMessage().setHeader("CamelCdsTraining", true));
+                if (exchange.getException() != null) {
+                    LOG.debug("Training exchange to route: {} failed due to: {}. This exception is ignored.",
+                            route.getRouteId(), exchange.getException().getMessage());
+                }
+            }
+        } finally {
+            try {
+                template.stop();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+    }
+
+    private void writeClassList(Path file) {
+        Set<String> classes = loadedClasses();
+        if (classes.isEmpty()) {
+            LOG.warn("Cannot write class list to: {} as the loaded classes are not available from this JVM", file);
+            return;
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, classes, StandardCharsets.UTF_8);
+            LOG.info("Written {} loaded classes to: {}", classes.size(), file);
+        } catch (IOException e) {
+            LOG.warn("Error writing class list to: {} due to: {}. This exception is ignored.", file, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The classes loaded by the JVM in the class list format (such as <tt>java/lang/Object</tt>), using the
+     * <tt>VM.class_hierarchy</tt> diagnostic command of the HotSpot JVM.
+     */
+    static Set<String> loadedClasses() {
+        Set<String> answer = new TreeSet<>();
+        String hierarchy;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName("com.sun.management:type=DiagnosticCommand");
+            hierarchy = (String) server.invoke(name, "vmClassHierarchy", new Object[] { null },
+                    new String[] { String[].class.getName() });
+        } catch (Exception e) {
+            LOG.debug("Cannot list loaded classes due to: {}", e.getMessage());
+            return answer;
+        }
+        // lines such as |  |--java.lang.String/null (intf)
+        for (String line : hierarchy.split("\n")) {
+            int start = 0;
+            while (start < line.length() && (line.charAt(start) == '|' || line.charAt(start) == '-'
+                    || Character.isWhitespace(line.charAt(start)))) {
+                start++;
+            }
+            int end = line.indexOf('/', start);
+            if (end == -1) {
+                end = line.indexOf(' ', start);
+            }
+            String className = end == -1 ? line.substring(start).trim() : line.substring(start, end);
+            // hidden classes such as lambdas cannot be listed
+            if (!className.isEmpty() && !className.contains("$$Lambda") && className.indexOf(' ') == -1) {
+                answer.add(className.replace('.', '/'));
+            }
+        }
+        return answer;
+    }
+
+}
@@ -21,9 +21,11 @@ import org.apache.camel.ManagementMBeansLevel;
 import org.apache.camel.ManagementStatisticsLevel;
 import org.apache.camel.StartupSummaryLevel;
 import org.apache.camel.main.DefaultConfigurationProperties;
+import org.apache.camel.spring.boot.latency.LatencyHistogram;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @ConfigurationProperties(prefix = "camel.springboot")
 public class CamelConfigurationProperties extends DefaultConfigurationProperties<CamelConfigurationProperties> {
@@ -51,6 +53,35 @@ public class CamelConfigurationProperties extends DefaultConfigurationProperties
      */
     private boolean warnOnEarlyShutdown = true;
 
+    /**
+     * Whether the package scanner should use the build-time generated scan index (META-INF/camel/scan-index)
+     * of the spring-boot fat jar, if present, instead of decompressing every nested jar on startup.
+     * The index is generated by the generate-scan-index goal of the camel-spring-boot-generator-maven-plugin.
+     */
+    private boolean packageScanIndexEnabled = true;
+
+    /**
+     * Whether the package scanner should scan spring-boot fat jars by reading only the zip central directories
+     * of the fat jar and its nested jars, instead of streaming and inflating every nested jar. The fat jar is
+     * scanned once and the entries are shared by the class and resource scanning.
+     */
+    private boolean packageScanCentralDirectoryEnabled;
+
+    /**
+     * Whether to cache the evaluation of the hierarchical enabled properties (such as camel.component.xxx.customizer.enabled)
+     * which are evaluated every time a component, data format or language is created. The cache is cleared when the
+     * application context is refreshed or the environment is changed.
+     */
+    private boolean hierarchicalPropertiesCacheEnabled = true;
+
+    /**
+     * Whether to cache the property placeholders resolved from the Spring environment, which speeds up creating
+     * endpoints with placeholders in their uris at runtime. The cache is refreshed when property sources are added
+     * or removed, when the application context is refreshed, or when the environment is changed. The random.*
+     * placeholders are never cached. The size and hit rate of the cache can be read from the SpringPropertiesParser bean.
+     */
+    private boolean propertiesParserCacheEnabled;
+
     // Default Properties via camel-main
     // ---------------------------------
 
@@ -171,6 +202,12 @@ public class CamelConfigurationProperties extends DefaultConfigurationProperties
      */
     private String fileConfigurations;
 
+    /**
+     * Whether to watch the files loaded by file-configurations, and reload the files when they are changed, such as
+     * when a secret mounted to the container is rotated. Only files on the file system can be watched.
+     */
+    private boolean fileConfigurationsWatchEnabled;
+
     /**
      * Used for filtering routes matching the given pattern, which follows the following rules:
      *
@@ -702,6 +739,111 @@ public class CamelConfigurationProperties extends DefaultConfigurationProperties
      */
     private String routesExcludePattern;
 
+    /**
+     * Whether Camel caches the beans it looks up from the Spring application context by name and type,
+     * such as when resolving dynamic endpoints, #type: references or beans in bean method routing.
+     *
+     * Only singleton beans are cached, and the beans are looked up again when they are registered or destroyed.
+     */
+    private boolean beanRepositoryCacheEnabled;
+
+    /**
+     * Whether the configurations of the components are only bound from the environment when the components are
+     * created by Camel. This avoids binding the configurations of all the component starters on the classpath,
+     * when only a few components are used.
+     *
+     * When the application is ready, the components which have been configured by properties but are not used are logged.
+     */
+    private boolean lazyComponentConfigurationEnabled = true;
+
+    /**
+     * Whether to run the application as a training run for class data sharing (AppCDS).
+     *
+     * The application is started as usual, and when ready the list of loaded classes is written (if
+     * cdsTrainingClassListFile is configured), and then the application is stopped and the JVM exits.
+     * Run the training with the JVM option -XX:ArchiveClassesAtExit=app.jsa to dump a dynamic archive,
+     * and start the application with -XX:SharedArchiveFile=app.jsa to use it.
+     */
+    private boolean cdsTraining;
+
+    /**
+     * Whether the CDS training run sends an empty exchange to each route consuming from a direct endpoint,
+     * so the classes used when routing are included in the archive. Any failure processing the exchange is ignored.
+     */
+    private boolean cdsTrainingSendExchanges;
+
+    /**
+     * The file to write the list of classes loaded during the CDS training run to.
+     */
+    private String cdsTrainingClassListFile;
+
+    /**
+     * Whether to parse the routes loaded from directories (such as XML and YAML routes) in parallel.
+     *
+     * The routes are parsed into route definitions using a pool of threads, and then added to Camel in the same
+     * order as when parsed one at a time. The time to parse each file is recorded by the startup recorder.
+     * The route files which declare beans are parsed one at a time, as the beans are bound into the registry.
+     * This can speed up startup of applications with many route files.
+     */
+    private boolean routesParallelLoadingEnabled;
+
+    /**
+     * The maximum number of threads to use for parsing the routes in parallel.
+     * The default is 0, which uses the number of available processors.
+     */
+    private int routesParallelLoadingPoolSize;
+
+    /**
+     * Whether routes consuming from direct or seda endpoints are activated on demand.
+     *
+     * When enabled these routes are not started together with Camel, but are kept dormant until the first
+     * message is sent to their endpoint. Routes which have configured auto startup explicitly, and routes
+     * consuming from other endpoints, are started as usual. This can reduce startup time and the number of
+     * threads used by applications with a very large number of routes where only a few are in use at any time.
+     */
+    private boolean routesLazyActivationEnabled;
+
+    /**
+     * To deactivate routes activated on demand again, when they have been idle for the given number of seconds.
+     * Deactivated routes are stopped, which releases their threads, and are activated again by the next message.
+     * The default is 0, which keeps the routes active.
+     */
+    private long routesLazyActivationIdleSeconds;
+
+    /**
+     * Whether to record the processing time of the exchanges of each route in a latency histogram, which can be read
+     * from the camellatency actuator endpoint, such as the 50th, 99th and 99.9th percentiles.
+     *
+     * The histograms use a fixed amount of memory per route, with a precision of 1%, and are independent of JMX and
+     * Micrometer.
+     */
+    private boolean routeLatencyHistogramsEnabled;
+
+    /**
+     * The highest processing time in millis which is recorded in the latency histograms. Exchanges which take longer
+     * are recorded as this value. The memory used by each histogram grows with the logarithm of this value.
+     */
+    private long routeLatencyHistogramsHighestTrackableValue = 60000;
+
+    /**
+     * The interval in millis of the interval snapshots of the latency histograms, which hold the processing times of
+     * the last complete interval only. The default is 60000, and 0 disables the interval snapshots.
+     */
+    private long routeLatencyHistogramsInterval = 60000;
+
+    /**
+     * The unit to record the processing times in the latency histograms in. The default is microseconds, and
+     * nanoseconds make each histogram about half as large again.
+     */
+    private TimeUnit routeLatencyHistogramsUnit = TimeUnit.MICROSECONDS;
+
+    /**
+     * The number of bits of the processing times which are counted exactly in the latency histograms, between 1 and
+     * 16, which gives their precision. The default is 5, a precision of 3%, and each bit more about doubles the memory
+     * used by each histogram and halves the relative error.
+     */
+    private int routeLatencyHistogramsSubBucketBits = LatencyHistogram.DEFAULT_SUB_BUCKET_BITS;
+
     /**
      * Used for inclusive filtering RouteBuilder classes which are collected from the registry or via classpath
      * scanning. The exclusive filtering takes precedence over inclusive filtering. The pattern is using Ant-path style
@@ -851,7 +993,10 @@ public class CamelConfigurationProperties extends DefaultConfigurationProperties
 
     /**
      * To use startup recorder for capturing execution time during starting Camel. The recorder can be one of: false (or
-     * off), logging, java-flight-recorder (or jfr).
+     * off), logging, java-flight-recorder (or jfr), spring.
+     *
+     * The spring recorder records the steps in the Spring Boot application startup, and exposes them in the camelstartup
+     * actuator endpoint.
      */
     private String startupRecorder;
 
@@ -924,4 +1069,156 @@ public class CamelConfigurationProperties extends DefaultConfigurationProperties
         this.warnOnEarlyShutdown = warnOnEarlyShutdown;
     }
 
+    public boolean isPackageScanIndexEnabled() {
+        return packageScanIndexEnabled;
+    }
+
+    public void setPackageScanIndexEnabled(boolean packageScanIndexEnabled) {
+        this.packageScanIndexEnabled = packageScanIndexEnabled;
+    }
+
+    public boolean isPackageScanCentralDirectoryEnabled() {
+        return packageScanCentralDirectoryEnabled;
+    }
+
+    public void setPackageScanCentralDirectoryEnabled(boolean packageScanCentralDirectoryEnabled) {
+        this.packageScanCentralDirectoryEnabled = packageScanCentralDirectoryEnabled;
+    }
+
+    public boolean isHierarchicalPropertiesCacheEnabled() {
+        return hierarchicalPropertiesCacheEnabled;
+    }
+
+    public void setHierarchicalPropertiesCacheEnabled(boolean hierarchicalPropertiesCacheEnabled) {
+        this.hierarchicalPropertiesCacheEnabled = hierarchicalPropertiesCacheEnabled;
+    }
+
+    public boolean isPropertiesParserCacheEnabled() {
+        return propertiesParserCacheEnabled;
+    }
+
+    public void setPropertiesParserCacheEnabled(boolean propertiesParserCacheEnabled) {
+        this.propertiesParserCacheEnabled = propertiesParserCacheEnabled;
+    }
+
+    public boolean isFileConfigurationsWatchEnabled() {
+        return fileConfigurationsWatchEnabled;
+    }
+
+    public void setFileConfigurationsWatchEnabled(boolean fileConfigurationsWatchEnabled) {
+        this.fileConfigurationsWatchEnabled = fileConfigurationsWatchEnabled;
+    }
+
+    public boolean isRoutesParallelLoadingEnabled() {
+        return routesParallelLoadingEnabled;
+    }
+
+    public void setRoutesParallelLoadingEnabled(boolean routesParallelLoadingEnabled) {
+        this.routesParallelLoadingEnabled = routesParallelLoadingEnabled;
+    }
+
+    public int getRoutesParallelLoadingPoolSize() {
+        return routesParallelLoadingPoolSize;
+    }
+
+    public void setRoutesParallelLoadingPoolSize(int routesParallelLoadingPoolSize) {
+        this.routesParallelLoadingPoolSize = routesParallelLoadingPoolSize;
+    }
+
+    public boolean isRoutesLazyActivationEnabled() {
+        return routesLazyActivationEnabled;
+    }
+
+    public void setRoutesLazyActivationEnabled(boolean routesLazyActivationEnabled) {
+        this.routesLazyActivationEnabled = routesLazyActivationEnabled;
+    }
+
+    public long getRoutesLazyActivationIdleSeconds() {
+        return routesLazyActivationIdleSeconds;
+    }
+
+    public void setRoutesLazyActivationIdleSeconds(long routesLazyActivationIdleSeconds) {
+        this.routesLazyActivationIdleSeconds = routesLazyActivationIdleSeconds;
+    }
+
+    public boolean isCdsTraining() {
+        return cdsTraining;
+    }
+
+    public void setCdsTraining(boolean cdsTraining) {
+        this.cdsTraining = cdsTraining;
+    }
+
+    public boolean isCdsTrainingSendExchanges() {
+        return cdsTrainingSendExchanges;
+    }
+
+    public void setCdsTrainingSendExchanges(boolean cdsTrainingSendExchanges) {
+        this.cdsTrainingSendExchanges = cdsTrainingSendExchanges;
+    }
+
+    public String getCdsTrainingClassListFile() {
+        return cdsTrainingClassListFile;
+    }
+
+    public void setCdsTrainingClassListFile(String cdsTrainingClassListFile) {
+        this.cdsTrainingClassListFile = cdsTrainingClassListFile;
+    }
+
+    public boolean isLazyComponentConfigurationEnabled() {
+        return lazyComponentConfigurationEnabled;
+    }
+
+    public void setLazyComponentConfigurationEnabled(boolean lazyComponentConfigurationEnabled) {
+        this.lazyComponentConfigurationEnabled = lazyComponentConfigurationEnabled;
+    }
+
+    public boolean isBeanRepositoryCacheEnabled() {
+        return beanRepositoryCacheEnabled;
+    }
+
+    public void setBeanRepositoryCacheEnabled(boolean beanRepositoryCacheEnabled) {
+        this.beanRepositoryCacheEnabled = beanRepositoryCacheEnabled;
+    }
+
+
+    public boolean isRouteLatencyHistogramsEnabled() {
+        return routeLatencyHistogramsEnabled;
+    }
+
+    public void setRouteLatencyHistogramsEnabled(boolean routeLatencyHistogramsEnabled) {
+        this.routeLatencyHistogramsEnabled = routeLatencyHistogramsEnabled;
+    }
+
+    public long getRouteLatencyHistogramsHighestTrackableValue() {
+        return routeLatencyHistogramsHighestTrackableValue;
+    }
+
+    public void setRouteLatencyHistogramsHighestTrackableValue(long routeLatencyHistogramsHighestTrackableValue) {
+        this.routeLatencyHistogramsHighestTrackableValue = routeLatencyHistogramsHighestTrackableValue;
+    }
+
+    public long getRouteLatencyHistogramsInterval() {
+        return routeLatencyHistogramsInterval;
+    }
+
+    public void setRouteLatencyHistogramsInterval(long routeLatencyHistogramsInterval) {
+        this.routeLatencyHistogramsInterval = routeLatencyHistogramsInterval;
+    }
+
+    public TimeUnit getRouteLatencyHistogramsUnit() {
+        return routeLatencyHistogramsUnit;
+    }
+
+    public void setRouteLatencyHistogramsUnit(TimeUnit routeLatencyHistogramsUnit) {
+        this.routeLatencyHistogramsUnit = routeLatencyHistogramsUnit;
+    }
+
+    public int getRouteLatencyHistogramsSubBucketBits() {
+        return routeLatencyHistogramsSubBucketBits;
+    }
+
+    public void setRouteLatencyHistogramsSubBucketBits(int routeLatencyHistogramsSubBucketBits) {
+        this.routeLatencyHistogramsSubBucketBits = routeLatencyHistogramsSubBucketBits;
+    }
 }
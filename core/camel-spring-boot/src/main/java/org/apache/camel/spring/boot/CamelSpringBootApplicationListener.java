@@ -97,6 +97,11 @@ public class CamelSpringBootApplicationListener implements ApplicationListener<C
                 if (configurationProperties.isRoutesCollectorEnabled()) {
                     configurer.setRoutesCollector(springBootRoutesCollector);
                 }
+                if (springBootRoutesCollector instanceof SpringBootRoutesCollector) {
+                    SpringBootRoutesCollector collector = (SpringBootRoutesCollector) springBootRoutesCollector;
+                    collector.setParallelLoading(configurationProperties.isRoutesParallelLoadingEnabled());
+                    collector.setParallelLoadingPoolSize(configurationProperties.getRoutesParallelLoadingPoolSize());
+                }
 
                 configurer.setBeanPostProcessor(camelContext.adapt(ExtendedCamelContext.class).getBeanPostProcessor());
                 configurer.setJavaRoutesExcludePattern(configurationProperties.getJavaRoutesExcludePattern());
@@ -110,6 +115,16 @@ public class CamelSpringBootApplicationListener implements ApplicationListener<C
                     camelContextConfiguration.beforeApplicationStart(camelContext);
                 }
 
+                if (configurationProperties.isRoutesLazyActivationEnabled()) {
+                    LazyRouteActivator activator = new LazyRouteActivator(camelContext,
+                        configurationProperties.getRoutesLazyActivationIdleSeconds());
+                    activator.prepareRoutes();
+                    // register our event notifier
+                    ServiceHelper.startService(activator);
+                    camelContext.getManagementStrategy().addEventNotifier(activator);
+                    camelContext.addService(activator);
+                }
+
                 if (configurationProperties.isMainRunController()) {
                     CamelMainRunController controller = new CamelMainRunController(applicationContext, camelContext);
 
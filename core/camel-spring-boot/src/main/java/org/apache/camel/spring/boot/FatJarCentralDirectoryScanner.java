@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Scans spring-boot fat jars by reading only the zip central directories, instead of inflating every entry of
+ * every nested jar.
+ * <p/>
+ * The outer jar is memory-mapped and nested jars that are stored uncompressed (which is the default of the
+ * spring-boot repackager) are read in place. Nested jars that are compressed are streamed as a fallback.
+ * <p/>
+ * Each fat jar is scanned only once, and the sorted entry names are shared by the
+ * {@link FatJarPackageScanClassResolver} and the {@link FatJarPackageScanResourceResolver} of the same Camel context.
+ */
+public class FatJarCentralDirectoryScanner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FatJarCentralDirectoryScanner.class);
+
+    private static final int EOCD_SIGNATURE = 0x06054b50;
+    private static final int CEN_SIGNATURE = 0x02014b50;
+    private static final int LOC_SIGNATURE = 0x04034b50;
+    private static final int EOCD_MIN_SIZE = 22;
+    private static final int CEN_HEADER_SIZE = 46;
+    private static final int LOC_HEADER_SIZE = 30;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+    private static final int METHOD_STORED = 0;
+
+    private final Map<String, Optional<FatJarEntries>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Scans the fat jar with the given path.
+     *
+     * @param  urlPath the path of the fat jar
+     * @return         the entries of the fat jar and its nested jars, or <tt>null</tt> if the jar cannot be scanned
+     *                 by its central directory (such as a remote jar or a zip64 archive) and must be streamed instead
+     */
+    public FatJarEntries scan(String urlPath) {
+        return cache.computeIfAbsent(urlPath, p -> Optional.ofNullable(doScan(p))).orElse(null);
+    }
+
+    /**
+     * Clears the scanned entries.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    private FatJarEntries doScan(String urlPath) {
+        File file = new File(urlPath);
+        if (!file.isFile() || file.length() > Integer.MAX_VALUE) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+
+            List<String> names = new ArrayList<>();
+            List<String> compressedNestedJars = new ArrayList<>();
+            int nested = 0;
+            for (CentralDirectoryEntry entry : readCentralDirectory(buffer)) {
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                if (FatJarPackageScanClassResolver.isSpringBootNestedJar(entry.name)) {
+                    nested++;
+                    if (entry.method == METHOD_STORED) {
+                        ByteBuffer data = entryData(buffer, entry);
+                        for (CentralDirectoryEntry e : readCentralDirectory(data)) {
+                            if (!e.isDirectory()) {
+                                names.add(e.name.trim());
+                            }
+                        }
+                    } else {
+                        compressedNestedJars.add(entry.name);
+                    }
+                } else {
+                    names.add(FatJarPackageScanClassResolver.cleanupSpringBootClassName(entry.name.trim()));
+                }
+            }
+            if (!compressedNestedJars.isEmpty()) {
+                streamNestedJars(file, compressedNestedJars, names);
+            }
+
+            FatJarEntries answer = new FatJarEntries(names);
+            LOG.debug("Scanned central directory of {} with {} nested jars ({} compressed) and {} entries in {} ms",
+                    urlPath, nested, compressedNestedJars.size(), answer.size(), (System.nanoTime() - start) / 1000000);
+            return answer;
+        } catch (IOException | RuntimeException e) {
+            // corrupt or unsupported archive so let the resolvers stream the jar as usual
+            LOG.debug("Cannot scan central directory of {} due to {}. The jar is streamed instead.", urlPath, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void streamNestedJars(File file, List<String> nestedJars, List<String> names) throws IOException {
+        try (ZipFile zip = new ZipFile(file)) {
+            for (String name : nestedJars) {
+                ZipEntry entry = zip.getEntry(name);
+                try (JarInputStream jis = new JarInputStream(zip.getInputStream(entry))) {
+                    JarEntry je;
+                    while ((je = jis.getNextJarEntry()) != null) {
+                        if (!je.isDirectory()) {
+                            names.add(je.getName().trim());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<CentralDirectoryEntry> readCentralDirectory(ByteBuffer buffer) throws IOException {
+        int eocd = findEndOfCentralDirectory(buffer);
+        int total = Short.toUnsignedInt(buffer.getShort(eocd + 10));
+        long size = Integer.toUnsignedLong(buffer.getInt(eocd + 12));
+        long offset = Integer.toUnsignedLong(buffer.getInt(eocd + 16));
+        if (total == 0xFFFF || size == 0xFFFFFFFFL || offset == 0xFFFFFFFFL) {
+            throw new IOException("zip64 archives are not supported");
+        }
+        // the archive may have a prefix such as a launch script, so the offsets are relative to the archive start
+        int base = (int) (eocd - size - offset);
+        if (base < 0) {
+            throw new IOException("invalid central directory offset");
+        }
+
+        List<CentralDirectoryEntry> answer = new ArrayList<>(total);
+        int pos = (int) (base + offset);
+        for (int i = 0; i < total; i++) {
+            if (buffer.getInt(pos) != CEN_SIGNATURE) {
+                throw new IOException("invalid central directory header");
+            }
+            int method = Short.toUnsignedInt(buffer.getShort(pos + 10));
+            long compressedSize = Integer.toUnsignedLong(buffer.getInt(pos + 20));
+            int nameLength = Short.toUnsignedInt(buffer.getShort(pos + 28));
+            int extraLength = Short.toUnsignedInt(buffer.getShort(pos + 30));
+            int commentLength = Short.toUnsignedInt(buffer.getShort(pos + 32));
+            long localHeaderOffset = Integer.toUnsignedLong(buffer.getInt(pos + 42));
+            byte[] name = new byte[nameLength];
+            for (int j = 0; j < nameLength; j++) {
+                name[j] = buffer.get(pos + CEN_HEADER_SIZE + j);
+            }
+            answer.add(new CentralDirectoryEntry(new String(name, StandardCharsets.UTF_8), method, compressedSize,
+                    base + localHeaderOffset));
+            pos += CEN_HEADER_SIZE + nameLength + extraLength + commentLength;
+        }
+        return answer;
+    }
+
+    private static int findEndOfCentralDirectory(ByteBuffer buffer) throws IOException {
+        int limit = buffer.limit();
+        int min = Math.max(0, limit - EOCD_MIN_SIZE - MAX_COMMENT_SIZE);
+        for (int pos = limit - EOCD_MIN_SIZE; pos >= min; pos--) {
+            if (buffer.getInt(pos) == EOCD_SIGNATURE) {
+                return pos;
+            }
+        }
+        throw new IOException("end of central directory not found");
+    }
+
+    private static ByteBuffer entryData(ByteBuffer buffer, CentralDirectoryEntry entry) throws IOException {
+        int pos = (int) entry.localHeaderOffset;
+        if (buffer.getInt(pos) != LOC_SIGNATURE) {
+            throw new IOException("invalid local header of " + entry.name);
+        }
+        int nameLength = Short.toUnsignedInt(buffer.getShort(pos + 26));
+        int extraLength = Short.toUnsignedInt(buffer.getShort(pos + 28));
+        int start = pos + LOC_HEADER_SIZE + nameLength + extraLength;
+
+        ByteBuffer data = buffer.duplicate();
+        data.position(start);
+        data.limit((int) (start + entry.compressedSize));
+        return data.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static final class CentralDirectoryEntry {
+        private final String name;
+        private final int method;
+        private final long compressedSize;
+        private final long localHeaderOffset;
+
+        private CentralDirectoryEntry(String name, int method, long compressedSize, long localHeaderOffset) {
+            this.name = name;
+            this.method = method;
+            this.compressedSize = compressedSize;
+            this.localHeaderOffset = localHeaderOffset;
+        }
+
+        private boolean isDirectory() {
+            return name.endsWith("/");
+        }
+    }
+
+    /**
+     * The entry names of a fat jar and its nested jars, sorted so entries can be looked up by package prefix.
+     */
+    public static final class FatJarEntries {
+
+        private final String[] names;
+        private volatile List<String> classNames;
+
+        FatJarEntries(List<String> names) {
+            this.names = names.toArray(new String[0]);
+            Arrays.sort(this.names);
+        }
+
+        public int size() {
+            return names.length;
+        }
+
+        /**
+         * All the class entries.
+         */
+        public List<String> getClassNames() {
+            List<String> answer = classNames;
+            if (answer == null) {
+                answer = new ArrayList<>();
+                for (String name : names) {
+                    if (name.endsWith(".class")) {
+                        answer.add(name);
+                    }
+                }
+                answer = Collections.unmodifiableList(answer);
+                classNames = answer;
+            }
+            return answer;
+        }
+
+        /**
+         * The entries which are not classes and whose name starts with the given prefix.
+         */
+        public List<String> findResources(String prefix) {
+            List<String> answer = new ArrayList<>();
+            int pos = Arrays.binarySearch(names, prefix);
+            if (pos < 0) {
+                pos = -pos - 1;
+            }
+            for (int i = pos; i < names.length && names[i].startsWith(prefix); i++) {
+                if (!names[i].endsWith(".class")) {
+                    answer.add(names[i]);
+                }
+            }
+            return answer;
+        }
+    }
+
+}
@@ -19,7 +19,10 @@ package org.apache.camel.spring.boot;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.jar.JarEntry;
 import java.util.jar.JarInputStream;
 
@@ -29,6 +32,10 @@ import org.apache.camel.util.IOHelper;
 /**
  * An implementation of the {@code org.apache.camel.spi.PackageScanClassResolver} that is able to
  * scan spring-boot fat jars to find classes contained also in nested jars.
+ * <p/>
+ * If the fat jar contains a build-time generated scan index (<tt>META-INF/camel/scan-index</tt>) then the class
+ * entries of the indexed nested jars are taken from the index, and only nested jars without an index entry are
+ * decompressed and scanned.
  */
 public class FatJarPackageScanClassResolver extends DefaultPackageScanClassResolver {
 
@@ -38,12 +45,73 @@ public class FatJarPackageScanClassResolver extends DefaultPackageScanClassResol
     private static final String SPRING_BOOT_WEB_INF_LIB_ROOT = "WEB-INF/lib/";
     private static final String SPRING_BOOT_WEB_INF_CLASSES_ROOT = "WEB-INF/classes/";
 
+    private final AtomicInteger scanIndexHits = new AtomicInteger();
+    private final AtomicInteger fullScans = new AtomicInteger();
+    private boolean scanIndexEnabled = true;
+    private FatJarCentralDirectoryScanner centralDirectoryScanner;
+
+    /**
+     * Whether to use the build-time generated scan index of the fat jar if present.
+     */
+    public boolean isScanIndexEnabled() {
+        return scanIndexEnabled;
+    }
+
+    public void setScanIndexEnabled(boolean scanIndexEnabled) {
+        this.scanIndexEnabled = scanIndexEnabled;
+    }
+
+    public FatJarCentralDirectoryScanner getCentralDirectoryScanner() {
+        return centralDirectoryScanner;
+    }
+
+    /**
+     * To scan fat jars by reading only their zip central directories instead of streaming every nested jar.
+     */
+    public void setCentralDirectoryScanner(FatJarCentralDirectoryScanner centralDirectoryScanner) {
+        this.centralDirectoryScanner = centralDirectoryScanner;
+    }
+
+    /**
+     * Number of nested jars whose class entries were served from the scan index.
+     */
+    public int getScanIndexHits() {
+        return scanIndexHits.get();
+    }
+
+    /**
+     * Number of nested jars that had to be decompressed and scanned fully.
+     */
+    public int getFullScans() {
+        return fullScans.get();
+    }
+
     @Override
     protected List<String> doLoadJarClassEntries(InputStream stream, String urlPath) {
-        return doLoadJarClassEntries(stream, urlPath, true, true);
+        if (centralDirectoryScanner != null) {
+            FatJarCentralDirectoryScanner.FatJarEntries scanned = centralDirectoryScanner.scan(urlPath);
+            if (scanned != null) {
+                IOHelper.close(stream, urlPath, log);
+                return new ArrayList<>(scanned.getClassNames());
+            }
+        }
+        Map<String, List<String>> index = scanIndexEnabled ? FatJarScanIndex.load(urlPath) : Collections.emptyMap();
+        int hits = scanIndexHits.get();
+        int scans = fullScans.get();
+        List<String> answer = doLoadJarClassEntries(stream, urlPath, index, true, true);
+        if (!index.isEmpty()) {
+            log.debug("Package scan of {} used scan index for {} nested jars and fully scanned {} nested jars",
+                    urlPath, scanIndexHits.get() - hits, fullScans.get() - scans);
+        }
+        return answer;
     }
 
     protected List<String> doLoadJarClassEntries(InputStream stream, String urlPath, boolean inspectNestedJars, boolean closeStream) {
+        return doLoadJarClassEntries(stream, urlPath, Collections.emptyMap(), inspectNestedJars, closeStream);
+    }
+
+    private List<String> doLoadJarClassEntries(InputStream stream, String urlPath, Map<String, List<String>> index,
+                                               boolean inspectNestedJars, boolean closeStream) {
         List<String> entries = new ArrayList<>();
 
         JarInputStream jarStream = null;
@@ -59,9 +127,17 @@ public class FatJarPackageScanClassResolver extends DefaultPackageScanClassResol
                     entries.add(cleanupSpringBootClassName(name));
                 } else if (inspectNestedJars && !entry.isDirectory() && isSpringBootNestedJar(name)) {
                     String nestedUrl = urlPath + "!/" + name;
+                    List<String> indexed = index.get(FatJarScanIndex.nestedJarKey(name));
+                    if (indexed != null) {
+                        log.trace("Using scan index for nested jar: {}", nestedUrl);
+                        scanIndexHits.incrementAndGet();
+                        entries.addAll(indexed);
+                        continue;
+                    }
                     log.trace("Inspecting nested jar: {}", nestedUrl);
+                    fullScans.incrementAndGet();
 
-                    List<String> nestedEntries = doLoadJarClassEntries(jarStream, nestedUrl, false, false);
+                    List<String> nestedEntries = doLoadJarClassEntries(jarStream, nestedUrl, index, false, false);
                     entries.addAll(nestedEntries);
                 }
             }
@@ -77,12 +153,12 @@ public class FatJarPackageScanClassResolver extends DefaultPackageScanClassResol
         return entries;
     }
 
-    private boolean isSpringBootNestedJar(String name) {
+    static boolean isSpringBootNestedJar(String name) {
         // Supporting both versions of the packaging model
         return name.endsWith(".jar") && (name.startsWith(SPRING_BOOT_CLASSIC_LIB_ROOT) || name.startsWith(SPRING_BOOT_BOOT_INF_LIB_ROOT) || name.startsWith(SPRING_BOOT_WEB_INF_LIB_ROOT));
     }
 
-    private String cleanupSpringBootClassName(String name) {
+    static String cleanupSpringBootClassName(String name) {
         // Classes inside BOOT-INF/classes will be loaded by the new classloader as if they were in the root
         if (name.startsWith(SPRING_BOOT_BOOT_INF_CLASSES_ROOT)) {
             name = name.substring(SPRING_BOOT_BOOT_INF_CLASSES_ROOT.length());
@@ -29,6 +29,9 @@ import java.util.jar.JarInputStream;
 /**
  * An implementation of the {@code org.apache.camel.spi.PackageScanResourceResolver} that is able to
  * scan spring-boot fat jars to find resources contained also in nested jars.
+ * <p/>
+ * If a {@link FatJarCentralDirectoryScanner} is configured then only the zip central directories of the fat jar
+ * and its nested jars are read, and the resources are looked up by package prefix.
  */
 public class FatJarPackageScanResourceResolver extends DefaultPackageScanResourceResolver {
 
@@ -38,8 +41,28 @@ public class FatJarPackageScanResourceResolver extends DefaultPackageScanResourc
     private static final String SPRING_BOOT_WEB_INF_LIB_ROOT = "WEB-INF/lib/";
     private static final String SPRING_BOOT_WEB_INF_CLASSES_ROOT = "WEB-INF/classes/";
 
+    private FatJarCentralDirectoryScanner centralDirectoryScanner;
+
+    public FatJarCentralDirectoryScanner getCentralDirectoryScanner() {
+        return centralDirectoryScanner;
+    }
+
+    /**
+     * To scan fat jars by reading only their zip central directories instead of streaming every nested jar.
+     */
+    public void setCentralDirectoryScanner(FatJarCentralDirectoryScanner centralDirectoryScanner) {
+        this.centralDirectoryScanner = centralDirectoryScanner;
+    }
+
     @Override
     protected List<String> doLoadImplementationsInJar(String packageName, InputStream stream, String urlPath) {
+        if (centralDirectoryScanner != null) {
+            FatJarCentralDirectoryScanner.FatJarEntries scanned = centralDirectoryScanner.scan(urlPath);
+            if (scanned != null) {
+                IOHelper.close(stream, urlPath, log);
+                return scanned.findResources(packageName);
+            }
+        }
         return doLoadImplementationsInJar(packageName,  stream, urlPath, true, true);
     }
 
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The build-time generated index of class entries per nested jar of a spring-boot fat jar, as written by the
+ * <tt>generate-scan-index</tt> goal of the <tt>camel-spring-boot-generator-maven-plugin</tt>.
+ * <p/>
+ * The index is keyed by the file name of the nested jar, so a nested jar that has been replaced with a different
+ * version is not found in the index and is scanned as usual.
+ */
+final class FatJarScanIndex {
+
+    static final String SCAN_INDEX = "META-INF/camel/scan-index";
+
+    private static final Logger LOG = LoggerFactory.getLogger(FatJarScanIndex.class);
+
+    private static final String[] SCAN_INDEX_LOCATIONS = {
+        "BOOT-INF/classes/" + SCAN_INDEX, "WEB-INF/classes/" + SCAN_INDEX, SCAN_INDEX };
+
+    private FatJarScanIndex() {
+    }
+
+    /**
+     * Loads the scan index from the fat jar with the given path.
+     *
+     * @param  urlPath the path of the fat jar
+     * @return         the class entries per nested jar file name, or an empty map if the jar has no index
+     */
+    static Map<String, List<String>> load(String urlPath) {
+        File file = new File(urlPath);
+        if (!file.isFile()) {
+            return Collections.emptyMap();
+        }
+
+        // the jar is opened with random access so only the index entry is read
+        try (JarFile jar = new JarFile(file)) {
+            for (String location : SCAN_INDEX_LOCATIONS) {
+                ZipEntry entry = jar.getEntry(location);
+                if (entry != null) {
+                    LOG.debug("Using package scan index: {}!/{}", urlPath, location);
+                    return parse(new BufferedReader(new InputStreamReader(jar.getInputStream(entry), StandardCharsets.UTF_8)));
+                }
+            }
+        } catch (IOException e) {
+            LOG.debug("Cannot load package scan index from {} due to {}. The jar is scanned without index.", urlPath, e.getMessage());
+        }
+        return Collections.emptyMap();
+    }
+
+    static Map<String, List<String>> parse(BufferedReader reader) throws IOException {
+        Map<String, List<String>> answer = new HashMap<>();
+        try (BufferedReader br = reader) {
+            List<String> current = null;
+            String line;
+            while ((line = br.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                if (line.startsWith("@")) {
+                    current = new ArrayList<>();
+                    answer.put(line.substring(1), current);
+                } else if (current != null) {
+                    current.add(line);
+                }
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * The key of a nested jar entry in the index, which is the file name of the nested jar.
+     */
+    static String nestedJarKey(String name) {
+        int pos = name.lastIndexOf('/');
+        return pos >= 0 ? name.substring(pos + 1) : name;
+    }
+
+}
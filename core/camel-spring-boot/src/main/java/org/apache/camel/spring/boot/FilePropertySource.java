@@ -16,43 +16,203 @@
  */
 package org.apache.camel.spring.boot;
 
+import java.io.Closeable;
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 
 import org.apache.camel.util.StringHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.core.env.PropertySource;
 import org.springframework.core.io.Resource;
 
 /**
  * To load properties from files, such as a secret mounted to the container.
+ * <p/>
+ * In watch mode the directories of the files are watched, and the files which are changed are loaded again.
+ * The properties are then replaced at once and a {@link FilePropertySourceChangedEvent} is published.
  */
-public class FilePropertySource extends PropertySource {
+public class FilePropertySource extends PropertySource implements Closeable {
 
     private static final Logger LOG = LoggerFactory.getLogger(FilePropertySource.class);
 
-    // properties for all the loaded files
-    private final Properties properties;
+    private final ApplicationContext applicationContext;
+    private final String directory;
+    // the loaded files in the order they are loaded, only updated by the watch thread
+    private Map<Path, LoadedFile> files = new LinkedHashMap<>();
+    // properties for all the loaded files, which is replaced as a whole when files are changed
+    private volatile Map<String, String> properties;
+    private WatchService watchService;
+    private Thread watchThread;
 
     public FilePropertySource(String name, ApplicationContext applicationContext, String directory) {
+        this(name, applicationContext, directory, false);
+    }
+
+    public FilePropertySource(String name, ApplicationContext applicationContext, String directory, boolean watch) {
         super(name);
         StringHelper.notEmpty(directory, "directory");
+        this.applicationContext = applicationContext;
+        this.directory = directory;
+
+        files = loadFiles(Collections.emptyMap());
+        properties = mergeFiles(files);
+
+        // if we loaded any files then store as properties
+        if (properties.isEmpty()) {
+            LOG.warn("No properties found while loading from: {}", directory);
+        } else {
+            LOG.info("Loaded {} properties from: {}", properties.size(), directory);
+        }
+
+        if (watch) {
+            startWatching();
+        }
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        Object answer = properties.get(name);
+        LOG.trace("getProperty {} -> {}", name, answer);
+        return answer;
+    }
+
+    public boolean isWatching() {
+        return watchThread != null;
+    }
+
+    @Override
+    public void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                // ignore
+            }
+            watchService = null;
+            watchThread = null;
+        }
+    }
+
+    /**
+     * Loads the files again which have been changed, added or removed since they were loaded.
+     *
+     * @return the names of the properties which have been changed
+     */
+    synchronized Set<String> reload() {
+        Map<Path, LoadedFile> reloaded = loadFiles(files);
+        Map<String, String> merged = mergeFiles(reloaded);
+        files = reloaded;
+
+        Map<String, String> old = properties;
+        Set<String> changed = new LinkedHashSet<>();
+        for (Map.Entry<String, String> entry : merged.entrySet()) {
+            if (!entry.getValue().equals(old.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (String key : old.keySet()) {
+            if (!merged.containsKey(key)) {
+                changed.add(key);
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            properties = merged;
+            LOG.info("Reloaded {} changed properties from: {}", changed.size(), directory);
+            applicationContext.publishEvent(new FilePropertySourceChangedEvent(this, changed));
+        }
+        return changed;
+    }
+
+    private void startWatching() {
+        Set<Path> directories = new HashSet<>();
+        Path base = getBaseDirectory(directory);
+        if (base != null) {
+            directories.add(base);
+        }
+        for (Path file : files.keySet()) {
+            directories.add(file.getParent());
+        }
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            for (Path dir : directories) {
+                if (Files.isDirectory(dir)) {
+                    LOG.debug("Watching directory: {}", dir);
+                    // mounted kubernetes secrets are updated by replacing a symlink in the directory
+                    dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                            StandardWatchEventKinds.ENTRY_DELETE);
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Cannot watch files from: {} due to: {}. Changes to the files will not be reloaded.", directory,
+                    e.getMessage());
+            close();
+            return;
+        }
+
+        final WatchService ws = watchService;
+        watchThread = new Thread(() -> watch(ws), "CamelFilePropertySourceWatcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
 
-        Properties loaded = new Properties();
+    private void watch(WatchService ws) {
         try {
-            Resource[] files = applicationContext.getResources(directory);
-            for (Resource file : files) {
-                if (file.exists()) {
-                    try (FileInputStream fis = new FileInputStream(file.getFile())) {
-                        LOG.debug("Loading properties from file: {}", file);
-                        Properties extra = new Properties();
-                        extra.load(fis);
-                        if (!extra.isEmpty()) {
-                            loaded.putAll(extra);
+            while (true) {
+                WatchKey key = ws.take();
+                // drain the events as the files are compared with the loaded files anyway
+                key.pollEvents();
+                key.reset();
+                try {
+                    reload();
+                } catch (Exception e) {
+                    LOG.warn("Error reloading properties from: {} due to: {}", directory, e.getMessage(), e);
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // stopped
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Map<Path, LoadedFile> loadFiles(Map<Path, LoadedFile> previous) {
+        Map<Path, LoadedFile> answer = new LinkedHashMap<>();
+        try {
+            Resource[] resources = applicationContext.getResources(directory);
+            for (Resource resource : resources) {
+                if (resource.exists()) {
+                    try {
+                        File file = resource.getFile();
+                        Path path = file.toPath().toAbsolutePath();
+                        long lastModified = file.lastModified();
+                        LoadedFile loaded = previous.get(path);
+                        if (loaded == null || loaded.lastModified != lastModified) {
+                            loaded = loadFile(file, lastModified);
                         }
+                        answer.put(path, loaded);
                     } catch (IOException e) {
                         // ignore
                     }
@@ -61,21 +221,89 @@ public class FilePropertySource extends PropertySource {
         } catch (IOException e) {
             // ignore
         }
+        return answer;
+    }
 
-        // if we loaded any files then store as properties
-        if (loaded.isEmpty()) {
-            properties = null;
-            LOG.warn("No properties found while loading from: {}", directory);
-        } else {
-            properties = loaded;
-            LOG.info("Loaded {} properties from: {}", properties.size(), directory);
+    private static LoadedFile loadFile(File file, long lastModified) throws IOException {
+        try (FileInputStream fis = new FileInputStream(file)) {
+            LOG.debug("Loading properties from file: {}", file);
+            Properties extra = new Properties();
+            extra.load(fis);
+            Map<String, String> map = new HashMap<>();
+            for (String key : extra.stringPropertyNames()) {
+                map.put(key, extra.getProperty(key));
+            }
+            return new LoadedFile(lastModified, map);
         }
     }
 
-    @Override
-    public Object getProperty(String name) {
-        Object answer = properties != null ? properties.getProperty(name) : null;
-        LOG.trace("getProperty {} -> {}", name, answer);
-        return answer;
+    private static Map<String, String> mergeFiles(Map<Path, LoadedFile> files) {
+        Map<String, String> answer = new HashMap<>();
+        for (LoadedFile file : files.values()) {
+            answer.putAll(file.properties);
+        }
+        return Collections.unmodifiableMap(answer);
+    }
+
+    /**
+     * The directory of a file: pattern before any wildcards, which is watched for files being added.
+     */
+    private static Path getBaseDirectory(String directory) {
+        if (!directory.startsWith("file:")) {
+            return null;
+        }
+        String path = directory.substring(5);
+        int wildcard = path.length();
+        for (char c : new char[] { '*', '?', '{', '[' }) {
+            int idx = path.indexOf(c);
+            if (idx != -1 && idx < wildcard) {
+                wildcard = idx;
+            }
+        }
+        int slash = path.lastIndexOf('/', wildcard);
+        if (slash <= 0) {
+            return null;
+        }
+        try {
+            return Paths.get(path.substring(0, slash)).toAbsolutePath();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static final class LoadedFile {
+        private final long lastModified;
+        private final Map<String, String> properties;
+
+        LoadedFile(long lastModified, Map<String, String> properties) {
+            this.lastModified = lastModified;
+            this.properties = properties;
+        }
+    }
+
+    /**
+     * Published when the properties of a {@link FilePropertySource} have been reloaded because the files have
+     * changed.
+     */
+    public static class FilePropertySourceChangedEvent extends ApplicationEvent {
+
+        private final Set<String> changedProperties;
+
+        public FilePropertySourceChangedEvent(FilePropertySource source, Set<String> changedProperties) {
+            super(source);
+            this.changedProperties = Objects.requireNonNull(changedProperties);
+        }
+
+        @Override
+        public FilePropertySource getSource() {
+            return (FilePropertySource) super.getSource();
+        }
+
+        /**
+         * The names of the properties which have been added, changed or removed.
+         */
+        public Set<String> getChangedProperties() {
+            return changedProperties;
+        }
     }
 }
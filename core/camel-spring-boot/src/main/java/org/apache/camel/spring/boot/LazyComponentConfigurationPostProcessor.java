@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.apache.camel.CamelContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Makes the configurations of the components lazy, so a configuration is only bound from the environment when the
+ * component is created by Camel, instead of for every component starter on the classpath.
+ * <p/>
+ * When the application is ready the components which are auto-configured but not used by Camel are reported,
+ * and the components which have been configured by properties but are not used are logged.
+ */
+public class LazyComponentConfigurationPostProcessor implements BeanFactoryPostProcessor, ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LazyComponentConfigurationPostProcessor.class);
+
+    private static final String PREFIX = "camel.component.";
+
+    // bean name -> component name
+    private final Map<String, String> components = new TreeMap<>();
+    private Set<String> unusedComponents = Collections.emptySet();
+    private Set<String> configuredUnusedComponents = Collections.emptySet();
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(name);
+            String className = definition.getBeanClassName();
+            // the configuration properties beans are named prefix-className
+            if (className == null || !name.startsWith(PREFIX) || !name.endsWith("-" + className)
+                    || !isComponentConfiguration(className, beanFactory.getBeanClassLoader())) {
+                continue;
+            }
+            definition.setLazyInit(true);
+            components.put(name, name.substring(PREFIX.length(), name.length() - className.length() - 1));
+        }
+        LOG.debug("Configurations of {} components are bound when the components are created", components.size());
+    }
+
+    private static boolean isComponentConfiguration(String className, ClassLoader classLoader) {
+        try {
+            return ComponentConfigurationPropertiesCommon.class.isAssignableFrom(ClassUtils.forName(className, classLoader));
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        CamelContext camelContext = event.getApplicationContext().getBeanProvider(CamelContext.class).getIfAvailable();
+        if (camelContext == null) {
+            return;
+        }
+
+        Set<String> used = new TreeSet<>(camelContext.getComponentNames());
+        Set<String> configured = configuredComponents(event.getApplicationContext().getEnvironment());
+        Set<String> unused = new TreeSet<>();
+        Set<String> configuredUnused = new TreeSet<>();
+        for (String component : components.values()) {
+            if (!used.contains(component)) {
+                unused.add(component);
+                if (configured.contains(component)) {
+                    configuredUnused.add(component);
+                }
+            }
+        }
+        unusedComponents = Collections.unmodifiableSet(unused);
+        configuredUnusedComponents = Collections.unmodifiableSet(configuredUnused);
+
+        LOG.debug("{} of {} auto-configured components are not used: {}", unused.size(), components.size(), unused);
+        if (!configuredUnused.isEmpty()) {
+            LOG.info("Components configured by properties but not used: {}", configuredUnused);
+        }
+    }
+
+    private Set<String> configuredComponents(ConfigurableEnvironment environment) {
+        Set<String> answer = new TreeSet<>();
+        for (PropertySource<?> source : environment.getPropertySources()) {
+            if (!(source instanceof EnumerablePropertySource)) {
+                continue;
+            }
+            for (String property : ((EnumerablePropertySource<?>) source).getPropertyNames()) {
+                if (!property.startsWith(PREFIX)) {
+                    continue;
+                }
+                for (String component : components.values()) {
+                    if (property.startsWith(PREFIX + component + ".")) {
+                        answer.add(component);
+                    }
+                }
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * The components with a lazy configuration.
+     */
+    public Set<String> getComponents() {
+        return Collections.unmodifiableSet(new TreeSet<>(components.values()));
+    }
+
+    /**
+     * The components which are auto-configured but were not used by Camel when the application was ready.
+     */
+    public Set<String> getUnusedComponents() {
+        return unusedComponents;
+    }
+
+    /**
+     * The components which have been configured by properties but were not used by Camel when the application was
+     * ready.
+     */
+    public Set<String> getConfiguredUnusedComponents() {
+        return configuredUnusedComponents;
+    }
+
+}
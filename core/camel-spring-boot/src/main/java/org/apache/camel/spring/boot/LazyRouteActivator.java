@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.model.ModelCamelContext;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.CamelEvent.ExchangeSendingEvent;
+import org.apache.camel.support.EventNotifierSupport;
+import org.apache.camel.util.StringHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Activates routes on demand.
+ * <p/>
+ * The routes consuming from in-memory endpoints (direct and seda) which have not configured auto startup are kept
+ * dormant when Camel is started, and are started when the first exchange is sent to their endpoint. The routes
+ * consuming from other endpoints, such as timers or platform-http, cannot be triggered by Camel itself and are
+ * started as usual.
+ * <p/>
+ * Optionally the activated routes are stopped again when they have been idle for a period of time, which releases
+ * their consumer threads until they are used again.
+ */
+public class LazyRouteActivator extends EventNotifierSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LazyRouteActivator.class);
+
+    private static final Set<String> LAZY_SCHEMES = Set.of("direct", "seda");
+
+    private final CamelContext camelContext;
+    private final long idleSeconds;
+    // endpoint key (scheme:name) -> route
+    private final Map<String, LazyRoute> routes = new ConcurrentHashMap<>();
+    // route id -> route
+    private final Map<String, LazyRoute> routesById = new ConcurrentHashMap<>();
+    private ScheduledExecutorService executorService;
+
+    public LazyRouteActivator(CamelContext camelContext, long idleSeconds) {
+        this.camelContext = camelContext;
+        this.idleSeconds = idleSeconds;
+
+        // only the sending events are used
+        setIgnoreCamelContextEvents(true);
+        setIgnoreRouteEvents(true);
+        setIgnoreServiceEvents(true);
+        setIgnoreExchangeCreatedEvent(true);
+        setIgnoreExchangeCompletedEvent(true);
+        setIgnoreExchangeFailedEvents(true);
+        setIgnoreExchangeRedeliveryEvents(true);
+        setIgnoreExchangeSentEvents(true);
+        setIgnoreStepEvents(true);
+    }
+
+    /**
+     * Marks the routes which can be activated on demand to not auto startup. This must be invoked after the routes
+     * have been added, and before Camel is started.
+     */
+    public void prepareRoutes() {
+        for (RouteDefinition route : camelContext.adapt(ModelCamelContext.class).getRouteDefinitions()) {
+            if (route.getAutoStartup() != null || route.getInput() == null || route.getInput().getEndpointUri() == null) {
+                continue;
+            }
+            String uri = camelContext.resolvePropertyPlaceholders(route.getInput().getEndpointUri());
+            String key = endpointKey(uri);
+            if (LAZY_SCHEMES.contains(StringHelper.before(key, ":")) && !routes.containsKey(key)) {
+                route.setAutoStartup("false");
+                String routeId = route.idOrCreate(camelContext.adapt(ExtendedCamelContext.class).getNodeIdFactory());
+                LazyRoute lazyRoute = new LazyRoute(routeId);
+                routes.put(key, lazyRoute);
+                routesById.put(routeId, lazyRoute);
+            }
+        }
+        LOG.info("{} routes are activated on demand", routes.size());
+    }
+
+    /**
+     * The ids of the routes which are activated on demand.
+     */
+    public Set<String> getLazyRoutes() {
+        Set<String> answer = new TreeSet<>();
+        routes.values().forEach(r -> answer.add(r.routeId));
+        return Collections.unmodifiableSet(answer);
+    }
+
+    /**
+     * The ids of the routes which are dormant.
+     */
+    public Set<String> getDormantRoutes() {
+        Set<String> answer = new TreeSet<>();
+        routes.values().stream().filter(r -> r.state == State.DORMANT).forEach(r -> answer.add(r.routeId));
+        return Collections.unmodifiableSet(answer);
+    }
+
+    /**
+     * The activation state of the route.
+     *
+     * @return <tt>Dormant</tt> or <tt>Active</tt>, or <tt>null</tt> if the route is not activated on demand
+     */
+    public String getActivationState(String routeId) {
+        LazyRoute route = routesById.get(routeId);
+        if (route == null) {
+            return null;
+        }
+        return route.state == State.DORMANT ? "Dormant" : "Active";
+    }
+
+    @Override
+    public boolean isEnabled(CamelEvent event) {
+        return event instanceof ExchangeSendingEvent;
+    }
+
+    @Override
+    public void notify(CamelEvent event) throws Exception {
+        Endpoint endpoint = ((ExchangeSendingEvent) event).getEndpoint();
+        LazyRoute route = routes.get(endpointKey(endpoint.getEndpointUri()));
+        if (route == null) {
+            return;
+        }
+        if (idleSeconds > 0) {
+            // the activity is recorded before the state is checked, so a route which is being deactivated while the
+            // exchange is sent sees the activity when it has stopped, and is then activated again
+            route.lastActivity = System.currentTimeMillis();
+        }
+        if (route.state != State.ACTIVE) {
+            activate(route);
+        }
+    }
+
+    private void activate(LazyRoute route) throws Exception {
+        synchronized (route) {
+            // a route which is being deactivated is activated again by the deactivation
+            if (route.state == State.DORMANT) {
+                LOG.debug("Activating route: {}", route.routeId);
+                camelContext.getRouteController().startRoute(route.routeId);
+                route.state = State.ACTIVE;
+            }
+        }
+    }
+
+    private void deactivateIdleRoutes() {
+        for (LazyRoute route : routes.values()) {
+            deactivateIfIdle(route);
+        }
+    }
+
+    private void deactivateIfIdle(LazyRoute route) {
+        long lastActivity;
+        synchronized (route) {
+            lastActivity = route.lastActivity;
+            if (route.state != State.ACTIVE
+                    || System.currentTimeMillis() - lastActivity < TimeUnit.SECONDS.toMillis(idleSeconds)
+                    || camelContext.getInflightRepository().size(route.routeId) > 0
+                    || camelContext.getRouteController().getRouteStatus(route.routeId) != ServiceStatus.Started) {
+                return;
+            }
+            route.state = State.DEACTIVATING;
+        }
+
+        // the route is stopped without holding the lock, so the senders are not blocked while it is stopping
+        try {
+            LOG.debug("Deactivating route: {} as it has been idle for more than {} seconds", route.routeId, idleSeconds);
+            camelContext.getRouteController().stopRoute(route.routeId);
+        } catch (Exception e) {
+            LOG.warn("Error deactivating route: {} due to: {}. This exception is ignored.", route.routeId, e.getMessage(), e);
+        }
+
+        synchronized (route) {
+            route.state = State.DORMANT;
+            if (route.lastActivity != lastActivity) {
+                // an exchange was sent while the route was being deactivated
+                try {
+                    activate(route);
+                } catch (Exception e) {
+                    LOG.warn("Error activating route: {} due to: {}. This exception is ignored.", route.routeId, e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * The key of an endpoint without its options, as a producer and a consumer of the same direct or seda endpoint
+     * may use different options.
+     */
+    static String endpointKey(String uri) {
+        String answer = StringHelper.before(uri, "?", uri);
+        String scheme = StringHelper.before(answer, ":");
+        if (scheme == null) {
+            return answer;
+        }
+        String path = StringHelper.after(answer, ":");
+        if (path.startsWith("//")) {
+            path = path.substring(2);
+        }
+        return scheme + ":" + path;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (idleSeconds > 0 && executorService == null) {
+            long delay = Math.max(1, idleSeconds / 2);
+            executorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "LazyRouteActivator");
+            executorService.scheduleWithFixedDelay(this::deactivateIdleRoutes, delay, delay, TimeUnit.SECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+    }
+
+    private enum State {
+        DORMANT,
+        ACTIVE,
+        DEACTIVATING
+    }
+
+    private static final class LazyRoute {
+        private final String routeId;
+        private volatile State state = State.DORMANT;
+        private volatile long lastActivity;
+
+        private LazyRoute(String routeId) {
+            this.routeId = routeId;
+        }
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.spring.boot;
 
+import org.apache.camel.TypeConverter;
 import org.apache.camel.spring.SpringCamelContext;
 import org.apache.camel.util.StopWatch;
 import org.slf4j.Logger;
@@ -37,6 +38,13 @@ public class SpringBootCamelContext extends SpringCamelContext {
         this.warnOnEarlyShutdown = warnOnEarlyShutdown;
     }
 
+    @Override
+    protected TypeConverter createTypeConverter() {
+        // the registry also reports the statistics of the spring type converter
+        return new SpringBootTypeConverterRegistry(
+                getCamelContextReference(), getPackageScanClassResolver(), getInjector(), isLoadTypeConverters());
+    }
+
     @Override
     protected void doStart() throws Exception {
         stopWatch.restart();
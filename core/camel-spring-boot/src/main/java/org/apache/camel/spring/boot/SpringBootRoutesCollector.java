@@ -16,27 +16,266 @@
  */
 package org.apache.camel.spring.boot;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StartupStep;
+import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.main.DefaultRoutesCollector;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.spi.ResourceAware;
+import org.apache.camel.spi.StartupStepRecorder;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.TimeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanCurrentlyInCreationException;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
 
 /**
  * Spring Boot {@link org.apache.camel.main.RoutesCollector}.
+ * <p/>
+ * While collecting routes the types of all the beans are indexed once, so looking up each of the route builder
+ * types does not walk all the bean definitions again.
+ * <p/>
+ * The XML and YAML routes loaded from directories can be parsed into route definitions in parallel, which are then
+ * added to Camel in the same order as when parsed one at a time.
  */
 public class SpringBootRoutesCollector extends DefaultRoutesCollector {
 
+    private static final Logger LOG = LoggerFactory.getLogger(SpringBootRoutesCollector.class);
+    // the routes which declare beans bind them into the registry when they are parsed
+    private static final Pattern BEANS = Pattern.compile("^\\s*-?\\s*beans\\s*:|<beans?[\\s/>]", Pattern.MULTILINE);
+
     private final ApplicationContext applicationContext;
+    // bean name -> bean type, only while collecting routes
+    private volatile Map<String, Class<?>> beanTypes;
+    private boolean parallelLoading;
+    private int parallelLoadingPoolSize;
 
     public SpringBootRoutesCollector(ApplicationContext applicationContext) {
         this.applicationContext = applicationContext;
     }
 
+    public boolean isParallelLoading() {
+        return parallelLoading;
+    }
+
+    /**
+     * Whether to parse the routes loaded from directories in parallel.
+     */
+    public void setParallelLoading(boolean parallelLoading) {
+        this.parallelLoading = parallelLoading;
+    }
+
+    public int getParallelLoadingPoolSize() {
+        return parallelLoadingPoolSize;
+    }
+
+    /**
+     * The maximum number of threads to parse the routes with, by default the number of processors.
+     */
+    public void setParallelLoadingPoolSize(int parallelLoadingPoolSize) {
+        this.parallelLoadingPoolSize = parallelLoadingPoolSize;
+    }
+
+    @Override
+    public List<RoutesBuilder> collectRoutesFromRegistry(CamelContext camelContext, String excludePattern, String includePattern) {
+        StartupStepRecorder recorder = camelContext.adapt(ExtendedCamelContext.class).getStartupStepRecorder();
+        StartupStep step = recorder.beginStep(SpringBootRoutesCollector.class, "BeanTypeIndex", "Index Spring Bean Types");
+        StopWatch watch = new StopWatch();
+        beanTypes = indexBeanTypes();
+        LOG.debug("Indexed {} bean types in {}", beanTypes.size(), TimeUtils.printDuration(watch.taken()));
+        recorder.endStep(step);
+        try {
+            return super.collectRoutesFromRegistry(camelContext, excludePattern, includePattern);
+        } finally {
+            // the beans may change after the routes have been collected
+            beanTypes = null;
+        }
+    }
+
+    @Override
+    public Collection<RoutesBuilder> collectRoutesFromDirectory(CamelContext camelContext, String excludePattern, String includePattern) {
+        Collection<RoutesBuilder> answer = super.collectRoutesFromDirectory(camelContext, excludePattern, includePattern);
+        if (parallelLoading && answer.size() > 1) {
+            parseRoutes(camelContext, answer);
+        }
+        return answer;
+    }
+
+    /**
+     * Parses the routes of the builders into route definitions in parallel. The builders keep their definitions so
+     * they are not parsed again when they are added to Camel one at a time.
+     * <p/>
+     * The registry and other state of Camel is not thread safe while the routes are parsed, so only the XML and YAML
+     * routes which do not declare beans are parsed in parallel, and the other builders are parsed by this thread.
+     */
+    private void parseRoutes(CamelContext camelContext, Collection<RoutesBuilder> builders) {
+        StartupStepRecorder recorder = camelContext.adapt(ExtendedCamelContext.class).getStartupStepRecorder();
+        int poolSize = parallelLoadingPoolSize > 0 ? parallelLoadingPoolSize : Runtime.getRuntime().availableProcessors();
+        poolSize = Math.min(poolSize, builders.size());
+
+        // the routes may be loaded from nested jars, so the threads must use the same classloader
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        ForkJoinPool pool = new ForkJoinPool(poolSize, p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("CamelSpringBootRoutesLoader-" + thread.getPoolIndex());
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }, null, false);
+
+        StopWatch watch = new StopWatch();
+        List<RouteBuilder> parsed = new ArrayList<>();
+        List<Long> durations = new ArrayList<>();
+        try {
+            List<Callable<Long>> tasks = new ArrayList<>();
+            for (RoutesBuilder builder : builders) {
+                if (builder instanceof RouteBuilder) {
+                    RouteBuilder routeBuilder = (RouteBuilder) builder;
+                    parsed.add(routeBuilder);
+                    // the builders which cannot be parsed in parallel are parsed afterwards
+                    tasks.add(() -> isParallel(routeBuilder) ? parseRoutes(camelContext, routeBuilder) : null);
+                }
+            }
+            for (Future<Long> future : pool.invokeAll(tasks)) {
+                durations.add(future.get());
+            }
+            for (int i = 0; i < parsed.size(); i++) {
+                if (durations.get(i) == null) {
+                    durations.set(i, parseRoutes(camelContext, parsed.get(i)));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeCamelException(e);
+        } catch (ExecutionException e) {
+            throw RuntimeCamelException.wrapRuntimeException(e.getCause());
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeException(e);
+        } finally {
+            pool.shutdown();
+        }
+        LOG.debug("Parsed {} routes builders using {} threads in {}", builders.size(), poolSize,
+                TimeUtils.printDuration(watch.taken()));
+
+        // the recorder keeps track of the current step, so the steps are recorded by this thread in the order of the
+        // files, with the time each file took to parse
+        for (int i = 0; i < parsed.size(); i++) {
+            StartupStep step = recorder.beginStep(SpringBootRoutesCollector.class, getName(parsed.get(i)), "Parse Routes");
+            if (step instanceof SpringStartupStepRecorder.SpringStartupStep) {
+                ((SpringStartupStepRecorder.SpringStartupStep) step).setDuration(durations.get(i));
+            }
+            recorder.endStep(step);
+        }
+    }
+
+    /**
+     * Whether the routes of the builder can be parsed in parallel with the others, which is the case for XML and YAML
+     * routes which do not declare beans.
+     */
+    static boolean isParallel(RouteBuilder builder) throws Exception {
+        Resource resource = builder instanceof ResourceAware ? ((ResourceAware) builder).getResource() : null;
+        if (resource == null) {
+            return false;
+        }
+        String ext = FileUtil.onlyExt(resource.getLocation(), true);
+        if (!"xml".equals(ext) && !"yaml".equals(ext) && !"yml".equals(ext)) {
+            // such as java routes which can do anything when they are configured
+            return false;
+        }
+        try (InputStream is = resource.getInputStream()) {
+            return is != null && !BEANS.matcher(new String(is.readAllBytes(), StandardCharsets.UTF_8)).find();
+        }
+    }
+
+    /**
+     * Parses the routes of the builder, and returns the time in millis it took.
+     */
+    private static Long parseRoutes(CamelContext camelContext, RouteBuilder builder) throws Exception {
+        StopWatch watch = new StopWatch();
+        builder.configureRoutes(camelContext);
+        long taken = watch.taken();
+        LOG.trace("Parsed routes of {} in {}", getName(builder), TimeUtils.printDuration(taken));
+        return taken;
+    }
+
+    private static String getName(RouteBuilder builder) {
+        Resource resource = builder instanceof ResourceAware ? ((ResourceAware) builder).getResource() : null;
+        return resource != null ? resource.getLocation() : builder.toString();
+    }
+
     @Override
     protected <T> Collection<T> findByType(CamelContext camelContext, Class<T> type) {
-        // lookup in application context
-        return applicationContext.getBeansOfType(type, true, true).values();
+        Map<String, Class<?>> index = beanTypes;
+        if (index == null) {
+            // lookup in application context
+            return applicationContext.getBeansOfType(type, true, true).values();
+        }
+
+        List<T> answer = new ArrayList<>();
+        for (Map.Entry<String, Class<?>> entry : index.entrySet()) {
+            if (type.isAssignableFrom(entry.getValue())) {
+                try {
+                    answer.add(applicationContext.getBean(entry.getKey(), type));
+                } catch (BeanCurrentlyInCreationException e) {
+                    // same as getBeansOfType which skips beans which are currently in creation
+                    LOG.debug("Ignoring bean {} as it is currently in creation", entry.getKey());
+                }
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Resolves the type of every bean in the application context once.
+     */
+    private Map<String, Class<?>> indexBeanTypes() {
+        Set<String> names = new LinkedHashSet<>(List.of(applicationContext.getBeanDefinitionNames()));
+        ConfigurableListableBeanFactory beanFactory = null;
+        if (applicationContext instanceof ConfigurableApplicationContext) {
+            beanFactory = ((ConfigurableApplicationContext) applicationContext).getBeanFactory();
+            // include beans which are registered as singletons without a bean definition
+            names.addAll(List.of(beanFactory.getSingletonNames()));
+        }
+
+        Map<String, Class<?>> answer = new LinkedHashMap<>();
+        for (String name : names) {
+            try {
+                if (beanFactory != null && beanFactory.containsBeanDefinition(name)
+                        && beanFactory.getBeanDefinition(name).isAbstract()) {
+                    continue;
+                }
+                Class<?> type = applicationContext.getType(name);
+                if (type != null) {
+                    answer.put(name, type);
+                }
+            } catch (BeansException e) {
+                LOG.debug("Cannot determine type of bean {} due to: {}", name, e.getMessage());
+            }
+        }
+        return answer;
     }
 
 }
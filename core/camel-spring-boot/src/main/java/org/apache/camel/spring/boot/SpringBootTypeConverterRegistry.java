@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.impl.converter.DefaultTypeConverter;
+import org.apache.camel.spi.Injector;
+import org.apache.camel.spi.PackageScanClassResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The type converter registry of the {@link SpringBootCamelContext}, which also reports the statistics of the decision
+ * cache of the {@link SpringTypeConverter}. They are included in the statistics of the registry, are shown as
+ * attributes of the type converter registry in JMX, and are logged when Camel is stopped.
+ */
+@ManagedResource(description = "Managed TypeConverterRegistry")
+public class SpringBootTypeConverterRegistry extends DefaultTypeConverter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpringBootTypeConverterRegistry.class);
+
+    private final Statistics statistics = new SpringBootStatistics();
+    private volatile SpringTypeConverter springTypeConverter;
+
+    public SpringBootTypeConverterRegistry(CamelContext camelContext, PackageScanClassResolver resolver, Injector injector,
+                                           boolean loadTypeConverters) {
+        super(camelContext, resolver, injector, loadTypeConverters);
+    }
+
+    public SpringTypeConverter getSpringTypeConverter() {
+        return springTypeConverter;
+    }
+
+    /**
+     * Sets the Spring type converter whose decision cache statistics are reported by this registry.
+     */
+    public void setSpringTypeConverter(SpringTypeConverter springTypeConverter) {
+        this.springTypeConverter = springTypeConverter;
+    }
+
+    @Override
+    public Statistics getStatistics() {
+        return statistics;
+    }
+
+    @ManagedAttribute(description = "Number of Spring type conversions where the decision was found in the cache")
+    public long getSpringDecisionCacheHits() {
+        SpringTypeConverter converter = springTypeConverter;
+        return converter != null ? converter.getDecisionCacheHits() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of Spring type conversions where the conversion services had to be asked")
+    public long getSpringDecisionCacheMisses() {
+        SpringTypeConverter converter = springTypeConverter;
+        return converter != null ? converter.getDecisionCacheMisses() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of Spring type conversions which were skipped")
+    public long getSpringDecisionCacheNoops() {
+        SpringTypeConverter converter = springTypeConverter;
+        return converter != null ? converter.getStatistics().getNoopCounter() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of Spring type conversions which failed")
+    public long getSpringDecisionCacheFailures() {
+        SpringTypeConverter converter = springTypeConverter;
+        return converter != null ? converter.getStatistics().getFailedCounter() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of cached Spring type conversion decisions")
+    public int getSpringDecisionCacheSize() {
+        SpringTypeConverter converter = springTypeConverter;
+        return converter != null ? converter.getDecisionCacheSize() : 0;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        SpringTypeConverter converter = springTypeConverter;
+        if (converter != null && super.getStatistics().isStatisticsEnabled()) {
+            LOG.info(converter.getStatistics().toString());
+        }
+        super.doStop();
+    }
+
+    /**
+     * The statistics of the registry, which are reset together with the statistics of the Spring type converter.
+     */
+    private final class SpringBootStatistics implements Statistics {
+
+        @Override
+        public long getNoopCounter() {
+            return SpringBootTypeConverterRegistry.super.getStatistics().getNoopCounter();
+        }
+
+        @Override
+        public long getAttemptCounter() {
+            return SpringBootTypeConverterRegistry.super.getStatistics().getAttemptCounter();
+        }
+
+        @Override
+        public long getHitCounter() {
+            return SpringBootTypeConverterRegistry.super.getStatistics().getHitCounter();
+        }
+
+        @Override
+        public long getMissCounter() {
+            return SpringBootTypeConverterRegistry.super.getStatistics().getMissCounter();
+        }
+
+        @Override
+        public long getFailedCounter() {
+            return SpringBootTypeConverterRegistry.super.getStatistics().getFailedCounter();
+        }
+
+        @Override
+        public void reset() {
+            SpringBootTypeConverterRegistry.super.getStatistics().reset();
+            SpringTypeConverter converter = springTypeConverter;
+            if (converter != null) {
+                converter.resetStatistics();
+            }
+        }
+
+        @Override
+        public boolean isStatisticsEnabled() {
+            return SpringBootTypeConverterRegistry.super.getStatistics().isStatisticsEnabled();
+        }
+
+        @Override
+        public void setStatisticsEnabled(boolean statisticsEnabled) {
+            SpringBootTypeConverterRegistry.super.getStatistics().setStatisticsEnabled(statisticsEnabled);
+        }
+
+        @Override
+        public String toString() {
+            SpringTypeConverter converter = springTypeConverter;
+            String answer = SpringBootTypeConverterRegistry.super.getStatistics().toString();
+            return converter != null ? answer + " " + converter.getStatistics() : answer;
+        }
+    }
+}
@@ -16,23 +16,164 @@
  */
 package org.apache.camel.spring.boot;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
 import org.apache.camel.component.properties.DefaultPropertiesParser;
 import org.apache.camel.component.properties.PropertiesLookup;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.env.RandomValuePropertySource;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertySource;
+
+/**
+ * Resolves the property placeholders of Camel from the Spring environment, optionally caching the resolved values.
+ */
+public class SpringPropertiesParser extends DefaultPropertiesParser implements ApplicationListener<ApplicationEvent> {
+
+    // the environment of spring cloud is refreshed by these events, which are matched by name
+    private static final Set<String> ENVIRONMENT_CHANGE_EVENTS = Set.of(
+            "org.springframework.cloud.context.environment.EnvironmentChangeEvent",
+            "org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent");
 
-class SpringPropertiesParser extends DefaultPropertiesParser {
+    // the random values of spring boot are different each time they are resolved, so they must not be cached
+    private static final String RANDOM_PREFIX = RandomValuePropertySource.RANDOM_PROPERTY_SOURCE_NAME + ".";
 
     // Members
 
     @Autowired
     private Environment env;
 
+    private boolean cacheEnabled;
+    private final Map<String, Optional<String>> cache = new ConcurrentHashMap<>();
+    private volatile List<PropertySource<?>> snapshot;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
     // Overridden
 
     @Override
     public String parseProperty(String key, String value, PropertiesLookup properties) {
-        return env.getProperty(key);
+        if (!cacheEnabled || key.startsWith(RANDOM_PREFIX)) {
+            return env.getProperty(key);
+        }
+
+        if (!isSnapshotValid()) {
+            refresh();
+        }
+        Optional<String> answer = cache.get(key);
+        if (answer != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            answer = Optional.ofNullable(env.getProperty(key));
+            cache.put(key, answer);
+        }
+        return answer.orElse(null);
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (event instanceof ContextRefreshedEvent || event instanceof FilePropertySource.FilePropertySourceChangedEvent
+                || ENVIRONMENT_CHANGE_EVENTS.contains(event.getClass().getName())) {
+            refresh();
+        }
+    }
+
+    // Properties
+
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    /**
+     * Whether to cache the resolved placeholders. The cache is refreshed when property sources are added to or
+     * removed from the environment, when files of a {@link FilePropertySource} are reloaded, and when the
+     * application context is refreshed or the environment is changed.
+     * <p/>
+     * The <tt>random.*</tt> placeholders are never cached, as they resolve to a different value each time. Neither
+     * are changes to the values of a property source detected, unless it is replaced, so the cache should not be
+     * enabled with property sources whose values change in place.
+     */
+    public void setCacheEnabled(boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+    }
+
+    /**
+     * Clears the resolved placeholders and takes a new snapshot of the property sources.
+     */
+    public void refresh() {
+        cache.clear();
+        snapshot = getPropertySources();
+    }
+
+    /**
+     * Number of placeholders in the cache.
+     */
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * Number of placeholders resolved from the cache.
+     */
+    public long getCacheHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of placeholders resolved from the environment when the cache is enabled.
+     */
+    public long getCacheMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * The ratio of placeholders resolved from the cache, from 0 to 1.
+     */
+    public double getCacheHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    // Helpers
+
+    private boolean isSnapshotValid() {
+        List<PropertySource<?>> current = snapshot;
+        if (current == null) {
+            return false;
+        }
+        if (!(env instanceof ConfigurableEnvironment)) {
+            return true;
+        }
+        // the property sources are compared by identity so a source which is replaced by another instance
+        // with the same name invalidates the cache as well
+        int i = 0;
+        for (PropertySource<?> source : ((ConfigurableEnvironment) env).getPropertySources()) {
+            if (i >= current.size() || current.get(i) != source) {
+                return false;
+            }
+            i++;
+        }
+        return i == current.size();
+    }
+
+    private List<PropertySource<?>> getPropertySources() {
+        List<PropertySource<?>> answer = new ArrayList<>();
+        if (env instanceof ConfigurableEnvironment) {
+            ((ConfigurableEnvironment) env).getPropertySources().forEach(answer::add);
+        }
+        return answer;
     }
 
 }
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.StartupStep;
+import org.apache.camel.impl.engine.DefaultStartupStep;
+import org.apache.camel.impl.engine.DefaultStartupStepRecorder;
+import org.springframework.core.metrics.ApplicationStartup;
+
+/**
+ * Startup step recorder which records the Camel startup steps as nested steps of the Spring Boot
+ * {@link ApplicationStartup}, so they are part of the same startup timeline as the Spring Boot steps, such as when
+ * using the <tt>BufferingApplicationStartup</tt> and the <tt>startup</tt> actuator endpoint.
+ * <p/>
+ * The completed steps are also kept by the recorder, which are exposed by the <tt>camelstartup</tt> actuator
+ * endpoint.
+ */
+public class SpringStartupStepRecorder extends DefaultStartupStepRecorder {
+
+    /**
+     * The name of the Spring Boot startup steps, the Camel step is identified by the tags of the step.
+     */
+    public static final String STEP_NAME = "camel.startup.step";
+
+    private final ApplicationStartup applicationStartup;
+    private final List<SpringStartupStep> steps = new CopyOnWriteArrayList<>();
+
+    public SpringStartupStepRecorder(ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+        setEnabled(true);
+    }
+
+    public ApplicationStartup getApplicationStartup() {
+        return applicationStartup;
+    }
+
+    /**
+     * The completed steps in the order they were started.
+     */
+    public List<SpringStartupStep> getSteps() {
+        List<SpringStartupStep> answer = new ArrayList<>(steps);
+        answer.sort(Comparator.comparingInt(SpringStartupStep::getId));
+        return answer;
+    }
+
+    /**
+     * The completed steps which took the longest time.
+     *
+     * @param limit the maximum number of steps
+     */
+    public List<SpringStartupStep> getSlowestSteps(int limit) {
+        List<SpringStartupStep> answer = new ArrayList<>(steps);
+        answer.sort(Comparator.comparingLong(SpringStartupStep::getDuration).reversed()
+                .thenComparingInt(SpringStartupStep::getId));
+        return answer.subList(0, Math.min(Math.max(limit, 0), answer.size()));
+    }
+
+    @Override
+    public StartupStep createStartupStep(
+            String type, String name, String description, int id, int parentId, int level) {
+        org.springframework.core.metrics.StartupStep springStep = null;
+        if (getMaxDepth() < 0 || level <= getMaxDepth()) {
+            springStep = applicationStartup.start(STEP_NAME);
+            springStep.tag("type", type);
+            if (name != null) {
+                springStep.tag("name", name);
+            }
+            if (description != null) {
+                springStep.tag("description", description);
+            }
+            springStep.tag("level", Integer.toString(level));
+        }
+        return new SpringStartupStep(type, name, description, id, parentId, level, springStep);
+    }
+
+    @Override
+    public void onEndStep(StartupStep step) {
+        if (step instanceof SpringStartupStep && ((SpringStartupStep) step).springStep != null) {
+            steps.add((SpringStartupStep) step);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "spring";
+    }
+
+    /**
+     * A Camel startup step which is recorded as a Spring Boot startup step.
+     */
+    public static final class SpringStartupStep extends DefaultStartupStep {
+
+        private final org.springframework.core.metrics.StartupStep springStep;
+        private volatile long duration = -1;
+
+        SpringStartupStep(String type, String name, String description, int id, int parentId, int level,
+                          org.springframework.core.metrics.StartupStep springStep) {
+            super(type, name, description, id, parentId, level, System.currentTimeMillis());
+            this.springStep = springStep;
+        }
+
+        /**
+         * The time in millis the step took, or <tt>-1</tt> if the step has not ended.
+         */
+        public long getDuration() {
+            return duration;
+        }
+
+        /**
+         * Sets the time in millis the step took, when the work of the step was done by another thread and is only
+         * recorded afterwards.
+         */
+        void setDuration(long duration) {
+            this.duration = duration;
+        }
+
+        @Override
+        public void endStep() {
+            if (duration < 0) {
+                duration = System.currentTimeMillis() - getBeginTime();
+            }
+            if (springStep != null) {
+                springStep.end();
+            }
+        }
+    }
+
+}
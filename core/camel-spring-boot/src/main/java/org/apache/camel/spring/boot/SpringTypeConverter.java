@@ -19,10 +19,16 @@ package org.apache.camel.spring.boot;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.TypeConversionException;
+import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.support.TypeConverterSupport;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.convert.ConversionFailedException;
@@ -32,8 +38,22 @@ import org.springframework.core.convert.TypeDescriptor;
 
 public class SpringTypeConverter extends TypeConverterSupport {
 
+    public static final int DEFAULT_DECISION_CACHE_SIZE = 1000;
+
+    // the decision for a pair of types is either to skip the conversion, that no conversion service
+    // can convert the types, or the index of the conversion service to use
+    private static final int SKIP = -2;
+    private static final int NO_CONVERTER = -1;
+
     private final List<ConversionService> conversionServices;
     private final ConcurrentHashMap<Class<?>, TypeDescriptor> types;
+    // target type -> source type -> decision
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Decision>> decisions = new ConcurrentHashMap<>();
+    // the cached decisions in the order they are considered for eviction
+    private final Queue<Decision> evictionQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger decisionCacheSize = new AtomicInteger();
+    private final DecisionCacheStatistics statistics = new DecisionCacheStatistics();
+    private int maxDecisionCacheSize = DEFAULT_DECISION_CACHE_SIZE;
 
     @Autowired
     public SpringTypeConverter(List<ConversionService> conversionServices) {
@@ -43,43 +63,255 @@ public class SpringTypeConverter extends TypeConverterSupport {
 
     @Override
     public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+        int decision = getDecision(type, value);
+        if (decision < 0) {
+            if (decision == SKIP && statistics.isStatisticsEnabled()) {
+                statistics.noops.increment();
+            }
+            return null;
+        }
+
+        TypeDescriptor sourceType = types.computeIfAbsent(value.getClass(), TypeDescriptor::valueOf);
+        TypeDescriptor targetType = types.computeIfAbsent(type, TypeDescriptor::valueOf);
+
+        try {
+            return (T)conversionServices.get(decision).convert(value, sourceType, targetType);
+        } catch (ConversionFailedException e) {
+            // if value is a collection or an array the check ConversionService::canConvert
+            // may return true but then the conversion of specific objects may fail
+            //
+            // https://issues.apache.org/jira/browse/CAMEL-10548
+            // https://jira.spring.io/browse/SPR-14971
+            //
+            if (e.getCause() instanceof ConverterNotFoundException && isArrayOrCollection(value)) {
+                return null;
+            } else {
+                if (statistics.isStatisticsEnabled()) {
+                    statistics.failures.increment();
+                }
+                throw new TypeConversionException(value, type, e);
+            }
+        }
+    }
+
+    private int getDecision(Class<?> type, Object value) {
+        Class<?> valueType = value.getClass();
+        Map<Class<?>, Decision> sources = decisions.get(type);
+        Decision decision = sources != null ? sources.get(valueType) : null;
+        if (decision != null) {
+            if (!decision.used) {
+                decision.used = true;
+            }
+            if (statistics.isStatisticsEnabled()) {
+                statistics.hits.increment();
+            }
+            return decision.value;
+        }
+        if (statistics.isStatisticsEnabled()) {
+            statistics.misses.increment();
+        }
+
+        decision = new Decision(type, valueType, decide(type, value));
+        if (decisions.computeIfAbsent(type, k -> new ConcurrentHashMap<>()).putIfAbsent(valueType, decision) == null) {
+            evictionQueue.offer(decision);
+            if (decisionCacheSize.incrementAndGet() > maxDecisionCacheSize) {
+                evictDecisions();
+            }
+        }
+        return decision.value;
+    }
+
+    private synchronized void evictDecisions() {
+        // evicts the decisions which have not been used since they were last considered for eviction, which
+        // approximates the least recently used without any locking when the decisions are looked up
+        while (decisionCacheSize.get() > maxDecisionCacheSize) {
+            Decision eldest = evictionQueue.poll();
+            if (eldest == null) {
+                return;
+            }
+            if (eldest.used) {
+                eldest.used = false;
+                evictionQueue.offer(eldest);
+            } else {
+                Map<Class<?>, Decision> sources = decisions.get(eldest.type);
+                if (sources != null && sources.remove(eldest.valueType, eldest)) {
+                    decisionCacheSize.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    private int decide(Class<?> type, Object value) {
         // do not attempt to convert Camel types
         if (type.getCanonicalName().startsWith("org.apache")) {
-            return null;
+            return SKIP;
         }
-        
+
         // do not attempt to convert List -> Map. Ognl expression may use this converter as a fallback expecting null
         if (type.isAssignableFrom(Map.class) && isArrayOrCollection(value)) {
-            return null;
+            return SKIP;
         }
 
         TypeDescriptor sourceType = types.computeIfAbsent(value.getClass(), TypeDescriptor::valueOf);
         TypeDescriptor targetType = types.computeIfAbsent(type, TypeDescriptor::valueOf);
 
-        for (ConversionService conversionService : conversionServices) {
-            if (conversionService.canConvert(sourceType, targetType)) {
-                try {
-                    return (T)conversionService.convert(value, sourceType, targetType);
-                } catch (ConversionFailedException e) {
-                    // if value is a collection or an array the check ConversionService::canConvert
-                    // may return true but then the conversion of specific objects may fail
-                    //
-                    // https://issues.apache.org/jira/browse/CAMEL-10548
-                    // https://jira.spring.io/browse/SPR-14971
-                    //
-                    if (e.getCause() instanceof ConverterNotFoundException && isArrayOrCollection(value)) {
-                        return null;
-                    } else {
-                        throw new TypeConversionException(value, type, e);
-                    }
-                }
+        for (int i = 0; i < conversionServices.size(); i++) {
+            if (conversionServices.get(i).canConvert(sourceType, targetType)) {
+                return i;
             }
         }
 
-        return null;
+        return NO_CONVERTER;
     }
 
     private boolean isArrayOrCollection(Object value) {
         return value instanceof Collection || value.getClass().isArray();
     }
+
+    /**
+     * Clears the cached decisions, which is needed if converters are added to the conversion services after
+     * they have been used.
+     */
+    public void clearDecisionCache() {
+        decisions.clear();
+        evictionQueue.clear();
+        decisionCacheSize.set(0);
+    }
+
+    public int getDecisionCacheSize() {
+        return decisionCacheSize.get();
+    }
+
+    public int getMaxDecisionCacheSize() {
+        return maxDecisionCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of pairs of source and target types to cache the decision for. When the cache is full,
+     * the decisions which have not been used recently are evicted.
+     */
+    public void setMaxDecisionCacheSize(int maxDecisionCacheSize) {
+        this.maxDecisionCacheSize = maxDecisionCacheSize;
+    }
+
+    public boolean isStatisticsEnabled() {
+        return statistics.isStatisticsEnabled();
+    }
+
+    /**
+     * Sets whether the hits and misses of the decision cache are counted.
+     */
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        statistics.setStatisticsEnabled(statisticsEnabled);
+    }
+
+    /**
+     * Counts the statistics whenever the given type converter statistics of the Camel context are enabled, so they
+     * can be turned on and off at runtime together.
+     */
+    public void setRegistryStatistics(TypeConverterRegistry.Statistics registryStatistics) {
+        statistics.registryStatistics = registryStatistics;
+    }
+
+    /**
+     * The statistics of the decision cache, where a hit is a conversion whose decision was found in the cache, a miss
+     * is a conversion where the conversion services had to be asked whether they can convert the types, a noop is a
+     * conversion which is skipped, such as to Camel types, and a failure is a conversion which failed.
+     */
+    public TypeConverterRegistry.Statistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Number of conversions where the decision was found in the cache.
+     */
+    public long getDecisionCacheHits() {
+        return statistics.getHitCounter();
+    }
+
+    /**
+     * Number of conversions where the conversion services had to be asked whether they can convert the types.
+     */
+    public long getDecisionCacheMisses() {
+        return statistics.getMissCounter();
+    }
+
+    public void resetStatistics() {
+        statistics.reset();
+    }
+
+    private static final class Decision {
+
+        private final Class<?> type;
+        private final Class<?> valueType;
+        private final int value;
+        // new decisions are used, so they are not evicted before they are considered again
+        private volatile boolean used = true;
+
+        Decision(Class<?> type, Class<?> valueType, int value) {
+            this.type = type;
+            this.valueType = valueType;
+            this.value = value;
+        }
+    }
+
+    private static final class DecisionCacheStatistics implements TypeConverterRegistry.Statistics {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder noops = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private volatile TypeConverterRegistry.Statistics registryStatistics;
+        private volatile boolean statisticsEnabled;
+
+        @Override
+        public long getNoopCounter() {
+            return noops.sum();
+        }
+
+        @Override
+        public long getAttemptCounter() {
+            return hits.sum() + misses.sum();
+        }
+
+        @Override
+        public long getHitCounter() {
+            return hits.sum();
+        }
+
+        @Override
+        public long getMissCounter() {
+            return misses.sum();
+        }
+
+        @Override
+        public long getFailedCounter() {
+            return failures.sum();
+        }
+
+        @Override
+        public void reset() {
+            hits.reset();
+            misses.reset();
+            noops.reset();
+            failures.reset();
+        }
+
+        @Override
+        public boolean isStatisticsEnabled() {
+            TypeConverterRegistry.Statistics registry = registryStatistics;
+            return statisticsEnabled || registry != null && registry.isStatisticsEnabled();
+        }
+
+        @Override
+        public void setStatisticsEnabled(boolean statisticsEnabled) {
+            this.statisticsEnabled = statisticsEnabled;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("SpringTypeConverter decision cache utilization[attempts=%s, hits=%s, misses=%s, failures=%s, noops=%s]",
+                    getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter(), getNoopCounter());
+        }
+    }
 }
@@ -18,6 +18,7 @@ package org.apache.camel.spring.boot;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.TypeConverter;
+import org.apache.camel.spi.TypeConverterRegistry;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationContext;
@@ -47,7 +48,14 @@ public class TypeConversionConfiguration {
     @Bean
     SpringTypeConverter springTypeConverter(CamelContext camelContext, ConversionService[] conversionServices) {
         SpringTypeConverter springTypeConverter = new SpringTypeConverter(asList(conversionServices));
-        camelContext.getTypeConverterRegistry().addFallbackTypeConverter(springTypeConverter, true);
+        // count the decision cache hits and misses whenever the camel type converter statistics are enabled
+        TypeConverterRegistry registry = camelContext.getTypeConverterRegistry();
+        springTypeConverter.setRegistryStatistics(registry.getStatistics());
+        if (registry instanceof SpringBootTypeConverterRegistry) {
+            // report the decision cache through the statistics of the registry
+            ((SpringBootTypeConverterRegistry) registry).setSpringTypeConverter(springTypeConverter);
+        }
+        registry.addFallbackTypeConverter(springTypeConverter, true);
         return springTypeConverter;
     }
 
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.camel.spring.boot.latency.LatencyHistogram;
+import org.apache.camel.spring.boot.latency.RouteLatencyRecorder;
+import org.apache.camel.spring.boot.latency.RouteLatencyRecorder.RouteLatency;
+import org.apache.camel.support.PatternHelper;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/*
+ * Spring Boot Management Endpoint to expose the latency histograms of the Camel routes.
+ */
+@Endpoint(id = "camellatency")
+public class CamelRouteLatencyEndpoint {
+
+    private RouteLatencyRecorder recorder;
+
+    public CamelRouteLatencyEndpoint(RouteLatencyRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Reads the latencies of the routes.
+     *
+     * @param id pattern of the route ids, matched using {@link PatternHelper#matchPattern(String, String)}
+     */
+    @ReadOperation
+    public List<RouteLatencyInfo> readLatencies(@Nullable String id) {
+        return recorder.getRouteIds().stream()
+                .filter(routeId -> id == null || PatternHelper.matchPattern(routeId, id))
+                .sorted()
+                .map(recorder::getRouteLatency)
+                .filter(Objects::nonNull)
+                .map(latency -> new RouteLatencyInfo(latency, recorder.getInterval(), recorder.getUnit()))
+                .collect(Collectors.toList());
+    }
+
+    @ReadOperation
+    public RouteLatencyInfo readLatency(@Selector String id) {
+        RouteLatency latency = recorder.getRouteLatency(id);
+        return latency != null ? new RouteLatencyInfo(latency, recorder.getInterval(), recorder.getUnit()) : null;
+    }
+
+    /*
+     * Container for exposing the latencies of a route as JSON.
+     */
+    @JsonPropertyOrder({"id", "total", "interval", "intervalMillis", "intervalTimestamp"})
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class RouteLatencyInfo {
+
+        private final String id;
+        private final LatencyInfo total;
+        private final LatencyInfo interval;
+        private final Long intervalMillis;
+        private final Long intervalTimestamp;
+
+        public RouteLatencyInfo(RouteLatency latency, long intervalMillis, TimeUnit unit) {
+            this.id = latency.getRouteId();
+            this.total = new LatencyInfo(latency.getHistogram().snapshot(), unit);
+            LatencyHistogram.Snapshot snapshot = latency.getIntervalSnapshot();
+            this.interval = snapshot != null ? new LatencyInfo(snapshot, unit) : null;
+            this.intervalMillis = intervalMillis > 0 ? intervalMillis : null;
+            this.intervalTimestamp = snapshot != null ? latency.getIntervalTimestamp() : null;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public LatencyInfo getTotal() {
+            return total;
+        }
+
+        public LatencyInfo getInterval() {
+            return interval;
+        }
+
+        public Long getIntervalMillis() {
+            return intervalMillis;
+        }
+
+        public Long getIntervalTimestamp() {
+            return intervalTimestamp;
+        }
+    }
+
+    /*
+     * Container for exposing the percentiles of a latency histogram in millis as JSON.
+     */
+    @JsonPropertyOrder({"count", "min", "mean", "p50", "p90", "p99", "p999", "max"})
+    public static class LatencyInfo {
+
+        private final long count;
+        private final double min;
+        private final double mean;
+        private final double p50;
+        private final double p90;
+        private final double p99;
+        private final double p999;
+        private final double max;
+
+        public LatencyInfo(LatencyHistogram.Snapshot snapshot, TimeUnit unit) {
+            double nanos = unit.toNanos(1);
+            this.count = snapshot.getCount();
+            this.min = toMillis(snapshot.getMin() * nanos);
+            this.mean = toMillis(snapshot.getMean() * nanos);
+            this.p50 = toMillis(snapshot.getValueAtPercentile(50) * nanos);
+            this.p90 = toMillis(snapshot.getValueAtPercentile(90) * nanos);
+            this.p99 = toMillis(snapshot.getValueAtPercentile(99) * nanos);
+            this.p999 = toMillis(snapshot.getValueAtPercentile(99.9) * nanos);
+            this.max = toMillis(snapshot.getMax() * nanos);
+        }
+
+        private static double toMillis(double nanos) {
+            // microsecond resolution is plenty for the processing time of routes
+            return Math.round(nanos / 1000) / 1000.0;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getMin() {
+            return min;
+        }
+
+        public double getMean() {
+            return mean;
+        }
+
+        public double getP50() {
+            return p50;
+        }
+
+        public double getP90() {
+            return p90;
+        }
+
+        public double getP99() {
+            return p99;
+        }
+
+        public double getP999() {
+            return p999;
+        }
+
+        public double getMax() {
+            return max;
+        }
+    }
+
+}
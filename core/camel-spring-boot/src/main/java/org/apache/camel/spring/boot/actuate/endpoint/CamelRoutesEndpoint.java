@@ -16,21 +16,37 @@
  */
 package org.apache.camel.spring.boot.actuate.endpoint;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+
 import org.apache.camel.CamelContext;
 import org.apache.camel.Route;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.StatefulService;
 import org.apache.camel.api.management.ManagedCamelContext;
 import org.apache.camel.api.management.mbean.ManagedRouteMBean;
+import org.apache.camel.spi.ManagementAgent;
+import org.apache.camel.spring.boot.LazyRouteActivator;
+import org.apache.camel.support.PatternHelper;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Selector;
@@ -47,9 +63,25 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 @Endpoint(id = "camelroutes")
 public class CamelRoutesEndpoint {
 
+    /**
+     * The fields of the routes which can be selected when reading the routes.
+     */
+    public static final List<String> FIELDS
+            = List.of("id", "group", "description", "uptime", "uptimeMillis", "status", "activation", "properties");
+
+    /**
+     * The statistics the processors can be sorted by when reading the processors.
+     */
+    public static final List<String> PROCESSOR_SORTS = List.of("total", "mean", "max", "last", "exchanges", "failures");
+
+    private static final String[] PROCESSOR_ATTRIBUTES = {
+            "ProcessorId", "RouteId", "Index", "ExchangesTotal", "ExchangesFailed", "MeanProcessingTime",
+            "MaxProcessingTime", "LastProcessingTime", "TotalProcessingTime" };
+
     private CamelContext camelContext;
     private ManagedCamelContext managedCamelContext;
     private CamelRoutesEndpointProperties properties;
+    private volatile ProcessorNames processorNames;
 
     public CamelRoutesEndpoint(CamelContext camelContext, CamelRoutesEndpointProperties properties) {
         this.camelContext = camelContext;
@@ -57,18 +89,84 @@ public class CamelRoutesEndpoint {
         this.properties = properties;
     }
 
-    @ReadOperation
     public List<RouteEndpointInfo> readRoutes() {
         return getRoutesInfo();
     }
 
+    /**
+     * Reads the routes matching the given filters. The route information is created while the response is serialized,
+     * so the whole response is not built up front.
+     *
+     * @param offset the number of matching routes to skip
+     * @param limit  the maximum number of routes
+     * @param group  the group of the routes
+     * @param status the status of the routes, such as <tt>Started</tt> or <tt>Stopped</tt>
+     * @param id     pattern of the route ids, matched using {@link PatternHelper#matchPattern(String, String)}
+     * @param fields comma separated names of the fields to include, or all fields if not given
+     */
     @ReadOperation
-    public Object doReadAction(@Selector String id, @Selector ReadAction action) {
+    public List<?> readRoutes(@Nullable Integer offset, @Nullable Integer limit, @Nullable String group,
+                              @Nullable String status, @Nullable String id, @Nullable String fields) {
+        List<Route> routes = findRoutes(offset, limit, group, status, id);
+        List<String> projection = parseFields(fields);
+        LazyRouteActivator activator = getActivator();
+        if (projection == null) {
+            return new MappedList<>(routes,
+                    route -> new RouteEndpointInfo(route, getActivationState(activator, route.getId())));
+        }
+        return new MappedList<>(routes, route -> project(route, projection, activator));
+    }
+
+    /**
+     * Computes a weak entity tag of the routes matching the given filters, which only changes when the response of
+     * {@link #readRoutes(Integer, Integer, String, String, String, String)} changes.
+     * <p/>
+     * The uptime of the routes, which changes all the time, is not part of the entity tag, but the time the routes
+     * were started is, so the uptime in a response which is not modified is as old as the response itself.
+     *
+     * @return the entity tag
+     */
+    public String getRoutesETag(@Nullable Integer offset, @Nullable Integer limit, @Nullable String group,
+                                @Nullable String status, @Nullable String id, @Nullable String fields) {
+        List<String> projection = parseFields(fields);
+        boolean uptime = projection == null || projection.contains("uptime") || projection.contains("uptimeMillis");
+        LazyRouteActivator activator = getActivator();
+        long now = System.currentTimeMillis();
+
+        long hash = Objects.hash(offset, limit, group, status, id, projection);
+        for (Route route : findRoutes(offset, limit, group, status, id)) {
+            // the start time in seconds, as it is computed from the uptime
+            long started = uptime && route.getUptimeMillis() > 0 ? (now - route.getUptimeMillis()) / 1000 : 0;
+            hash = 31 * hash + Objects.hash(route.getId(), route.getGroup(), route.getDescription(), getStatus(route),
+                    getActivationState(activator, route.getId()), route.getProperties(), started);
+        }
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+
+    public Object doReadAction(String id, ReadAction action) {
+        return doReadAction(id, action, null, null);
+    }
+
+    /**
+     * Reads the information of a route.
+     *
+     * @param id     the id of the route, or a pattern of the route ids for the {@link ReadAction#PROCESSORS} action,
+     *               such as <tt>*</tt> for the processors of all the routes
+     * @param action the read action
+     * @param sort   the statistic to sort the processors by in descending order, one of {@link #PROCESSOR_SORTS},
+     *               default <tt>total</tt>
+     * @param top    the maximum number of processors
+     */
+    @ReadOperation
+    public Object doReadAction(@Selector String id, @Selector ReadAction action, @Nullable String sort,
+                               @Nullable Integer top) {
         switch (action) {
             case DETAIL:
                 return getRouteDetailsInfo(id);
             case INFO:
                 return getRouteInfo(id);
+            case PROCESSORS:
+                return getProcessorsInfo(id, sort, top);
             default:
                 throw new IllegalArgumentException("Unsupported read action " + action);
         }
@@ -110,27 +208,197 @@ public class CamelRoutesEndpoint {
     private RouteEndpointInfo getRouteInfo(String id) {
         Route route = camelContext.getRoute(id);
         if (route != null) {
-            return new RouteEndpointInfo(route);
+            return new RouteEndpointInfo(route, getActivationState(getActivator(), id));
         }
 
         return null;
     }
 
     private List<RouteEndpointInfo> getRoutesInfo() {
+        LazyRouteActivator activator = getActivator();
+        return camelContext.getRoutes().stream()
+                .map(route -> new RouteEndpointInfo(route, getActivationState(activator, route.getId())))
+                .collect(Collectors.toList());
+    }
+
+    private List<Route> findRoutes(Integer offset, Integer limit, String group, String status, String id) {
+        if (offset != null && offset < 0 || limit != null && limit < 0) {
+            throw new IllegalArgumentException("The offset and limit must not be negative");
+        }
         return camelContext.getRoutes().stream()
-                .map(RouteEndpointInfo::new)
+                .filter(route -> group == null || group.equals(route.getGroup()))
+                .filter(route -> status == null || status.equalsIgnoreCase(getStatus(route)))
+                .filter(route -> id == null || PatternHelper.matchPattern(route.getId(), id))
+                .skip(offset != null ? offset : 0)
+                .limit(limit != null ? limit : Long.MAX_VALUE)
                 .collect(Collectors.toList());
     }
 
+    private static List<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        List<String> answer = new ArrayList<>();
+        for (String field : fields.split(",")) {
+            field = field.trim();
+            if (!FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Unsupported field " + field + ", the supported fields are " + FIELDS);
+            }
+            if (!answer.contains(field)) {
+                answer.add(field);
+            }
+        }
+        return answer;
+    }
+
+    private static Map<String, Object> project(Route route, List<String> fields, LazyRouteActivator activator) {
+        Map<String, Object> answer = new LinkedHashMap<>();
+        for (String field : fields) {
+            switch (field) {
+                case "id":
+                    answer.put(field, route.getId());
+                    break;
+                case "group":
+                    answer.put(field, route.getGroup());
+                    break;
+                case "description":
+                    answer.put(field, route.getDescription());
+                    break;
+                case "uptime":
+                    answer.put(field, route.getUptime());
+                    break;
+                case "uptimeMillis":
+                    answer.put(field, route.getUptimeMillis());
+                    break;
+                case "status":
+                    answer.put(field, getStatus(route));
+                    break;
+                case "activation":
+                    answer.put(field, getActivationState(activator, route.getId()));
+                    break;
+                case "properties":
+                    answer.put(field, route.getProperties());
+                    break;
+                default:
+                    break;
+            }
+        }
+        return answer;
+    }
+
+    private static String getStatus(Route route) {
+        return route instanceof StatefulService ? ((StatefulService) route).getStatus().name() : null;
+    }
+
     private RouteDetailsEndpointInfo getRouteDetailsInfo(String id) {
         Route route = camelContext.getRoute(id);
         if (route != null) {
-            return new RouteDetailsEndpointInfo(camelContext, route);
+            return new RouteDetailsEndpointInfo(camelContext, route, getActivationState(getActivator(), id));
         }
 
         return null;
     }
 
+    private List<ProcessorEndpointInfo> getProcessorsInfo(String id, String sort, Integer top) {
+        if (top != null && top < 0) {
+            throw new IllegalArgumentException("The top must not be negative");
+        }
+        Comparator<ProcessorEndpointInfo> comparator = getProcessorComparator(sort != null ? sort : "total");
+
+        ManagementAgent agent = camelContext.getManagementStrategy().getManagementAgent();
+        if (agent == null || agent.getMBeanServer() == null) {
+            throw new IllegalStateException(
+                    "The statistics of the processors are not available as JMX is disabled or camel-management is missing");
+        }
+
+        MBeanServer server = agent.getMBeanServer();
+        List<ProcessorEndpointInfo> answer = new ArrayList<>();
+        for (Map.Entry<ObjectName, String> entry : getProcessorNames(server).entrySet()) {
+            // only the statistics of the processors of the matching routes are read
+            if (!PatternHelper.matchPattern(entry.getValue(), id)) {
+                continue;
+            }
+            try {
+                answer.add(new ProcessorEndpointInfo(server.getAttributes(entry.getKey(), PROCESSOR_ATTRIBUTES)));
+            } catch (InstanceNotFoundException e) {
+                // the processor was removed, so look up the processors again next time
+                processorNames = null;
+            } catch (ReflectionException e) {
+                throw new RuntimeCamelException(e);
+            }
+        }
+        answer.sort(comparator);
+        return top != null && top < answer.size() ? answer.subList(0, top) : answer;
+    }
+
+    private static Comparator<ProcessorEndpointInfo> getProcessorComparator(String sort) {
+        switch (sort) {
+            case "total":
+                return Comparator.comparingLong(ProcessorEndpointInfo::getTotalProcessingTime).reversed();
+            case "mean":
+                return Comparator.comparingLong(ProcessorEndpointInfo::getMeanProcessingTime).reversed();
+            case "max":
+                return Comparator.comparingLong(ProcessorEndpointInfo::getMaxProcessingTime).reversed();
+            case "last":
+                return Comparator.comparingLong(ProcessorEndpointInfo::getLastProcessingTime).reversed();
+            case "exchanges":
+                return Comparator.comparingLong(ProcessorEndpointInfo::getExchangesTotal).reversed();
+            case "failures":
+                return Comparator.comparingLong(ProcessorEndpointInfo::getExchangesFailed).reversed();
+            default:
+                throw new IllegalArgumentException("Unsupported sort " + sort + ", the supported sorts are " + PROCESSOR_SORTS);
+        }
+    }
+
+    /*
+     * The names of the processor MBeans and the ids of their routes are queried once, and queried again only when
+     * the routes have changed, so the statistics are read with a single getAttributes call per matching processor.
+     */
+    private Map<ObjectName, String> getProcessorNames(MBeanServer server) {
+        List<Object> routes = new ArrayList<>();
+        for (Route route : camelContext.getRoutes()) {
+            routes.add(route);
+            routes.add(getStatus(route));
+        }
+
+        ProcessorNames current = processorNames;
+        if (current == null || !current.routes.equals(routes)) {
+            try {
+                ObjectName context = camelContext.getManagementStrategy().getManagementObjectNameStrategy()
+                        .getObjectNameForCamelContext(camelContext);
+                ObjectName query = new ObjectName(
+                        context.getDomain() + ":context=" + context.getKeyProperty("context") + ",type=processors,*");
+                Map<ObjectName, String> names = new LinkedHashMap<>();
+                for (ObjectName name : server.queryNames(query, null)) {
+                    try {
+                        List<Attribute> attributes = server.getAttributes(name, new String[] { "RouteId" }).asList();
+                        if (!attributes.isEmpty() && attributes.get(0).getValue() != null) {
+                            names.put(name, (String) attributes.get(0).getValue());
+                        }
+                    } catch (InstanceNotFoundException e) {
+                        // the processor has just been removed
+                    }
+                }
+                current = new ProcessorNames(routes, names);
+            } catch (MalformedObjectNameException | ReflectionException e) {
+                throw new RuntimeCamelException(e);
+            }
+            processorNames = current;
+        }
+        return current.names;
+    }
+
+    /*
+     * The activator is looked up once per request, as looking up a service scans all the services of the context.
+     */
+    private LazyRouteActivator getActivator() {
+        return camelContext.hasService(LazyRouteActivator.class);
+    }
+
+    private static String getActivationState(LazyRouteActivator activator, String id) {
+        return activator != null ? activator.getActivationState(id) : null;
+    }
+
     private void startRoute(String id) {
         try {
             camelContext.getRouteController().startRoute(id);
@@ -182,6 +450,43 @@ public class CamelRoutesEndpoint {
         }
     }
 
+    private static final class ProcessorNames {
+
+        private final List<Object> routes;
+        // processor mbean -> route id
+        private final Map<ObjectName, String> names;
+
+        ProcessorNames(List<Object> routes, Map<ObjectName, String> names) {
+            this.routes = routes;
+            this.names = names;
+        }
+    }
+
+    /*
+     * Read-only list which maps the elements when they are read, so they can be garbage collected as soon as
+     * they have been serialized.
+     */
+    private static final class MappedList<T, R> extends AbstractList<R> {
+
+        private final List<T> list;
+        private final Function<T, R> mapper;
+
+        MappedList(List<T> list, Function<T, R> mapper) {
+            this.list = list;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public R get(int index) {
+            return mapper.apply(list.get(index));
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+    }
+
     /*
      * Container for exposing {@link org.apache.camel.Route} information as JSON.
      */
@@ -196,8 +501,13 @@ public class CamelRoutesEndpoint {
         private final String uptime;
         private final long uptimeMillis;
         private final String status;
+        private final String activation;
 
         public RouteEndpointInfo(Route route) {
+            this(route, null);
+        }
+
+        public RouteEndpointInfo(Route route, String activation) {
             this.id = route.getId();
             this.group = route.getGroup();
             this.description = route.getDescription();
@@ -205,16 +515,13 @@ public class CamelRoutesEndpoint {
             this.uptimeMillis = route.getUptimeMillis();
 
             if (route.getProperties() != null) {
-                this.properties = new HashMap<>(route.getProperties());
+                this.properties = Collections.unmodifiableMap(route.getProperties());
             } else {
                 this.properties = Collections.emptyMap();
             }
 
-            if (route instanceof StatefulService) {
-                this.status = ((StatefulService) route).getStatus().name();
-            } else {
-                this.status = null;
-            }
+            this.status = getStatus(route);
+            this.activation = activation;
         }
 
         public String getId() {
@@ -244,6 +551,13 @@ public class CamelRoutesEndpoint {
         public String getStatus() {
             return status;
         }
+
+        /**
+         * Whether a route activated on demand is <tt>Dormant</tt> or <tt>Active</tt>.
+         */
+        public String getActivation() {
+            return activation;
+        }
     }
 
     /*
@@ -256,7 +570,11 @@ public class CamelRoutesEndpoint {
         private RouteDetails routeDetails;
 
         public RouteDetailsEndpointInfo(final CamelContext camelContext, final Route route) {
-            super(route);
+            this(camelContext, route, null);
+        }
+
+        public RouteDetailsEndpointInfo(final CamelContext camelContext, final Route route, final String activation) {
+            super(route, activation);
             if (camelContext.getManagementStrategy().getManagementAgent() != null) {
                 ManagedCamelContext mcc = camelContext.getExtension(ManagedCamelContext.class);
                 this.routeDetails = new RouteDetails(mcc.getManagedRoute(route.getId(), ManagedRouteMBean.class));
@@ -426,6 +744,101 @@ public class CamelRoutesEndpoint {
         }
     }
 
+    /*
+     * Container for exposing the statistics of a processor as JSON. The statistics are retrieved from JMX.
+     */
+    @JsonPropertyOrder({"id", "routeId", "index"})
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ProcessorEndpointInfo {
+
+        private String id;
+        private String routeId;
+        private Integer index;
+        private long exchangesTotal;
+        private long exchangesFailed;
+        private long meanProcessingTime;
+        private long maxProcessingTime;
+        private long lastProcessingTime;
+        private long totalProcessingTime;
+
+        ProcessorEndpointInfo(AttributeList attributes) {
+            for (Attribute attribute : attributes.asList()) {
+                Object value = attribute.getValue();
+                switch (attribute.getName()) {
+                    case "ProcessorId":
+                        this.id = (String) value;
+                        break;
+                    case "RouteId":
+                        this.routeId = (String) value;
+                        break;
+                    case "Index":
+                        this.index = (Integer) value;
+                        break;
+                    case "ExchangesTotal":
+                        this.exchangesTotal = toLong(value);
+                        break;
+                    case "ExchangesFailed":
+                        this.exchangesFailed = toLong(value);
+                        break;
+                    case "MeanProcessingTime":
+                        this.meanProcessingTime = toLong(value);
+                        break;
+                    case "MaxProcessingTime":
+                        this.maxProcessingTime = toLong(value);
+                        break;
+                    case "LastProcessingTime":
+                        this.lastProcessingTime = toLong(value);
+                        break;
+                    case "TotalProcessingTime":
+                        this.totalProcessingTime = toLong(value);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        private static long toLong(Object value) {
+            return value instanceof Number ? ((Number) value).longValue() : 0;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getRouteId() {
+            return routeId;
+        }
+
+        public Integer getIndex() {
+            return index;
+        }
+
+        public long getExchangesTotal() {
+            return exchangesTotal;
+        }
+
+        public long getExchangesFailed() {
+            return exchangesFailed;
+        }
+
+        public long getMeanProcessingTime() {
+            return meanProcessingTime;
+        }
+
+        public long getMaxProcessingTime() {
+            return maxProcessingTime;
+        }
+
+        public long getLastProcessingTime() {
+            return lastProcessingTime;
+        }
+
+        public long getTotalProcessingTime() {
+            return totalProcessingTime;
+        }
+    }
+
     /*
      * List of write actions available for the endpoint
      */
@@ -442,7 +855,8 @@ public class CamelRoutesEndpoint {
      */
     public enum ReadAction {
         DETAIL,
-        INFO
+        INFO,
+        PROCESSORS
     }
 
     /*
@@ -18,14 +18,19 @@ package org.apache.camel.spring.boot.actuate.endpoint;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointProperties;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.OncePerRequestFilter;
 
 /*
  * Auto configuration for the {@link CamelRoutesEndpoint}.
@@ -44,4 +49,23 @@ public class CamelRoutesEndpointAutoConfiguration {
         return new CamelRoutesEndpoint(camelContext, properties);
     }
 
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(OncePerRequestFilter.class)
+    static class CamelRoutesEndpointETagConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "camelRoutesEndpointETagFilter")
+        public FilterRegistrationBean<CamelRoutesEndpointETagFilter> camelRoutesEndpointETagFilter(
+                CamelRoutesEndpoint endpoint, ObjectProvider<WebEndpointProperties> webEndpointProperties) {
+            String basePath = webEndpointProperties.getIfAvailable(WebEndpointProperties::new).getBasePath();
+            String path = basePath + "/camelroutes";
+            FilterRegistrationBean<CamelRoutesEndpointETagFilter> registration
+                    = new FilterRegistrationBean<>(new CamelRoutesEndpointETagFilter(endpoint, path));
+            registration.addUrlPatterns(path);
+            return registration;
+        }
+
+    }
+
 }
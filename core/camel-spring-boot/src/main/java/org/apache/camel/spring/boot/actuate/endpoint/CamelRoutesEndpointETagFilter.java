@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/*
+ * Servlet filter which adds an ETag to the responses of reading the routes of the {@link CamelRoutesEndpoint},
+ * and responds with 304 Not Modified when the routes match the If-None-Match header of the request,
+ * without reading the routes.
+ */
+public class CamelRoutesEndpointETagFilter extends OncePerRequestFilter {
+
+    private final CamelRoutesEndpoint endpoint;
+    private final String path;
+
+    public CamelRoutesEndpointETagFilter(CamelRoutesEndpoint endpoint, String path) {
+        this.endpoint = endpoint;
+        this.path = path;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod())
+                || !path.equals(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String etag;
+        try {
+            etag = endpoint.getRoutesETag(
+                    toInteger(request.getParameter("offset")), toInteger(request.getParameter("limit")),
+                    request.getParameter("group"), request.getParameter("status"), request.getParameter("id"),
+                    request.getParameter("fields"));
+        } catch (IllegalArgumentException e) {
+            // invalid parameters are reported by the endpoint
+            etag = null;
+        }
+
+        if (etag != null) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+            if (ifNoneMatch != null && (ifNoneMatch.equals(etag) || ifNoneMatch.equals(etag.substring(2)))) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static Integer toInteger(String value) {
+        return value != null ? Integer.valueOf(value) : null;
+    }
+
+}
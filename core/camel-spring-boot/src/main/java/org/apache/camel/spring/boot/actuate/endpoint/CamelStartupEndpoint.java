@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.spi.StartupStepRecorder;
+import org.apache.camel.spring.boot.SpringStartupStepRecorder;
+import org.apache.camel.spring.boot.SpringStartupStepRecorder.SpringStartupStep;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/*
+ * Spring Boot Management Endpoint to expose the Camel startup steps recorded by the spring startup recorder.
+ */
+@Endpoint(id = "camelstartup")
+public class CamelStartupEndpoint {
+
+    public static final int DEFAULT_TOP = 10;
+
+    private CamelContext camelContext;
+
+    public CamelStartupEndpoint(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ReadOperation
+    public StartupEndpointInfo readStartup(@Nullable Integer top) {
+        StartupStepRecorder recorder = camelContext.adapt(ExtendedCamelContext.class).getStartupStepRecorder();
+        if (!(recorder instanceof SpringStartupStepRecorder)) {
+            return new StartupEndpointInfo(
+                    recorder != null ? recorder.toString() : null, Collections.emptyList(), Collections.emptyList());
+        }
+
+        SpringStartupStepRecorder spring = (SpringStartupStepRecorder) recorder;
+        List<SpringStartupStep> steps = spring.getSteps();
+
+        // the depth is the number of recorded parents, as steps above the max depth are not recorded
+        Map<Integer, Integer> depths = new HashMap<>();
+        List<StartupStepInfo> infos = steps.stream()
+                .map(step -> {
+                    int depth = depths.getOrDefault(step.getParentId(), -1) + 1;
+                    depths.put(step.getId(), depth);
+                    return new StartupStepInfo(step, depth);
+                })
+                .collect(Collectors.toList());
+
+        List<StartupStepInfo> slowest = spring.getSlowestSteps(top != null ? top : DEFAULT_TOP).stream()
+                .map(step -> new StartupStepInfo(step, depths.getOrDefault(step.getId(), step.getLevel())))
+                .collect(Collectors.toList());
+
+        return new StartupEndpointInfo(spring.toString(), infos, slowest);
+    }
+
+    /*
+     * Container for exposing the recorded startup steps as JSON.
+     */
+    @JsonPropertyOrder({"recorder", "totalDuration", "steps", "slowest"})
+    public static class StartupEndpointInfo {
+
+        private final String recorder;
+        private final long totalDuration;
+        private final List<StartupStepInfo> steps;
+        private final List<StartupStepInfo> slowest;
+
+        public StartupEndpointInfo(String recorder, List<StartupStepInfo> steps, List<StartupStepInfo> slowest) {
+            this.recorder = recorder;
+            this.totalDuration = steps.stream()
+                    .filter(step -> step.getDepth() == 0)
+                    .mapToLong(StartupStepInfo::getDuration)
+                    .sum();
+            this.steps = steps;
+            this.slowest = slowest;
+        }
+
+        public String getRecorder() {
+            return recorder;
+        }
+
+        public long getTotalDuration() {
+            return totalDuration;
+        }
+
+        public List<StartupStepInfo> getSteps() {
+            return steps;
+        }
+
+        public List<StartupStepInfo> getSlowest() {
+            return slowest;
+        }
+    }
+
+    /*
+     * Container for exposing a {@link org.apache.camel.StartupStep} as JSON.
+     */
+    @JsonPropertyOrder({"id", "parentId", "depth", "type", "name", "description", "beginTime", "duration"})
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public static class StartupStepInfo {
+
+        private final int id;
+        private final int parentId;
+        private final int depth;
+        private final String type;
+        private final String name;
+        private final String description;
+        private final long beginTime;
+        private final long duration;
+
+        public StartupStepInfo(SpringStartupStep step, int depth) {
+            this.id = step.getId();
+            this.parentId = step.getParentId();
+            this.depth = depth;
+            this.type = step.getType();
+            this.name = step.getName();
+            this.description = step.getDescription();
+            this.beginTime = step.getBeginTime();
+            this.duration = step.getDuration();
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public int getParentId() {
+            return parentId;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public long getBeginTime() {
+            return beginTime;
+        }
+
+        public long getDuration() {
+            return duration;
+        }
+    }
+
+}
@@ -16,30 +16,42 @@
  */
 package org.apache.camel.spring.boot.actuate.health;
 
+import java.util.Arrays;
+import java.util.function.Predicate;
+
 import org.apache.camel.CamelContext;
 import org.apache.camel.health.HealthCheck;
 import org.apache.camel.health.HealthCheckRegistry;
 import org.apache.camel.health.HealthCheckRepository;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.support.PatternHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.context.annotation.Scope;
+import org.springframework.core.env.Environment;
 
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnClass({HealthIndicator.class})
 @ConditionalOnBean(CamelAutoConfiguration.class)
 @EnableConfigurationProperties(CamelHealthCheckConfigurationProperties.class)
-@AutoConfigureAfter(CamelAutoConfiguration.class)
+// after the availability probes, so the liveness and readiness groups exist when the camel indicators are added to them
+@AutoConfigureAfter(
+        value = CamelAutoConfiguration.class,
+        name = "org.springframework.boot.actuate.autoconfigure.availability.AvailabilityProbesAutoConfiguration")
 public class CamelHealthCheckAutoConfiguration {
 
     private static final Logger LOG = LoggerFactory.getLogger(CamelHealthCheckAutoConfiguration.class);
@@ -135,7 +147,71 @@ public class CamelHealthCheckAutoConfiguration {
                 }
             }
 
-            return new CamelHealthCheckIndicator(applicationContext, camelContext);
+            CamelHealthCheckEvaluator evaluator = new CamelHealthCheckEvaluator(camelContext, "camel", check -> true);
+            evaluator.setInterval(config.getEvaluationInterval());
+            evaluator.setMaxAge(config.getMaxAge());
+            evaluator.setCheckTimeout(config.getCheckTimeout());
+            evaluator.setParallelism(config.getParallelism());
+            return new CamelHealthCheckIndicator(applicationContext, camelContext, evaluator);
+        }
+
+        @Bean(name = "camelLiveness")
+        @DependsOn("camelHealth")
+        @ConditionalOnProperty(prefix = "camel.health.liveness", name = "enabled", havingValue = "true")
+        public HealthIndicator camelLivenessHealthCheckIndicator(ApplicationContext applicationContext,
+                                                                 CamelContext camelContext, CamelHealthCheckConfigurationProperties config,
+                                                                 @Qualifier("camelHealth") ObjectProvider<HealthIndicator> camelHealth) {
+            return createProbeIndicator(applicationContext, camelContext, config, config.getLiveness(), "liveness",
+                    HealthCheck.Kind.LIVENESS, HealthCheck::isLiveness, camelHealth.getIfAvailable());
+        }
+
+        @Bean(name = "camelReadiness")
+        @DependsOn("camelHealth")
+        @ConditionalOnProperty(prefix = "camel.health.readiness", name = "enabled", havingValue = "true")
+        public HealthIndicator camelReadinessHealthCheckIndicator(ApplicationContext applicationContext,
+                                                                  CamelContext camelContext, CamelHealthCheckConfigurationProperties config,
+                                                                  @Qualifier("camelHealth") ObjectProvider<HealthIndicator> camelHealth) {
+            return createProbeIndicator(applicationContext, camelContext, config, config.getReadiness(), "readiness",
+                    HealthCheck.Kind.READINESS, HealthCheck::isReadiness, camelHealth.getIfAvailable());
+        }
+
+        private HealthIndicator createProbeIndicator(ApplicationContext applicationContext, CamelContext camelContext,
+                                                     CamelHealthCheckConfigurationProperties config,
+                                                     CamelHealthCheckConfigurationProperties.ProbeConfiguration probe,
+                                                     String name, HealthCheck.Kind kind, Predicate<HealthCheck> isKind,
+                                                     HealthIndicator camelHealth) {
+            HealthCheckRegistry hcr = camelContext.getExtension(HealthCheckRegistry.class);
+            if (hcr == null || !hcr.isEnabled()) {
+                return null;
+            }
+
+            String[] patterns = probe.getIncludePattern() != null ? probe.getIncludePattern().split(",") : null;
+            Predicate<HealthCheck> filter = isKind.and(check -> patterns == null
+                    || Arrays.stream(patterns).anyMatch(pattern -> PatternHelper.matchPattern(check.getId(), pattern)
+                            || check.getGroup() != null && PatternHelper.matchPattern(check.getGroup(), pattern)));
+
+            CamelHealthCheckEvaluator evaluator = new CamelHealthCheckEvaluator(camelContext, name, filter);
+            evaluator.setInterval(probe.getEvaluationInterval() != null
+                    ? probe.getEvaluationInterval() : config.getEvaluationInterval());
+            evaluator.setMaxAge(probe.getMaxAge() != null ? probe.getMaxAge() : config.getMaxAge());
+            evaluator.setCheckTimeout(config.getCheckTimeout());
+            evaluator.setParallelism(config.getParallelism());
+            evaluator.setKind(kind);
+            if (camelHealth instanceof CamelHealthCheckIndicator) {
+                // the camel health indicator reports the results of the probe instead of invoking its checks again
+                ((CamelHealthCheckIndicator) camelHealth).getEvaluator().addDelegate(evaluator);
+            }
+            return new CamelHealthCheckIndicator(applicationContext, camelContext, evaluator);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.health.HealthEndpointGroupsPostProcessor")
+    protected static class CamelHealthEndpointGroupsConfiguration {
+
+        @Bean
+        public CamelHealthEndpointGroupsPostProcessor camelHealthEndpointGroupsPostProcessor(Environment environment) {
+            return new CamelHealthEndpointGroupsPostProcessor(environment);
         }
     }
 
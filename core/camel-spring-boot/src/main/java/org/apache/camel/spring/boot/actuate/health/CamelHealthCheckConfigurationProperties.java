@@ -95,6 +95,46 @@ public class CamelHealthCheckConfigurationProperties {
     @Metadata(enums = "up,down,unknown", defaultValue = "down")
     private String initialState = "down";
 
+    /**
+     * The interval in millis to evaluate the health checks in the background, where the health indicator reports the
+     * last results instead of invoking the health checks every time the health is requested.
+     *
+     * Is default 0, where the health checks are invoked every time the health is requested.
+     */
+    private long evaluationInterval;
+
+    /**
+     * The maximum age in millis of the results evaluated in the background, after which the health checks are invoked
+     * when the health is requested.
+     *
+     * Is default three times the evaluation interval.
+     */
+    private long maxAge;
+
+    /**
+     * The time in millis to wait for each health check, after which the health check is regarded as DOWN.
+     *
+     * Is default 0, where there is no timeout.
+     */
+    private long checkTimeout;
+
+    /**
+     * The number of health checks to invoke in parallel.
+     *
+     * Is default 1
+     */
+    private int parallelism = 1;
+
+    /**
+     * The health indicator for the liveness health checks, which can be included in the liveness health group.
+     */
+    private ProbeConfiguration liveness = new ProbeConfiguration();
+
+    /**
+     * The health indicator for the readiness health checks, which can be included in the readiness health group.
+     */
+    private ProbeConfiguration readiness = new ProbeConfiguration();
+
     public Boolean getEnabled() {
         return enabled;
     }
@@ -158,7 +198,116 @@ public class CamelHealthCheckConfigurationProperties {
     public void setInitialState(String initialState) {
         this.initialState = initialState;
     }
-}
 
+    public long getEvaluationInterval() {
+        return evaluationInterval;
+    }
+
+    public void setEvaluationInterval(long evaluationInterval) {
+        this.evaluationInterval = evaluationInterval;
+    }
 
+    public long getMaxAge() {
+        return maxAge;
+    }
 
+    public void setMaxAge(long maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public long getCheckTimeout() {
+        return checkTimeout;
+    }
+
+    public void setCheckTimeout(long checkTimeout) {
+        this.checkTimeout = checkTimeout;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public ProbeConfiguration getLiveness() {
+        return liveness;
+    }
+
+    public void setLiveness(ProbeConfiguration liveness) {
+        this.liveness = liveness;
+    }
+
+    public ProbeConfiguration getReadiness() {
+        return readiness;
+    }
+
+    public void setReadiness(ProbeConfiguration readiness) {
+        this.readiness = readiness;
+    }
+
+    public static class ProbeConfiguration {
+
+        /**
+         * Whether the health indicator is enabled.
+         * <p>
+         * Is default disabled
+         */
+        private boolean enabled;
+
+        /**
+         * The interval in millis to evaluate the health checks in the background.
+         * <p>
+         * Is default the evaluation interval of the Camel health indicator
+         */
+        private Long evaluationInterval;
+
+        /**
+         * The maximum age in millis of the results evaluated in the background.
+         * <p>
+         * Is default the max age of the Camel health indicator
+         */
+        private Long maxAge;
+
+        /**
+         * Pattern of the groups or ids of the health checks to include, such as camel or consumer:*. Multiple patterns
+         * can be separated by comma.
+         * <p>
+         * Is default all the health checks of the kind
+         */
+        private String includePattern;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Long getEvaluationInterval() {
+            return evaluationInterval;
+        }
+
+        public void setEvaluationInterval(Long evaluationInterval) {
+            this.evaluationInterval = evaluationInterval;
+        }
+
+        public Long getMaxAge() {
+            return maxAge;
+        }
+
+        public void setMaxAge(Long maxAge) {
+            this.maxAge = maxAge;
+        }
+
+        public String getIncludePattern() {
+            return includePattern;
+        }
+
+        public void setIncludePattern(String includePattern) {
+            this.includePattern = includePattern;
+        }
+    }
+}
@@ -0,0 +1,413 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.health.HealthCheck;
+import org.apache.camel.health.HealthCheckRegistry;
+import org.apache.camel.health.HealthCheckResultBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Evaluates the Camel health checks for a {@link CamelHealthCheckIndicator}.
+ * <p/>
+ * The checks can be evaluated in the background at a fixed interval, where the health indicator reports the last
+ * results unless they are older than the max age. The checks can also be run in parallel, and each with a timeout,
+ * so a slow check does not hold up the other checks.
+ */
+public class CamelHealthCheckEvaluator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CamelHealthCheckEvaluator.class);
+
+    private final CamelContext camelContext;
+    private final String name;
+    private final Predicate<HealthCheck> filter;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Long> checkDurations = new ConcurrentHashMap<>();
+    private final List<BiConsumer<HealthCheck, Long>> listeners = new CopyOnWriteArrayList<>();
+    private final List<CamelHealthCheckEvaluator> delegates = new CopyOnWriteArrayList<>();
+    private long interval;
+    private long maxAge;
+    private long checkTimeout;
+    private int parallelism = 1;
+    private HealthCheck.Kind kind = HealthCheck.Kind.ALL;
+    private volatile Evaluation evaluation;
+    private ExecutorService executorService;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param camelContext the camel context
+     * @param name         the name of the evaluator, which is used for naming the threads
+     * @param filter       the health checks to evaluate
+     */
+    public CamelHealthCheckEvaluator(CamelContext camelContext, String name, Predicate<HealthCheck> filter) {
+        this.camelContext = camelContext;
+        this.name = name;
+        this.filter = filter;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getInterval() {
+        return interval;
+    }
+
+    /**
+     * The interval in millis to evaluate the checks in the background, or 0 to evaluate the checks every time the
+     * results are requested.
+     */
+    public void setInterval(long interval) {
+        this.interval = interval;
+    }
+
+    public long getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * The maximum age in millis of the results evaluated in the background, after which the checks are evaluated
+     * again when the results are requested. The default is three times the interval.
+     */
+    public void setMaxAge(long maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public long getCheckTimeout() {
+        return checkTimeout;
+    }
+
+    /**
+     * The time in millis to wait for each check, after which the check is regarded as DOWN, or 0 to wait for ever.
+     */
+    public void setCheckTimeout(long checkTimeout) {
+        this.checkTimeout = checkTimeout;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The number of checks to run in parallel.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public HealthCheck.Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * The kind of the checks to evaluate, which is passed to the checks as the {@link HealthCheck#CHECK_KIND} option,
+     * so a check which is both a liveness and readiness check can tell which of them to check.
+     */
+    public void setKind(HealthCheck.Kind kind) {
+        this.kind = kind;
+    }
+
+    /**
+     * Adds a listener which is called with the duration in nanos of each check when the check has been invoked.
+     */
+    public void addListener(BiConsumer<HealthCheck, Long> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Adds an evaluator whose results are reported together with the results of this evaluator, where the checks of
+     * the delegate are not evaluated by this evaluator, so the checks are not invoked by both.
+     */
+    public void addDelegate(CamelHealthCheckEvaluator delegate) {
+        delegates.add(delegate);
+    }
+
+    /**
+     * The duration in millis of the last invocation of each check by its id.
+     */
+    public Map<String, Long> getCheckDurations() {
+        return Collections.unmodifiableMap(checkDurations);
+    }
+
+    /**
+     * The time in millis since the results were evaluated, or -1 if not evaluated yet.
+     */
+    public long getAge() {
+        Evaluation current = evaluation;
+        return current != null ? System.currentTimeMillis() - current.timestamp : -1;
+    }
+
+    /**
+     * The time in millis the last evaluation took, or -1 if not evaluated yet.
+     */
+    public long getDuration() {
+        Evaluation current = evaluation;
+        return current != null ? current.duration : -1;
+    }
+
+    /**
+     * Starts evaluating the checks in the background when an interval is configured.
+     */
+    public void start() {
+        if (parallelism > 1 || checkTimeout > 0) {
+            executorService = camelContext.getExecutorServiceManager()
+                    .newFixedThreadPool(this, "HealthCheck[" + name + "]", Math.max(parallelism, 1));
+        }
+        if (interval > 0) {
+            scheduler = camelContext.getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "HealthCheckEvaluator[" + name + "]");
+            scheduler.scheduleWithFixedDelay(this::evaluateInBackground, 0, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void stop() {
+        if (scheduler != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(scheduler);
+            scheduler = null;
+        }
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(executorService);
+            executorService = null;
+        }
+    }
+
+    /**
+     * The results of the checks, which are the last results evaluated in the background, or evaluated now if the
+     * checks are not evaluated in the background or the last results are too old.
+     */
+    public Collection<HealthCheck.Result> getResults() {
+        if (interval <= 0) {
+            // the results are not shared, so concurrent requests evaluate the checks concurrently
+            return evaluate().results;
+        }
+        Evaluation current = evaluation;
+        if (current == null || isExpired(current)) {
+            lock.lock();
+            try {
+                // another thread may have evaluated the checks while waiting for the lock
+                current = evaluation;
+                if (current == null || isExpired(current)) {
+                    current = evaluate();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return current.results;
+    }
+
+    private boolean isExpired(Evaluation current) {
+        if (!current.started) {
+            // do not keep reporting the results from before the context was started for a long interval
+            return true;
+        }
+        long age = maxAge > 0 ? maxAge : interval * 3;
+        return System.currentTimeMillis() - current.timestamp > age;
+    }
+
+    private void evaluateInBackground() {
+        lock.lock();
+        try {
+            evaluate();
+        } catch (Exception e) {
+            LOG.warn("Error evaluating health checks {}: {}", name, e.getMessage(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Evaluation evaluate() {
+        long start = System.nanoTime();
+        boolean started = camelContext.isStarted();
+        HealthCheckRegistry registry = camelContext.getExtension(HealthCheckRegistry.class);
+        // the checks are grouped, ordered and distinct as by the HealthCheckHelper
+        List<HealthCheck> checks = registry == null
+                ? Collections.emptyList()
+                : registry.stream()
+                        .collect(Collectors.groupingBy(check -> check.getGroup() != null ? check.getGroup() : ""))
+                        .values().stream()
+                        .flatMap(Collection::stream)
+                        .filter(check -> !registry.isExcluded(check))
+                        .filter(filter)
+                        .filter(check -> delegates.stream().noneMatch(delegate -> delegate.filter.test(check)))
+                        .sorted(Comparator.comparingInt(HealthCheck::getOrder))
+                        .distinct()
+                        .collect(Collectors.toList());
+
+        List<HealthCheck.Result> results = new ArrayList<>(checks.size());
+        ExecutorService executor = executorService;
+        if (executor == null) {
+            for (HealthCheck check : checks) {
+                results.add(invoke(check));
+            }
+        } else {
+            List<Invocation> invocations = new ArrayList<>(checks.size());
+            for (HealthCheck check : checks) {
+                Invocation invocation = new Invocation(check);
+                invocation.future = executor.submit(invocation);
+                invocations.add(invocation);
+            }
+            // the timeout of each check is counted from when the check is started, and a check which is queued is
+            // started at the latest when the checks before it have run into their timeouts
+            long submitted = System.nanoTime();
+            long timeout = TimeUnit.MILLISECONDS.toNanos(checkTimeout);
+            int threads = Math.max(parallelism, 1);
+            for (int i = 0; i < invocations.size(); i++) {
+                results.add(await(invocations.get(i), submitted + timeout * (i / threads + 1)));
+            }
+        }
+
+        Collection<HealthCheck.Result> all = delegates.isEmpty() ? results : withDelegateResults(results);
+        Evaluation answer = new Evaluation(all, System.currentTimeMillis(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), started);
+        evaluation = answer;
+        return answer;
+    }
+
+    /*
+     * A check of both a liveness and a readiness delegate is reported once, as DOWN if either of them is DOWN.
+     */
+    private Collection<HealthCheck.Result> withDelegateResults(List<HealthCheck.Result> results) {
+        Map<String, HealthCheck.Result> answer = new LinkedHashMap<>();
+        results.forEach(result -> answer.put(result.getCheck().getId(), result));
+        for (CamelHealthCheckEvaluator delegate : delegates) {
+            for (HealthCheck.Result result : delegate.getResults()) {
+                answer.merge(result.getCheck().getId(), result,
+                        (existing, other) -> other.getState() == HealthCheck.State.DOWN ? other : existing);
+            }
+        }
+        return new ArrayList<>(answer.values());
+    }
+
+    private HealthCheck.Result await(Invocation invocation, long startDeadline) {
+        HealthCheck check = invocation.check;
+        Future<HealthCheck.Result> future = invocation.future;
+        try {
+            if (checkTimeout <= 0) {
+                return future.get();
+            }
+            long timeout = TimeUnit.MILLISECONDS.toNanos(checkTimeout);
+            while (true) {
+                boolean running = invocation.running;
+                long remaining = (running ? invocation.started + timeout : startDeadline) - System.nanoTime();
+                if (remaining <= 0) {
+                    if (!running && invocation.running) {
+                        // the check has just been started
+                        continue;
+                    }
+                    future.cancel(true);
+                    String message = running
+                            ? "Health check timed out after " + checkTimeout + " millis"
+                            : "Health check was not started within " + checkTimeout + " millis after the checks before it";
+                    return HealthCheckResultBuilder.on(check).down().message(message).build();
+                }
+                try {
+                    return future.get(remaining, TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    // check whether the check has been started in the meantime
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return HealthCheckResultBuilder.on(check).down().error(e).build();
+        } catch (ExecutionException e) {
+            return HealthCheckResultBuilder.on(check).down().error(e.getCause()).build();
+        } catch (CancellationException e) {
+            return HealthCheckResultBuilder.on(check).down().error(e).build();
+        }
+    }
+
+    private HealthCheck.Result invoke(HealthCheck check) {
+        long start = System.nanoTime();
+        try {
+            if (kind == null || kind == HealthCheck.Kind.ALL) {
+                return check.call();
+            }
+            return check.call(Map.of(HealthCheck.CHECK_KIND, kind));
+        } catch (Exception e) {
+            return HealthCheckResultBuilder.on(check).down().error(e).build();
+        } finally {
+            long duration = System.nanoTime() - start;
+            checkDurations.put(check.getId(), TimeUnit.NANOSECONDS.toMillis(duration));
+            for (BiConsumer<HealthCheck, Long> listener : listeners) {
+                listener.accept(check, duration);
+            }
+        }
+    }
+
+    /**
+     * A check which is run by the executor service, which records when the check is started.
+     */
+    private final class Invocation implements Callable<HealthCheck.Result> {
+
+        private final HealthCheck check;
+        private Future<HealthCheck.Result> future;
+        private volatile long started;
+        private volatile boolean running;
+
+        Invocation(HealthCheck check) {
+            this.check = check;
+        }
+
+        @Override
+        public HealthCheck.Result call() {
+            started = System.nanoTime();
+            running = true;
+            return invoke(check);
+        }
+    }
+
+    private static final class Evaluation {
+
+        private final Collection<HealthCheck.Result> results;
+        private final long timestamp;
+        private final long duration;
+        private final boolean started;
+
+        Evaluation(Collection<HealthCheck.Result> results, long timestamp, long duration, boolean started) {
+            this.results = results;
+            this.timestamp = timestamp;
+            this.duration = duration;
+            this.started = started;
+        }
+    }
+
+}
@@ -21,8 +21,8 @@ import java.util.Map;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.health.HealthCheck;
-import org.apache.camel.health.HealthCheckHelper;
 import org.apache.camel.impl.health.AbstractHealthCheck;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.actuate.health.AbstractHealthIndicator;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
@@ -31,14 +31,31 @@ import org.springframework.context.ApplicationContext;
 /**
  * Camel {@link HealthIndicator}.
  */
-public class CamelHealthCheckIndicator extends AbstractHealthIndicator {
+public class CamelHealthCheckIndicator extends AbstractHealthIndicator implements DisposableBean {
 
     private final ApplicationContext applicationContext;
     private final CamelContext camelContext;
+    private final CamelHealthCheckEvaluator evaluator;
 
     public CamelHealthCheckIndicator(ApplicationContext applicationContext, CamelContext camelContext) {
+        this(applicationContext, camelContext, new CamelHealthCheckEvaluator(camelContext, "camel", check -> true));
+    }
+
+    public CamelHealthCheckIndicator(ApplicationContext applicationContext, CamelContext camelContext,
+                                     CamelHealthCheckEvaluator evaluator) {
         this.applicationContext = applicationContext;
         this.camelContext = camelContext;
+        this.evaluator = evaluator;
+        this.evaluator.start();
+    }
+
+    public CamelHealthCheckEvaluator getEvaluator() {
+        return evaluator;
+    }
+
+    @Override
+    public void destroy() {
+        evaluator.stop();
     }
 
     @Override
@@ -46,7 +63,7 @@ public class CamelHealthCheckIndicator extends AbstractHealthIndicator {
         builder.withDetail("name", "camel-health-check");
         builder.up();
 
-        Collection<HealthCheck.Result> results = HealthCheckHelper.invoke(camelContext);
+        Collection<HealthCheck.Result> results = evaluator.getResults();
 
         for (HealthCheck.Result result : results) {
             Map<String, Object> details = result.getDetails();
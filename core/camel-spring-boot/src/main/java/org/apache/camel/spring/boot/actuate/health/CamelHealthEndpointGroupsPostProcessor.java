@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.actuate.endpoint.SecurityContext;
+import org.springframework.boot.actuate.health.AdditionalHealthEndpointPath;
+import org.springframework.boot.actuate.health.HealthEndpointGroup;
+import org.springframework.boot.actuate.health.HealthEndpointGroups;
+import org.springframework.boot.actuate.health.HealthEndpointGroupsPostProcessor;
+import org.springframework.boot.actuate.health.HttpCodeStatusMapper;
+import org.springframework.boot.actuate.health.StatusAggregator;
+import org.springframework.core.env.Environment;
+
+/**
+ * Adds the <tt>camelLiveness</tt> and <tt>camelReadiness</tt> health indicators to the Spring Boot <tt>liveness</tt>
+ * and <tt>readiness</tt> health groups, which exist when the probes are enabled.
+ * <p/>
+ * An indicator is only added when it is enabled, and the members of the group are not configured by the application
+ * with <tt>management.endpoint.health.group.&lt;name&gt;.include</tt>.
+ */
+public class CamelHealthEndpointGroupsPostProcessor implements HealthEndpointGroupsPostProcessor {
+
+    // group name -> health indicator name
+    private final Map<String, String> members = new LinkedHashMap<>();
+
+    public CamelHealthEndpointGroupsPostProcessor(Environment environment) {
+        addMember(environment, "liveness", "camelLiveness");
+        addMember(environment, "readiness", "camelReadiness");
+    }
+
+    private void addMember(Environment environment, String group, String indicator) {
+        if (environment.getProperty("camel.health." + group + ".enabled", Boolean.class, false)
+                && !environment.containsProperty("management.endpoint.health.group." + group + ".include")) {
+            members.put(group, indicator);
+        }
+    }
+
+    @Override
+    public HealthEndpointGroups postProcessHealthEndpointGroups(HealthEndpointGroups groups) {
+        return members.isEmpty() ? groups : new CamelHealthEndpointGroups(groups, members);
+    }
+
+    private static final class CamelHealthEndpointGroups implements HealthEndpointGroups {
+
+        private final HealthEndpointGroups groups;
+        private final Map<String, String> members;
+
+        CamelHealthEndpointGroups(HealthEndpointGroups groups, Map<String, String> members) {
+            this.groups = groups;
+            this.members = members;
+        }
+
+        @Override
+        public HealthEndpointGroup getPrimary() {
+            return groups.getPrimary();
+        }
+
+        @Override
+        public Set<String> getNames() {
+            return groups.getNames();
+        }
+
+        @Override
+        public HealthEndpointGroup get(String name) {
+            HealthEndpointGroup group = groups.get(name);
+            String member = members.get(name);
+            return group != null && member != null ? new CamelHealthEndpointGroup(group, member) : group;
+        }
+    }
+
+    private static final class CamelHealthEndpointGroup implements HealthEndpointGroup {
+
+        private final HealthEndpointGroup group;
+        private final String member;
+
+        CamelHealthEndpointGroup(HealthEndpointGroup group, String member) {
+            this.group = group;
+            this.member = member;
+        }
+
+        @Override
+        public boolean isMember(String name) {
+            return member.equals(name) || group.isMember(name);
+        }
+
+        @Override
+        public boolean showComponents(SecurityContext securityContext) {
+            return group.showComponents(securityContext);
+        }
+
+        @Override
+        public boolean showDetails(SecurityContext securityContext) {
+            return group.showDetails(securityContext);
+        }
+
+        @Override
+        public StatusAggregator getStatusAggregator() {
+            return group.getStatusAggregator();
+        }
+
+        @Override
+        public HttpCodeStatusMapper getHttpCodeStatusMapper() {
+            return group.getHttpCodeStatusMapper();
+        }
+
+        @Override
+        public AdditionalHealthEndpointPath getAdditionalPath() {
+            return group.getAdditionalPath();
+        }
+    }
+
+}
@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.latency;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of latencies in the style of HdrHistogram, which uses a fixed amount of memory and records values without
+ * locking or allocating.
+ * <p/>
+ * The values are counted in log-linear buckets: values below the sub bucket count are counted exactly, and larger
+ * values are counted in buckets of the same relative width, so the precision is one part in the sub bucket count, such
+ * as 3% with the default of 5 sub bucket bits. The number of buckets grows with the sub bucket count and the
+ * logarithm of the highest trackable value. The values are counted in an {@link AtomicLongArray}, so recording a value
+ * is a single atomic increment. The array is allocated when the first value is recorded, so a histogram without values
+ * uses hardly any memory.
+ * <p/>
+ * The snapshots copy the counts, so the percentiles can be computed while values are recorded. The interval snapshots
+ * hold the values recorded since the previous interval snapshot: the values are then recorded in a second array, while
+ * the counts of the first are moved to the counts of all the values, so the arrays swap roles at every interval. A value
+ * which is recorded while the arrays are swapped is counted in a later interval. The snapshots only hold the counts
+ * between the lowest and highest bucket with values.
+ */
+public class LatencyHistogram {
+
+    public static final int DEFAULT_SUB_BUCKET_BITS = 5;
+
+    private final long highestTrackableValue;
+    private final int subBucketBits;
+    private final int subBucketCount;
+    private final int bucketCount;
+    // the values are recorded in the active counts, and the inactive counts are empty apart from the values which
+    // were recorded while the arrays were swapped, where the active counts are null until the first value is recorded
+    private volatile AtomicLongArray active;
+    private AtomicLongArray inactive;
+    // the counts of the completed intervals, only when taking interval snapshots
+    private long[] totalCounts;
+
+    public LatencyHistogram(long highestTrackableValue) {
+        this(highestTrackableValue, DEFAULT_SUB_BUCKET_BITS);
+    }
+
+    /**
+     * @param highestTrackableValue the highest value to record, larger values are recorded as this value
+     * @param subBucketBits         the number of bits of the values to count exactly, between 1 and 16
+     */
+    public LatencyHistogram(long highestTrackableValue, int subBucketBits) {
+        if (highestTrackableValue < 1) {
+            throw new IllegalArgumentException("The highest trackable value must be positive");
+        }
+        if (subBucketBits < 1 || subBucketBits > 16) {
+            throw new IllegalArgumentException("The sub bucket bits must be between 1 and 16");
+        }
+        this.highestTrackableValue = highestTrackableValue;
+        this.subBucketBits = subBucketBits;
+        this.subBucketCount = 1 << subBucketBits;
+        this.bucketCount = indexOf(highestTrackableValue) + 1;
+    }
+
+    /**
+     * Records a value, where negative values are recorded as 0, and values above the highest trackable value are
+     * recorded as the highest trackable value.
+     */
+    public void record(long value) {
+        AtomicLongArray counts = active;
+        if (counts == null) {
+            counts = allocate();
+        }
+        counts.incrementAndGet(indexOf(value < 0 ? 0 : Math.min(value, highestTrackableValue)));
+    }
+
+    private synchronized AtomicLongArray allocate() {
+        if (active == null) {
+            active = new AtomicLongArray(bucketCount);
+        }
+        return active;
+    }
+
+    public long getHighestTrackableValue() {
+        return highestTrackableValue;
+    }
+
+    public int getSubBucketBits() {
+        return subBucketBits;
+    }
+
+    /**
+     * The number of buckets, which is the memory used by the histogram in longs once a value is recorded, or three
+     * times as much when taking interval snapshots.
+     */
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    /**
+     * Snapshot of all the values recorded.
+     */
+    public synchronized Snapshot snapshot() {
+        AtomicLongArray counts = active;
+        if (counts == null) {
+            return new Snapshot(new long[0], 0);
+        }
+        long[] answer = new long[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            answer[i] = counts.get(i);
+        }
+        if (totalCounts != null) {
+            for (int i = 0; i < bucketCount; i++) {
+                // the inactive counts hold the values recorded while the arrays were swapped
+                answer[i] += totalCounts[i] + inactive.get(i);
+            }
+        }
+        return createSnapshot(answer);
+    }
+
+    /**
+     * Snapshot of the values recorded since the previous interval snapshot.
+     */
+    public synchronized Snapshot intervalSnapshot() {
+        if (active == null) {
+            return new Snapshot(new long[0], 0);
+        }
+        if (totalCounts == null) {
+            // the first interval snapshot holds all the values recorded so far
+            totalCounts = new long[bucketCount];
+            inactive = new AtomicLongArray(bucketCount);
+        }
+        AtomicLongArray interval = active;
+        active = inactive;
+        inactive = interval;
+
+        int from = 0;
+        while (from < bucketCount && interval.get(from) == 0) {
+            from++;
+        }
+        int to = bucketCount;
+        while (to > from && interval.get(to - 1) == 0) {
+            to--;
+        }
+        long[] answer = new long[to - from];
+        for (int i = from; i < to; i++) {
+            // values may still be recorded in the previous array, which are then counted in a later interval
+            long count = interval.getAndSet(i, 0);
+            answer[i - from] = count;
+            totalCounts[i] += count;
+        }
+        return new Snapshot(answer, from);
+    }
+
+    private Snapshot createSnapshot(long[] counts) {
+        int from = 0;
+        while (from < counts.length && counts[from] == 0) {
+            from++;
+        }
+        int to = counts.length;
+        while (to > from && counts[to - 1] == 0) {
+            to--;
+        }
+        return new Snapshot(Arrays.copyOfRange(counts, from, to), from);
+    }
+
+    int indexOf(long value) {
+        if (value < subBucketCount) {
+            return (int) value;
+        }
+        // the bucket is given by the highest bit, and the sub bucket by the next sub bucket bits
+        int shift = 63 - Long.numberOfLeadingZeros(value) - subBucketBits;
+        return ((shift + 1) << subBucketBits) + (int) (value >>> shift) - subBucketCount;
+    }
+
+    long lowestValueAt(int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        int shift = (index >>> subBucketBits) - 1;
+        return (long) (subBucketCount + (index & (subBucketCount - 1))) << shift;
+    }
+
+    long highestValueAt(int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        int shift = (index >>> subBucketBits) - 1;
+        return Math.min(lowestValueAt(index) + (1L << shift) - 1, highestTrackableValue);
+    }
+
+    /**
+     * The counts of a histogram at a point in time.
+     */
+    public final class Snapshot {
+
+        // the counts from the bucket at the offset
+        private final long[] counts;
+        private final int offset;
+        private final long count;
+
+        Snapshot(long[] counts, int offset) {
+            this.counts = counts;
+            this.offset = offset;
+            long total = 0;
+            for (long c : counts) {
+                total += c;
+            }
+            this.count = total;
+        }
+
+        /**
+         * The number of values recorded.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * The value below which the given percentage of the values are, such as 99.9 for the 99.9th percentile, or 0
+         * if no values are recorded.
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+            long total = 0;
+            for (int i = 0; i < counts.length; i++) {
+                total += counts[i];
+                if (total >= rank) {
+                    return highestValueAt(offset + i);
+                }
+            }
+            return highestTrackableValue;
+        }
+
+        /**
+         * The lowest value recorded, or 0 if no values are recorded.
+         */
+        public long getMin() {
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    return lowestValueAt(offset + i);
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * The highest value recorded, or 0 if no values are recorded.
+         */
+        public long getMax() {
+            for (int i = counts.length - 1; i >= 0; i--) {
+                if (counts[i] > 0) {
+                    return highestValueAt(offset + i);
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * The mean of the values recorded, or 0 if no values are recorded.
+         */
+        public double getMean() {
+            if (count == 0) {
+                return 0;
+            }
+            double total = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    total += (lowestValueAt(offset + i) + highestValueAt(offset + i)) / 2.0 * counts[i];
+                }
+            }
+            return total / count;
+        }
+    }
+
+}
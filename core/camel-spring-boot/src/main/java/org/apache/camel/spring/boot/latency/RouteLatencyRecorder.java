@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.latency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Route;
+import org.apache.camel.spi.RoutePolicy;
+import org.apache.camel.spi.RoutePolicyFactory;
+import org.apache.camel.support.RoutePolicySupport;
+
+/**
+ * {@link RoutePolicyFactory} which records the processing time of the exchanges of each route in a
+ * {@link LatencyHistogram}.
+ * <p/>
+ * The interval snapshots of the histograms are taken at a fixed rate, so the percentiles of the last complete
+ * interval can be read at any time, independent of how often they are read.
+ * <p/>
+ * The processing times are recorded in microseconds by default, which is plenty for the processing time of routes,
+ * and keeps the histograms smaller than when recorded in nanoseconds.
+ * <p/>
+ * Recording does not lock, but it is not free of allocations: the time an exchange started processing is stored as a
+ * boxed {@link Long} exchange property until the exchange is done.
+ */
+public class RouteLatencyRecorder implements RoutePolicyFactory {
+
+    private static final String BEGIN_PROPERTY = "CamelRouteLatencyBegin-";
+
+    private final long highestTrackableValue;
+    private final long interval;
+    private final TimeUnit unit;
+    private final int subBucketBits;
+    private final Map<String, RouteLatency> routes = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param highestTrackableValue the highest processing time in millis to record
+     * @param interval              the interval in millis of the interval snapshots, or 0 to not take interval
+     *                              snapshots
+     */
+    public RouteLatencyRecorder(long highestTrackableValue, long interval) {
+        this(highestTrackableValue, interval, TimeUnit.MICROSECONDS, LatencyHistogram.DEFAULT_SUB_BUCKET_BITS);
+    }
+
+    /**
+     * @param highestTrackableValue the highest processing time in millis to record
+     * @param interval              the interval in millis of the interval snapshots, or 0 to not take interval
+     *                              snapshots
+     * @param unit                  the unit to record the processing times in
+     * @param subBucketBits         the number of bits of the processing times to count exactly, which gives the
+     *                              precision of the histograms
+     */
+    public RouteLatencyRecorder(long highestTrackableValue, long interval, TimeUnit unit, int subBucketBits) {
+        this.highestTrackableValue = highestTrackableValue;
+        this.interval = interval;
+        this.unit = unit;
+        this.subBucketBits = subBucketBits;
+    }
+
+    public long getInterval() {
+        return interval;
+    }
+
+    /**
+     * The unit of the processing times in the histograms.
+     */
+    public TimeUnit getUnit() {
+        return unit;
+    }
+
+    public int getSubBucketBits() {
+        return subBucketBits;
+    }
+
+    @Override
+    public RoutePolicy createRoutePolicy(CamelContext camelContext, String routeId, NamedNode route) {
+        startIntervals(camelContext);
+        RouteLatency latency = new RouteLatency(routeId,
+                new LatencyHistogram(unit.convert(highestTrackableValue, TimeUnit.MILLISECONDS), subBucketBits));
+        routes.put(routeId, latency);
+        return new RouteLatencyPolicy(latency);
+    }
+
+    private synchronized void startIntervals(CamelContext camelContext) {
+        if (interval > 0 && (scheduler == null || scheduler.isShutdown())) {
+            // the scheduler is shutdown by camel when the context is stopped, and started again with the routes
+            scheduler = camelContext.getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "RouteLatencyRecorder");
+            scheduler.scheduleAtFixedRate(this::takeIntervalSnapshots, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void takeIntervalSnapshots() {
+        for (RouteLatency latency : routes.values()) {
+            latency.takeIntervalSnapshot();
+        }
+    }
+
+    /**
+     * The ids of the routes with a latency histogram.
+     */
+    public List<String> getRouteIds() {
+        return new ArrayList<>(routes.keySet());
+    }
+
+    /**
+     * The latency histogram of the route, or <tt>null</tt> if the route is not recorded.
+     */
+    public RouteLatency getRouteLatency(String routeId) {
+        return routes.get(routeId);
+    }
+
+    /**
+     * The latency histogram of a route, and its last interval snapshot.
+     */
+    public static final class RouteLatency {
+
+        private final String routeId;
+        private final LatencyHistogram histogram;
+        private volatile LatencyHistogram.Snapshot intervalSnapshot;
+        private volatile long intervalTimestamp;
+
+        RouteLatency(String routeId, LatencyHistogram histogram) {
+            this.routeId = routeId;
+            this.histogram = histogram;
+        }
+
+        public String getRouteId() {
+            return routeId;
+        }
+
+        /**
+         * The histogram of the processing times in the unit of the recorder.
+         */
+        public LatencyHistogram getHistogram() {
+            return histogram;
+        }
+
+        /**
+         * The snapshot of the last complete interval, or <tt>null</tt> if no interval has completed yet.
+         */
+        public LatencyHistogram.Snapshot getIntervalSnapshot() {
+            return intervalSnapshot;
+        }
+
+        /**
+         * The time in millis when the last interval completed, or 0 if no interval has completed yet.
+         */
+        public long getIntervalTimestamp() {
+            return intervalTimestamp;
+        }
+
+        void takeIntervalSnapshot() {
+            intervalSnapshot = histogram.intervalSnapshot();
+            intervalTimestamp = System.currentTimeMillis();
+        }
+    }
+
+    private final class RouteLatencyPolicy extends RoutePolicySupport {
+
+        private final RouteLatency latency;
+        private final String beginProperty;
+
+        RouteLatencyPolicy(RouteLatency latency) {
+            this.latency = latency;
+            this.beginProperty = BEGIN_PROPERTY + latency.getRouteId();
+        }
+
+        @Override
+        public void onStart(Route route) {
+            startIntervals(route.getCamelContext());
+        }
+
+        @Override
+        public void onExchangeBegin(Route route, Exchange exchange) {
+            exchange.setProperty(beginProperty, System.nanoTime());
+        }
+
+        @Override
+        public void onExchangeDone(Route route, Exchange exchange) {
+            Object begin = exchange.removeProperty(beginProperty);
+            if (begin instanceof Long) {
+                latency.getHistogram().record(unit.convert(System.nanoTime() - (Long) begin, TimeUnit.NANOSECONDS));
+            }
+        }
+
+        @Override
+        public void onRemove(Route route) {
+            routes.remove(latency.getRouteId(), latency);
+        }
+    }
+
+}
@@ -16,12 +16,17 @@
  */
 package org.apache.camel.spring.boot.routetemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.main.PropertiesRouteTemplateParametersSource;
 import org.apache.camel.spi.RouteTemplateParameterSource;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.CamelContextConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -62,4 +67,35 @@ public class CamelRouteTemplateAutoConfiguration {
         return source;
     }
 
+    @Bean
+    public CamelContextConfiguration routeTemplateBatch(CamelRouteTemplateConfigurationProperties rt) {
+        // the route templates are added together with the routes, so the batches are added after the routes
+        return new CamelContextConfiguration() {
+            @Override
+            public void beforeApplicationStart(CamelContext camelContext) {
+                if (rt.getBatch() == null) {
+                    return;
+                }
+                RouteTemplateBatchInstantiator instantiator = new RouteTemplateBatchInstantiator(camelContext);
+                for (CamelRouteTemplateConfigurationProperties.BatchConfiguration batch : rt.getBatch()) {
+                    List<Map<String, Object>> instances = new ArrayList<>();
+                    if (batch.getInstances() != null) {
+                        batch.getInstances().forEach(i -> instances.add(new HashMap<>(i)));
+                    }
+                    Map<String, Object> parameters = batch.getParameters() != null ? new HashMap<>(batch.getParameters()) : null;
+                    try {
+                        instantiator.addRoutesFromTemplate(batch.getTemplateId(), parameters, instances);
+                    } catch (Exception e) {
+                        throw RuntimeCamelException.wrapRuntimeCamelException(e);
+                    }
+                }
+            }
+
+            @Override
+            public void afterApplicationStart(CamelContext camelContext) {
+                // noop
+            }
+        };
+    }
+
 }
@@ -29,6 +29,11 @@ public class CamelRouteTemplateConfigurationProperties {
      */
     private List<Map<String, String>> config;
 
+    /**
+     * Route template batch configurations, to create many routes from the same route template at once
+     */
+    private List<BatchConfiguration> batch;
+
     public List<Map<String, String>> getConfig() {
         return config;
     }
@@ -36,6 +41,56 @@ public class CamelRouteTemplateConfigurationProperties {
     public void setConfig(List<Map<String, String>> config) {
         this.config = config;
     }
+
+    public List<BatchConfiguration> getBatch() {
+        return batch;
+    }
+
+    public void setBatch(List<BatchConfiguration> batch) {
+        this.batch = batch;
+    }
+
+    public static class BatchConfiguration {
+
+        /**
+         * The id of the route template
+         */
+        private String templateId;
+
+        /**
+         * Parameters shared by all the routes of the batch
+         */
+        private Map<String, String> parameters;
+
+        /**
+         * Parameters of each route, which may include the id of the route as routeId
+         */
+        private List<Map<String, String>> instances;
+
+        public String getTemplateId() {
+            return templateId;
+        }
+
+        public void setTemplateId(String templateId) {
+            this.templateId = templateId;
+        }
+
+        public Map<String, String> getParameters() {
+            return parameters;
+        }
+
+        public void setParameters(Map<String, String> parameters) {
+            this.parameters = parameters;
+        }
+
+        public List<Map<String, String>> getInstances() {
+            return instances;
+        }
+
+        public void setInstances(List<Map<String, String>> instances) {
+            this.instances = instances;
+        }
+    }
 }
 
 
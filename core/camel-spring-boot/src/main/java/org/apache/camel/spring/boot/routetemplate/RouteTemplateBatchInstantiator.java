@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.routetemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.RouteTemplateContext;
+import org.apache.camel.model.DefaultRouteTemplateContext;
+import org.apache.camel.model.ModelCamelContext;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.RouteTemplateDefinition;
+import org.apache.camel.model.RouteTemplateParameterDefinition;
+import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.spi.NodeIdFactory;
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.StringHelper;
+import org.apache.camel.util.TimeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates many routes from the same route template at once.
+ * <p/>
+ * Adding routes from a template one at a time looks up the template, validates its parameters and checks the new
+ * route against all the existing routes for every route. Instead this looks up the template and its parameters
+ * once, checks the ids of all the routes against the existing routes at once, and adds the routes to Camel together,
+ * so they are also started together. The route definitions share the expressions and endpoint URIs of the template,
+ * which are resolved with the parameters of each route when the routes are created. The routes themselves are
+ * created by Camel one at a time, as when they are added one at a time.
+ * <p/>
+ * Templates with local beans or a configurer are added one at a time, as these must be set up for each route.
+ */
+public class RouteTemplateBatchInstantiator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RouteTemplateBatchInstantiator.class);
+
+    private final CamelContext camelContext;
+
+    public RouteTemplateBatchInstantiator(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    /**
+     * Adds routes from the route template.
+     *
+     * @param  routeTemplateId the id of the route template
+     * @param  parameters      the parameters shared by all the routes, may be <tt>null</tt>
+     * @param  instances       the parameters of each route, which may include the id of the route as
+     *                         <tt>routeId</tt> or <tt>route-id</tt>
+     * @return                 the ids of the routes in the same order as the instances
+     */
+    public List<String> addRoutesFromTemplate(
+            String routeTemplateId, Map<String, Object> parameters, List<Map<String, Object>> instances)
+            throws Exception {
+        ModelCamelContext model = camelContext.adapt(ModelCamelContext.class);
+        RouteTemplateDefinition template = model.getRouteTemplateDefinition(routeTemplateId);
+        if (template == null) {
+            throw new IllegalArgumentException("Cannot find RouteTemplate with id " + routeTemplateId);
+        }
+
+        StopWatch watch = new StopWatch();
+        List<String> answer;
+        if (template.getTemplateBeans() != null && !template.getTemplateBeans().isEmpty()
+                || template.getConfigurer() != null) {
+            answer = new ArrayList<>(instances.size());
+            for (Map<String, Object> instance : instances) {
+                Map<String, Object> values = new HashMap<>();
+                if (parameters != null) {
+                    values.putAll(parameters);
+                }
+                values.putAll(instance);
+                Object routeId = popRouteId(values);
+                answer.add(model.addRouteFromTemplate(routeId != null ? routeId.toString() : null, routeTemplateId, values));
+            }
+        } else {
+            answer = addRoutes(model, template, parameters, instances);
+        }
+        LOG.debug("Added {} routes from route template {} in {}", answer.size(), routeTemplateId,
+                TimeUtils.printDuration(watch.taken()));
+        return answer;
+    }
+
+    private List<String> addRoutes(
+            ModelCamelContext model, RouteTemplateDefinition template,
+            Map<String, Object> parameters, List<Map<String, Object>> instances)
+            throws Exception {
+        // the defaults and required parameters of the template, and the shared parameters are the same for all routes
+        Map<String, Object> defaults = new HashMap<>();
+        Set<String> required = new HashSet<>();
+        if (template.getTemplateParameters() != null) {
+            for (RouteTemplateParameterDefinition parameter : template.getTemplateParameters()) {
+                if (parameter.getDefaultValue() != null) {
+                    addProperty(defaults, parameter.getName(), parameter.getDefaultValue());
+                } else if (parameter.isRequired()) {
+                    required.add(parameter.getName());
+                }
+            }
+        }
+        if (parameters != null) {
+            parameters.forEach((k, v) -> addProperty(defaults, k, v));
+        }
+
+        List<RouteDefinition> routes = new ArrayList<>(instances.size());
+        for (Map<String, Object> instance : instances) {
+            routes.add(createRoute(template, defaults, required, instance));
+        }
+
+        // adding the routes replaces the existing routes with the same ids, so the ids are checked against the existing
+        // routes like when the routes are added one at a time
+        Set<String> existing = new HashSet<>();
+        for (RouteDefinition route : model.getRouteDefinitions()) {
+            existing.add(route.getRouteId());
+        }
+
+        // assign the ids and prepare the routes in order, so the generated ids are the same as when added one at a time
+        NodeIdFactory nodeIdFactory = camelContext.adapt(ExtendedCamelContext.class).getNodeIdFactory();
+        RoutesDefinition routeCollection = new RoutesDefinition();
+        routeCollection.setCamelContext(camelContext);
+        routeCollection.setRoutes(model.getRouteDefinitions());
+        Set<String> ids = new HashSet<>();
+        List<String> answer = new ArrayList<>(routes.size());
+        for (RouteDefinition route : routes) {
+            String id = route.idOrCreate(nodeIdFactory);
+            if (existing.contains(id)) {
+                throw new IllegalArgumentException(
+                        "Cannot add routes from route template " + template.getId() + " as the route id " + id
+                                                   + " is already used by another route");
+            }
+            if (!ids.add(id)) {
+                throw new IllegalArgumentException(
+                        "Cannot add routes from route template " + template.getId() + " as the route id " + id
+                                                   + " is used by more than one route");
+            }
+            routeCollection.prepareRoute(route);
+            answer.add(id);
+        }
+
+        model.addRouteDefinitions(routes);
+        return answer;
+    }
+
+    private RouteDefinition createRoute(
+            RouteTemplateDefinition template, Map<String, Object> defaults, Set<String> required,
+            Map<String, Object> instance) {
+        Map<String, Object> values = new HashMap<>(defaults);
+        Map<String, Object> properties = new HashMap<>(instance);
+        Object routeId = popRouteId(properties);
+        properties.forEach((k, v) -> addProperty(values, k, v));
+
+        StringJoiner missing = new StringJoiner(", ");
+        for (String name : required) {
+            if (!values.containsKey(name)) {
+                missing.add(name);
+            }
+        }
+        if (missing.length() > 0) {
+            throw new IllegalArgumentException(
+                    "Route template " + template.getId() + " the following mandatory parameters must be provided: "
+                                               + missing);
+        }
+
+        RouteDefinition route = template.asRouteDefinition();
+        if (routeId != null) {
+            route.setId(routeId.toString());
+        }
+        route.setTemplateParameters(values);
+        // the same as when the route is added from the template one at a time
+        RouteTemplateContext routeTemplateContext = new DefaultRouteTemplateContext(camelContext);
+        values.forEach(routeTemplateContext::setParameter);
+        route.setRouteTemplateContext(routeTemplateContext);
+        return route;
+    }
+
+    /**
+     * Removes the id of the route from the parameters of a route, which may be given as <tt>routeId</tt> or
+     * <tt>route-id</tt>.
+     */
+    private static Object popRouteId(Map<String, Object> values) {
+        Object routeId = values.remove("routeId");
+        Object dashed = values.remove("route-id");
+        return routeId != null ? routeId : dashed;
+    }
+
+    private static void addProperty(Map<String, Object> properties, String key, Object value) {
+        properties.put(key, value);
+        // also include the camelCase version of the key
+        if (key.indexOf('-') != -1) {
+            properties.put(StringHelper.dashToCamelCase(key), value);
+        }
+    }
+
+}
@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.threadpool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.Rejectable;
+import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Thread pool which resizes its core threads, within the configured minimum and maximum, from the observed arrival
+ * rate, service time and queue wait time of the tasks.
+ * <p/>
+ * The pool is resized by {@link #adjust(double)} which is called periodically by the {@link AdaptiveThreadPoolFactory}.
+ * By Little's law the number of tasks being processed is the arrival rate times the service time, so the pool is
+ * sized to that number of threads. The pool grows by another thread while the tasks wait longer than the target queue
+ * wait time, unless the CPU is saturated, and shrinks gradually when the threads are not needed.
+ * <p/>
+ * As the other Camel thread pools the submitted tasks are {@link Rejectable}, so their futures are completed when the
+ * tasks are rejected by the discard policies.
+ */
+public class AdaptiveThreadPoolExecutor extends RejectableThreadPoolExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveThreadPoolExecutor.class);
+
+    private final String profileId;
+    private final int minPoolSize;
+    private final long targetQueueWaitNanos;
+    private final double maxCpuLoad;
+
+    private final ThreadLocal<Long> startTime = new ThreadLocal<>();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder serviceNanos = new LongAdder();
+    private final AtomicLong increaseCount = new AtomicLong();
+    private final AtomicLong decreaseCount = new AtomicLong();
+
+    private long lastAdjust = System.nanoTime();
+    private volatile double arrivalRate;
+    private volatile double throughput;
+    private volatile double averageQueueWait;
+    private volatile double averageServiceTime;
+    private volatile double cpuLoad = -1;
+    private volatile Runnable onTerminated;
+
+    public AdaptiveThreadPoolExecutor(String profileId, int minPoolSize, int maxPoolSize, long keepAliveTime,
+                                      TimeUnit unit, BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory,
+                                      RejectedExecutionHandler handler, long targetQueueWait, double maxCpuLoad) {
+        super(minPoolSize, Math.max(minPoolSize, maxPoolSize), keepAliveTime, unit, workQueue, threadFactory, handler);
+        this.profileId = profileId;
+        this.minPoolSize = minPoolSize;
+        this.targetQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(targetQueueWait);
+        this.maxCpuLoad = maxCpuLoad;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        submitted.increment();
+        super.execute(new TimedTask(command));
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> tasks = super.shutdownNow();
+        List<Runnable> answer = new ArrayList<>(tasks.size());
+        for (Runnable task : tasks) {
+            answer.add(task instanceof TimedTask ? ((TimedTask) task).task : task);
+        }
+        return answer;
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        super.beforeExecute(t, r);
+        long now = System.nanoTime();
+        if (r instanceof TimedTask) {
+            queueWaitNanos.add(now - ((TimedTask) r).enqueued);
+            started.increment();
+        }
+        startTime.set(now);
+    }
+
+    @Override
+    protected void afterExecute(Runnable r, Throwable t) {
+        Long start = startTime.get();
+        if (start != null) {
+            startTime.remove();
+            serviceNanos.add(System.nanoTime() - start);
+            completed.increment();
+        }
+        super.afterExecute(r, t);
+    }
+
+    @Override
+    protected void terminated() {
+        super.terminated();
+        Runnable task = onTerminated;
+        if (task != null) {
+            task.run();
+        }
+    }
+
+    void setOnTerminated(Runnable onTerminated) {
+        this.onTerminated = onTerminated;
+    }
+
+    /**
+     * Resizes the core threads of the pool from the tasks observed since the previous adjustment.
+     *
+     * @param  cpuLoad the CPU load between 0 and 1, or a negative value if not known
+     * @return         the new core pool size
+     */
+    public synchronized int adjust(double cpuLoad) {
+        long now = System.nanoTime();
+        double seconds = Math.max(now - lastAdjust, 1) / 1_000_000_000d;
+        lastAdjust = now;
+
+        long arrived = submitted.sumThenReset();
+        long begun = started.sumThenReset();
+        long done = completed.sumThenReset();
+        long waited = queueWaitNanos.sumThenReset();
+        long served = serviceNanos.sumThenReset();
+
+        // the tasks still in the queue have waited at least as long as the oldest of them
+        double queueWait = begun > 0 ? (double) waited / begun : 0;
+        Runnable oldest = getQueue().peek();
+        if (oldest instanceof TimedTask) {
+            queueWait = Math.max(queueWait, now - ((TimedTask) oldest).enqueued);
+        }
+        double serviceTime = done > 0 ? (double) served / done : 0;
+
+        this.arrivalRate = arrived / seconds;
+        this.throughput = done / seconds;
+        this.averageQueueWait = queueWait / 1_000_000d;
+        this.averageServiceTime = serviceTime / 1_000_000d;
+        this.cpuLoad = cpuLoad;
+
+        int current = getCorePoolSize();
+        // little's law: the number of busy threads is the arrival rate times the service time
+        int desired = (int) Math.ceil(arrivalRate * serviceTime / 1_000_000_000d);
+        if (queueWait > targetQueueWaitNanos) {
+            desired = Math.max(desired, current + 1);
+        }
+        if (desired > current && cpuLoad >= maxCpuLoad) {
+            // more threads do not help when the cpu is saturated
+            desired = current;
+        } else if (desired < current) {
+            // shrink gradually as the load may come back
+            desired = current - Math.max(1, (current - desired) / 2);
+        }
+        desired = Math.max(minPoolSize, Math.min(getMaximumPoolSize(), desired));
+
+        if (desired != current) {
+            LOG.debug("Resizing thread pool {} from {} to {} threads (arrival rate: {}/s, service time: {} ms,"
+                      + " queue wait: {} ms, cpu load: {})",
+                    profileId, current, desired, arrivalRate, averageServiceTime, averageQueueWait, cpuLoad);
+            setCorePoolSize(desired);
+            if (desired > current) {
+                increaseCount.incrementAndGet();
+            } else {
+                decreaseCount.incrementAndGet();
+            }
+        }
+        return desired;
+    }
+
+    public String getProfileId() {
+        return profileId;
+    }
+
+    public int getMinPoolSize() {
+        return minPoolSize;
+    }
+
+    public long getTargetQueueWait() {
+        return TimeUnit.NANOSECONDS.toMillis(targetQueueWaitNanos);
+    }
+
+    public double getMaxCpuLoad() {
+        return maxCpuLoad;
+    }
+
+    /**
+     * Number of tasks submitted per second, as of the last adjustment.
+     */
+    public double getArrivalRate() {
+        return arrivalRate;
+    }
+
+    /**
+     * Number of tasks completed per second, as of the last adjustment.
+     */
+    public double getThroughput() {
+        return throughput;
+    }
+
+    /**
+     * Average time in millis the tasks waited in the queue, as of the last adjustment.
+     */
+    public double getAverageQueueWait() {
+        return averageQueueWait;
+    }
+
+    /**
+     * Average time in millis to run the tasks, as of the last adjustment.
+     */
+    public double getAverageServiceTime() {
+        return averageServiceTime;
+    }
+
+    /**
+     * The CPU load at the last adjustment, or a negative value if not known.
+     */
+    public double getCpuLoad() {
+        return cpuLoad;
+    }
+
+    /**
+     * Number of times the pool has been resized to more threads.
+     */
+    public long getIncreaseCount() {
+        return increaseCount.get();
+    }
+
+    /**
+     * Number of times the pool has been resized to fewer threads.
+     */
+    public long getDecreaseCount() {
+        return decreaseCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveThreadPoolExecutor[" + profileId + "] " + super.toString();
+    }
+
+    private static final class TimedTask implements Runnable, Rejectable {
+
+        private final Runnable task;
+        private final long enqueued = System.nanoTime();
+
+        TimedTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public void reject() {
+            if (task instanceof Rejectable) {
+                ((Rejectable) task).reject();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+
+}
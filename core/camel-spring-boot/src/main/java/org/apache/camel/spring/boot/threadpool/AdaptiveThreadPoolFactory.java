@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.threadpool;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.ThreadPoolFactory;
+import org.apache.camel.spi.ThreadPoolProfile;
+
+/**
+ * {@link ThreadPoolFactory} which creates an {@link AdaptiveThreadPoolExecutor} for the thread pool profiles which are
+ * configured to be adaptive, and delegates to the existing factory for the other profiles.
+ * <p/>
+ * The pool size of the profile is the minimum number of threads and the max pool size is the maximum number of
+ * threads. The adaptive thread pools are resized periodically by a scheduled task.
+ */
+public class AdaptiveThreadPoolFactory implements ThreadPoolFactory {
+
+    public static final long DEFAULT_INTERVAL = 1000;
+    public static final long DEFAULT_TARGET_QUEUE_WAIT = 100;
+    public static final double DEFAULT_MAX_CPU_LOAD = 0.9;
+
+    private final CamelContext camelContext;
+    private final ThreadPoolFactory delegate;
+    private final Map<String, Settings> profiles = new ConcurrentHashMap<>();
+    private final List<AdaptiveThreadPoolExecutor> executors = new CopyOnWriteArrayList<>();
+    private final OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+    private ScheduledExecutorService scheduler;
+
+    public AdaptiveThreadPoolFactory(CamelContext camelContext, ThreadPoolFactory delegate) {
+        this.camelContext = camelContext;
+        this.delegate = delegate;
+    }
+
+    public ThreadPoolFactory getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Configures the thread pool profile with the given id to be adaptive.
+     *
+     * @param profileId       the id of the profile
+     * @param interval        the interval in millis between resizing the thread pools
+     * @param targetQueueWait the time in millis the tasks may wait in the queue before adding more threads
+     * @param maxCpuLoad      the CPU load between 0 and 1 from which no more threads are added
+     */
+    public void setAdaptive(String profileId, long interval, long targetQueueWait, double maxCpuLoad) {
+        profiles.put(profileId, new Settings(interval, targetQueueWait, maxCpuLoad));
+    }
+
+    /**
+     * The ids of the adaptive thread pool profiles.
+     */
+    public Set<String> getProfiles() {
+        return profiles.keySet();
+    }
+
+    /**
+     * Whether thread pools for the given profile are adaptive.
+     */
+    public boolean isAdaptive(ThreadPoolProfile profile) {
+        return profile.getId() != null && profiles.containsKey(profile.getId());
+    }
+
+    /**
+     * The adaptive thread pools which are not terminated.
+     */
+    public List<AdaptiveThreadPoolExecutor> getExecutors() {
+        return executors;
+    }
+
+    @Override
+    public ExecutorService newCachedThreadPool(ThreadFactory threadFactory) {
+        return delegate.newCachedThreadPool(threadFactory);
+    }
+
+    @Override
+    public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        Settings settings = profile.getId() != null ? profiles.get(profile.getId()) : null;
+        if (settings == null) {
+            return delegate.newThreadPool(profile, threadFactory);
+        }
+
+        int minPoolSize = profile.getPoolSize() != null ? profile.getPoolSize() : 1;
+        int maxPoolSize = profile.getMaxPoolSize() != null ? profile.getMaxPoolSize() : minPoolSize;
+        long keepAliveTime = profile.getKeepAliveTime() != null ? profile.getKeepAliveTime() : 60;
+        TimeUnit timeUnit = profile.getTimeUnit() != null ? profile.getTimeUnit() : TimeUnit.SECONDS;
+        RejectedExecutionHandler handler = profile.getRejectedPolicy() != null
+                ? profile.getRejectedPolicy().asRejectedExecutionHandler() : new ThreadPoolExecutor.CallerRunsPolicy();
+
+        AdaptiveThreadPoolExecutor executor = new AdaptiveThreadPoolExecutor(
+                profile.getId(), minPoolSize, maxPoolSize, keepAliveTime, timeUnit,
+                createQueue(profile.getMaxQueueSize()), threadFactory, handler,
+                settings.targetQueueWait, settings.maxCpuLoad);
+        if (Boolean.TRUE.equals(profile.getAllowCoreThreadTimeOut())) {
+            executor.allowCoreThreadTimeOut(true);
+        }
+
+        ScheduledFuture<?> task = getScheduler().scheduleWithFixedDelay(
+                () -> executor.adjust(getCpuLoad()), settings.interval, settings.interval, TimeUnit.MILLISECONDS);
+        executor.setOnTerminated(() -> {
+            task.cancel(false);
+            executors.remove(executor);
+        });
+        executors.add(executor);
+        return executor;
+    }
+
+    @Override
+    public ScheduledExecutorService newScheduledThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        return delegate.newScheduledThreadPool(profile, threadFactory);
+    }
+
+    /**
+     * The recent CPU usage of the JVM process between 0 and 1, or the system load average per processor if the JVM
+     * does not provide it, or a negative value if neither is available.
+     */
+    double getCpuLoad() {
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            double load = ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuLoad();
+            if (load >= 0) {
+                return load;
+            }
+        }
+        double load = os.getSystemLoadAverage();
+        return load < 0 ? load : load / os.getAvailableProcessors();
+    }
+
+    private synchronized ScheduledExecutorService getScheduler() {
+        if (scheduler == null || scheduler.isShutdown()) {
+            scheduler = camelContext.getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "AdaptiveThreadPoolController");
+        }
+        return scheduler;
+    }
+
+    private static BlockingQueue<Runnable> createQueue(Integer maxQueueSize) {
+        if (maxQueueSize == null || maxQueueSize < 0) {
+            return new LinkedBlockingQueue<>();
+        } else if (maxQueueSize == 0) {
+            return new SynchronousQueue<>();
+        } else {
+            return new LinkedBlockingQueue<>(maxQueueSize);
+        }
+    }
+
+    private static final class Settings {
+
+        private final long interval;
+        private final long targetQueueWait;
+        private final double maxCpuLoad;
+
+        Settings(long interval, long targetQueueWait, double maxCpuLoad) {
+            this.interval = interval;
+            this.targetQueueWait = targetQueueWait;
+            this.maxCpuLoad = maxCpuLoad;
+        }
+    }
+
+}
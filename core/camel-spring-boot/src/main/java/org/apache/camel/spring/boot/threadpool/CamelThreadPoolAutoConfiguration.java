@@ -18,6 +18,7 @@ package org.apache.camel.spring.boot.threadpool;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
@@ -56,11 +57,14 @@ public class CamelThreadPoolAutoConfiguration {
                     .maxQueueSize(v.getMaxQueueSize())
                     .allowCoreThreadTimeOut(v.getAllowCoreThreadTimeOut())
                     .rejectedPolicy(v.getRejectedPolicy()).build();
-            if (!tpp.isEmpty()) {
+            if (!tpp.isEmpty() || v.getVirtual() != null || v.getAdaptive() != null) {
                 camelContext.getExecutorServiceManager().registerThreadPoolProfile(tpp);
             }
         });
 
+        configureVirtualThreads(camelContext, tp);
+        configureAdaptiveThreadPools(camelContext, tp);
+
         if (!dp.isEmpty()) {
             dp.setDefaultProfile(true);
             camelContext.getExecutorServiceManager().setDefaultThreadPoolProfile(dp);
@@ -70,4 +74,42 @@ public class CamelThreadPoolAutoConfiguration {
         return dp;
     }
 
+    private static void configureVirtualThreads(CamelContext camelContext, CamelThreadPoolConfigurationProperties tp) {
+        boolean virtual = tp.getVirtual() != null
+                || tp.getConfig().values().stream().anyMatch(v -> v.getVirtual() != null);
+        if (!virtual) {
+            return;
+        }
+
+        ExecutorServiceManager manager = camelContext.getExecutorServiceManager();
+        VirtualThreadPoolFactory factory = new VirtualThreadPoolFactory(manager.getThreadPoolFactory());
+        factory.setVirtualByDefault(Boolean.TRUE.equals(tp.getVirtual()));
+        tp.getConfig().forEach((k, v) -> {
+            if (v.getVirtual() != null) {
+                factory.setVirtual(k, v.getVirtual());
+            }
+        });
+        manager.setThreadPoolFactory(factory);
+    }
+
+    private static void configureAdaptiveThreadPools(CamelContext camelContext, CamelThreadPoolConfigurationProperties tp) {
+        ExecutorServiceManager manager = camelContext.getExecutorServiceManager();
+        AdaptiveThreadPoolFactory factory = new AdaptiveThreadPoolFactory(camelContext, manager.getThreadPoolFactory());
+        tp.getConfig().forEach((k, v) -> {
+            // virtual threads are not pooled so they cannot be adaptive
+            if (Boolean.TRUE.equals(v.getAdaptive()) && !Boolean.TRUE.equals(v.getVirtual())) {
+                long interval = v.getAdaptiveInterval() != null
+                        ? v.getAdaptiveInterval() : AdaptiveThreadPoolFactory.DEFAULT_INTERVAL;
+                long targetQueueWait = v.getAdaptiveTargetQueueWait() != null
+                        ? v.getAdaptiveTargetQueueWait() : AdaptiveThreadPoolFactory.DEFAULT_TARGET_QUEUE_WAIT;
+                double maxCpuLoad = v.getAdaptiveMaxCpuLoad() != null
+                        ? v.getAdaptiveMaxCpuLoad() : AdaptiveThreadPoolFactory.DEFAULT_MAX_CPU_LOAD;
+                factory.setAdaptive(k, interval, targetQueueWait, maxCpuLoad);
+            }
+        });
+        if (!factory.getProfiles().isEmpty()) {
+            manager.setThreadPoolFactory(factory);
+        }
+    }
+
 }
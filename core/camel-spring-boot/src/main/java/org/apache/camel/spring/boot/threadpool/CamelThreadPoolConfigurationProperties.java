@@ -63,6 +63,14 @@ public class CamelThreadPoolConfigurationProperties {
      */
     private ThreadPoolRejectedPolicy rejectedPolicy;
 
+    /**
+     * Sets whether to use virtual threads by default, where the thread pools start a new virtual thread for each task.
+     * Thread pools with a single thread and scheduled thread pools use platform threads.
+     *
+     * This requires Java 21 or newer, and on older versions the thread pools use platform threads.
+     */
+    private Boolean virtual;
+
     /**
      * Adds a configuration for a specific thread pool profile (inherits default values)
      */
@@ -124,6 +132,14 @@ public class CamelThreadPoolConfigurationProperties {
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    public Boolean getVirtual() {
+        return virtual;
+    }
+
+    public void setVirtual(Boolean virtual) {
+        this.virtual = virtual;
+    }
+
     public Map<String, ThreadPoolProfileConfigurationProperties> getConfig() {
         return config;
     }
@@ -134,7 +150,7 @@ public class CamelThreadPoolConfigurationProperties {
 
     public boolean isEmpty() {
         return poolSize == null && maxPoolSize == null && keepAliveTime == null && timeUnit == null
-                && maxQueueSize == null && allowCoreThreadTimeOut == null && rejectedPolicy == null
+                && maxQueueSize == null && allowCoreThreadTimeOut == null && rejectedPolicy == null && virtual == null
                 && config.isEmpty();
     }
 
@@ -183,6 +199,38 @@ public class CamelThreadPoolConfigurationProperties {
          */
         private ThreadPoolRejectedPolicy rejectedPolicy;
 
+        /**
+         * Sets whether to use virtual threads, where the thread pools start a new virtual thread for each task.
+         *
+         * This requires Java 21 or newer, and on older versions the thread pools use platform threads.
+         */
+        private Boolean virtual;
+
+        /**
+         * Sets whether the thread pool is adaptive, where the core threads are resized between the pool size and the
+         * max pool size from the observed arrival rate, service time and queue wait time of the tasks, and the CPU
+         * load.
+         */
+        private Boolean adaptive;
+
+        /**
+         * Sets the interval in millis between resizing an adaptive thread pool. The default is 1000.
+         */
+        private Long adaptiveInterval;
+
+        /**
+         * Sets the time in millis the tasks may wait in the queue of an adaptive thread pool before adding more threads.
+         * The default is 100.
+         */
+        private Long adaptiveTargetQueueWait;
+
+        /**
+         * Sets the CPU load, between 0 and 1 (the CPU usage of the JVM process, or the system load average per
+         * processor if not available), from which no more threads are added to an adaptive thread pool. The default
+         * is 0.9.
+         */
+        private Double adaptiveMaxCpuLoad;
+
         public String getId() {
             return id;
         }
@@ -247,6 +295,46 @@ public class CamelThreadPoolConfigurationProperties {
             this.rejectedPolicy = rejectedPolicy;
         }
 
+        public Boolean getVirtual() {
+            return virtual;
+        }
+
+        public void setVirtual(Boolean virtual) {
+            this.virtual = virtual;
+        }
+
+        public Boolean getAdaptive() {
+            return adaptive;
+        }
+
+        public void setAdaptive(Boolean adaptive) {
+            this.adaptive = adaptive;
+        }
+
+        public Long getAdaptiveInterval() {
+            return adaptiveInterval;
+        }
+
+        public void setAdaptiveInterval(Long adaptiveInterval) {
+            this.adaptiveInterval = adaptiveInterval;
+        }
+
+        public Long getAdaptiveTargetQueueWait() {
+            return adaptiveTargetQueueWait;
+        }
+
+        public void setAdaptiveTargetQueueWait(Long adaptiveTargetQueueWait) {
+            this.adaptiveTargetQueueWait = adaptiveTargetQueueWait;
+        }
+
+        public Double getAdaptiveMaxCpuLoad() {
+            return adaptiveMaxCpuLoad;
+        }
+
+        public void setAdaptiveMaxCpuLoad(Double adaptiveMaxCpuLoad) {
+            this.adaptiveMaxCpuLoad = adaptiveMaxCpuLoad;
+        }
+
     }
 }
 
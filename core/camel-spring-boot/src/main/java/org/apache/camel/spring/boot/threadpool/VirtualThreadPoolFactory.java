@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.threadpool;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.camel.spi.ThreadPoolFactory;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link ThreadPoolFactory} which creates an executor starting a new virtual thread for each task for the thread pool
+ * profiles which are configured to use virtual threads, and delegates to the existing factory for the other profiles.
+ * <p/>
+ * Virtual threads require JDK 21 or newer, and are detected at runtime, so on older JDKs the profiles fall back to
+ * the thread pools created by the delegate.
+ */
+public class VirtualThreadPoolFactory implements ThreadPoolFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPoolFactory.class);
+
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            // the methods are looked up on the public types as the builder implementations are not accessible
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builder.getMethod("name", String.class, long.class);
+            builderFactory = builder.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            // virtual threads are not supported on this JDK
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private final ThreadPoolFactory delegate;
+    private final Map<String, Boolean> profiles = new ConcurrentHashMap<>();
+    private volatile boolean virtualByDefault;
+    private volatile boolean warned;
+
+    public VirtualThreadPoolFactory(ThreadPoolFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Whether the JDK supports virtual threads.
+     */
+    public static boolean isSupported() {
+        return NEW_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    public ThreadPoolFactory getDelegate() {
+        return delegate;
+    }
+
+    public boolean isVirtualByDefault() {
+        return virtualByDefault;
+    }
+
+    /**
+     * Whether to use virtual threads for the thread pool profiles which are not configured explicitly. Thread pools
+     * with a single thread are never switched to virtual threads by default, as they are used to run tasks in order.
+     */
+    public void setVirtualByDefault(boolean virtualByDefault) {
+        this.virtualByDefault = virtualByDefault;
+    }
+
+    /**
+     * Configures whether to use virtual threads for the thread pool profile with the given id.
+     */
+    public void setVirtual(String profileId, boolean virtual) {
+        profiles.put(profileId, virtual);
+    }
+
+    /**
+     * Whether thread pools for the given profile use virtual threads, when supported by the JDK.
+     */
+    public boolean isVirtual(ThreadPoolProfile profile) {
+        Boolean virtual = profile.getId() != null ? profiles.get(profile.getId()) : null;
+        if (virtual != null) {
+            return virtual;
+        }
+        return virtualByDefault && (profile.getMaxPoolSize() == null || profile.getMaxPoolSize() > 1);
+    }
+
+    @Override
+    public ExecutorService newCachedThreadPool(ThreadFactory threadFactory) {
+        return delegate.newCachedThreadPool(threadFactory);
+    }
+
+    @Override
+    public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        if (isVirtual(profile)) {
+            if (isSupported()) {
+                LOG.debug("Creating virtual thread per task executor for thread pool profile: {}", profile.getId());
+                return newVirtualThreadPerTaskExecutor("Camel VirtualThread " + profile.getId() + " #");
+            } else if (!warned) {
+                warned = true;
+                LOG.warn("Virtual threads are not supported on Java {}. Using platform thread pools instead.",
+                        System.getProperty("java.specification.version"));
+            }
+        }
+        return delegate.newThreadPool(profile, threadFactory);
+    }
+
+    @Override
+    public ScheduledExecutorService newScheduledThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        // scheduled tasks need a scheduler so they always use platform threads
+        return delegate.newScheduledThreadPool(profile, threadFactory);
+    }
+
+    /**
+     * Creates an executor which starts a new virtual thread for each task.
+     *
+     * @param  prefix                        the prefix of the names of the threads, which is followed by a counter
+     * @throws UnsupportedOperationException if the JDK does not support virtual threads
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(String prefix) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or newer");
+        }
+        try {
+            Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), prefix, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create virtual thread per task executor", e);
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Source-side copier of the configured options of a Spring Boot component, data format or language configuration.
+ * <p/>
+ * This is implemented by the configuration classes generated by the <tt>camel-spring-boot-generator-maven-plugin</tt>,
+ * so {@link CamelPropertiesHelper#copyProperties(org.apache.camel.CamelContext, Object, Object)} can copy the options
+ * without introspecting the configuration class by reflection.
+ */
+public interface CamelPropertiesCopier {
+
+    /**
+     * Passes every option which is not <tt>null</tt> to the target.
+     *
+     * @param target receives the name and value of the option
+     */
+    void copyNonNullProperties(BiConsumer<String, Object> target);
+
+}
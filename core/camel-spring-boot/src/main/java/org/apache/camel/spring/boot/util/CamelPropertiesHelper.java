@@ -42,6 +42,11 @@ public final class CamelPropertiesHelper {
         ObjectHelper.notNull(source, "source");
         ObjectHelper.notNull(target, "target");
 
+        if (source instanceof CamelPropertiesCopier) {
+            copyProperties(camelContext, (CamelPropertiesCopier) source, target);
+            return;
+        }
+
         CamelPropertiesHelper.setCamelProperties(
             camelContext,
             target,
@@ -49,6 +54,42 @@ public final class CamelPropertiesHelper {
             false);
     }
 
+    /**
+     * Copies the non-null options of the generated configuration class onto the target without reflection.
+     * <p/>
+     * Options are set directly using the configurer of the target component if possible, otherwise they are set
+     * the same way as {@link #setCamelProperties(CamelContext, Object, Map, boolean)}.
+     */
+    private static void copyProperties(CamelContext camelContext, CamelPropertiesCopier source, Object target) {
+        final PropertyConfigurer configurer = getConfigurer(target);
+        final PropertyBindingSupport.Builder builder = PropertyBindingSupport.build()
+                .withConfigurer(configurer)
+                .withIgnoreCase(true);
+
+        source.copyNonNullProperties((name, value) -> {
+            // string values may be references or placeholders which are resolved by the property binding
+            if (configurer != null && !(value instanceof String)) {
+                try {
+                    if (configurer.configure(camelContext, target, name, value, true)) {
+                        return;
+                    }
+                } catch (RuntimeException e) {
+                    // let property binding try
+                }
+            }
+            setCamelProperty(camelContext, target, builder, name, value);
+        });
+    }
+
+    private static PropertyConfigurer getConfigurer(Object target) {
+        if (target instanceof Component) {
+            // the component needs to be initialized to have the configurer ready
+            ServiceHelper.initService(target);
+            return ((Component) target).getComponentPropertyConfigurer();
+        }
+        return null;
+    }
+
     /**
      * Sets the properties on the target bean.
      * <p/>
@@ -84,43 +125,24 @@ public final class CamelPropertiesHelper {
         ObjectHelper.notNull(properties, "properties");
         boolean rc = false;
 
-        PropertyConfigurer configurer = null;
-        if (target instanceof Component) {
-            // the component needs to be initialized to have the configurer ready
-            ServiceHelper.initService(target);
-            configurer = ((Component) target).getComponentPropertyConfigurer();
-        }
+        // the builder is reused for all the properties
+        PropertyBindingSupport.Builder builder = PropertyBindingSupport.build()
+                .withConfigurer(getConfigurer(target))
+                .withIgnoreCase(true);
 
         Iterator<Map.Entry<String, Object>> it = properties.entrySet().iterator();
         while (it.hasNext()) {
             Map.Entry<String, Object> entry = it.next();
             String name = entry.getKey();
             Object value = entry.getValue();
-            String stringValue = value != null ? value.toString() : null;
-            boolean hit = false;
-            try {
-                hit = PropertyBindingSupport.build()
-                        .withConfigurer(configurer)
-                        .withIgnoreCase(true)
-                        .bind(context, target, name, value);
-            } catch (PropertyBindingException e) {
-                // no we could not and this would be thrown if we attempted to set a value on a property which we cannot do type conversion as
-                // then maybe the value refers to a spring bean in the registry so try this
-                if (stringValue != null) {
-                    if (stringValue.startsWith("#")) {
-                        stringValue = stringValue.substring(1);
-                    }
-                    // use #bean: to lookup
-                    stringValue = "#bean:" + stringValue;
-                    hit = PropertyBindingSupport.build().withIgnoreCase(true).bind(context, target, name, stringValue);
-                }
-            }
+            boolean hit = setCamelProperty(context, target, builder, name, value);
 
             if (hit) {
                 // must remove as its a valid option and we could configure it
                 it.remove();
                 rc = true;
             } else if (failIfNotSet) {
+                String stringValue = value != null ? value.toString() : null;
                 throw new IllegalArgumentException("Cannot configure option [" + name + "] with value [" + stringValue
                     + "] as the bean class [" + ObjectHelper.classCanonicalName(target)
                     + "] has no suitable setter method, or not possible to lookup a bean with the id [" + stringValue + "] in Spring Boot registry");
@@ -130,4 +152,25 @@ public final class CamelPropertiesHelper {
         return rc;
     }
 
+    private static boolean setCamelProperty(CamelContext context, Object target, PropertyBindingSupport.Builder builder,
+                                            String name, Object value) {
+        String stringValue = value != null ? value.toString() : null;
+        boolean hit = false;
+        try {
+            hit = builder.bind(context, target, name, value);
+        } catch (PropertyBindingException e) {
+            // no we could not and this would be thrown if we attempted to set a value on a property which we cannot do type conversion as
+            // then maybe the value refers to a spring bean in the registry so try this
+            if (stringValue != null) {
+                if (stringValue.startsWith("#")) {
+                    stringValue = stringValue.substring(1);
+                }
+                // use #bean: to lookup
+                stringValue = "#bean:" + stringValue;
+                hit = PropertyBindingSupport.build().withIgnoreCase(true).bind(context, target, name, stringValue);
+            }
+        }
+        return hit;
+    }
+
 }
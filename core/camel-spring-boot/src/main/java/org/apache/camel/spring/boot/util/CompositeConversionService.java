@@ -17,44 +17,84 @@
 package org.apache.camel.spring.boot.util;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 import org.springframework.core.convert.ConversionException;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
 
+/**
+ * A {@link ConversionService} which delegates to the first of the given conversion services that can convert
+ * the types, and otherwise to the last one.
+ * <p/>
+ * The delegate which can convert a pair of types is cached, and values which are already of the target type are
+ * returned without asking the delegates.
+ */
 public class CompositeConversionService implements ConversionService {
+
+    public static final int DEFAULT_MAX_CACHE_SIZE = 1000;
+
+    private static final int NO_DELEGATE = -1;
+
     private final List<ConversionService> delegates;
+    private final Map<TypePair, Integer> resolved = new ConcurrentHashMap<>();
+    private int maxCacheSize = DEFAULT_MAX_CACHE_SIZE;
 
     public CompositeConversionService(List<ConversionService> delegates) {
         this.delegates = delegates;
     }
 
+    public int getMaxCacheSize() {
+        return maxCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of pairs of types to cache the delegate for. The cache is cleared when it becomes
+     * full.
+     */
+    public void setMaxCacheSize(int maxCacheSize) {
+        this.maxCacheSize = maxCacheSize;
+    }
+
+    /**
+     * Clears the cached delegates, which is needed if converters are added to the delegates after they have
+     * been used.
+     */
+    public void clearCache() {
+        resolved.clear();
+    }
+
+    public int getCacheSize() {
+        return resolved.size();
+    }
+
     @Override
     public boolean canConvert(Class<?> sourceType, Class<?> targetType) {
-        for (ConversionService service : this.delegates) {
-            if (service.canConvert(sourceType, targetType)) {
-                return true;
-            }
-        }
-        return false;
+        return resolve(sourceType, targetType, service -> service.canConvert(sourceType, targetType)) != NO_DELEGATE;
     }
 
     @Override
     public boolean canConvert(TypeDescriptor sourceType, TypeDescriptor targetType) {
-        for (ConversionService service : this.delegates) {
-            if (service.canConvert(sourceType, targetType)) {
-                return true;
-            }
-        }
-        return false;
+        return resolve(sourceType, targetType, service -> service.canConvert(sourceType, targetType)) != NO_DELEGATE;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T convert(Object source, Class<T> targetType) {
-        for (int i = 0; i < this.delegates.size() - 1; i++) {
+        // the value is already of the target type, and collections are left to the delegates as they may copy them
+        if (targetType.isInstance(source) && !isContainer(targetType)) {
+            return (T) source;
+        }
+
+        Class<?> sourceType = source.getClass();
+        int index = resolve(sourceType, targetType, service -> service.canConvert(sourceType, targetType));
+        for (int i = index; i >= 0 && i < this.delegates.size() - 1; i++) {
             try {
                 ConversionService delegate = this.delegates.get(i);
-                if (delegate.canConvert(source.getClass(), targetType)) {
+                if (i == index || delegate.canConvert(sourceType, targetType)) {
                     return delegate.convert(source, targetType);
                 }
             } catch (ConversionException e) {
@@ -67,10 +107,17 @@ public class CompositeConversionService implements ConversionService {
 
     @Override
     public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
-        for (int i = 0; i < this.delegates.size() - 1; i++) {
+        // the value is already of the target type, and collections are left to the delegates as they may copy them
+        if (source != null && sourceType != null && !isContainer(targetType.getType())
+                && sourceType.isAssignableTo(targetType)) {
+            return source;
+        }
+
+        int index = resolve(sourceType, targetType, service -> service.canConvert(sourceType, targetType));
+        for (int i = index; i >= 0 && i < this.delegates.size() - 1; i++) {
             try {
                 ConversionService delegate = this.delegates.get(i);
-                if (delegate.canConvert(sourceType, targetType)) {
+                if (i == index || delegate.canConvert(sourceType, targetType)) {
                     return delegate.convert(source, sourceType, targetType);
                 }
             } catch (ConversionException e) {
@@ -80,4 +127,60 @@ public class CompositeConversionService implements ConversionService {
 
         return this.delegates.get(this.delegates.size() - 1).convert(source, sourceType, targetType);
     }
+
+    /**
+     * Finds the index of the first delegate which can convert the types.
+     */
+    private int resolve(Object sourceType, Object targetType, Predicate<ConversionService> canConvert) {
+        TypePair pair = new TypePair(sourceType, targetType);
+        Integer index = resolved.get(pair);
+        if (index != null) {
+            return index;
+        }
+
+        int answer = NO_DELEGATE;
+        for (int i = 0; i < this.delegates.size(); i++) {
+            if (canConvert.test(this.delegates.get(i))) {
+                answer = i;
+                break;
+            }
+        }
+
+        if (resolved.size() >= maxCacheSize) {
+            resolved.clear();
+        }
+        resolved.put(pair, answer);
+        return answer;
+    }
+
+    private static boolean isContainer(Class<?> type) {
+        return type.isArray() || Iterable.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type);
+    }
+
+    private static final class TypePair {
+        private final Object sourceType;
+        private final Object targetType;
+
+        TypePair(Object sourceType, Object targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TypePair)) {
+                return false;
+            }
+            TypePair that = (TypePair) o;
+            return Objects.equals(sourceType, that.sourceType) && targetType.equals(that.targetType);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(sourceType) + targetType.hashCode();
+        }
+    }
 }
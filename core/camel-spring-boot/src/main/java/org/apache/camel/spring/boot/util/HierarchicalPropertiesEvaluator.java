@@ -16,13 +16,21 @@
  */
 package org.apache.camel.spring.boot.util;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.env.Environment;
 
+/**
+ * Evaluates the <tt>enabled</tt> flag of a hierarchy of properties.
+ * <p/>
+ * If a {@link HierarchicalPropertiesEvaluatorCache} is registered in the application context, then the results of the
+ * evaluations with the application context are cached by the chain of prefixes.
+ */
 public final class HierarchicalPropertiesEvaluator {
 
     private HierarchicalPropertiesEvaluator() {
@@ -36,7 +44,19 @@ public final class HierarchicalPropertiesEvaluator {
      * @return the value of the key `enabled` for most restrictive prefix
      */
     public static boolean evaluate(ApplicationContext applicationContext, String... prefixes) {
-        return evaluate(applicationContext.getEnvironment(), prefixes);
+        Environment environment = applicationContext.getEnvironment();
+        List<String> key = Arrays.asList(prefixes);
+        HierarchicalPropertiesEvaluatorCache cache = HierarchicalPropertiesEvaluatorCache.lookup(applicationContext);
+        if (cache == null) {
+            return doEvaluate(environment, key);
+        }
+
+        Boolean answer = cache.get(key);
+        if (answer == null) {
+            answer = doEvaluate(environment, key);
+            cache.put(key, answer);
+        }
+        return answer;
     }
 
     /**
@@ -47,18 +67,7 @@ public final class HierarchicalPropertiesEvaluator {
      * @return the value of the key `enabled` for most restrictive prefix
      */
     public static boolean evaluate(Environment environment, String... prefixes) {
-        boolean answer = true;
-
-        // Loop over all the prefixes to find out the value of the key `enabled`
-        // for the most restrictive prefix.
-        for (String prefix : prefixes) {
-            // evaluate the value of the current prefix using the parent one
-            // as default value so if the enabled property is not set, the parent
-            // one is used.
-            answer = isEnabled(environment, prefix, answer);
-        }
-
-        return answer;
+        return evaluate(environment, Arrays.asList(prefixes));
     }
 
     /**
@@ -69,6 +78,11 @@ public final class HierarchicalPropertiesEvaluator {
      * @return the value of the key `enabled` for most restrictive prefix
      */
     public static boolean evaluate(Environment environment, Collection<String> prefixes) {
+        return doEvaluate(environment, prefixes);
+    }
+
+    private static boolean doEvaluate(Environment environment, Collection<String> prefixes) {
+        Binder binder = Binder.get(environment);
         boolean answer = true;
 
         // Loop over all the prefixes to find out the value of the key `enabled`
@@ -77,15 +91,14 @@ public final class HierarchicalPropertiesEvaluator {
             // evaluate the value of the current prefix using the parent one
             // as default value so if the enabled property is not set, the parent
             // one is used.
-            answer = isEnabled(environment, prefix, answer);
+            answer = isEnabled(binder, prefix, answer);
         }
 
         return answer;
     }
 
-    private static boolean isEnabled(Environment environment, String prefix, boolean defaultValue) {
+    private static boolean isEnabled(Binder binder, String prefix, boolean defaultValue) {
         String property = prefix.endsWith(".") ? prefix + "enabled" : prefix + ".enabled";
-        Binder binder = Binder.get(environment);
         return binder.bind(property, Bindable.of(Boolean.class)).orElse(defaultValue);
     }
 }
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+/**
+ * Caches the results of {@link HierarchicalPropertiesEvaluator} for an {@link ApplicationContext} keyed by the chain
+ * of prefixes, so the generated component, data format and language customizers do not bind the <tt>enabled</tt>
+ * properties again every time a component is created.
+ * <p/>
+ * The cache is registered as a singleton bean named {@link #BEAN_NAME} in the application context, and is only used
+ * when the properties are evaluated with the application context.
+ * <p/>
+ * The cache is cleared when the application context is refreshed, and when the environment is changed, such as
+ * by the Spring Cloud <tt>EnvironmentChangeEvent</tt> or <tt>RefreshScopeRefreshedEvent</tt>.
+ */
+public class HierarchicalPropertiesEvaluatorCache implements ApplicationListener<ApplicationEvent> {
+
+    public static final String BEAN_NAME = "hierarchicalPropertiesEvaluatorCache";
+
+    // spring cloud is optional so the events are matched by name
+    private static final Set<String> ENVIRONMENT_CHANGE_EVENTS = Set.of(
+            "org.springframework.cloud.context.environment.EnvironmentChangeEvent",
+            "org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent");
+
+    private final Map<List<String>, Boolean> cache = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Finds the cache of the given application context.
+     *
+     * @return the cache, or <tt>null</tt> if caching is not enabled for the application context
+     */
+    static HierarchicalPropertiesEvaluatorCache lookup(ApplicationContext applicationContext) {
+        if (applicationContext instanceof ConfigurableApplicationContext) {
+            // only looks up the singleton, so the cache is not created while the customizers are evaluated
+            Object answer = ((ConfigurableApplicationContext) applicationContext).getBeanFactory().getSingleton(BEAN_NAME);
+            if (answer instanceof HierarchicalPropertiesEvaluatorCache) {
+                return (HierarchicalPropertiesEvaluatorCache) answer;
+            }
+        }
+        return null;
+    }
+
+    Boolean get(List<String> prefixes) {
+        Boolean answer = cache.get(prefixes);
+        if (answer != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return answer;
+    }
+
+    void put(List<String> prefixes, boolean value) {
+        cache.put(List.copyOf(prefixes), value);
+    }
+
+    /**
+     * Number of evaluations served from the cache.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of evaluations which had to bind the properties from the environment.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Number of cached prefix chains.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Clears the cache so the properties are evaluated again from the environment.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (event instanceof ContextRefreshedEvent || ENVIRONMENT_CHANGE_EVENTS.contains(event.getClass().getName())) {
+            clear();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.apache.camel.spring.boot.threadpool.AdaptiveThreadPoolExecutor;
+import org.apache.camel.spring.boot.threadpool.AdaptiveThreadPoolFactory;
+import org.apache.camel.spring.boot.threadpool.CamelThreadPoolAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+    classes = {
+        CamelAutoConfiguration.class,
+        CamelThreadPoolAutoConfiguration.class
+    },
+    properties = {
+        "camel.threadpool.config[adaptivePool].adaptive = true",
+        "camel.threadpool.config[adaptivePool].pool-size = 1",
+        "camel.threadpool.config[adaptivePool].max-pool-size = 3",
+        "camel.threadpool.config[adaptivePool].max-queue-size = -1",
+        "camel.threadpool.config[adaptivePool].adaptive-interval = 3600000",
+        "camel.threadpool.config[adaptivePool].adaptive-target-queue-wait = 10",
+        "camel.threadpool.config[discardPool].adaptive = true",
+        "camel.threadpool.config[discardPool].pool-size = 1",
+        "camel.threadpool.config[discardPool].max-pool-size = 1",
+        "camel.threadpool.config[discardPool].max-queue-size = 1",
+        "camel.threadpool.config[discardPool].rejected-policy = Discard"
+    }
+)
+public class AdaptiveThreadPoolTest {
+    @Autowired
+    private CamelContext context;
+
+    @Test
+    public void testAdaptiveThreadPool() throws Exception {
+        ExecutorServiceManager manager = context.getExecutorServiceManager();
+        Assertions.assertTrue(manager.getThreadPoolFactory() instanceof AdaptiveThreadPoolFactory);
+
+        ExecutorService executorService = manager.newThreadPool(this, "adaptive", "adaptivePool");
+        try {
+            Assertions.assertTrue(executorService instanceof AdaptiveThreadPoolExecutor);
+            AdaptiveThreadPoolExecutor executor = (AdaptiveThreadPoolExecutor) executorService;
+            Assertions.assertEquals(1, executor.getCorePoolSize());
+            Assertions.assertEquals(3, executor.getMaximumPoolSize());
+
+            // the tasks are blocked so they are waiting in the queue
+            CountDownLatch latch = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                futures.add(executor.submit(() -> {
+                    latch.await();
+                    return null;
+                }));
+            }
+            Thread.sleep(50);
+
+            // no more threads when the cpu is saturated
+            Assertions.assertEquals(1, executor.adjust(1.0));
+            Thread.sleep(50);
+            Assertions.assertEquals(2, executor.adjust(0.1));
+            Assertions.assertTrue(executor.getAverageQueueWait() > 10);
+            Thread.sleep(50);
+            Assertions.assertEquals(3, executor.adjust(0.1));
+            // bounded by the max pool size
+            Thread.sleep(50);
+            Assertions.assertEquals(3, executor.adjust(0.1));
+            Assertions.assertEquals(2, executor.getIncreaseCount());
+
+            latch.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+
+            // the last tasks waited in the queue until released
+            Assertions.assertEquals(3, executor.adjust(0.1));
+            // shrinks gradually to the pool size when idle
+            Assertions.assertEquals(2, executor.adjust(0.1));
+            Assertions.assertEquals(1, executor.adjust(0.1));
+            Assertions.assertEquals(0, executor.getArrivalRate());
+            Assertions.assertEquals(2, executor.getDecreaseCount());
+        } finally {
+            manager.shutdownNow(executorService);
+        }
+    }
+
+    @Test
+    public void testDiscardedTasks() throws Exception {
+        ExecutorServiceManager manager = context.getExecutorServiceManager();
+        ExecutorService executorService = manager.newThreadPool(this, "discard", "discardPool");
+        Assertions.assertTrue(executorService instanceof AdaptiveThreadPoolExecutor);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            // one task is running and one is waiting in the queue
+            Future<?> running = executorService.submit(() -> {
+                latch.await();
+                return null;
+            });
+            executorService.submit(() -> {
+            });
+
+            // the discarded task must not leave its future blocked forever
+            Future<?> discarded = executorService.submit(() -> null);
+            ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                    () -> discarded.get(5, TimeUnit.SECONDS));
+            Assertions.assertTrue(e.getCause() instanceof RejectedExecutionException);
+            Assertions.assertFalse(running.isDone());
+
+            // the tasks which never ran are returned as submitted and not as the internal wrappers
+            List<Runnable> tasks = executorService.shutdownNow();
+            Assertions.assertEquals(1, tasks.size());
+            Assertions.assertTrue(tasks.get(0) instanceof Future);
+        } finally {
+            latch.countDown();
+            manager.shutdownNow(executorService);
+        }
+    }
+
+}
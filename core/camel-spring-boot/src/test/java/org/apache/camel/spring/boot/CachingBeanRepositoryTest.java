@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import org.apache.camel.spring.spi.ApplicationContextBeanRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.support.GenericApplicationContext;
+
+public class CachingBeanRepositoryTest {
+
+    @Test
+    public void testCache() {
+        try (GenericApplicationContext applicationContext = new GenericApplicationContext()) {
+            applicationContext.registerBean("mySingleton", MyBean.class);
+            applicationContext.registerBean("myPrototype", MyBean.class,
+                    bd -> bd.setScope(BeanDefinition.SCOPE_PROTOTYPE));
+            applicationContext.registerBean("myLazy", MyBean.class, bd -> bd.setLazyInit(true));
+            CachingBeanRepository repository = createRepository(applicationContext);
+            applicationContext.refresh();
+
+            MyBean singleton = repository.lookupByNameAndType("mySingleton", MyBean.class);
+            Assertions.assertSame(singleton, repository.lookupByNameAndType("mySingleton", MyBean.class));
+            Assertions.assertEquals(1, repository.getHits());
+            Assertions.assertEquals(1, repository.getMisses());
+
+            // creating a lazy singleton does not evict the cached beans
+            applicationContext.getBean("myLazy");
+            Assertions.assertSame(singleton, repository.lookupByNameAndType("mySingleton", MyBean.class));
+            Assertions.assertEquals(2, repository.getHits());
+
+            // prototypes are not cached
+            MyBean prototype = repository.lookupByNameAndType("myPrototype", MyBean.class);
+            Assertions.assertNotSame(prototype, repository.lookupByNameAndType("myPrototype", MyBean.class));
+            Assertions.assertEquals(2, repository.getHits());
+            Assertions.assertEquals(3, repository.getMisses());
+
+            // the prototype is included by type, so these are not cached either
+            Assertions.assertEquals(3, repository.findByType(MyBean.class).size());
+            Assertions.assertEquals(3, repository.findByType(MyBean.class).size());
+            Assertions.assertEquals(5, repository.getMisses());
+
+            Assertions.assertNull(repository.lookupByName("myOther"));
+            Assertions.assertNull(repository.lookupByName("myOther"));
+            Assertions.assertEquals(3, repository.getHits());
+
+            // a bean which was not found is looked up again when registered
+            MyBean other = new MyBean();
+            applicationContext.getBeanFactory().registerSingleton("myOther", other);
+            Assertions.assertSame(other, repository.lookupByName("myOther"));
+            Assertions.assertEquals(3, repository.getHits());
+
+            // and again when destroyed
+            applicationContext.getBeanFactory().destroySingleton("myOther");
+            Assertions.assertNull(repository.lookupByName("myOther"));
+            Assertions.assertEquals(3, repository.getHits());
+        }
+    }
+
+    @Test
+    public void testReplacedBean() {
+        try (GenericApplicationContext applicationContext = new GenericApplicationContext()) {
+            applicationContext.registerBean("mySingleton", MyBean.class);
+            CachingBeanRepository repository = createRepository(applicationContext);
+            applicationContext.refresh();
+
+            MyBean bean = new MyBean();
+            applicationContext.getBeanFactory().registerSingleton("myBean", bean);
+            Assertions.assertSame(bean, repository.lookupByName("myBean"));
+            Assertions.assertSame(bean, repository.findByTypeWithName(MyBean.class).get("myBean"));
+
+            // replacing a singleton with another one keeps the number of singletons the same
+            MyBean other = new MyBean();
+            applicationContext.getBeanFactory().destroySingleton("myBean");
+            applicationContext.getBeanFactory().registerSingleton("myBean", other);
+            Assertions.assertSame(other, repository.lookupByName("myBean"));
+            Assertions.assertSame(other, repository.findByTypeWithName(MyBean.class).get("myBean"));
+
+            // overriding a bean definition keeps the number of bean definitions the same
+            MyBean singleton = repository.lookupByNameAndType("mySingleton", MyBean.class);
+            Assertions.assertSame(singleton, repository.lookupByNameAndType("mySingleton", MyBean.class));
+            applicationContext.registerBean("mySingleton", MyBean.class);
+            Assertions.assertNotSame(singleton, repository.lookupByNameAndType("mySingleton", MyBean.class));
+
+            // a bean which was not found is found once registered in place of another bean
+            Assertions.assertNull(repository.lookupByName("myNew"));
+            applicationContext.getBeanFactory().destroySingleton("myBean");
+            applicationContext.getBeanFactory().registerSingleton("myNew", bean);
+            Assertions.assertSame(bean, repository.lookupByName("myNew"));
+        }
+    }
+
+    private static CachingBeanRepository createRepository(GenericApplicationContext applicationContext) {
+        // added before the beans are created, so the repository is told when they are destroyed
+        CachingBeanRepository repository = new CachingBeanRepository(
+                new ApplicationContextBeanRepository(applicationContext), applicationContext.getBeanFactory());
+        applicationContext.getBeanFactory().addBeanPostProcessor(repository);
+        return repository;
+    }
+
+    public static class MyBean {
+    }
+
+}
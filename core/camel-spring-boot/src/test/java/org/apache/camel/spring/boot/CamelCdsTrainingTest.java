@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.support.GenericApplicationContext;
+
+public class CamelCdsTrainingTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void testTraining() throws Exception {
+        File classList = new File(tempDir, "app.classlist");
+        AtomicInteger exitCode = new AtomicInteger(-1);
+
+        try (DefaultCamelContext camelContext = new DefaultCamelContext()) {
+            camelContext.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:start").to("mock:result");
+                    from("direct:fail").throwException(new IllegalArgumentException("Forced"));
+                }
+            });
+            camelContext.start();
+            MockEndpoint mock = camelContext.getEndpoint("mock:result", MockEndpoint.class);
+            mock.expectedMessageCount(1);
+
+            GenericApplicationContext applicationContext = new GenericApplicationContext();
+            applicationContext.refresh();
+
+            CamelCdsTraining training = new CamelCdsTraining(applicationContext, camelContext, true, classList.getPath());
+            training.setExitHandler(exitCode::set);
+            training.run();
+
+            mock.assertIsSatisfied();
+            Assertions.assertFalse(applicationContext.isActive());
+        }
+
+        Assertions.assertEquals(0, exitCode.get());
+        List<String> classes = Files.readAllLines(classList.toPath());
+        Assertions.assertTrue(classes.contains("java/lang/Object"));
+        Assertions.assertTrue(classes.contains("org/apache/camel/impl/DefaultCamelContext"));
+    }
+
+}
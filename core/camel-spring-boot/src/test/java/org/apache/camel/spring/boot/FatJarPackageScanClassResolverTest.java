@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FatJarPackageScanClassResolverTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void testNestedJarsWithoutIndex() throws Exception {
+        File fatJar = createFatJar(false);
+
+        FatJarPackageScanClassResolver resolver = new FatJarPackageScanClassResolver();
+        List<String> entries = resolver.doLoadJarClassEntries(new FileInputStream(fatJar), fatJar.getPath());
+
+        Assertions.assertTrue(entries.contains("com/foo/MyApp.class"));
+        Assertions.assertTrue(entries.contains("org/bar/Bar.class"));
+        Assertions.assertTrue(entries.contains("org/baz/Baz.class"));
+        Assertions.assertEquals(0, resolver.getScanIndexHits());
+        Assertions.assertEquals(2, resolver.getFullScans());
+    }
+
+    @Test
+    public void testNestedJarsWithIndex() throws Exception {
+        File fatJar = createFatJar(true);
+
+        FatJarPackageScanClassResolver resolver = new FatJarPackageScanClassResolver();
+        List<String> entries = resolver.doLoadJarClassEntries(new FileInputStream(fatJar), fatJar.getPath());
+
+        Assertions.assertTrue(entries.contains("com/foo/MyApp.class"));
+        Assertions.assertTrue(entries.contains("org/bar/Bar.class"));
+        Assertions.assertTrue(entries.contains("org/baz/Baz.class"));
+        // bar is indexed, baz is not
+        Assertions.assertEquals(1, resolver.getScanIndexHits());
+        Assertions.assertEquals(1, resolver.getFullScans());
+    }
+
+    @Test
+    public void testIndexDisabled() throws Exception {
+        File fatJar = createFatJar(true);
+
+        FatJarPackageScanClassResolver resolver = new FatJarPackageScanClassResolver();
+        resolver.setScanIndexEnabled(false);
+        List<String> entries = resolver.doLoadJarClassEntries(new FileInputStream(fatJar), fatJar.getPath());
+
+        Assertions.assertTrue(entries.contains("org/bar/Bar.class"));
+        Assertions.assertEquals(0, resolver.getScanIndexHits());
+        Assertions.assertEquals(2, resolver.getFullScans());
+    }
+
+    @Test
+    public void testCentralDirectoryScanner() throws Exception {
+        File fatJar = createFatJar(false);
+
+        FatJarCentralDirectoryScanner scanner = new FatJarCentralDirectoryScanner();
+        FatJarPackageScanClassResolver resolver = new FatJarPackageScanClassResolver();
+        resolver.setCentralDirectoryScanner(scanner);
+        List<String> entries = resolver.doLoadJarClassEntries(new FileInputStream(fatJar), fatJar.getPath());
+
+        Assertions.assertTrue(entries.contains("com/foo/MyApp.class"));
+        Assertions.assertTrue(entries.contains("org/bar/Bar.class"));
+        Assertions.assertTrue(entries.contains("org/baz/Baz.class"));
+        // the nested jars are not streamed
+        Assertions.assertEquals(0, resolver.getFullScans());
+
+        FatJarPackageScanResourceResolver resourceResolver = new FatJarPackageScanResourceResolver();
+        resourceResolver.setCentralDirectoryScanner(scanner);
+        List<String> resources = resourceResolver.doLoadImplementationsInJar("camel", new FileInputStream(fatJar), fatJar.getPath());
+        Assertions.assertEquals(List.of("camel/bar.xml", "camel/my-route.xml"), resources);
+    }
+
+    private File createFatJar(boolean index) throws IOException {
+        File file = new File(tempDir, "app.jar");
+        try (JarOutputStream jos = new JarOutputStream(new FileOutputStream(file))) {
+            addEntry(jos, "BOOT-INF/classes/com/foo/MyApp.class", new byte[] { 1 });
+            addEntry(jos, "BOOT-INF/classes/camel/my-route.xml", new byte[] { 1 });
+            if (index) {
+                String text = "# generated\n@bar-1.0.jar\norg/bar/Bar.class\n";
+                addEntry(jos, "BOOT-INF/classes/" + FatJarScanIndex.SCAN_INDEX, text.getBytes(StandardCharsets.UTF_8));
+            }
+            addStoredEntry(jos, "BOOT-INF/lib/bar-1.0.jar", createJar("org/bar/Bar.class", "camel/bar.xml"));
+            addEntry(jos, "BOOT-INF/lib/baz-1.0.jar", createJar("org/baz/Baz.class"));
+        }
+        return file;
+    }
+
+    private static byte[] createJar(String... names) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (JarOutputStream jos = new JarOutputStream(bos)) {
+            for (String name : names) {
+                addEntry(jos, name, new byte[] { 1 });
+            }
+        }
+        return bos.toByteArray();
+    }
+
+    private static void addStoredEntry(JarOutputStream jos, String name, byte[] data) throws IOException {
+        // nested jars are stored uncompressed by the spring-boot repackager
+        JarEntry entry = new JarEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(data.length);
+        entry.setCompressedSize(data.length);
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        entry.setCrc(crc.getValue());
+        jos.putNextEntry(entry);
+        jos.write(data);
+        jos.closeEntry();
+    }
+
+    private static void addEntry(JarOutputStream jos, String name, byte[] data) throws IOException {
+        jos.putNextEntry(new JarEntry(name));
+        jos.write(data);
+        jos.closeEntry();
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.support.GenericApplicationContext;
+
+import static org.awaitility.Awaitility.await;
+
+public class FilePropertySourceTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void testReload() throws Exception {
+        File foo = writeFile("foo.properties", "foo=123\nbar=456\n");
+        List<FilePropertySource.FilePropertySourceChangedEvent> events = new CopyOnWriteArrayList<>();
+
+        try (GenericApplicationContext context = createContext(events)) {
+            FilePropertySource source = new FilePropertySource("test", context, "file:" + tempDir.getPath() + "/*.properties");
+            Assertions.assertFalse(source.isWatching());
+            Assertions.assertEquals("123", source.getProperty("foo"));
+            Assertions.assertEquals("456", source.getProperty("bar"));
+
+            // nothing has changed
+            Assertions.assertTrue(source.reload().isEmpty());
+            Assertions.assertTrue(events.isEmpty());
+
+            writeFile("foo.properties", "foo=789\n");
+            foo.setLastModified(foo.lastModified() + 2000);
+            writeFile("baz.properties", "baz=abc\n");
+
+            Assertions.assertEquals(Set.of("foo", "bar", "baz"), source.reload());
+            Assertions.assertEquals("789", source.getProperty("foo"));
+            Assertions.assertNull(source.getProperty("bar"));
+            Assertions.assertEquals("abc", source.getProperty("baz"));
+            Assertions.assertEquals(1, events.size());
+            Assertions.assertSame(source, events.get(0).getSource());
+            Assertions.assertEquals(Set.of("foo", "bar", "baz"), events.get(0).getChangedProperties());
+        }
+    }
+
+    @Test
+    public void testWatch() throws Exception {
+        writeFile("foo.properties", "foo=123\n");
+        List<FilePropertySource.FilePropertySourceChangedEvent> events = new CopyOnWriteArrayList<>();
+
+        try (GenericApplicationContext context = createContext(events);
+             FilePropertySource source = new FilePropertySource("test", context, "file:" + tempDir.getPath() + "/*.properties", true)) {
+            Assertions.assertTrue(source.isWatching());
+            Assertions.assertEquals("123", source.getProperty("foo"));
+
+            writeFile("bar.properties", "bar=456\n");
+
+            await().atMost(20, TimeUnit.SECONDS).untilAsserted(() -> Assertions.assertEquals("456", source.getProperty("bar")));
+            Assertions.assertEquals("123", source.getProperty("foo"));
+            Assertions.assertFalse(events.isEmpty());
+        }
+    }
+
+    private File writeFile(String name, String content) throws Exception {
+        File file = new File(tempDir, name);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.ISO_8859_1));
+        return file;
+    }
+
+    private static GenericApplicationContext createContext(List<FilePropertySource.FilePropertySourceChangedEvent> events) {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.addApplicationListener((ApplicationEvent event) -> {
+            if (event instanceof FilePropertySource.FilePropertySourceChangedEvent) {
+                events.add((FilePropertySource.FilePropertySourceChangedEvent) event);
+            }
+        });
+        context.refresh();
+        return context;
+    }
+
+}
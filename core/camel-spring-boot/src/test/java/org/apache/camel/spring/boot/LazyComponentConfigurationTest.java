@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+    classes = {
+        CamelAutoConfiguration.class,
+        LazyComponentConfigurationTest.TestConfiguration.class
+    },
+    properties = {
+        "camel.springboot.routes-include-pattern = false",
+        "camel.component.my-unused.greeting = Hello"
+    }
+)
+public class LazyComponentConfigurationTest {
+
+    private static final String BEAN_NAME = "camel.component.my-unused-" + MyUnusedComponentConfiguration.class.getName();
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Autowired
+    private LazyComponentConfigurationPostProcessor postProcessor;
+
+    @Test
+    public void testLazyConfiguration() {
+        Assertions.assertTrue(applicationContext.getBeanFactory().getBeanDefinition(BEAN_NAME).isLazyInit());
+        Assertions.assertFalse(applicationContext.getBeanFactory().containsSingleton(BEAN_NAME));
+
+        Assertions.assertTrue(postProcessor.getComponents().contains("my-unused"));
+        Assertions.assertTrue(postProcessor.getUnusedComponents().contains("my-unused"));
+        Assertions.assertTrue(postProcessor.getConfiguredUnusedComponents().contains("my-unused"));
+
+        // bound when used
+        MyUnusedComponentConfiguration configuration = applicationContext.getBean(MyUnusedComponentConfiguration.class);
+        Assertions.assertEquals("Hello", configuration.getGreeting());
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(MyUnusedComponentConfiguration.class)
+    public static class TestConfiguration {
+    }
+
+    @ConfigurationProperties(prefix = "camel.component.my-unused")
+    public static class MyUnusedComponentConfiguration extends ComponentConfigurationPropertiesCommon {
+
+        private String greeting;
+
+        public String getGreeting() {
+            return greeting;
+        }
+
+        public void setGreeting(String greeting) {
+            this.greeting = greeting;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpointProperties;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.awaitility.Awaitility.await;
+
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+    classes = {
+        CamelAutoConfiguration.class,
+        LazyRouteActivatorTest.TestConfiguration.class
+    },
+    properties = {
+        "camel.springboot.routes-include-pattern = false",
+        "camel.springboot.routes-lazy-activation-enabled = true",
+        "camel.springboot.routes-lazy-activation-idle-seconds = 1"
+    }
+)
+public class LazyRouteActivatorTest {
+
+    @Autowired
+    private CamelContext context;
+
+    @Autowired
+    private ProducerTemplate template;
+
+    @Test
+    public void testActivation() throws Exception {
+        LazyRouteActivator activator = context.hasService(LazyRouteActivator.class);
+        Assertions.assertNotNull(activator);
+        Assertions.assertEquals(1, activator.getLazyRoutes().size());
+
+        Assertions.assertEquals(ServiceStatus.Stopped, context.getRouteController().getRouteStatus("lazy"));
+        Assertions.assertEquals(ServiceStatus.Started, context.getRouteController().getRouteStatus("eager"));
+        Assertions.assertEquals(ServiceStatus.Started, context.getRouteController().getRouteStatus("explicit"));
+        Assertions.assertEquals("Dormant", activator.getActivationState("lazy"));
+        Assertions.assertNull(activator.getActivationState("eager"));
+
+        CamelRoutesEndpoint endpoint = new CamelRoutesEndpoint(context, new CamelRoutesEndpointProperties());
+        CamelRoutesEndpoint.RouteEndpointInfo info = (CamelRoutesEndpoint.RouteEndpointInfo) endpoint.doReadAction("lazy",
+                CamelRoutesEndpoint.ReadAction.INFO);
+        Assertions.assertEquals("Dormant", info.getActivation());
+
+        Assertions.assertEquals("Hello World", template.requestBody("direct:lazy?timeout=5000", "World"));
+        Assertions.assertEquals(ServiceStatus.Started, context.getRouteController().getRouteStatus("lazy"));
+        Assertions.assertEquals("Active", activator.getActivationState("lazy"));
+
+        // the route is deactivated again when idle
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            Assertions.assertEquals("Dormant", activator.getActivationState("lazy"));
+            Assertions.assertEquals(ServiceStatus.Stopped, context.getRouteController().getRouteStatus("lazy"));
+        });
+
+        Assertions.assertEquals("Hello Camel", template.requestBody("direct:lazy", "Camel"));
+    }
+
+    @Test
+    public void testSendWhileDeactivating() throws Exception {
+        // sends around the time the route is deactivated, where the route is activated again if an exchange is sent
+        // while it is stopping, so the sender does not wait for the timeout of the direct endpoint
+        for (int i = 0; i < 4; i++) {
+            Thread.sleep(950 + i * 50);
+            Assertions.assertEquals("Hello " + i, template.requestBody("direct:lazy?timeout=2000", String.valueOf(i)));
+        }
+    }
+
+    @Test
+    public void testEndpointKey() {
+        Assertions.assertEquals("direct:foo", LazyRouteActivator.endpointKey("direct:foo"));
+        Assertions.assertEquals("direct:foo", LazyRouteActivator.endpointKey("direct://foo?timeout=5000"));
+        Assertions.assertEquals("seda:bar", LazyRouteActivator.endpointKey("seda:bar?concurrentConsumers=5"));
+    }
+
+    // *************************************
+    // Config
+    // *************************************
+
+    @Configuration
+    public static class TestConfiguration {
+
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:lazy").id("lazy")
+                        .transform(simple("Hello ${body}"));
+                    from("timer:eager?period=5000").id("eager")
+                        .to("mock:eager");
+                    from("seda:explicit").id("explicit").autoStartup(true)
+                        .to("mock:explicit");
+                }
+            };
+        }
+    }
+}
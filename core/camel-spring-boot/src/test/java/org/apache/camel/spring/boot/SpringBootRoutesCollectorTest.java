@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.LambdaRouteBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.model.ModelCamelContext;
+import org.apache.camel.spi.ResourceAware;
+import org.apache.camel.support.ResourceHelper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.support.GenericApplicationContext;
+
+public class SpringBootRoutesCollectorTest {
+
+    @Test
+    public void testCollectRoutes() throws Exception {
+        MyRoute singleton = new MyRoute();
+
+        try (GenericApplicationContext applicationContext = new GenericApplicationContext();
+             DefaultCamelContext camelContext = new DefaultCamelContext()) {
+            applicationContext.registerBean("myRoute", MyRoute.class);
+            applicationContext.registerBean("myLambdaRoute", LambdaRouteBuilder.class,
+                    () -> rb -> rb.from("direct:lambda").to("mock:lambda"));
+            applicationContext.registerBean("myString", String.class, () -> "foo");
+            applicationContext.refresh();
+            applicationContext.getBeanFactory().registerSingleton("mySingletonRoute", singleton);
+
+            SpringBootRoutesCollector collector = new SpringBootRoutesCollector(applicationContext);
+            List<RoutesBuilder> routes = collector.collectRoutesFromRegistry(camelContext, null, null);
+
+            // the lambda route builder is wrapped in a route builder
+            Assertions.assertEquals(3, routes.size());
+            Assertions.assertTrue(routes.contains(applicationContext.getBean("myRoute")));
+            Assertions.assertTrue(routes.contains(singleton));
+        }
+    }
+
+    @Test
+    public void testParallelLoading() throws Exception {
+        try (GenericApplicationContext applicationContext = new GenericApplicationContext();
+             DefaultCamelContext camelContext = new DefaultCamelContext()) {
+            applicationContext.refresh();
+
+            SpringBootRoutesCollector collector = new SpringBootRoutesCollector(applicationContext);
+            collector.setParallelLoading(true);
+            collector.setParallelLoadingPoolSize(2);
+            Collection<RoutesBuilder> routes = collector.collectRoutesFromDirectory(camelContext, null, "classpath:routes/*.xml");
+            Assertions.assertEquals(2, routes.size());
+
+            // the routes are parsed before they are added to camel
+            List<String> ids = new ArrayList<>();
+            for (RoutesBuilder builder : routes) {
+                RouteBuilder routeBuilder = (RouteBuilder) builder;
+                Assertions.assertEquals(1, routeBuilder.getRouteCollection().getRoutes().size());
+                ids.add(routeBuilder.getRouteCollection().getRoutes().get(0).getRouteId());
+            }
+
+            for (RoutesBuilder builder : routes) {
+                camelContext.addRoutes(builder);
+            }
+            List<String> added = new ArrayList<>();
+            camelContext.adapt(ModelCamelContext.class).getRouteDefinitions().forEach(r -> added.add(r.getRouteId()));
+            Assertions.assertEquals(ids, added);
+        }
+    }
+
+    @Test
+    public void testParallelLoadingStartupSteps() throws Exception {
+        try (GenericApplicationContext applicationContext = new GenericApplicationContext();
+             DefaultCamelContext camelContext = new DefaultCamelContext()) {
+            applicationContext.refresh();
+            SpringStartupStepRecorder recorder = new SpringStartupStepRecorder(new BufferingApplicationStartup(100));
+            camelContext.adapt(ExtendedCamelContext.class).setStartupStepRecorder(recorder);
+
+            SpringBootRoutesCollector collector = new SpringBootRoutesCollector(applicationContext);
+            collector.setParallelLoading(true);
+            collector.setParallelLoadingPoolSize(2);
+            Collection<RoutesBuilder> routes = collector.collectRoutesFromDirectory(camelContext, null, "classpath:routes/*.xml");
+
+            // a step for each file, in the same order as the files
+            List<String> files = new ArrayList<>();
+            for (RoutesBuilder builder : routes) {
+                files.add(((ResourceAware) builder).getResource().getLocation());
+            }
+            List<String> steps = new ArrayList<>();
+            for (SpringStartupStepRecorder.SpringStartupStep step : recorder.getSteps()) {
+                if ("Parse Routes".equals(step.getDescription())) {
+                    Assertions.assertTrue(step.getDuration() >= 0);
+                    steps.add(step.getName());
+                }
+            }
+            Assertions.assertEquals(files, steps);
+        }
+    }
+
+    @Test
+    public void testParallelOnlyWithoutBeans() throws Exception {
+        Assertions.assertTrue(SpringBootRoutesCollector.isParallel(routesOf("mem:routes.xml",
+                "<routes><route><from uri=\"direct:a\"/><to uri=\"mock:a\"/></route></routes>")));
+        Assertions.assertTrue(SpringBootRoutesCollector.isParallel(routesOf("mem:routes.yaml",
+                "- from:\n    uri: direct:a\n    steps:\n      - to: mock:a\n")));
+
+        // the beans are bound into the registry when the routes are parsed
+        Assertions.assertFalse(SpringBootRoutesCollector.isParallel(routesOf("mem:beans.xml",
+                "<camel><bean name=\"myBean\" type=\"com.foo.MyBean\"/></camel>")));
+        Assertions.assertFalse(SpringBootRoutesCollector.isParallel(routesOf("mem:beans.yaml",
+                "- beans:\n    - name: myBean\n      type: com.foo.MyBean\n")));
+        // only xml and yaml routes
+        Assertions.assertFalse(SpringBootRoutesCollector.isParallel(routesOf("mem:MyRoute.java", "")));
+        Assertions.assertFalse(SpringBootRoutesCollector.isParallel(new MyRoute()));
+    }
+
+    private static RouteBuilder routesOf(String location, String content) {
+        MyRoute builder = new MyRoute();
+        builder.setResource(ResourceHelper.fromString(location, content));
+        return builder;
+    }
+
+    public static class MyRoute extends RouteBuilder {
+        @Override
+        public void configure() throws Exception {
+            from("direct:start").to("mock:result");
+        }
+    }
+
+}
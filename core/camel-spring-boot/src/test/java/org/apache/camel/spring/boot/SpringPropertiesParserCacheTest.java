@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.env.RandomValuePropertySource;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class SpringPropertiesParserCacheTest {
+
+    @Test
+    public void testCache() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("foo", "123");
+
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+
+        SpringPropertiesParser parser = new SpringPropertiesParser();
+        ReflectionTestUtils.setField(parser, "env", environment);
+        parser.setCacheEnabled(true);
+
+        Assertions.assertEquals("123", parser.parseProperty("foo", null, null));
+        Assertions.assertEquals("123", parser.parseProperty("foo", null, null));
+        Assertions.assertNull(parser.parseProperty("bar", null, null));
+        Assertions.assertNull(parser.parseProperty("bar", null, null));
+        Assertions.assertEquals(2, parser.getCacheSize());
+        Assertions.assertEquals(2, parser.getCacheHits());
+        Assertions.assertEquals(2, parser.getCacheMisses());
+        Assertions.assertEquals(0.5, parser.getCacheHitRate());
+
+        // the cached value is used until the cache is refreshed
+        properties.put("foo", "456");
+        Assertions.assertEquals("123", parser.parseProperty("foo", null, null));
+        parser.refresh();
+        Assertions.assertEquals("456", parser.parseProperty("foo", null, null));
+
+        // adding a property source invalidates the cache
+        Map<String, Object> more = new HashMap<>();
+        more.put("bar", "789");
+        environment.getPropertySources().addFirst(new MapPropertySource("more", more));
+        Assertions.assertEquals("789", parser.parseProperty("bar", null, null));
+
+        // and so does removing it
+        environment.getPropertySources().remove("more");
+        Assertions.assertNull(parser.parseProperty("bar", null, null));
+    }
+
+    @Test
+    public void testRandomNotCached() {
+        StandardEnvironment environment = new StandardEnvironment();
+        RandomValuePropertySource.addToEnvironment(environment);
+
+        SpringPropertiesParser parser = new SpringPropertiesParser();
+        ReflectionTestUtils.setField(parser, "env", environment);
+        parser.setCacheEnabled(true);
+
+        Assertions.assertNotEquals(parser.parseProperty("random.uuid", null, null), parser.parseProperty("random.uuid", null, null));
+        Assertions.assertEquals(0, parser.getCacheSize());
+    }
+
+    @Test
+    public void testCacheDisabled() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("foo", "123");
+
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+
+        SpringPropertiesParser parser = new SpringPropertiesParser();
+        ReflectionTestUtils.setField(parser, "env", environment);
+
+        Assertions.assertEquals("123", parser.parseProperty("foo", null, null));
+        properties.put("foo", "456");
+        Assertions.assertEquals("456", parser.parseProperty("foo", null, null));
+        Assertions.assertEquals(0, parser.getCacheSize());
+    }
+
+}
@@ -20,6 +20,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.TypeConverterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -50,6 +52,13 @@ public class SpringTypeConverterTest {
     @Qualifier("camelSpringTypeConverter")
     SpringTypeConverter converter;
 
+    @Autowired
+    @Qualifier("springTypeConverter")
+    SpringTypeConverter springTypeConverter;
+
+    @Autowired
+    CamelContext camelContext;
+
     @Test
     public void testConversionService() {
         Collection<?> source = Arrays.asList(new Person("Name", 30));
@@ -71,6 +80,84 @@ public class SpringTypeConverterTest {
         Assertions.assertNull(converter.convertTo(String.class, source));
     }
 
+    @Test
+    public void testDecisionCache() {
+        SpringTypeConverter converter = new SpringTypeConverter(Arrays.asList(conversionService));
+        converter.setStatisticsEnabled(true);
+
+        Assertions.assertEquals(Integer.valueOf(123), converter.convertTo(Integer.class, "123"));
+        Assertions.assertEquals(Integer.valueOf(456), converter.convertTo(Integer.class, "456"));
+        // camel types are skipped
+        Assertions.assertNull(converter.convertTo(org.apache.camel.Exchange.class, "foo"));
+        Assertions.assertNull(converter.convertTo(org.apache.camel.Exchange.class, "bar"));
+        // no converter
+        Assertions.assertNull(converter.convertTo(Person.class, 123));
+        Assertions.assertNull(converter.convertTo(Person.class, 456));
+
+        Assertions.assertEquals(3, converter.getDecisionCacheMisses());
+        Assertions.assertEquals(3, converter.getDecisionCacheHits());
+        Assertions.assertEquals(3, converter.getDecisionCacheSize());
+        Assertions.assertEquals(6, converter.getStatistics().getAttemptCounter());
+        Assertions.assertEquals(2, converter.getStatistics().getNoopCounter());
+        Assertions.assertEquals(0, converter.getStatistics().getFailedCounter());
+
+        // the decisions which have not been used recently are evicted when the cache is full
+        converter.setMaxDecisionCacheSize(3);
+        Assertions.assertEquals(Long.valueOf(123), converter.convertTo(Long.class, "123"));
+        Assertions.assertEquals(3, converter.getDecisionCacheSize());
+        Assertions.assertEquals(Long.valueOf(456), converter.convertTo(Long.class, "456"));
+        Assertions.assertEquals(4, converter.getDecisionCacheMisses());
+        Assertions.assertEquals(Integer.valueOf(789), converter.convertTo(Integer.class, "789"));
+        Assertions.assertEquals(5, converter.getDecisionCacheMisses());
+        Assertions.assertEquals(3, converter.getDecisionCacheSize());
+
+        converter.resetStatistics();
+        Assertions.assertEquals(0, converter.getDecisionCacheMisses());
+        Assertions.assertEquals(0, converter.getDecisionCacheHits());
+    }
+
+    @Test
+    public void testRegistryStatistics() {
+        TypeConverterRegistry.Statistics registryStatistics = new SpringTypeConverter(Arrays.asList(conversionService)).getStatistics();
+        SpringTypeConverter converter = new SpringTypeConverter(Arrays.asList(conversionService));
+        converter.setRegistryStatistics(registryStatistics);
+
+        Assertions.assertEquals(Integer.valueOf(123), converter.convertTo(Integer.class, "123"));
+        Assertions.assertEquals(0, converter.getStatistics().getAttemptCounter());
+
+        // the statistics follow the registry statistics when they are enabled at runtime
+        registryStatistics.setStatisticsEnabled(true);
+        Assertions.assertEquals(Integer.valueOf(456), converter.convertTo(Integer.class, "456"));
+        Assertions.assertEquals(1, converter.getStatistics().getHitCounter());
+        Assertions.assertTrue(converter.isStatisticsEnabled());
+
+        converter.getStatistics().reset();
+        Assertions.assertEquals(0, converter.getDecisionCacheHits());
+    }
+
+    @Test
+    public void testTypeConverterRegistryStatistics() {
+        TypeConverterRegistry registry = camelContext.getTypeConverterRegistry();
+        Assertions.assertTrue(registry instanceof SpringBootTypeConverterRegistry);
+        SpringBootTypeConverterRegistry springBootRegistry = (SpringBootTypeConverterRegistry) registry;
+        Assertions.assertSame(springTypeConverter, springBootRegistry.getSpringTypeConverter());
+
+        registry.getStatistics().setStatisticsEnabled(true);
+        try {
+            registry.getStatistics().reset();
+            Assertions.assertEquals(Integer.valueOf(123), springTypeConverter.convertTo(Integer.class, "123"));
+            Assertions.assertEquals(Integer.valueOf(456), springTypeConverter.convertTo(Integer.class, "456"));
+            Assertions.assertEquals(1, springBootRegistry.getSpringDecisionCacheMisses());
+            Assertions.assertEquals(1, springBootRegistry.getSpringDecisionCacheHits());
+            Assertions.assertTrue(registry.getStatistics().toString().contains("SpringTypeConverter decision cache"));
+
+            registry.getStatistics().reset();
+            Assertions.assertEquals(0, springBootRegistry.getSpringDecisionCacheHits());
+        } finally {
+            registry.getStatistics().setStatisticsEnabled(false);
+        }
+    }
+
     public static class Person {
         private String name;
         private int age;
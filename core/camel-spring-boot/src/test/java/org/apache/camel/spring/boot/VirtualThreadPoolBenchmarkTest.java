@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.spring.boot.threadpool.VirtualThreadPoolFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the throughput of blocking tasks on a platform thread pool with a thread pool using virtual threads.
+ * <p/>
+ * Run on Java 21 or newer with <tt>mvn test -Dtest=VirtualThreadPoolBenchmarkTest -Dcamel.springboot.benchmark=true</tt>
+ */
+@EnabledIfSystemProperty(named = "camel.springboot.benchmark", matches = "true")
+public class VirtualThreadPoolBenchmarkTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPoolBenchmarkTest.class);
+
+    private static final int TASKS = 2000;
+    private static final long BLOCKING_MILLIS = 10;
+
+    @Test
+    public void testThroughput() throws Exception {
+        Assumptions.assumeTrue(VirtualThreadPoolFactory.isSupported(), "Virtual threads require Java 21 or newer");
+
+        try (CamelContext context = new DefaultCamelContext()) {
+            context.start();
+
+            VirtualThreadPoolFactory factory
+                    = new VirtualThreadPoolFactory(context.getExecutorServiceManager().getThreadPoolFactory());
+            factory.setVirtual("virtual", true);
+
+            // the default profile of camel which has 10 to 20 threads
+            ThreadPoolProfile defaultProfile = context.getExecutorServiceManager().getDefaultThreadPoolProfile();
+            ThreadPoolProfile platform = new ThreadPoolProfileBuilder("platform", defaultProfile).maxQueueSize(-1).build();
+            ThreadPoolProfile virtual = new ThreadPoolProfileBuilder("virtual", defaultProfile).build();
+
+            long platformTime = run(factory.newThreadPool(platform, Thread::new));
+            long virtualTime = run(factory.newThreadPool(virtual, Thread::new));
+
+            LOG.info("Ran {} tasks blocking {} ms: platform threads {} ms ({} tasks/s), virtual threads {} ms ({} tasks/s)",
+                    TASKS, BLOCKING_MILLIS,
+                    TimeUnit.NANOSECONDS.toMillis(platformTime), throughput(platformTime),
+                    TimeUnit.NANOSECONDS.toMillis(virtualTime), throughput(virtualTime));
+        }
+    }
+
+    private static long run(ExecutorService executor) throws Exception {
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>(TASKS);
+            for (int i = 0; i < TASKS; i++) {
+                futures.add(executor.submit(() -> {
+                    Thread.sleep(BLOCKING_MILLIS);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                Assertions.assertNull(future.get());
+            }
+            return System.nanoTime() - start;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long throughput(long nanos) {
+        return TASKS * TimeUnit.SECONDS.toNanos(1) / Math.max(nanos, 1);
+    }
+
+}
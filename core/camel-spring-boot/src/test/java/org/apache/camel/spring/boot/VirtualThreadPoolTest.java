@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.apache.camel.spring.boot.threadpool.CamelThreadPoolAutoConfiguration;
+import org.apache.camel.spring.boot.threadpool.VirtualThreadPoolFactory;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+    classes = {
+        CamelAutoConfiguration.class,
+        CamelThreadPoolAutoConfiguration.class
+    },
+    properties = {
+        "camel.threadpool.config[blockingPool].virtual = true",
+        "camel.threadpool.config[smallPool].pool-size = 2"
+    }
+)
+public class VirtualThreadPoolTest {
+    @Autowired
+    private CamelContext context;
+
+    @Test
+    public void testVirtualThreadPool() throws Exception {
+        ExecutorServiceManager manager = context.getExecutorServiceManager();
+        Assertions.assertTrue(manager.getThreadPoolFactory() instanceof VirtualThreadPoolFactory);
+        Assertions.assertNotNull(manager.getThreadPoolProfile("blockingPool"));
+
+        ExecutorService blocking = manager.newThreadPool(this, "blocking", "blockingPool");
+        ExecutorService small = manager.newThreadPool(this, "small", "smallPool");
+        try {
+            String name = blocking.submit(() -> Thread.currentThread().getName()).get();
+            if (VirtualThreadPoolFactory.isSupported()) {
+                Assertions.assertFalse(blocking instanceof ThreadPoolExecutor);
+                Assertions.assertTrue(name.startsWith("Camel VirtualThread blockingPool #"), name);
+            } else {
+                // falls back to a platform thread pool
+                Assertions.assertTrue(blocking instanceof ThreadPoolExecutor);
+            }
+
+            Assertions.assertTrue(small instanceof ThreadPoolExecutor);
+            Assertions.assertEquals(2, ((ThreadPoolExecutor) small).getCorePoolSize());
+        } finally {
+            manager.shutdownNow(blocking);
+            manager.shutdownNow(small);
+        }
+    }
+
+}
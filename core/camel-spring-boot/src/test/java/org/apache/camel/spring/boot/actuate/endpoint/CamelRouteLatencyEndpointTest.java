@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRouteLatencyEndpoint.RouteLatencyInfo;
+import org.apache.camel.spring.boot.latency.RouteLatencyRecorder;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+/*
+ * Test for the {@link CamelRouteLatencyEndpoint} actuator endpoint.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = {
+        CamelAutoConfiguration.class, CamelRouteLatencyEndpointAutoConfiguration.class,
+        CamelRouteLatencyEndpointTest.TestConfiguration.class },
+    properties = {
+        "management.endpoints.web.exposure.include=*",
+        "camel.springboot.route-latency-histograms-enabled=true",
+        "camel.springboot.route-latency-histograms-interval=500" })
+public class CamelRouteLatencyEndpointTest {
+
+    @Autowired
+    CamelRouteLatencyEndpoint endpoint;
+
+    @Autowired
+    RouteLatencyRecorder recorder;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    ProducerTemplate template;
+
+    @Test
+    public void testLatencies() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:fast", "Hello");
+            template.sendBody("direct:slow", "Hello");
+        }
+
+        RouteLatencyInfo fast = endpoint.readLatency("fast");
+        RouteLatencyInfo slow = endpoint.readLatency("slow");
+        Assertions.assertEquals(10, fast.getTotal().getCount());
+        Assertions.assertEquals(10, slow.getTotal().getCount());
+        Assertions.assertTrue(slow.getTotal().getP50() >= 20);
+        Assertions.assertTrue(slow.getTotal().getP99() >= slow.getTotal().getP50());
+        Assertions.assertTrue(fast.getTotal().getP50() < slow.getTotal().getP50());
+        Assertions.assertNull(endpoint.readLatency("unknown"));
+
+        List<RouteLatencyInfo> latencies = endpoint.readLatencies("s*");
+        Assertions.assertEquals(1, latencies.size());
+        Assertions.assertEquals("slow", latencies.get(0).getId());
+        Assertions.assertEquals(2, endpoint.readLatencies(null).size());
+
+        // the exchanges are included in the interval which has completed
+        Awaitility.await().untilAsserted(() -> {
+            RouteLatencyInfo info = endpoint.readLatency("fast");
+            Assertions.assertNotNull(info.getInterval());
+            Assertions.assertEquals(500, info.getIntervalMillis());
+        });
+    }
+
+    @Test
+    public void testRemoveRoute() throws Exception {
+        camelContext.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:removed").routeId("removed").to("mock:removed");
+            }
+        });
+        Assertions.assertNotNull(recorder.getRouteLatency("removed"));
+
+        camelContext.getRouteController().stopRoute("removed");
+        camelContext.removeRoute("removed");
+        Assertions.assertNull(recorder.getRouteLatency("removed"));
+    }
+
+    @Configuration
+    public static class TestConfiguration {
+
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:fast").routeId("fast").to("mock:fast");
+                    from("direct:slow").routeId("slow").delay(20).to("mock:slow");
+                }
+            };
+        }
+    }
+
+}
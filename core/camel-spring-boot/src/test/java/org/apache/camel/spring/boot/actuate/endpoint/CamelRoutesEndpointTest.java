@@ -17,20 +17,29 @@
 package org.apache.camel.spring.boot.actuate.endpoint;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.impl.DefaultCamelContext;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.ProcessorEndpointInfo;
 import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.ReadAction;
 import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.RouteDetailsEndpointInfo;
 import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.RouteEndpointInfo;
 import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.TimeInfo;
 import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.WriteAction;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.annotation.DirtiesContext;
 import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
 
@@ -66,6 +75,71 @@ public class CamelRoutesEndpointTest {
                 .anyMatch(r -> r.getProperties().containsKey("key2") && "val2".equals(r.getProperties().get("key2"))));
     }
 
+    @Test
+    public void testReadRoutesFiltered() throws Exception {
+        List<?> routes = endpoint.readRoutes(null, null, "foo-route-group", "started", "foo-*", null);
+        Assertions.assertEquals(1, routes.size());
+        Assertions.assertEquals("foo-route", ((RouteEndpointInfo) routes.get(0)).getId());
+
+        Assertions.assertTrue(endpoint.readRoutes(null, null, null, "stopped", "foo-*", null).isEmpty());
+        Assertions.assertTrue(endpoint.readRoutes(null, null, "bar-route-group", null, null, null).isEmpty());
+
+        // paging
+        int size = camelContext.getRoutes().size();
+        Assertions.assertEquals(size, endpoint.readRoutes(null, null, null, null, null, null).size());
+        Assertions.assertEquals(1, endpoint.readRoutes(0, 1, null, null, null, null).size());
+        Assertions.assertEquals(size - 1, endpoint.readRoutes(1, null, null, null, null, null).size());
+
+        // projection
+        routes = endpoint.readRoutes(null, null, null, null, "foo-route", "id,status");
+        Map<?, ?> route = (Map<?, ?>) routes.get(0);
+        Assertions.assertEquals(List.of("id", "status"), List.copyOf(route.keySet()));
+        Assertions.assertEquals("foo-route", route.get("id"));
+        Assertions.assertEquals("Started", route.get("status"));
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> endpoint.readRoutes(null, null, null, null, null, "id,unknown"));
+    }
+
+    @Test
+    public void testRoutesETag() throws Exception {
+        // the uptime which changes all the time is not part of the etag
+        String all = endpoint.getRoutesETag(null, null, null, null, null, null);
+        Assertions.assertNotNull(all);
+        Thread.sleep(1100);
+        Assertions.assertEquals(all, endpoint.getRoutesETag(null, null, null, null, null, null));
+        Assertions.assertNotNull(endpoint.getRoutesETag(null, null, null, null, null, "id,uptime"));
+
+        String etag = endpoint.getRoutesETag(null, null, null, null, null, "id,status");
+        Assertions.assertNotNull(etag);
+        Assertions.assertEquals(etag, endpoint.getRoutesETag(null, null, null, null, null, "id,status"));
+        Assertions.assertNotEquals(etag, endpoint.getRoutesETag(null, null, null, null, "foo-route", "id,status"));
+
+        CamelRoutesEndpointETagFilter filter = new CamelRoutesEndpointETagFilter(endpoint, "/actuator/camelroutes");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/camelroutes");
+        request.setParameter("fields", "id,status");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        Assertions.assertEquals(304, response.getStatus());
+        Assertions.assertEquals(etag, response.getHeader(HttpHeaders.ETAG));
+        Assertions.assertNull(chain.getRequest());
+
+        // the route status is part of the etag
+        camelContext.getRouteController().stopRoute("foo-route");
+        try {
+            response = new MockHttpServletResponse();
+            chain = new MockFilterChain();
+            filter.doFilter(request, response, chain);
+            Assertions.assertEquals(200, response.getStatus());
+            Assertions.assertNotEquals(etag, response.getHeader(HttpHeaders.ETAG));
+            Assertions.assertNotNull(chain.getRequest());
+        } finally {
+            camelContext.getRouteController().startRoute("foo-route");
+        }
+    }
+
     @Test
     public void testReadOperation() throws Exception {
         Object answer = endpoint.doReadAction("foo-route", ReadAction.INFO);
@@ -75,6 +149,38 @@ public class CamelRoutesEndpointTest {
         Assertions.assertEquals(RouteDetailsEndpointInfo.class, answer.getClass());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReadProcessors() throws Exception {
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            List<ProcessorEndpointInfo> processors
+                    = (List<ProcessorEndpointInfo>) endpoint.doReadAction("foo-*", ReadAction.PROCESSORS, "exchanges", null);
+            Assertions.assertFalse(processors.isEmpty());
+            Assertions.assertTrue(processors.get(0).getExchangesTotal() > 0);
+        });
+
+        List<ProcessorEndpointInfo> processors
+                = (List<ProcessorEndpointInfo>) endpoint.doReadAction("*", ReadAction.PROCESSORS, null, 1);
+        Assertions.assertEquals(1, processors.size());
+        Assertions.assertNotNull(processors.get(0).getRouteId());
+        Assertions.assertNotNull(processors.get(0).getId());
+
+        Assertions.assertTrue(((List<?>) endpoint.doReadAction("bar-*", ReadAction.PROCESSORS, null, null)).isEmpty());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> endpoint.doReadAction("*", ReadAction.PROCESSORS, "unknown", null));
+    }
+
+    @Test
+    public void testReadProcessorsWithoutJmx() throws Exception {
+        try (DefaultCamelContext context = new DefaultCamelContext()) {
+            context.disableJMX();
+            context.start();
+            CamelRoutesEndpoint withoutJmx = new CamelRoutesEndpoint(context, new CamelRoutesEndpointProperties());
+            Assertions.assertThrows(IllegalStateException.class,
+                    () -> withoutJmx.doReadAction("*", ReadAction.PROCESSORS, null, null));
+        }
+    }
+
     @Test
     public void testWriteOperationReadOnly() throws Exception {
         TimeInfo timeInfo = new TimeInfo();
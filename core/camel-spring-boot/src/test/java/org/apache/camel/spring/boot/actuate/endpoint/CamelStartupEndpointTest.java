@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.StartupStep;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.SpringStartupStepRecorder;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelStartupEndpoint.StartupEndpointInfo;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelStartupEndpoint.StartupStepInfo;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+/*
+ * Test for the {@link CamelStartupEndpoint} actuator endpoint.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(
+        classes = {CamelAutoConfiguration.class, CamelStartupEndpointAutoConfiguration.class, ActuatorTestRoute.class},
+        properties = {"management.endpoints.web.exposure.include=*",
+                      "camel.springboot.startupRecorder=spring"})
+public class CamelStartupEndpointTest {
+
+    @Autowired
+    CamelStartupEndpoint endpoint;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Test
+    public void testStartupEndpoint() throws Exception {
+        StartupEndpointInfo info = endpoint.readStartup(null);
+        Assertions.assertEquals("spring", info.getRecorder());
+        Assertions.assertFalse(info.getSteps().isEmpty());
+        Assertions.assertTrue(info.getSlowest().size() <= CamelStartupEndpoint.DEFAULT_TOP);
+
+        // the steps of the routes are nested in the steps of the camel context
+        Assertions.assertTrue(info.getSteps().stream().anyMatch(step -> step.getDepth() == 0));
+        Assertions.assertTrue(info.getSteps().stream().anyMatch(step -> step.getDepth() > 0));
+        Assertions.assertTrue(info.getSteps().stream().allMatch(step -> step.getDuration() >= 0));
+
+        List<StartupStepInfo> slowest = endpoint.readStartup(2).getSlowest();
+        Assertions.assertEquals(2, slowest.size());
+        Assertions.assertTrue(slowest.get(0).getDuration() >= slowest.get(1).getDuration());
+    }
+
+    @Test
+    public void testSpringApplicationStartup() throws Exception {
+        BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(100);
+        SpringStartupStepRecorder recorder = new SpringStartupStepRecorder(applicationStartup);
+
+        StartupStep parent = recorder.beginStep(CamelContext.class, "parent", "Parent step");
+        StartupStep child = recorder.beginStep(CamelContext.class, "child", "Child step");
+        recorder.endStep(child);
+        recorder.endStep(parent);
+
+        List<TimelineEvent> events = applicationStartup.getBufferedTimeline().getEvents().stream()
+                .filter(event -> SpringStartupStepRecorder.STEP_NAME.equals(event.getStartupStep().getName()))
+                .collect(Collectors.toList());
+        Assertions.assertEquals(2, events.size());
+
+        // the timeline is ordered by the end of the steps
+        org.springframework.core.metrics.StartupStep springChild = events.get(0).getStartupStep();
+        org.springframework.core.metrics.StartupStep springParent = events.get(1).getStartupStep();
+        Assertions.assertEquals(springParent.getId(), springChild.getParentId());
+
+        Assertions.assertEquals(2, recorder.getSteps().size());
+        Assertions.assertEquals("parent", recorder.getSteps().get(0).getName());
+        Assertions.assertEquals(1, recorder.getSteps().get(1).getLevel());
+    }
+
+}
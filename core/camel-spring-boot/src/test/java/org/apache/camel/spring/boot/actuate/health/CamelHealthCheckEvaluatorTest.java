@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.health.HealthCheck;
+import org.apache.camel.health.HealthCheckRegistry;
+import org.apache.camel.health.HealthCheckResultBuilder;
+import org.apache.camel.impl.health.AbstractHealthCheck;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.awaitility.Awaitility.await;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(
+    classes = {CamelAutoConfiguration.class, CamelHealthCheckAutoConfiguration.class, MyCamelRoute.class},
+    properties = {"camel.springboot.java-routes-include-pattern=**/MyCamelRoute*",
+                  "camel.health.evaluation-interval=60000",
+                  "camel.health.check-timeout=5000",
+                  "camel.health.parallelism=2"})
+public class CamelHealthCheckEvaluatorTest {
+
+    @Autowired
+    CamelHealthCheckIndicator indicator;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Test
+    public void shouldConfigureEvaluator() throws Exception {
+        CamelHealthCheckEvaluator evaluator = indicator.getEvaluator();
+        Assertions.assertEquals(60000, evaluator.getInterval());
+        Assertions.assertEquals(5000, evaluator.getCheckTimeout());
+        Assertions.assertEquals(2, evaluator.getParallelism());
+
+        Assertions.assertEquals(Status.UP, indicator.health().getStatus());
+        Assertions.assertTrue(evaluator.getAge() >= 0);
+    }
+
+    @Test
+    public void shouldEvaluateInBackgroundWithTimeout() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        HealthCheckRegistry registry = camelContext.getExtension(HealthCheckRegistry.class);
+        registry.register(new MyHealthCheck("fast", calls, 0));
+        registry.register(new MyHealthCheck("slow", calls, 10000));
+
+        CamelHealthCheckEvaluator evaluator
+                = new CamelHealthCheckEvaluator(camelContext, "test", check -> "test".equals(check.getGroup()));
+        evaluator.setInterval(60000);
+        evaluator.setCheckTimeout(200);
+        evaluator.setParallelism(2);
+        CamelHealthCheckIndicator testIndicator = new CamelHealthCheckIndicator(null, camelContext, evaluator);
+        try {
+            await().atMost(5, TimeUnit.SECONDS).until(() -> evaluator.getAge() >= 0);
+            Assertions.assertEquals(2, calls.get());
+
+            Collection<HealthCheck.Result> results = evaluator.getResults();
+            Assertions.assertEquals(2, results.size());
+            for (HealthCheck.Result result : results) {
+                if ("slow".equals(result.getCheck().getId())) {
+                    Assertions.assertEquals(HealthCheck.State.DOWN, result.getState());
+                    Assertions.assertTrue(result.getMessage().get().contains("timed out"));
+                } else {
+                    Assertions.assertEquals(HealthCheck.State.UP, result.getState());
+                }
+            }
+            Assertions.assertTrue(evaluator.getDuration() < 5000);
+            Assertions.assertTrue(evaluator.getCheckDurations().containsKey("fast"));
+
+            // the cached results are reported until evaluated again
+            Health health = testIndicator.health();
+            Assertions.assertEquals(Status.DOWN, health.getStatus());
+            Assertions.assertEquals(2, calls.get());
+        } finally {
+            testIndicator.destroy();
+            registry.unregister(registry.getCheck("fast").get());
+            registry.unregister(registry.getCheck("slow").get());
+        }
+    }
+
+    @Test
+    public void shouldStartTimeoutWhenCheckIsStarted() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        HealthCheckRegistry registry = camelContext.getExtension(HealthCheckRegistry.class);
+        registry.register(new MyHealthCheck("queued1", calls, 300));
+        registry.register(new MyHealthCheck("queued2", calls, 300));
+
+        // the checks are run one at a time, and each check is within the timeout
+        CamelHealthCheckEvaluator evaluator
+                = new CamelHealthCheckEvaluator(camelContext, "queued", check -> check.getId().startsWith("queued"));
+        evaluator.setCheckTimeout(500);
+        evaluator.setParallelism(1);
+        evaluator.start();
+        try {
+            Collection<HealthCheck.Result> results = evaluator.getResults();
+            Assertions.assertEquals(2, results.size());
+            for (HealthCheck.Result result : results) {
+                Assertions.assertEquals(HealthCheck.State.UP, result.getState(), result.getCheck().getId());
+            }
+            Assertions.assertEquals(2, calls.get());
+        } finally {
+            evaluator.stop();
+            registry.unregister(registry.getCheck("queued1").get());
+            registry.unregister(registry.getCheck("queued2").get());
+        }
+    }
+
+    @Test
+    public void shouldPassKindToChecks() throws Exception {
+        List<Object> kinds = new CopyOnWriteArrayList<>();
+        HealthCheckRegistry registry = camelContext.getExtension(HealthCheckRegistry.class);
+        registry.register(new AbstractHealthCheck("test", "kind") {
+            @Override
+            protected void doCall(HealthCheckResultBuilder builder, Map<String, Object> options) {
+                kinds.add(options.get(HealthCheck.CHECK_KIND));
+                builder.up();
+            }
+        });
+
+        CamelHealthCheckEvaluator evaluator
+                = new CamelHealthCheckEvaluator(camelContext, "kind", check -> "kind".equals(check.getId()));
+        try {
+            evaluator.setKind(HealthCheck.Kind.LIVENESS);
+            evaluator.getResults();
+            evaluator.setKind(HealthCheck.Kind.READINESS);
+            evaluator.getResults();
+            Assertions.assertEquals(List.of(HealthCheck.Kind.LIVENESS, HealthCheck.Kind.READINESS), kinds);
+        } finally {
+            registry.unregister(registry.getCheck("kind").get());
+        }
+    }
+
+    @Test
+    public void shouldEvaluateConcurrentlyWithoutInterval() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        HealthCheckRegistry registry = camelContext.getExtension(HealthCheckRegistry.class);
+        registry.register(new MyHealthCheck("concurrent", calls, 1000));
+
+        CamelHealthCheckEvaluator evaluator
+                = new CamelHealthCheckEvaluator(camelContext, "concurrent", check -> "concurrent".equals(check.getId()));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // the requests do not queue up behind each other when the results are not evaluated in the background
+            long start = System.nanoTime();
+            Future<Collection<HealthCheck.Result>> first = executor.submit(evaluator::getResults);
+            Future<Collection<HealthCheck.Result>> second = executor.submit(evaluator::getResults);
+            Assertions.assertEquals(1, first.get(5, TimeUnit.SECONDS).size());
+            Assertions.assertEquals(1, second.get(5, TimeUnit.SECONDS).size());
+            Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2000);
+            Assertions.assertEquals(2, calls.get());
+        } finally {
+            executor.shutdownNow();
+            registry.unregister(registry.getCheck("concurrent").get());
+        }
+    }
+
+    @Test
+    public void shouldEvaluateChecksInOrder() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        HealthCheckRegistry registry = camelContext.getExtension(HealthCheckRegistry.class);
+        registry.register(new MyHealthCheck("ordered2", calls, 0) {
+            @Override
+            public int getOrder() {
+                return 2;
+            }
+        });
+        registry.register(new MyHealthCheck("ordered1", calls, 0) {
+            @Override
+            public int getOrder() {
+                return 1;
+            }
+        });
+
+        CamelHealthCheckEvaluator evaluator
+                = new CamelHealthCheckEvaluator(camelContext, "ordered", check -> check.getId().startsWith("ordered"));
+        try {
+            List<String> ids = new ArrayList<>();
+            evaluator.getResults().forEach(result -> ids.add(result.getCheck().getId()));
+            Assertions.assertEquals(List.of("ordered1", "ordered2"), ids);
+        } finally {
+            registry.unregister(registry.getCheck("ordered1").get());
+            registry.unregister(registry.getCheck("ordered2").get());
+        }
+    }
+
+    private static class MyHealthCheck extends AbstractHealthCheck {
+
+        private final AtomicInteger calls;
+        private final long sleep;
+
+        MyHealthCheck(String id, AtomicInteger calls, long sleep) {
+            super("test", id);
+            this.calls = calls;
+            this.sleep = sleep;
+        }
+
+        @Override
+        protected void doCall(HealthCheckResultBuilder builder, Map<String, Object> options) {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(sleep);
+                builder.up();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                builder.down();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.health.HealthCheck;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthEndpointGroup;
+import org.springframework.boot.actuate.health.HealthEndpointGroups;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@CamelSpringBootTest
+@DirtiesContext
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(
+    classes = {CamelAutoConfiguration.class, CamelHealthCheckAutoConfiguration.class, MyCamelRoute.class},
+    properties = {
+        "camel.springboot.java-routes-include-pattern=**/MyCamelRoute*",
+        "camel.health.liveness.enabled=true",
+        "camel.health.liveness.evaluation-interval=1000",
+        "camel.health.readiness.enabled=true",
+        "camel.health.readiness.evaluation-interval=60000",
+        "camel.health.readiness.include-pattern=context",
+        "management.endpoint.health.probes.enabled=true"})
+public class CamelHealthProbesTest {
+
+    @Autowired
+    @Qualifier("camelHealth")
+    HealthIndicator camelHealth;
+
+    @Autowired
+    @Qualifier("camelLiveness")
+    HealthIndicator camelLiveness;
+
+    @Autowired
+    @Qualifier("camelReadiness")
+    HealthIndicator camelReadiness;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    HealthEndpointGroups groups;
+
+    @Test
+    public void shouldHaveProbes() throws Exception {
+        CamelHealthCheckEvaluator liveness = ((CamelHealthCheckIndicator) camelLiveness).getEvaluator();
+        CamelHealthCheckEvaluator readiness = ((CamelHealthCheckIndicator) camelReadiness).getEvaluator();
+        Assertions.assertEquals("liveness", liveness.getName());
+        Assertions.assertEquals(1000, liveness.getInterval());
+        Assertions.assertEquals("readiness", readiness.getName());
+        Assertions.assertEquals(60000, readiness.getInterval());
+        Assertions.assertEquals(HealthCheck.Kind.LIVENESS, liveness.getKind());
+        Assertions.assertEquals(HealthCheck.Kind.READINESS, readiness.getKind());
+
+        Health health = camelLiveness.health();
+        Assertions.assertEquals("UP", health.getStatus().getCode());
+        health = camelReadiness.health();
+        Assertions.assertEquals("UP", health.getStatus().getCode());
+
+        // the readiness indicator only includes the context check
+        for (HealthCheck.Result result : readiness.getResults()) {
+            Assertions.assertEquals("context", result.getCheck().getId());
+        }
+        Assertions.assertFalse(readiness.getResults().isEmpty());
+
+        Assertions.assertNotSame(camelHealth, camelLiveness);
+    }
+
+    @Test
+    public void shouldReuseProbeResults() throws Exception {
+        CamelHealthCheckEvaluator readiness = ((CamelHealthCheckIndicator) camelReadiness).getEvaluator();
+        Assertions.assertFalse(readiness.getResults().isEmpty());
+
+        // the camel health indicator reports the context check from the readiness probe without invoking it again
+        Health health = camelHealth.health();
+        Assertions.assertEquals("UP", health.getStatus().getCode());
+        Assertions.assertEquals("UP", health.getDetails().get("context"));
+        Assertions.assertFalse(((CamelHealthCheckIndicator) camelHealth).getEvaluator().getCheckDurations()
+                .containsKey("context"));
+    }
+
+    @Test
+    public void shouldAddProbesToHealthGroups() throws Exception {
+        HealthEndpointGroup liveness = groups.get("liveness");
+        Assertions.assertTrue(liveness.isMember("livenessState"));
+        Assertions.assertTrue(liveness.isMember("camelLiveness"));
+        Assertions.assertFalse(liveness.isMember("camelReadiness"));
+
+        HealthEndpointGroup readiness = groups.get("readiness");
+        Assertions.assertTrue(readiness.isMember("readinessState"));
+        Assertions.assertTrue(readiness.isMember("camelReadiness"));
+        Assertions.assertFalse(readiness.isMember("camelLiveness"));
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.latency;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the cost of recording a value in a {@link LatencyHistogram}.
+ * <p/>
+ * Run with <tt>mvn test -Dtest=LatencyHistogramBenchmarkTest -Dcamel.springboot.benchmark=true</tt>
+ */
+@EnabledIfSystemProperty(named = "camel.springboot.benchmark", matches = "true")
+public class LatencyHistogramBenchmarkTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LatencyHistogramBenchmarkTest.class);
+
+    private static final int WARMUP = 10_000_000;
+    private static final int ITERATIONS = 50_000_000;
+
+    @Test
+    public void testRecord() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram(TimeUnit.MINUTES.toNanos(1));
+
+        run(histogram, WARMUP);
+        long time = run(histogram, ITERATIONS);
+
+        LOG.info("Recorded {} values: {} ns per value, p99 {} ns", ITERATIONS, (double) time / ITERATIONS,
+                histogram.snapshot().getValueAtPercentile(99));
+    }
+
+    private long run(LatencyHistogram histogram, int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            histogram.record(i & 0xFFFFF);
+        }
+        return System.nanoTime() - start;
+    }
+
+}
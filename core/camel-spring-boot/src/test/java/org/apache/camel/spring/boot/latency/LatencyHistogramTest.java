@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.latency;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram(60_000_000_000L, 7);
+        for (long value = 0; value < 60_000_000_000L; value = value * 3 / 2 + 1) {
+            int index = histogram.indexOf(value);
+            Assertions.assertTrue(histogram.lowestValueAt(index) <= value);
+            Assertions.assertTrue(histogram.highestValueAt(index) >= value);
+            // within the precision of the sub buckets
+            Assertions.assertTrue(histogram.highestValueAt(index) - histogram.lowestValueAt(index) <= value / 128);
+        }
+        Assertions.assertEquals(histogram.indexOf(60_000_000_000L) + 1, histogram.getBucketCount());
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram(60_000_000_000L, 7);
+        for (int i = 1; i <= 100000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        Assertions.assertEquals(100000, snapshot.getCount());
+        Assertions.assertEquals(50_000_000, snapshot.getValueAtPercentile(50), 50_000_000 / 128);
+        Assertions.assertEquals(99_000_000, snapshot.getValueAtPercentile(99), 99_000_000 / 128);
+        Assertions.assertEquals(99_900_000, snapshot.getValueAtPercentile(99.9), 99_900_000 / 128);
+        Assertions.assertEquals(1000, snapshot.getMin());
+        Assertions.assertEquals(100_000_000, snapshot.getMax(), 100_000_000 / 128);
+        Assertions.assertEquals(50_000_000, snapshot.getMean(), 50_000_000 / 128);
+    }
+
+    @Test
+    public void testOutOfRange() {
+        LatencyHistogram histogram = new LatencyHistogram(1000);
+        histogram.record(-1);
+        histogram.record(Long.MAX_VALUE);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        Assertions.assertEquals(2, snapshot.getCount());
+        Assertions.assertEquals(0, snapshot.getMin());
+        Assertions.assertEquals(1000, snapshot.getMax());
+    }
+
+    @Test
+    public void testIntervalSnapshot() {
+        LatencyHistogram histogram = new LatencyHistogram(1_000_000, 7);
+        histogram.record(100);
+        histogram.record(200);
+        Assertions.assertEquals(2, histogram.intervalSnapshot().getCount());
+
+        histogram.record(300);
+        LatencyHistogram.Snapshot interval = histogram.intervalSnapshot();
+        Assertions.assertEquals(1, interval.getCount());
+        Assertions.assertEquals(300, interval.getMin(), 3);
+        Assertions.assertEquals(0, histogram.intervalSnapshot().getCount());
+
+        // the snapshot of all the values is not affected by the interval snapshots
+        Assertions.assertEquals(3, histogram.snapshot().getCount());
+    }
+
+    @Test
+    public void testIntervalsSwapCounts() {
+        LatencyHistogram histogram = new LatencyHistogram(1_000_000, 7);
+        for (int interval = 1; interval <= 5; interval++) {
+            for (int i = 0; i < interval; i++) {
+                histogram.record(interval * 1000L);
+            }
+            LatencyHistogram.Snapshot snapshot = histogram.intervalSnapshot();
+            Assertions.assertEquals(interval, snapshot.getCount());
+            Assertions.assertEquals(interval * 1000L, snapshot.getMin(), interval * 1000L / 128);
+            Assertions.assertEquals(interval * 1000L, snapshot.getValueAtPercentile(99), interval * 1000L / 128);
+        }
+
+        // the values of all the intervals, and of the current interval
+        histogram.record(1);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        Assertions.assertEquals(16, snapshot.getCount());
+        Assertions.assertEquals(1, snapshot.getMin());
+        Assertions.assertEquals(5000, snapshot.getMax(), 5000 / 128);
+    }
+
+    @Test
+    public void testSubBucketBits() {
+        LatencyHistogram histogram = new LatencyHistogram(60_000_000L, 5);
+        Assertions.assertEquals(5, histogram.getSubBucketBits());
+        Assertions.assertTrue(histogram.getBucketCount() < new LatencyHistogram(60_000_000L, 7).getBucketCount() / 3);
+        Assertions.assertEquals(histogram.getBucketCount(), new LatencyHistogram(60_000_000L).getBucketCount());
+        histogram.record(50_000);
+        Assertions.assertEquals(50_000, histogram.snapshot().getMax(), 50_000 / 32);
+    }
+
+    @Test
+    public void testEmpty() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram(1000).snapshot();
+        Assertions.assertEquals(0, snapshot.getCount());
+        Assertions.assertEquals(0, snapshot.getValueAtPercentile(99));
+        Assertions.assertEquals(0, snapshot.getMax());
+        Assertions.assertEquals(0, new LatencyHistogram(1000).intervalSnapshot().getCount());
+    }
+
+    @Test
+    public void testIntervalSnapshotBeforeRecording() {
+        LatencyHistogram histogram = new LatencyHistogram(1000);
+        Assertions.assertEquals(0, histogram.intervalSnapshot().getCount());
+        histogram.record(100);
+        Assertions.assertEquals(1, histogram.snapshot().getCount());
+        Assertions.assertEquals(1, histogram.intervalSnapshot().getCount());
+        histogram.record(200);
+        Assertions.assertEquals(1, histogram.intervalSnapshot().getCount());
+        Assertions.assertEquals(2, histogram.snapshot().getCount());
+    }
+
+}
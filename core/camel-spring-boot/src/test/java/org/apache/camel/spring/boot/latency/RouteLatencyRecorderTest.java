@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.latency;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RouteLatencyRecorderTest {
+
+    @Test
+    public void testIntervalsAfterRestart() throws Exception {
+        RouteLatencyRecorder recorder = new RouteLatencyRecorder(60000, 100);
+        Assertions.assertEquals(TimeUnit.MICROSECONDS, recorder.getUnit());
+
+        try (DefaultCamelContext context = new DefaultCamelContext()) {
+            context.addRoutePolicyFactory(recorder);
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:start").routeId("myRoute").delay(5).to("mock:result");
+                }
+            });
+            context.start();
+
+            RouteLatencyRecorder.RouteLatency latency = recorder.getRouteLatency("myRoute");
+            context.createProducerTemplate().sendBody("direct:start", "Hello");
+            Awaitility.await().until(() -> latency.getIntervalSnapshot() != null
+                    && latency.getIntervalSnapshot().getCount() == 1);
+            // recorded in micros
+            Assertions.assertTrue(latency.getIntervalSnapshot().getMin() >= 5000);
+
+            // the intervals are taken again when the context is started again
+            context.stop();
+            context.start();
+            long timestamp = latency.getIntervalTimestamp();
+            Awaitility.await().until(() -> latency.getIntervalTimestamp() > timestamp);
+
+            context.createProducerTemplate().sendBody("direct:start", "Hello");
+            Awaitility.await().until(() -> latency.getIntervalSnapshot().getCount() == 1);
+            Assertions.assertEquals(2, latency.getHistogram().snapshot().getCount());
+        }
+    }
+
+}
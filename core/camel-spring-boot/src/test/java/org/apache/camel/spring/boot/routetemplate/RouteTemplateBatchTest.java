@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.routetemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+    classes = {
+        CamelAutoConfiguration.class,
+        CamelRouteTemplateAutoConfiguration.class,
+        RouteTemplateBatchTest.TestConfiguration.class
+    },
+    properties = {
+        "camel.springboot.routes-include-pattern = false",
+        "camel.routetemplate.batch[0].template-id = myTemplate",
+        "camel.routetemplate.batch[0].parameters.greeting = Hello",
+        "camel.routetemplate.batch[0].instances[0].route-id = first",
+        "camel.routetemplate.batch[0].instances[0].name = one",
+        "camel.routetemplate.batch[0].instances[1].route-id = second",
+        "camel.routetemplate.batch[0].instances[1].name = two",
+        "camel.routetemplate.batch[0].instances[1].greeting = Hi"
+    }
+)
+public class RouteTemplateBatchTest {
+
+    @Autowired
+    private CamelContext context;
+
+    @Autowired
+    private ProducerTemplate template;
+
+    @Test
+    public void testBatch() {
+        Assertions.assertNotNull(context.getRoute("first"));
+        Assertions.assertNotNull(context.getRoute("second"));
+
+        Assertions.assertEquals("Hello World", template.requestBody("direct:one", "World"));
+        Assertions.assertEquals("Hi World", template.requestBody("direct:two", "World"));
+    }
+
+    @Test
+    public void testMissingParameter() {
+        RouteTemplateBatchInstantiator instantiator = new RouteTemplateBatchInstantiator(context);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> instantiator.addRoutesFromTemplate("myTemplate", null,
+                List.of(Map.<String, Object> of("greeting", "Hello"))));
+    }
+
+    @Test
+    public void testExistingRouteId() {
+        RouteTemplateBatchInstantiator instantiator = new RouteTemplateBatchInstantiator(context);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> instantiator.addRoutesFromTemplate("myTemplate", null,
+                List.of(Map.<String, Object> of("routeId", "first", "name", "other"))));
+
+        // the existing route is not replaced
+        Assertions.assertEquals("Hello World", template.requestBody("direct:one", "World"));
+    }
+
+    @Test
+    public void testTemplateWithBean() throws Exception {
+        // templates with local beans are added one at a time
+        RouteTemplateBatchInstantiator instantiator = new RouteTemplateBatchInstantiator(context);
+        List<String> ids = instantiator.addRoutesFromTemplate("myBeanTemplate", Map.of("greeting", "Hey"),
+                List.of(Map.of("route-id", "third", "name", "three"), Map.of("routeId", "fourth", "name", "four")));
+
+        Assertions.assertEquals(List.of("third", "fourth"), ids);
+        Assertions.assertEquals("Hey World", template.requestBody("direct:three", "World"));
+        Assertions.assertEquals("Hey World", template.requestBody("direct:four", "World"));
+    }
+
+    // *************************************
+    // Config
+    // *************************************
+
+    @Configuration
+    public static class TestConfiguration {
+
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    routeTemplate("myTemplate")
+                        .templateParameter("name")
+                        .templateParameter("greeting", "Bye")
+                        .from("direct:{{name}}")
+                        .setBody(simple("{{greeting}} ${body}"));
+
+                    routeTemplate("myBeanTemplate")
+                        .templateParameter("name")
+                        .templateParameter("greeting")
+                        .templateBean("myBean", "Hello")
+                        .from("direct:{{name}}")
+                        .setBody(simple("{{greeting}} ${body}"));
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+/**
+ * Compares copying the options of a configuration class by reflection with copying them by the generated
+ * {@link CamelPropertiesCopier}.
+ * <p/>
+ * Run with <tt>mvn test -Dtest=CamelPropertiesCopierBenchmarkTest -Dcamel.springboot.benchmark=true</tt>
+ */
+@CamelSpringBootTest
+@DirtiesContext
+@SpringBootApplication
+@SpringBootTest(classes = CamelPropertiesCopierBenchmarkTest.class)
+@EnabledIfSystemProperty(named = "camel.springboot.benchmark", matches = "true")
+public class CamelPropertiesCopierBenchmarkTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CamelPropertiesCopierBenchmarkTest.class);
+
+    private static final int WARMUP = 20000;
+    private static final int ITERATIONS = 200000;
+
+    @Autowired
+    CamelContext camelContext;
+
+    public static class MyTarget {
+
+        private int id;
+        private String name;
+        private boolean lazyStartProducer;
+        private long timeout;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public boolean isLazyStartProducer() {
+            return lazyStartProducer;
+        }
+
+        public void setLazyStartProducer(boolean lazyStartProducer) {
+            this.lazyStartProducer = lazyStartProducer;
+        }
+
+        public long getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(long timeout) {
+            this.timeout = timeout;
+        }
+    }
+
+    public static class MyConfiguration {
+
+        private Integer id = 123;
+        private String name = "Donald Duck";
+        private Boolean lazyStartProducer = Boolean.TRUE;
+        private Long timeout = 5000L;
+        private String bridgeErrorHandler;
+
+        public Integer getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Boolean getLazyStartProducer() {
+            return lazyStartProducer;
+        }
+
+        public Long getTimeout() {
+            return timeout;
+        }
+
+        public String getBridgeErrorHandler() {
+            return bridgeErrorHandler;
+        }
+    }
+
+    public static class MyCopierConfiguration extends MyConfiguration implements CamelPropertiesCopier {
+
+        @Override
+        public void copyNonNullProperties(BiConsumer<String, Object> target) {
+            if (getId() != null) {
+                target.accept("id", getId());
+            }
+            if (getName() != null) {
+                target.accept("name", getName());
+            }
+            if (getLazyStartProducer() != null) {
+                target.accept("lazyStartProducer", getLazyStartProducer());
+            }
+            if (getTimeout() != null) {
+                target.accept("timeout", getTimeout());
+            }
+            if (getBridgeErrorHandler() != null) {
+                target.accept("bridgeErrorHandler", getBridgeErrorHandler());
+            }
+        }
+    }
+
+    @Test
+    public void testCopyProperties() throws Exception {
+        MyConfiguration reflective = new MyConfiguration();
+        MyConfiguration copier = new MyCopierConfiguration();
+
+        run(reflective, WARMUP);
+        run(copier, WARMUP);
+
+        long reflectiveTime = run(reflective, ITERATIONS);
+        long copierTime = run(copier, ITERATIONS);
+
+        LOG.info("Copied properties {} times: reflection {} ms, copier {} ms", ITERATIONS,
+                TimeUnit.NANOSECONDS.toMillis(reflectiveTime), TimeUnit.NANOSECONDS.toMillis(copierTime));
+    }
+
+    private long run(MyConfiguration source, int iterations) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            MyTarget target = new MyTarget();
+            CamelPropertiesHelper.copyProperties(camelContext, source, target);
+            Assertions.assertEquals(5000L, target.getTimeout());
+        }
+        return System.nanoTime() - start;
+    }
+
+}
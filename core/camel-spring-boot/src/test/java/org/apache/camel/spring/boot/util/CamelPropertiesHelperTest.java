@@ -19,6 +19,7 @@ package org.apache.camel.spring.boot.util;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.apache.camel.CamelContext;
 import org.junit.jupiter.api.Assertions;
@@ -59,6 +60,32 @@ public class CamelPropertiesHelperTest {
     public static class MyOption {
     }
 
+    public static class MyConfiguration implements CamelPropertiesCopier {
+
+        private Integer id;
+        private String name;
+        private String option;
+
+        public MyConfiguration(Integer id, String name, String option) {
+            this.id = id;
+            this.name = name;
+            this.option = option;
+        }
+
+        @Override
+        public void copyNonNullProperties(BiConsumer<String, Object> target) {
+            if (id != null) {
+                target.accept("id", id);
+            }
+            if (name != null) {
+                target.accept("name", name);
+            }
+            if (option != null) {
+                target.accept("option", option);
+            }
+        }
+    }
+
     public static class MyClass {
 
         private int id;
@@ -249,4 +276,17 @@ public class CamelPropertiesHelperTest {
         Assertions.assertSame(context.getBean("myCoolOption"), target.getOption());
     }
 
+    @Test
+    public void testCopyPropertiesCopier() throws Exception {
+        MyClass target = new MyClass();
+        target.setName("Goofy");
+
+        CamelPropertiesHelper.copyProperties(camelContext, new MyConfiguration(123, null, "#myCoolOption"), target);
+
+        Assertions.assertEquals(123, target.getId());
+        // null options are not copied
+        Assertions.assertEquals("Goofy", target.getName());
+        Assertions.assertSame(context.getBean("myCoolOption"), target.getOption());
+    }
+
 }
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+/**
+ * Compares {@link CompositeConversionService} with the Spring Boot {@link ApplicationConversionService} it usually
+ * delegates to.
+ * <p/>
+ * Run with <tt>mvn test -Dtest=CompositeConversionServiceBenchmarkTest -Dcamel.springboot.benchmark=true</tt>
+ */
+@EnabledIfSystemProperty(named = "camel.springboot.benchmark", matches = "true")
+public class CompositeConversionServiceBenchmarkTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompositeConversionServiceBenchmarkTest.class);
+
+    private static final int WARMUP = 50000;
+    private static final int ITERATIONS = 1000000;
+
+    @Test
+    public void testConvert() {
+        ConversionService application = ApplicationConversionService.getSharedInstance();
+        ConversionService composite = new CompositeConversionService(
+                Arrays.asList(new DefaultConversionService(), ApplicationConversionService.getSharedInstance()));
+
+        run(application, WARMUP);
+        run(composite, WARMUP);
+
+        long applicationTime = run(application, ITERATIONS);
+        long compositeTime = run(composite, ITERATIONS);
+
+        LOG.info("Converted {} times: ApplicationConversionService {} ms, CompositeConversionService {} ms", ITERATIONS,
+                TimeUnit.NANOSECONDS.toMillis(applicationTime), TimeUnit.NANOSECONDS.toMillis(compositeTime));
+    }
+
+    private static long run(ConversionService service, int iterations) {
+        String uuid = UUID.randomUUID().toString();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            // a conversion, an assignable type and a miss
+            Assertions.assertNotNull(service.convert("123", Integer.class));
+            Assertions.assertSame(uuid, service.convert(uuid, CharSequence.class));
+            Assertions.assertFalse(service.canConvert(Thread.class, UUID.class));
+        }
+        return System.nanoTime() - start;
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.ConverterNotFoundException;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+
+public class CompositeConversionServiceTest {
+
+    @Test
+    public void testDelegates() {
+        GenericConversionService first = new GenericConversionService();
+        first.addConverter(String.class, MyType.class, MyType::new);
+        DefaultConversionService last = new DefaultConversionService();
+
+        CompositeConversionService service = new CompositeConversionService(Arrays.asList(first, last));
+
+        Assertions.assertEquals("foo", service.convert("foo", MyType.class).value);
+        Assertions.assertEquals(Integer.valueOf(123), service.convert("123", Integer.class));
+        Assertions.assertEquals(Integer.valueOf(123), service.convert("123", TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(Integer.class)));
+        Assertions.assertTrue(service.canConvert(String.class, MyType.class));
+        Assertions.assertFalse(service.canConvert(MyType.class, Integer.class));
+        Assertions.assertThrows(ConverterNotFoundException.class, () -> service.convert(new MyType("foo"), Integer.class));
+        Assertions.assertEquals(4, service.getCacheSize());
+
+        service.clearCache();
+        Assertions.assertEquals(0, service.getCacheSize());
+    }
+
+    @Test
+    public void testAssignableTypes() {
+        AtomicInteger conversions = new AtomicInteger();
+        GenericConversionService delegate = new GenericConversionService();
+        delegate.addConverter(MyType.class, MyType.class, source -> {
+            conversions.incrementAndGet();
+            return source;
+        });
+
+        CompositeConversionService service = new CompositeConversionService(Arrays.asList(delegate));
+
+        MyType value = new MyType("foo");
+        Assertions.assertSame(value, service.convert(value, MyType.class));
+        Assertions.assertSame(value, service.convert(value, Object.class));
+        Assertions.assertSame(value, service.convert(value, TypeDescriptor.forObject(value), TypeDescriptor.valueOf(MyType.class)));
+        // the delegates are not used
+        Assertions.assertEquals(0, conversions.get());
+        Assertions.assertEquals(0, service.getCacheSize());
+    }
+
+    public static class MyType {
+        private final String value;
+
+        public MyType(String value) {
+            this.value = value;
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+public class HierarchicalPropertiesEvaluatorCacheTest {
+
+    @Test
+    public void testCache() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("test.group1.enabled", "true");
+        properties.put("test.group1.subgroup1.enabled", "false");
+
+        try (GenericApplicationContext applicationContext = new GenericApplicationContext()) {
+            ConfigurableEnvironment environment = applicationContext.getEnvironment();
+            environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+
+            // not cached without the cache in the application context
+            Assertions.assertFalse(HierarchicalPropertiesEvaluator.evaluate(applicationContext, "test.group1", "test.group1.subgroup1"));
+
+            HierarchicalPropertiesEvaluatorCache cache = new HierarchicalPropertiesEvaluatorCache();
+            applicationContext.getBeanFactory().registerSingleton(HierarchicalPropertiesEvaluatorCache.BEAN_NAME, cache);
+
+            Assertions.assertFalse(HierarchicalPropertiesEvaluator.evaluate(applicationContext, "test.group1", "test.group1.subgroup1"));
+            Assertions.assertFalse(HierarchicalPropertiesEvaluator.evaluate(applicationContext, "test.group1", "test.group1.subgroup1"));
+            Assertions.assertTrue(HierarchicalPropertiesEvaluator.evaluate(applicationContext, "test.group1", "test.group1.subgroup2"));
+            Assertions.assertEquals(1, cache.getHits());
+            Assertions.assertEquals(2, cache.getMisses());
+            Assertions.assertEquals(2, cache.size());
+
+            // the cached value is used until the cache is cleared
+            properties.put("test.group1.subgroup1.enabled", "true");
+            Assertions.assertFalse(HierarchicalPropertiesEvaluator.evaluate(applicationContext, "test.group1", "test.group1.subgroup1"));
+            // the environment is never cached
+            Assertions.assertTrue(HierarchicalPropertiesEvaluator.evaluate(environment, "test.group1", "test.group1.subgroup1"));
+            cache.clear();
+            Assertions.assertTrue(HierarchicalPropertiesEvaluator.evaluate(applicationContext, "test.group1", "test.group1.subgroup1"));
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.springboot.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.StartupStep;
+import org.apache.camel.support.startup.DefaultStartupStepRecorder;
+
+/**
+ * A {@link org.apache.camel.spi.StartupStepRecorder} which keeps the steps so they can be included in the results
+ * of the benchmark.
+ * <p/>
+ * The recorder is discovered from the classpath by the Camel Spring Boot auto configuration, the same way as
+ * the Java flight recorder.
+ */
+public class BenchmarkStartupStepRecorder extends DefaultStartupStepRecorder {
+
+    private final List<RecordedStep> steps = new CopyOnWriteArrayList<>();
+
+    public BenchmarkStartupStepRecorder() {
+        setEnabled(true);
+    }
+
+    @Override
+    protected void onEndStep(StartupStep step) {
+        long taken = System.currentTimeMillis() - step.getBeginTime();
+        steps.add(new RecordedStep(step.getLevel(), step.getType(), step.getName(), step.getDescription(), taken));
+    }
+
+    /**
+     * The steps in the order they ended.
+     */
+    public List<RecordedStep> getSteps() {
+        return new ArrayList<>(steps);
+    }
+
+    public static final class RecordedStep {
+        private final int level;
+        private final String type;
+        private final String name;
+        private final String description;
+        private final long duration;
+
+        RecordedStep(int level, String type, String name, String description, long duration) {
+            this.level = level;
+            this.type = type;
+            this.name = name;
+            this.description = description;
+            this.duration = duration;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * The duration in millis.
+         */
+        public long getDuration() {
+            return duration;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.springboot.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.spi.StartupStepRecorder;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.json.JsonArray;
+import org.apache.camel.util.json.JsonObject;
+import org.apache.camel.util.json.Jsoner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.Banner.Mode;
+import org.springframework.boot.SpringBootVersion;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the {@link StartupBenchmarkApplication} with the configured starters and generated routes, and writes
+ * the startup time, the startup steps, the loaded classes and the used heap after refresh as JSON, so the results
+ * can be compared between commits.
+ * <p/>
+ * The first iteration includes the warmup of the JVM, so run with a single iteration in a new JVM to measure the
+ * startup of an application.
+ */
+public class StartupBenchmark {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupBenchmark.class);
+
+    private final StartupBenchmarkConfig config;
+
+    public StartupBenchmark(StartupBenchmarkConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        File file = new StartupBenchmark(new StartupBenchmarkConfigBuilder().build()).run();
+        LOG.info("Startup benchmark results written to: {}", file);
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @return the file with the results
+     */
+    public File run() throws IOException {
+        LOG.info("Running startup benchmark: {}", config);
+
+        JsonObject answer = new JsonObject();
+        answer.put("name", config.getName());
+        answer.put("timestamp", System.currentTimeMillis());
+        answer.put("javaVersion", System.getProperty("java.version"));
+        // such as the class data sharing options, to compare startup with and without an archive
+        answer.put("jvmArguments", new JsonArray(ManagementFactory.getRuntimeMXBean().getInputArguments()));
+        answer.put("springBootVersion", SpringBootVersion.getVersion());
+        answer.put("starters", new JsonArray(new ArrayList<>(config.getStarters())));
+        answer.put("javaRoutes", config.getJavaRoutes());
+        answer.put("yamlRoutes", config.getYamlRoutes());
+        answer.put("xmlRoutes", config.getXmlRoutes());
+
+        JsonArray iterations = new JsonArray();
+        for (int i = 0; i < config.getIterations(); i++) {
+            JsonObject iteration = runIteration(answer);
+            iteration.put("iteration", i + 1);
+            iterations.add(iteration);
+        }
+        answer.put("iterations", iterations);
+
+        File dir = new File(config.getOutputDirectory());
+        dir.mkdirs();
+        String timestamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        File file = new File(dir, config.getName() + "-" + timestamp + ".json");
+        Files.write(file.toPath(), Jsoner.prettyPrint(answer.toJson()).getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private JsonObject runIteration(JsonObject answer) throws IOException {
+        Path dir = Files.createTempDirectory("camel-startup-benchmark");
+        try {
+            Map<String, Object> properties = createProperties(dir);
+
+            ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+            long classesBefore = classLoading.getTotalLoadedClassCount();
+
+            long start = System.nanoTime();
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StartupBenchmarkApplication.class)
+                    .bannerMode(Mode.OFF)
+                    .web(WebApplicationType.NONE)
+                    .properties(properties)
+                    .run()) {
+                long taken = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                CamelContext camelContext = context.getBean(CamelContext.class);
+                answer.put("camelVersion", camelContext.getVersion());
+
+                int expected = config.getJavaRoutes() + config.getYamlRoutes() + config.getXmlRoutes();
+                if (camelContext.getRoutesSize() != expected) {
+                    throw new IllegalStateException("Expected " + expected + " routes but " + camelContext.getRoutesSize()
+                                                    + " routes were started");
+                }
+
+                JsonObject iteration = new JsonObject();
+                iteration.put("startupTime", taken);
+                iteration.put("routes", camelContext.getRoutesSize());
+                iteration.put("loadedClasses", classLoading.getLoadedClassCount());
+                iteration.put("classesLoadedDuringStartup", classLoading.getTotalLoadedClassCount() - classesBefore);
+
+                MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+                System.gc();
+                iteration.put("heapUsedAfterRefresh", memory.getHeapMemoryUsage().getUsed());
+
+                iteration.put("startupSteps", createStartupSteps(camelContext));
+                return iteration;
+            }
+        } finally {
+            FileUtil.removeDir(dir.toFile());
+        }
+    }
+
+    private Map<String, Object> createProperties(Path dir) throws IOException {
+        Map<String, Object> properties = new HashMap<>();
+
+        // only the auto configuration of the selected starters is enabled
+        properties.put("camel.component.enabled", "false");
+        properties.put("camel.dataformat.enabled", "false");
+        properties.put("camel.language.enabled", "false");
+        for (String starter : config.getStarters()) {
+            properties.put("camel.component." + starter + ".enabled", "true");
+            properties.put("camel.dataformat." + starter + ".enabled", "true");
+            properties.put("camel.language." + starter + ".enabled", "true");
+        }
+
+        properties.put(StartupBenchmarkApplication.JAVA_ROUTES, config.getJavaRoutes());
+
+        StringBuilder include = new StringBuilder();
+        if (config.getYamlRoutes() > 0) {
+            Path file = dir.resolve("routes.yaml");
+            StartupBenchmarkRoutes.writeYamlRoutes(file, config.getYamlRoutes());
+            include.append("file:").append(file.toAbsolutePath());
+        }
+        if (config.getXmlRoutes() > 0) {
+            Path file = dir.resolve("routes.xml");
+            StartupBenchmarkRoutes.writeXmlRoutes(file, config.getXmlRoutes());
+            if (include.length() > 0) {
+                include.append(",");
+            }
+            include.append("file:").append(file.toAbsolutePath());
+        }
+        properties.put("camel.springboot.routes-include-pattern", include.length() > 0 ? include.toString() : "false");
+
+        properties.putAll(config.getProperties());
+        return properties;
+    }
+
+    private static JsonArray createStartupSteps(CamelContext camelContext) {
+        JsonArray answer = new JsonArray();
+        StartupStepRecorder recorder = camelContext.adapt(ExtendedCamelContext.class).getStartupStepRecorder();
+        if (recorder instanceof BenchmarkStartupStepRecorder) {
+            for (BenchmarkStartupStepRecorder.RecordedStep step : ((BenchmarkStartupStepRecorder) recorder).getSteps()) {
+                JsonObject jo = new JsonObject();
+                jo.put("level", step.getLevel());
+                jo.put("type", step.getType());
+                jo.put("name", step.getName());
+                jo.put("description", step.getDescription());
+                jo.put("duration", step.getDuration());
+                answer.add(jo);
+            }
+        } else {
+            LOG.warn("The startup steps are not recorded as another startup recorder is in use: {}", recorder);
+        }
+        return answer;
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.springboot.benchmark;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * The spring-boot application which is started by the benchmark, with the generated Java routes.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+public class StartupBenchmarkApplication {
+
+    public static final String JAVA_ROUTES = "benchmark.java-routes";
+
+    @Bean
+    RouteBuilder javaRoutes(@Value("${" + JAVA_ROUTES + ":0}") int routes) {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                for (int i = 0; i < routes; i++) {
+                    from("direct:java-" + i).routeId("java-" + i)
+                        .setBody().constant("Hello " + i)
+                        .to("log:java-" + i + "?level=OFF");
+                }
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        // to tell source-check this is not a utility-class
+        return "spring-boot-benchmark";
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.springboot.benchmark;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A configuration bean for a startup benchmark execution.
+ */
+public class StartupBenchmarkConfig implements Serializable {
+
+    private static final long serialVersionUID = 4517820417613958392L;
+
+    private String name;
+
+    private Set<String> starters;
+
+    private Integer javaRoutes;
+
+    private Integer yamlRoutes;
+
+    private Integer xmlRoutes;
+
+    private Integer iterations;
+
+    private String outputDirectory;
+
+    private Map<String, String> properties;
+
+    public StartupBenchmarkConfig() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Set<String> getStarters() {
+        return starters;
+    }
+
+    public void setStarters(Set<String> starters) {
+        this.starters = starters;
+    }
+
+    public Integer getJavaRoutes() {
+        return javaRoutes;
+    }
+
+    public void setJavaRoutes(Integer javaRoutes) {
+        this.javaRoutes = javaRoutes;
+    }
+
+    public Integer getYamlRoutes() {
+        return yamlRoutes;
+    }
+
+    public void setYamlRoutes(Integer yamlRoutes) {
+        this.yamlRoutes = yamlRoutes;
+    }
+
+    public Integer getXmlRoutes() {
+        return xmlRoutes;
+    }
+
+    public void setXmlRoutes(Integer xmlRoutes) {
+        this.xmlRoutes = xmlRoutes;
+    }
+
+    public Integer getIterations() {
+        return iterations;
+    }
+
+    public void setIterations(Integer iterations) {
+        this.iterations = iterations;
+    }
+
+    public String getOutputDirectory() {
+        return outputDirectory;
+    }
+
+    public void setOutputDirectory(String outputDirectory) {
+        this.outputDirectory = outputDirectory;
+    }
+
+    public Map<String, String> getProperties() {
+        return properties;
+    }
+
+    public void setProperties(Map<String, String> properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public String toString() {
+        return "StartupBenchmarkConfig{"
+                + "name='" + name + '\''
+                + ", starters=" + starters
+                + ", javaRoutes=" + javaRoutes
+                + ", yamlRoutes=" + yamlRoutes
+                + ", xmlRoutes=" + xmlRoutes
+                + ", iterations=" + iterations
+                + ", outputDirectory='" + outputDirectory + '\''
+                + ", properties=" + properties
+                + '}';
+    }
+}
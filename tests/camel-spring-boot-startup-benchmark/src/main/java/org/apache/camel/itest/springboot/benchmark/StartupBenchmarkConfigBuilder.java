@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.springboot.benchmark;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+
+/**
+ * Builder for the {@code StartupBenchmarkConfig} that enforces defaults values.
+ * <p/>
+ * The defaults can be changed by system properties with the prefix {@link #CONFIG_PREFIX}, such as
+ * <tt>-Dbenchmark.springboot.starters=direct,log,timer -Dbenchmark.springboot.yamlRoutes=500</tt>.
+ */
+public class StartupBenchmarkConfigBuilder {
+
+    public static final String CONFIG_PREFIX = "benchmark.springboot.";
+
+    // the generated routes consume from direct and produce to log
+    private static final String[] REQUIRED_STARTERS = { "direct", "log" };
+
+    private StartupBenchmarkConfig config;
+
+    public StartupBenchmarkConfigBuilder() {
+        this.config = new StartupBenchmarkConfig();
+    }
+
+    public StartupBenchmarkConfigBuilder(StartupBenchmarkConfig config) {
+        this.config = config;
+    }
+
+    public StartupBenchmarkConfigBuilder name(String name) {
+        config.setName(name);
+        return this;
+    }
+
+    /**
+     * Adds a starter by the name of its component, such as <tt>timer</tt> for <tt>camel-timer-starter</tt>. The
+     * auto configuration of the starters which are not added is disabled.
+     */
+    public StartupBenchmarkConfigBuilder starter(String starter) {
+        if (config.getStarters() == null) {
+            config.setStarters(new LinkedHashSet<>());
+        }
+        config.getStarters().add(starter);
+        return this;
+    }
+
+    public StartupBenchmarkConfigBuilder javaRoutes(int routes) {
+        config.setJavaRoutes(routes);
+        return this;
+    }
+
+    public StartupBenchmarkConfigBuilder yamlRoutes(int routes) {
+        config.setYamlRoutes(routes);
+        return this;
+    }
+
+    public StartupBenchmarkConfigBuilder xmlRoutes(int routes) {
+        config.setXmlRoutes(routes);
+        return this;
+    }
+
+    public StartupBenchmarkConfigBuilder iterations(int iterations) {
+        config.setIterations(iterations);
+        return this;
+    }
+
+    public StartupBenchmarkConfigBuilder outputDirectory(String outputDirectory) {
+        config.setOutputDirectory(outputDirectory);
+        return this;
+    }
+
+    public StartupBenchmarkConfigBuilder property(String name, String value) {
+        if (config.getProperties() == null) {
+            config.setProperties(new HashMap<>());
+        }
+        config.getProperties().put(name, value);
+        return this;
+    }
+
+    public StartupBenchmarkConfig build() {
+
+        // Set the defaults
+        if (config.getName() == null) {
+            config.setName(propertyOr("name", "startup"));
+        }
+
+        if (config.getStarters() == null) {
+            config.setStarters(new LinkedHashSet<>(Arrays.asList(propertyOr("starters", "direct,log").split(","))));
+        }
+        config.getStarters().addAll(Arrays.asList(REQUIRED_STARTERS));
+
+        if (config.getJavaRoutes() == null) {
+            config.setJavaRoutes(integerPropertyOr("javaRoutes", 100));
+        }
+
+        if (config.getYamlRoutes() == null) {
+            config.setYamlRoutes(integerPropertyOr("yamlRoutes", 100));
+        }
+
+        if (config.getXmlRoutes() == null) {
+            config.setXmlRoutes(integerPropertyOr("xmlRoutes", 100));
+        }
+
+        if (config.getIterations() == null) {
+            config.setIterations(integerPropertyOr("iterations", 1));
+        }
+
+        if (config.getOutputDirectory() == null) {
+            config.setOutputDirectory(propertyOr("outputDirectory", "target/startup-benchmark"));
+        }
+
+        if (config.getProperties() == null) {
+            config.setProperties(new HashMap<>());
+        }
+
+        // Checking conditions
+        if (config.getIterations() < 1) {
+            fail("Iterations must be at least 1");
+        }
+
+        return config;
+    }
+
+    private void fail(String msg) {
+        throw new IllegalStateException("Configuration is not complete: " + msg);
+    }
+
+    private String propertyOr(String name, String defaultVal) {
+        String res = System.getProperty(CONFIG_PREFIX + name);
+        if (res == null) {
+            res = defaultVal;
+        }
+        return res;
+    }
+
+    private Integer integerPropertyOr(String name, Integer defaultVal) {
+        String prop = propertyOr(name, null);
+        Integer res = defaultVal;
+        if (prop != null) {
+            res = Integer.valueOf(prop);
+        }
+
+        return res;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.springboot.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Generates the YAML and XML routes for the benchmark, which are the same as the generated Java routes.
+ */
+public final class StartupBenchmarkRoutes {
+
+    private StartupBenchmarkRoutes() {
+    }
+
+    public static void writeYamlRoutes(Path file, int routes) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < routes; i++) {
+                writer.write("- route:\n");
+                writer.write("    id: yaml-" + i + "\n");
+                writer.write("    from:\n");
+                writer.write("      uri: direct:yaml-" + i + "\n");
+                writer.write("      steps:\n");
+                writer.write("        - set-body:\n");
+                writer.write("            constant: Hello " + i + "\n");
+                writer.write("        - to: log:yaml-" + i + "?level=OFF\n");
+            }
+        }
+    }
+
+    public static void writeXmlRoutes(Path file, int routes) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("<routes xmlns=\"http://camel.apache.org/schema/spring\">\n");
+            for (int i = 0; i < routes; i++) {
+                writer.write("  <route id=\"xml-" + i + "\">\n");
+                writer.write("    <from uri=\"direct:xml-" + i + "\"/>\n");
+                writer.write("    <setBody><constant>Hello " + i + "</constant></setBody>\n");
+                writer.write("    <to uri=\"log:xml-" + i + "?level=OFF\"/>\n");
+                writer.write("  </route>\n");
+            }
+            writer.write("</routes>\n");
+        }
+    }
+}
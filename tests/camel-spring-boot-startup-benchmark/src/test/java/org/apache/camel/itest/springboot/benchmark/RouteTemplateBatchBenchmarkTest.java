@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.springboot.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spring.boot.routetemplate.RouteTemplateBatchInstantiator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares adding routes from a route template one at a time with adding them as a batch, for 1k and 10k routes.
+ * <p/>
+ * Run with <tt>mvn test -Dtest=RouteTemplateBatchBenchmarkTest -Dcamel.springboot.benchmark=true</tt>
+ */
+@EnabledIfSystemProperty(named = "camel.springboot.benchmark", matches = "true")
+public class RouteTemplateBatchBenchmarkTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RouteTemplateBatchBenchmarkTest.class);
+
+    @Test
+    public void testBatch() throws Exception {
+        // warmup
+        run(1000, false);
+        run(1000, true);
+
+        for (int routes : new int[] { 1000, 10000 }) {
+            long[] single = run(routes, false);
+            long[] batch = run(routes, true);
+            LOG.info("Added {} routes from template: one at a time {} ms (started in {} ms), batch {} ms (started in {} ms)",
+                    routes, single[0], single[1], batch[0], batch[1]);
+        }
+    }
+
+    private long[] run(int routes, boolean batch) throws Exception {
+        try (DefaultCamelContext context = new DefaultCamelContext()) {
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    routeTemplate("tenant")
+                            .templateParameter("tenant")
+                            .templateParameter("greeting", "Hello")
+                            .from("direct:{{tenant}}")
+                            .setHeader("tenant", constant("{{tenant}}"))
+                            .setBody(simple("{{greeting}} ${body}"))
+                            .to("log:{{tenant}}?level=DEBUG");
+                }
+            });
+
+            List<Map<String, Object>> instances = new ArrayList<>(routes);
+            for (int i = 0; i < routes; i++) {
+                Map<String, Object> instance = new HashMap<>();
+                instance.put("routeId", "tenant-" + i);
+                instance.put("tenant", "tenant" + i);
+                instances.add(instance);
+            }
+
+            long start = System.nanoTime();
+            if (batch) {
+                new RouteTemplateBatchInstantiator(context).addRoutesFromTemplate("tenant", null, instances);
+            } else {
+                for (Map<String, Object> instance : instances) {
+                    Map<String, Object> parameters = new HashMap<>(instance);
+                    context.addRouteFromTemplate((String) parameters.remove("routeId"), "tenant", parameters);
+                }
+            }
+            long added = System.nanoTime();
+            context.start();
+            long started = System.nanoTime();
+
+            Assertions.assertEquals(routes, context.getRoutesSize());
+            return new long[] {
+                    TimeUnit.NANOSECONDS.toMillis(added - start),
+                    TimeUnit.NANOSECONDS.toMillis(started - added) };
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.springboot.benchmark;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.camel.util.json.JsonArray;
+import org.apache.camel.util.json.JsonObject;
+import org.apache.camel.util.json.Jsoner;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class StartupBenchmarkTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void testBenchmark() throws Exception {
+        StartupBenchmarkConfig config = new StartupBenchmarkConfigBuilder()
+                .name("test")
+                .starter("timer")
+                .javaRoutes(3)
+                .yamlRoutes(2)
+                .xmlRoutes(1)
+                .iterations(2)
+                .outputDirectory(tempDir.getPath())
+                .build();
+
+        File file = new StartupBenchmark(config).run();
+
+        JsonObject result = (JsonObject) Jsoner.deserialize(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        Assertions.assertEquals("test", result.getString("name"));
+        Assertions.assertTrue(result.getCollection("starters").contains("timer"));
+        Assertions.assertTrue(result.getCollection("starters").contains("direct"));
+
+        JsonArray iterations = (JsonArray) result.getCollection("iterations");
+        Assertions.assertEquals(2, iterations.size());
+        JsonObject iteration = (JsonObject) iterations.get(0);
+        Assertions.assertEquals(6, iteration.getInteger("routes"));
+        Assertions.assertTrue(iteration.getLong("startupTime") > 0);
+        Assertions.assertTrue(iteration.getLong("loadedClasses") > 0);
+        Assertions.assertTrue(iteration.getLong("heapUsedAfterRefresh") > 0);
+        Assertions.assertFalse(iteration.getCollection("startupSteps").isEmpty());
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.springboot.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Generates the <tt>META-INF/camel/scan-index</tt> file which lists the class entries of every runtime dependency,
+ * so the Camel Spring Boot package scanner does not have to decompress nested jars of the fat jar on startup.
+ * <p/>
+ * The index is grouped by the file name of the dependency as it is packaged by the Spring Boot repackager
+ * (<tt>artifactId-version[-classifier].jar</tt>). Nested jars without an index section are scanned as usual.
+ */
+@Mojo(name = "generate-scan-index", threadSafe = true,
+        requiresDependencyCollection = ResolutionScope.RUNTIME,
+        requiresDependencyResolution = ResolutionScope.RUNTIME,
+        defaultPhase = LifecyclePhase.PROCESS_CLASSES)
+public class ScanIndexMojo extends AbstractMojo {
+
+    public static final String SCAN_INDEX = "META-INF/camel/scan-index";
+
+    /**
+     * The maven project.
+     */
+    @Parameter(property = "project", required = true, readonly = true)
+    protected MavenProject project;
+
+    /**
+     * The output directory where the index is generated.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}")
+    protected File outputDirectory;
+
+    /**
+     * Whether to skip generating the scan index.
+     */
+    @Parameter(property = "camel.scanIndex.skip", defaultValue = "false")
+    protected boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (skip) {
+            getLog().info("Skipping generating scan index");
+            return;
+        }
+
+        // sorted so the generated file is stable between builds
+        TreeMap<String, List<String>> index = new TreeMap<>();
+        for (Artifact artifact : project.getArtifacts()) {
+            File file = artifact.getFile();
+            if (file == null || !"jar".equals(artifact.getType())) {
+                continue;
+            }
+            try {
+                index.put(packagedFileName(artifact), loadClassEntries(file));
+            } catch (IOException e) {
+                // the dependency is then scanned at runtime instead
+                getLog().warn("Cannot index " + file + " due to " + e.getMessage() + ". This dependency is not indexed.");
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("# Generated by camel-spring-boot-generator-maven-plugin - do not edit this file!\n");
+        index.forEach((name, entries) -> {
+            sb.append('@').append(name).append('\n');
+            entries.forEach(e -> sb.append(e).append('\n'));
+        });
+
+        File target = new File(outputDirectory, SCAN_INDEX);
+        target.getParentFile().mkdirs();
+        // the index is read as UTF-8 by FatJarScanIndex
+        try (Writer writer = Files.newBufferedWriter(target.toPath(), StandardCharsets.UTF_8)) {
+            IOUtils.write(sb.toString(), writer);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Error writing scan index " + target, e);
+        }
+        getLog().info("Generated scan index with " + index.size() + " dependencies: " + target);
+    }
+
+    /**
+     * The name of the dependency as the Spring Boot repackager writes it into <tt>BOOT-INF/lib</tt>.
+     */
+    private static String packagedFileName(Artifact artifact) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(artifact.getArtifactId()).append('-').append(artifact.getBaseVersion());
+        if (artifact.getClassifier() != null && !artifact.getClassifier().isEmpty()) {
+            sb.append('-').append(artifact.getClassifier());
+        }
+        sb.append(".jar");
+        return sb.toString();
+    }
+
+    private static List<String> loadClassEntries(File file) throws IOException {
+        if (file.isDirectory()) {
+            // reactor module which has not been packaged
+            Path root = file.toPath();
+            try (Stream<Path> paths = Files.walk(root)) {
+                return paths.filter(Files::isRegularFile)
+                        .map(p -> root.relativize(p).toString().replace(File.separatorChar, '/'))
+                        .filter(n -> n.endsWith(".class"))
+                        .sorted()
+                        .collect(Collectors.toList());
+            }
+        }
+        if (!file.isFile()) {
+            return Collections.emptyList();
+        }
+        List<String> answer = new ArrayList<>();
+        try (JarFile jar = new JarFile(file)) {
+            jar.stream()
+                    .filter(e -> !e.isDirectory())
+                    .map(ZipEntry::getName)
+                    .map(String::trim)
+                    .filter(n -> n.endsWith(".class"))
+                    .forEach(answer::add);
+        }
+        Collections.sort(answer);
+        return answer;
+    }
+
+}
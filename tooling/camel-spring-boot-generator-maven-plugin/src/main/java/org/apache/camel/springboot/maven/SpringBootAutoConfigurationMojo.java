@@ -660,6 +660,7 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         javaClass.addAnnotation(Generated.class.getName()).setStringValue("value", SpringBootAutoConfigurationMojo.class.getName());
         javaClass.addAnnotation("org.springframework.boot.context.properties.ConfigurationProperties").setStringValue("prefix", prefix);
 
+        List<String> copyNames = new ArrayList<>();
         for (ComponentOptionModel option : model.getComponentOptions()) {
 
             if (skipComponentOption(model, option)) {
@@ -673,6 +674,7 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
             type = getSimpleJavaType(type);
 
             Property prop = javaClass.addProperty(type, option.getName());
+            copyNames.add(option.getName());
             if (option.isDeprecated()) {
                 prop.getField().addAnnotation(Deprecated.class);
                 prop.getAccessor().addAnnotation(Deprecated.class);
@@ -716,6 +718,8 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
             }
         }
 
+        addCopyPropertiesMethod(javaClass, copyNames);
+
         String fileName = packageName.replaceAll("\\.", "\\/") + "/" + name + ".java";
         writeSourceIfChanged(javaClass, fileName, true);
     }
@@ -1036,6 +1040,7 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         javaClass.addAnnotation(Generated.class).setStringValue("value", SpringBootAutoConfigurationMojo.class.getName());
         javaClass.addAnnotation("org.springframework.boot.context.properties.ConfigurationProperties").setStringValue("prefix", prefix);
 
+        List<String> copyNames = new ArrayList<>();
         for (DataFormatOptionModel option : model.getOptions()) {
             // skip option with name id in data format as we do not need that
             if ("id".equals(option.getName())) {
@@ -1071,6 +1076,7 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
             }
 
             Property prop = javaClass.addProperty(type, option.getName());
+            copyNames.add(option.getName());
             if (option.isDeprecated()) {
                 prop.getField().addAnnotation(Deprecated.class);
                 prop.getAccessor().addAnnotation(Deprecated.class);
@@ -1107,6 +1113,8 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
             }
         }
 
+        addCopyPropertiesMethod(javaClass, copyNames);
+
         String fileName = packageName.replaceAll("\\.", "\\/") + "/" + name + ".java";
         writeSourceIfChanged(javaClass, fileName, true);
     }
@@ -1140,6 +1148,7 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         javaClass.addAnnotation(Generated.class).setStringValue("value", SpringBootAutoConfigurationMojo.class.getName());
         javaClass.addAnnotation("org.springframework.boot.context.properties.ConfigurationProperties").setStringValue("prefix", prefix);
 
+        List<String> copyNames = new ArrayList<>();
         for (LanguageOptionModel option : model.getOptions()) {
             // skip option with name id, or expression in language as we do not
             // need that and skip resultType as they are not global options
@@ -1195,6 +1204,7 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
             }
 
             Property prop = javaClass.addProperty(type, option.getName());
+            copyNames.add(option.getName());
             if (option.isDeprecated()) {
                 prop.getField().addAnnotation(Deprecated.class);
                 prop.getAccessor().addAnnotation(Deprecated.class);
@@ -1231,10 +1241,34 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
             }
         }
 
+        addCopyPropertiesMethod(javaClass, copyNames);
+
         String fileName = packageName.replaceAll("\\.", "\\/") + "/" + name + ".java";
         writeSourceIfChanged(javaClass, fileName, true);
     }
 
+    private static void addCopyPropertiesMethod(JavaClass javaClass, List<String> names) {
+        // copy the options without reflection, see CamelPropertiesHelper
+        javaClass.implementInterface("CamelPropertiesCopier");
+        javaClass.addImport("org.apache.camel.spring.boot.util.CamelPropertiesCopier");
+        javaClass.addImport("java.util.function.BiConsumer");
+
+        StringBuilder body = new StringBuilder();
+        for (String name : names) {
+            // an option named target is shadowed by the parameter
+            String field = "target".equals(name) ? "this." + name : name;
+            body.append("if (").append(field).append(" != null) {\n")
+                    .append("    target.accept(\"").append(name).append("\", ").append(field).append(");\n")
+                    .append("}\n");
+        }
+        Method method = javaClass.addMethod()
+                .setName("copyNonNullProperties")
+                .setPublic()
+                .addParameter("BiConsumer<String, Object>", "target")
+                .setBody(body.toString());
+        method.addAnnotation(Override.class);
+    }
+
     private Class<?> generateDummyClass(String clazzName) {
         return getProjectClassLoader().generateDummyClass(clazzName);
     }
@@ -1245,7 +1279,7 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         final String name = model.getJavaType().substring(model.getJavaType().lastIndexOf(".") + 1).replace("Component", "ComponentAutoConfiguration");
         final String configurationName = name.replace("ComponentAutoConfiguration", "ComponentConfiguration");
         final String componentName = camelCaseToDash(overrideName != null ? overrideName : model.getScheme()).toLowerCase(Locale.US);
-        final Class<?> configClass = generateDummyClass(packageName + "." + configurationName);
+        generateDummyClass(packageName + "." + configurationName);
         JavaClass javaClass = new JavaClass(getProjectClassLoader());
 
         javaClass.setPackage(packageName);
@@ -1279,10 +1313,14 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         javaClass.addImport("org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans");
         javaClass.addImport("org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator");
         javaClass.addImport(model.getJavaType());
+        javaClass.addImport("org.springframework.beans.factory.ObjectProvider");
 
         javaClass.addField().setPrivate().setName("applicationContext").setType(ApplicationContext.class).addAnnotation(Autowired.class);
         javaClass.addField().setPrivate().setFinal(true).setName("camelContext").setType(loadClass("org.apache.camel.CamelContext"));
-        javaClass.addField().setPrivate().setName("configuration").setType(configClass).addAnnotation(Autowired.class);
+        // the configuration is only bound when the component is created, as the configuration beans are lazy
+        javaClass.addField().setPrivate().setName("configuration")
+                .setType(loadType("org.springframework.beans.factory.ObjectProvider<" + packageName + "." + configurationName + ">"))
+                .addAnnotation(Autowired.class);
 
         Method ctr = javaClass.addMethod().setConstructor(true).setPublic().setName(name).addParameter("org.apache.camel.CamelContext", "camelContext");
         ctr.setBody("this.camelContext = camelContext;\n");
@@ -1672,7 +1710,7 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
                 .append("return new ComponentCustomizer() {\n")
                 .append("    @Override\n")
                 .append("    public void configure(String name, Component target) {\n")
-                .append("        CamelPropertiesHelper.copyProperties(camelContext, configuration, target);\n")
+                .append("        CamelPropertiesHelper.copyProperties(camelContext, configuration.getObject(), target);\n")
                 .append("    }\n")
                 .append("    @Override\n")
                 .append("    public boolean isEnabled(String name, Component target) {\n")